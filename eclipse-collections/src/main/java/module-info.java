@@ -5,7 +5,7 @@ module tools.jackson.datatype.eclipsecollections
     requires tools.jackson.core;
     requires transitive tools.jackson.databind;
 
-    requires tools.jackson.datatype.primitive_collections_base;
+    requires transitive tools.jackson.datatype.primitive_collections_base;
 
     requires org.eclipse.collections.api;
     requires org.eclipse.collections.impl;
@@ -17,6 +17,7 @@ module tools.jackson.datatype.eclipsecollections
     exports tools.jackson.datatype.eclipsecollections.deser.map;
     exports tools.jackson.datatype.eclipsecollections.deser.pair;
     exports tools.jackson.datatype.eclipsecollections.deser.set;
+    exports tools.jackson.datatype.eclipsecollections.offheap;
     exports tools.jackson.datatype.eclipsecollections.ser;
     exports tools.jackson.datatype.eclipsecollections.ser.map;
 
@@ -17,11 +17,17 @@ import tools.jackson.datatype.eclipsecollections.deser.bag.MutableSortedBagDeser
 import tools.jackson.datatype.eclipsecollections.deser.list.FixedSizeListDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.list.ImmutableListDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.list.MutableListDeserializer;
+import tools.jackson.datatype.eclipsecollections.deser.list.OffHeapListDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.map.EclipseMapDeserializers;
 import tools.jackson.datatype.eclipsecollections.deser.set.ImmutableSetDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.set.ImmutableSortedSetDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.set.MutableSetDeserializer;
 import tools.jackson.datatype.eclipsecollections.deser.set.MutableSortedSetDeserializer;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapDoubleList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapIntList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapLongList;
+import tools.jackson.datatype.primitive_collections_base.deser.Canonicalizer;
+import tools.jackson.datatype.primitive_collections_base.deser.CanonicalizingDeserializer;
 
 import org.eclipse.collections.api.BooleanIterable;
 import org.eclipse.collections.api.ByteIterable;
@@ -157,6 +163,41 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
     @SuppressWarnings("rawtypes")
     private static final Set<Class<? extends InternalIterable>> REFERENCE_TYPES = new HashSet<>();
 
+    /**
+     * Canonicalizer to use for immutable collections, if canonicalization
+     * enabled; {@code null} if not.
+     *
+     * @since 3.1
+     */
+    private final Canonicalizer _canonicalizer;
+
+    /**
+     * Whether contents of sorted collections are expected to be already sorted
+     * (see {@link EclipseCollectionsModule#expectSortedInput}).
+     *
+     * @since 3.1
+     */
+    private final boolean _sortedInput;
+
+    public EclipseCollectionsDeserializers() {
+        this(null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public EclipseCollectionsDeserializers(Canonicalizer canonicalizer) {
+        this(canonicalizer, false);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public EclipseCollectionsDeserializers(Canonicalizer canonicalizer, boolean sortedInput) {
+        _canonicalizer = canonicalizer;
+        _sortedInput = sortedInput;
+    }
+
     @Override
     public ValueDeserializer<?> findCollectionDeserializer(
             CollectionType type,
@@ -166,8 +207,9 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
             ValueDeserializer<?> elementDeserializer
     ) {
         if (REFERENCE_TYPES.contains(type.getRawClass())) {
-            return findReferenceDeserializer(type, type.getContentType(),
-                                             elementTypeDeserializer, elementDeserializer);
+            return withCanonicalization(type.getRawClass(),
+                    findReferenceDeserializer(type, type.getContentType(),
+                                              elementTypeDeserializer, elementDeserializer));
         }
         return null;
     }
@@ -181,8 +223,9 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
             ValueDeserializer<?> elementDeserializer
     ) {
         if (REFERENCE_TYPES.contains(type.getRawClass())) {
-            return findReferenceDeserializer(type, type.getContentType(),
-                                             elementTypeDeserializer, elementDeserializer);
+            return withCanonicalization(type.getRawClass(),
+                    findReferenceDeserializer(type, type.getContentType(),
+                                              elementTypeDeserializer, elementDeserializer));
         }
         return null;
     }
@@ -236,11 +279,12 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
             TypeDeserializer elementTypeDeserializer, ValueDeserializer<?> elementDeserializer) {
         ValueDeserializer<?> deserializer = PRIMITIVE_DESERIALIZERS.get(type.getRawClass());
         if (deserializer != null) {
-            return deserializer;
+            return withCanonicalization(type.getRawClass(), deserializer);
         }
 
         if (REFERENCE_TYPES.contains(type.getRawClass())) {
-            return findReferenceDeserializer(type, type.containedTypeOrUnknown(0), elementTypeDeserializer, elementDeserializer);
+            return withCanonicalization(type.getRawClass(),
+                    findReferenceDeserializer(type, type.containedTypeOrUnknown(0), elementTypeDeserializer, elementDeserializer));
         }
 
         return EclipseMapDeserializers.createDeserializer(type); // May return null
@@ -254,6 +298,12 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
     ) {
         Class<?> rawClass = containerType.getRawClass();
 
+        // String elements can only be canonicalized before they are added
+        if ((_canonicalizer != null) && _canonicalizer.internsStrings() && (elementDeserializer == null)
+                && isImmutable(rawClass) && elementType.hasRawClass(String.class)) {
+            elementDeserializer = CanonicalizingDeserializer.forElements(elementType, _canonicalizer);
+        }
+
         // bags
         if (rawClass == MutableBag.class || rawClass == Bag.class || rawClass == UnsortedBag.class) {
             return new MutableBagDeserializer.Ref(elementType, elementTypeDeserializer, elementDeserializer);
@@ -293,6 +343,9 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
             return new MutableSortedSetDeserializer.Ref(elementType, elementTypeDeserializer, elementDeserializer);
         }
         if (rawClass == ImmutableSortedSet.class) {
+            if (_sortedInput) {
+                return new ImmutableSortedSetDeserializer.SortedInputRef(elementType, elementTypeDeserializer, elementDeserializer);
+            }
             return new ImmutableSortedSetDeserializer.Ref(elementType, elementTypeDeserializer, elementDeserializer);
         }
 
@@ -300,6 +353,25 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
                 "Type " + rawClass + " in REFERENCE_TYPES but no deserializer found, should not happen");
     }
 
+    private ValueDeserializer<?> withCanonicalization(Class<?> rawClass, ValueDeserializer<?> deserializer) {
+        if ((_canonicalizer != null) && isImmutable(rawClass)) {
+            return new CanonicalizingDeserializer(deserializer, _canonicalizer);
+        }
+        return deserializer;
+    }
+
+    private static boolean isImmutable(Class<?> rawClass) {
+        return ImmutableCollection.class.isAssignableFrom(rawClass)
+               || ImmutableBooleanCollection.class.isAssignableFrom(rawClass)
+               || ImmutableByteCollection.class.isAssignableFrom(rawClass)
+               || ImmutableShortCollection.class.isAssignableFrom(rawClass)
+               || ImmutableCharCollection.class.isAssignableFrom(rawClass)
+               || ImmutableIntCollection.class.isAssignableFrom(rawClass)
+               || ImmutableFloatCollection.class.isAssignableFrom(rawClass)
+               || ImmutableLongCollection.class.isAssignableFrom(rawClass)
+               || ImmutableDoubleCollection.class.isAssignableFrom(rawClass);
+    }
+
     static {
         REFERENCE_TYPES.add(MutableBag.class);
         REFERENCE_TYPES.add(Bag.class);
@@ -431,6 +503,10 @@ public final class EclipseCollectionsDeserializers extends Deserializers.Base {
         PRIMITIVE_DESERIALIZERS.put(DoubleSet.class, MutableSetDeserializer.Double.INSTANCE);
         PRIMITIVE_DESERIALIZERS.put(MutableDoubleSet.class, MutableSetDeserializer.Double.INSTANCE);
         PRIMITIVE_DESERIALIZERS.put(ImmutableDoubleSet.class, ImmutableSetDeserializer.Double.INSTANCE);
+
+        PRIMITIVE_DESERIALIZERS.put(OffHeapIntList.class, OffHeapListDeserializer.Int.INSTANCE);
+        PRIMITIVE_DESERIALIZERS.put(OffHeapLongList.class, OffHeapListDeserializer.Long.INSTANCE);
+        PRIMITIVE_DESERIALIZERS.put(OffHeapDoubleList.class, OffHeapListDeserializer.Double.INSTANCE);
     }
 
     @Override
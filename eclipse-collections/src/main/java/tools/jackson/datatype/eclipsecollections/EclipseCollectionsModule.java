@@ -4,7 +4,13 @@ import tools.jackson.core.Version;
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.datatype.eclipsecollections.deser.pair.PairInstantiators;
 import tools.jackson.datatype.eclipsecollections.deser.pair.TripleInstantiators;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.JsonCollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.Canonicalizer;
 
+import org.eclipse.collections.api.PrimitiveIterable;
+import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.tuple.Triple;
 
 /**
@@ -13,10 +19,154 @@ import org.eclipse.collections.api.tuple.Triple;
 public class EclipseCollectionsModule extends JacksonModule {
     private static final String NAME = "EclipseCollectionsModule";
 
+    /**
+     * Canonicalizer for deserialized immutable collections, if enabled
+     * with {@link #canonicalizeImmutableCollections}; {@code null} if not.
+     *
+     * @since 3.1
+     */
+    protected Canonicalizer _canonicalizer;
+
+    /**
+     * Whether contents of sorted collections are expected to be already sorted:
+     * see {@link #expectSortedInput}.
+     *
+     * @since 3.1
+     */
+    protected boolean _sortedInput;
+
+    /**
+     * Listener to report (de)serialization metrics to, if any: see
+     * {@link #metricsListener}.
+     *
+     * @since 3.1
+     */
+    protected CollectionMetricsListener _metricsListener;
+
+    /**
+     * Maximum number of elements per container to allow, if any: see
+     * {@link #maxCollectionElements}; negative value if not configured.
+     *
+     * @since 3.1
+     */
+    protected int _maxElements = -1;
+
     public EclipseCollectionsModule() {
         super();
     }
 
+    /**
+     * Configuration method for enabling canonicalization ("interning") of deserialized
+     * immutable collections (both reference and primitive ones): a collection equal to
+     * one deserialized earlier (and still reachable) is replaced by the earlier instance.
+     * This can considerably reduce retained memory when same small values are repeated
+     * across many records, at the cost of hashing each deserialized collection.
+     * Canonical instances are only weakly referenced, so they do not prevent
+     * garbage collection; and at most {@link Canonicalizer#DEFAULT_MAX_ENTRIES}
+     * of them are retained per collection type.
+     *<p>
+     * Canonicalization is disabled by default.
+     *
+     * @param maxElements Maximum number of elements for collections to canonicalize
+     *    (larger ones are returned as-is); {@code 0} or less to disable canonicalization
+     *    (see {@link Canonicalizer#DEFAULT_MAX_ELEMENTS} for suggested value)
+     * @param internStrings Whether {@link String} elements of these collections should
+     *    also be canonicalized
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public EclipseCollectionsModule canonicalizeImmutableCollections(int maxElements, boolean internStrings) {
+        _canonicalizer = (maxElements > 0)
+                ? new EclipseCanonicalizer(maxElements, internStrings)
+                : null;
+        return this;
+    }
+
+    /**
+     * Canonicalizer that determines sizes of Eclipse Collections containers.
+     */
+    private final static class EclipseCanonicalizer extends Canonicalizer
+    {
+        private static final long serialVersionUID = 1L;
+
+        EclipseCanonicalizer(int maxElements, boolean internStrings) {
+            super(maxElements, internStrings);
+        }
+
+        @Override
+        protected int sizeOf(Object value) {
+            if (value instanceof RichIterable<?>) {
+                return ((RichIterable<?>) value).size();
+            }
+            if (value instanceof PrimitiveIterable) {
+                return ((PrimitiveIterable) value).size();
+            }
+            return super.sizeOf(value);
+        }
+    }
+
+    /**
+     * Configuration method for indicating that contents of
+     * {@link org.eclipse.collections.api.set.sorted.ImmutableSortedSet}s (using natural
+     * ordering) are expected to be already sorted in input, as is the case when they
+     * were written by Jackson. If enabled, elements are collected into an array that is
+     * then sorted (which only takes a single linear pass if already in order), instead of
+     * inserting them one by one into a tree. This setting only affects performance,
+     * not results.
+     *<p>
+     * Default setting is {@code false}.
+     *
+     * @param state Whether input is expected to be sorted
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public EclipseCollectionsModule expectSortedInput(boolean state) {
+        _sortedInput = state;
+        return this;
+    }
+
+    /**
+     * Configuration method for registering a listener to be notified of each
+     * (de)serialized value of Eclipse Collections container types, with shape,
+     * element count and time taken (see {@link CollectionMetricsListener}).
+     * (De)serializers are only wrapped for reporting if a listener is configured,
+     * so there is no overhead otherwise.
+     *
+     * @param listener Listener to report metrics to; {@code null} for none (default)
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public EclipseCollectionsModule metricsListener(CollectionMetricsListener listener) {
+        _metricsListener = listener;
+        return this;
+    }
+
+    /**
+     * Configuration method for limiting number of elements (or entries) of
+     * deserialized Eclipse Collections containers (and those of other collection datatype
+     * modules), to protect against untrusted input: used as the default for
+     * {@link CollectionLimits#MAX_ELEMENTS} attribute, unless that is
+     * configured with {@code MapperBuilder.defaultAttributes()}. Limit may
+     * still be changed per read with {@code ObjectReader.withAttribute()},
+     * and for specific properties with {@link JsonCollectionLimits}.
+     *
+     * @param max Maximum number of elements allowed per container
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public EclipseCollectionsModule maxCollectionElements(int max) {
+        _maxElements = CollectionLimits.checkLimit("maxCollectionElements", max);
+        return this;
+    }
+
     @Override
     public String getModuleName() {
         return NAME;
@@ -29,9 +179,18 @@ public class EclipseCollectionsModule extends JacksonModule {
 
     @Override
     public void setupModule(SetupContext context) {
-        context.addDeserializers(new EclipseCollectionsDeserializers());
+        context.addDeserializers(new EclipseCollectionsDeserializers(_canonicalizer, _sortedInput));
         context.addSerializers(new EclipseCollectionsSerializers());
 
+        if (_metricsListener != null) {
+            final MetricsReporting metrics = new MetricsReporting(_metricsListener);
+            context.addDeserializerModifier(metrics.deserializerModifier());
+            context.addSerializerModifier(metrics.serializerModifier());
+        }
+
+        context.addDeserializerModifier(CollectionLimits.deserializerModifier(MetricsReporting::isContainerType));
+        CollectionLimits.applyDefaults(context, _maxElements, -1);
+
         context.addValueInstantiators(new PairInstantiators());
 
         context.addValueInstantiators(new TripleInstantiators());
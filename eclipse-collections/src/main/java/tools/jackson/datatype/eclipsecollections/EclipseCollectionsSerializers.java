@@ -1,6 +1,7 @@
 package tools.jackson.datatype.eclipsecollections;
 
 import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import tools.jackson.databind.BeanDescription;
@@ -74,78 +75,102 @@ public final class EclipseCollectionsSerializers extends Serializers.Base {
         return null;
     }
 
+    /**
+     * Factory for constructing serializer of given type, if any, for raw types
+     * seen so far: selection only depends on raw type, and checking dozens of
+     * primitive container types one by one for every new mapper (as each has
+     * its own serializer cache) gets costly.
+     *
+     * @since 3.1
+     */
+    private static final ClassValue<Function<JavaType, ValueSerializer<?>>> FACTORIES =
+            new ClassValue<Function<JavaType, ValueSerializer<?>>>() {
+                @Override
+                protected Function<JavaType, ValueSerializer<?>> computeValue(Class<?> rawClass) {
+                    return findFactory(rawClass);
+                }
+            };
+
     @Override
     public ValueSerializer<?> findSerializer(SerializationConfig config,
             JavaType type, BeanDescription.Supplier beanDescRef, JsonFormat.Value formatOverrides)
     {
-        Class<?> rawClass = type.getRawClass();
+        Function<JavaType, ValueSerializer<?>> factory = FACTORIES.get(type.getRawClass());
+        if (factory != null) {
+            return factory.apply(type);
+        }
+        return super.findSerializer(config, type, beanDescRef, formatOverrides);
+    }
 
+    private static Function<JavaType, ValueSerializer<?>> findFactory(Class<?> rawClass)
+    {
         if (MapIterable.class.isAssignableFrom(rawClass)) {
-            return new RefRefMapIterableSerializer(type, null, null, null, null);
+            return type -> new RefRefMapIterableSerializer(type, null, null, null, null);
         }
 
         if (PrimitiveObjectMap.class.isAssignableFrom(rawClass)) {
             if (ByteObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Byte<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Byte<>(type, null, null, null);
             } else if (ShortObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Short<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Short<>(type, null, null, null);
             } else if (CharObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Char<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Char<>(type, null, null, null);
             } else if (IntObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Int<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Int<>(type, null, null, null);
             } else if (FloatObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Float<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Float<>(type, null, null, null);
             } else if (LongObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Long<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Long<>(type, null, null, null);
             } else if (DoubleObjectMap.class.isAssignableFrom(rawClass)) {
-                return new PrimitiveRefMapSerializers.Double<>(type, null, null, null);
+                return type -> new PrimitiveRefMapSerializers.Double<>(type, null, null, null);
             }
         }
 
         if (PrimitiveIterable.class.isAssignableFrom(rawClass)) {
             if (ObjectBooleanMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Boolean<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Boolean<>(type, null, null);
             } else if (ObjectByteMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Byte<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Byte<>(type, null, null);
             } else if (ObjectShortMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Short<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Short<>(type, null, null);
             } else if (ObjectCharMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Char<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Char<>(type, null, null);
             } else if (ObjectIntMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Int<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Int<>(type, null, null);
             } else if (ObjectFloatMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Float<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Float<>(type, null, null);
             } else if (ObjectLongMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Long<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Long<>(type, null, null);
             } else if (ObjectDoubleMap.class.isAssignableFrom(rawClass)) {
-                return new RefPrimitiveMapSerializers.Double<>(type, null, null);
+                return type -> new RefPrimitiveMapSerializers.Double<>(type, null, null);
             }
 
             for (Map.Entry<Class<? extends PrimitiveIterable>, PrimitiveMapSerializer<?>> entry :
                     PrimitivePrimitiveMapSerializers.getInstances().entrySet()) {
                 if (entry.getKey().isAssignableFrom(rawClass)) {
-                    return entry.getValue();
+                    final PrimitiveMapSerializer<?> ser = entry.getValue();
+                    return type -> ser;
                 }
             }
 
             if (BooleanIterable.class.isAssignableFrom(rawClass)) {
-                return new BooleanIterableSerializer(null, null);
+                return type -> new BooleanIterableSerializer(null, null);
             } else if (ByteIterable.class.isAssignableFrom(rawClass)) {
-                return ByteIterableSerializer.INSTANCE;
+                return type -> ByteIterableSerializer.INSTANCE;
             } else if (ShortIterable.class.isAssignableFrom(rawClass)) {
-                return new ShortIterableSerializer(null, null);
+                return type -> new ShortIterableSerializer(null, null);
             } else if (CharIterable.class.isAssignableFrom(rawClass)) {
-                return CharIterableSerializer.INSTANCE;
+                return type -> CharIterableSerializer.INSTANCE;
             } else if (IntIterable.class.isAssignableFrom(rawClass)) {
-                return new IntIterableSerializer(null, null);
+                return type -> new IntIterableSerializer(null, null);
             } else if (FloatIterable.class.isAssignableFrom(rawClass)) {
-                return new FloatIterableSerializer(null, null);
+                return type -> new FloatIterableSerializer(null, null);
             } else if (LongIterable.class.isAssignableFrom(rawClass)) {
-                return new LongIterableSerializer(null, null);
+                return type -> new LongIterableSerializer(null, null);
             } else if (DoubleIterable.class.isAssignableFrom(rawClass)) {
-                return new DoubleIterableSerializer(null, null);
+                return type -> new DoubleIterableSerializer(null, null);
             }
         }
-        return super.findSerializer(config, type, beanDescRef, formatOverrides);
+        return null;
     }
 }
@@ -0,0 +1,200 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapDoubleList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapIntList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapLongList;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot.ColumnType;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshotWriter;
+
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.map.primitive.IntIntMap;
+import org.eclipse.collections.api.map.primitive.LongObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongObjectHashMap;
+
+/**
+ * Helper methods for writing Eclipse Collections primitive lists and maps as
+ * binary snapshots (see {@link PrimitiveSnapshot}), and for loading them back,
+ * either by bulk-copying contents into presized collections, or (for lists)
+ * as read-only off-heap views of memory-mapped snapshot files
+ * (see {@link OffHeapLists}).
+ *
+ * @since 3.1
+ */
+public final class EclipseSnapshots
+{
+    private EclipseSnapshots() { }
+
+    /*
+    /**********************************************************************
+    /* Lists
+    /**********************************************************************
+     */
+
+    public static void writeIntList(Path path, IntList list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addInts(list.toArray()).write(path);
+    }
+
+    public static MutableIntList readIntList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.INT)) {
+            return IntArrayList.newListWith(snapshot.readInts(0));
+        }
+    }
+
+    /**
+     * Method for accessing contents of a list snapshot as a read-only view
+     * of snapshot file, without copying it into memory.
+     */
+    public static OffHeapIntList mapIntList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.INT)) {
+            return OffHeapIntList.wrap(snapshot.mapInts(0, OffHeapLists.SEGMENT_SIZE));
+        }
+    }
+
+    public static void writeLongList(Path path, LongList list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addLongs(list.toArray()).write(path);
+    }
+
+    public static MutableLongList readLongList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.LONG)) {
+            return LongArrayList.newListWith(snapshot.readLongs(0));
+        }
+    }
+
+    /**
+     * Method for accessing contents of a list snapshot as a read-only view
+     * of snapshot file, without copying it into memory.
+     */
+    public static OffHeapLongList mapLongList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.LONG)) {
+            return OffHeapLongList.wrap(snapshot.mapLongs(0, OffHeapLists.SEGMENT_SIZE));
+        }
+    }
+
+    public static void writeDoubleList(Path path, DoubleList list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addDoubles(list.toArray()).write(path);
+    }
+
+    public static MutableDoubleList readDoubleList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.DOUBLE)) {
+            return DoubleArrayList.newListWith(snapshot.readDoubles(0));
+        }
+    }
+
+    /**
+     * Method for accessing contents of a list snapshot as a read-only view
+     * of snapshot file, without copying it into memory.
+     */
+    public static OffHeapDoubleList mapDoubleList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.DOUBLE)) {
+            return OffHeapDoubleList.wrap(snapshot.mapDoubles(0, OffHeapLists.SEGMENT_SIZE));
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Maps
+    /**********************************************************************
+     */
+
+    public static void writeIntIntMap(Path path, IntIntMap map) throws IOException
+    {
+        final int[] keys = new int[map.size()];
+        final int[] values = new int[keys.length];
+        final int[] index = new int[1];
+        map.forEachKeyValue((k, v) -> {
+            keys[index[0]] = k;
+            values[index[0]++] = v;
+        });
+        new PrimitiveSnapshotWriter(null).addInts(keys).addInts(values).write(path);
+    }
+
+    public static MutableIntIntMap readIntIntMap(Path path) throws IOException
+    {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.INT, ColumnType.INT)) {
+            final int[] keys = snapshot.readInts(0);
+            final int[] values = snapshot.readInts(1);
+            final MutableIntIntMap map = new IntIntHashMap(keys.length);
+            for (int i = 0; i < keys.length; ++i) {
+                map.put(keys[i], values[i]);
+            }
+            return map;
+        }
+    }
+
+    /**
+     * @param refWriter Writer used for serializing (distinct) values of the map
+     */
+    public static void writeLongObjectMap(Path path, LongObjectMap<?> map, ObjectWriter refWriter)
+        throws IOException, JacksonException
+    {
+        final long[] keys = new long[map.size()];
+        final Object[] values = new Object[keys.length];
+        final int[] index = new int[1];
+        map.forEachKeyValue((k, v) -> {
+            keys[index[0]] = k;
+            values[index[0]++] = v;
+        });
+        new PrimitiveSnapshotWriter(refWriter).addLongs(keys).addRefs(values).write(path);
+    }
+
+    /**
+     * @param refReader Reader used for deserializing (distinct) values of the map
+     * @param valueType Type of values of the map
+     */
+    public static <V> MutableLongObjectMap<V> readLongObjectMap(Path path,
+            ObjectReader refReader, Class<V> valueType)
+        throws IOException, JacksonException
+    {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.LONG, ColumnType.REF)) {
+            final long[] keys = snapshot.readLongs(0);
+            final V[] values = snapshot.readRefs(1, refReader, valueType);
+            final MutableLongObjectMap<V> map = new LongObjectHashMap<>(keys.length);
+            for (int i = 0; i < keys.length; ++i) {
+                map.put(keys[i], values[i]);
+            }
+            return map;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static PrimitiveSnapshot _open(Path path, ColumnType... expectedTypes)
+        throws IOException
+    {
+        final PrimitiveSnapshot snapshot = PrimitiveSnapshot.open(path);
+        boolean valid = (snapshot.columnCount() == expectedTypes.length);
+        for (int i = 0; valid && (i < expectedTypes.length); ++i) {
+            valid = (snapshot.columnType(i) == expectedTypes[i])
+                    && (snapshot.columnSize(i) == snapshot.columnSize(0));
+        }
+        if (!valid) {
+            snapshot.close();
+            throw new IOException("Unexpected snapshot contents ("+snapshot+") in: "+path);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,53 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
+import org.eclipse.collections.api.PrimitiveIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.multimap.Multimap;
+
+/**
+ * Reports metrics on (de)serialization of Eclipse Collections container types.
+ * Only registered if a listener is configured.
+ *
+ * @since 3.1
+ */
+final class MetricsReporting extends CollectionMetricsReporting
+{
+    private static final long serialVersionUID = 1L;
+
+    MetricsReporting(CollectionMetricsListener listener) {
+        super(listener);
+    }
+
+    @Override
+    protected boolean isContainer(Class<?> raw) {
+        return isContainerType(raw);
+    }
+
+    /**
+     * Method for checking whether given type is one of container types
+     * of the library.
+     */
+    static boolean isContainerType(Class<?> raw) {
+        return raw.getName().startsWith("org.eclipse.collections.")
+                && (RichIterable.class.isAssignableFrom(raw)
+                        || PrimitiveIterable.class.isAssignableFrom(raw)
+                        || Multimap.class.isAssignableFrom(raw));
+    }
+
+    @Override
+    protected int elementCount(Object value) {
+        if (value instanceof RichIterable<?>) {
+            return ((RichIterable<?>) value).size();
+        }
+        if (value instanceof PrimitiveIterable) {
+            return ((PrimitiveIterable) value).size();
+        }
+        if (value instanceof Multimap<?,?>) {
+            return ((Multimap<?,?>) value).size();
+        }
+        return -1;
+    }
+}
@@ -10,6 +10,7 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.LogicalType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 
 import org.eclipse.collections.api.BooleanIterable;
 import org.eclipse.collections.api.ByteIterable;
@@ -75,7 +76,12 @@ public abstract class BaseCollectionDeserializer<T, Intermediate> extends StdDes
             throws JacksonException {
         Intermediate collection = createIntermediate();
 
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             add(collection, p, ctxt);
         }
         return finish(collection);
@@ -167,7 +173,12 @@ public abstract class BaseCollectionDeserializer<T, Intermediate> extends StdDes
 
             if (p.isExpectedStartArrayToken()) {
                 JsonToken t;
+                final int maxElements = CollectionLimits.maxElements(ctxt, p);
+                int elements = 0;
                 while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (++elements > maxElements) {
+                        return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                    }
                     String str;
                     if (t == JsonToken.VALUE_STRING) {
                         str = p.getString();
@@ -9,6 +9,7 @@ import tools.jackson.core.JsonToken;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.datatype.primitive_collections_base.deser.BaseCharCollectionDeserializer;
 import tools.jackson.datatype.primitive_collections_base.deser.BaseCollectionDeserializer;
+import tools.jackson.datatype.primitive_collections_base.deser.ParallelNumberDecoding;
 
 import org.eclipse.collections.api.*;
 import org.eclipse.collections.api.collection.primitive.*;
@@ -147,6 +148,20 @@ public final class BaseCollectionDeserializers {
         {
             intermediate.add(parser.getFloatValue());
         }
+
+        @Override
+        protected T _deserializeContents(JsonParser p, DeserializationContext ctxt,
+                Intermediate collection)
+            throws JacksonException
+        {
+            final int threshold = ParallelNumberDecoding.threshold(ctxt, p);
+            if (threshold < 0) {
+                return super._deserializeContents(p, ctxt, collection);
+            }
+            ParallelNumberDecoding.readFloats(p, ctxt, this, threshold, collection::add,
+                    (parser, c) -> add(collection, parser, c));
+            return finish(collection);
+        }
     }
 
     public abstract static class Long<T extends LongIterable, Intermediate extends MutableLongCollection>
@@ -177,5 +192,19 @@ public final class BaseCollectionDeserializers {
         {
             intermediate.add(parser.getDoubleValue());
         }
+
+        @Override
+        protected T _deserializeContents(JsonParser p, DeserializationContext ctxt,
+                Intermediate collection)
+            throws JacksonException
+        {
+            final int threshold = ParallelNumberDecoding.threshold(ctxt, p);
+            if (threshold < 0) {
+                return super._deserializeContents(p, ctxt, collection);
+            }
+            ParallelNumberDecoding.readDoubles(p, ctxt, this, threshold, collection::add,
+                    (parser, c) -> add(collection, parser, c));
+            return finish(collection);
+        }
     }
 }
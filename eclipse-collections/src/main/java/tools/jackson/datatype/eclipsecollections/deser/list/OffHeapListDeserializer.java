@@ -0,0 +1,101 @@
+package tools.jackson.datatype.eclipsecollections.deser.list;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapDoubleList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapIntList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapLongList;
+import tools.jackson.datatype.primitive_collections_base.deser.BaseCollectionDeserializer;
+
+/**
+ * Deserializers for off-heap lists (see
+ * {@link tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists}):
+ * elements are staged on heap one segment at a time, and copied off heap once per segment.
+ * Since lists are read-only, existing values are never updated in place.
+ *
+ * @since 3.1
+ */
+public final class OffHeapListDeserializer {
+    private OffHeapListDeserializer() {
+    }
+
+    public static final class Int extends
+            BaseCollectionDeserializer<OffHeapIntList, OffHeapIntList.Builder> {
+        public static final OffHeapListDeserializer.Int INSTANCE = new OffHeapListDeserializer.Int();
+
+        public Int() {
+            super(OffHeapIntList.class);
+        }
+
+        @Override
+        protected OffHeapIntList.Builder createIntermediate() {
+            return new OffHeapIntList.Builder();
+        }
+
+        @Override
+        protected void add(OffHeapIntList.Builder intermediate, JsonParser parser, DeserializationContext ctx)
+            throws JacksonException
+        {
+            intermediate.add(parser.getIntValue());
+        }
+
+        @Override
+        protected OffHeapIntList finish(OffHeapIntList.Builder intermediate) {
+            return intermediate.build();
+        }
+    }
+
+    public static final class Long extends
+            BaseCollectionDeserializer<OffHeapLongList, OffHeapLongList.Builder> {
+        public static final OffHeapListDeserializer.Long INSTANCE = new OffHeapListDeserializer.Long();
+
+        public Long() {
+            super(OffHeapLongList.class);
+        }
+
+        @Override
+        protected OffHeapLongList.Builder createIntermediate() {
+            return new OffHeapLongList.Builder();
+        }
+
+        @Override
+        protected void add(OffHeapLongList.Builder intermediate, JsonParser parser, DeserializationContext ctx)
+            throws JacksonException
+        {
+            intermediate.add(parser.getLongValue());
+        }
+
+        @Override
+        protected OffHeapLongList finish(OffHeapLongList.Builder intermediate) {
+            return intermediate.build();
+        }
+    }
+
+    public static final class Double extends
+            BaseCollectionDeserializer<OffHeapDoubleList, OffHeapDoubleList.Builder> {
+        public static final OffHeapListDeserializer.Double INSTANCE = new OffHeapListDeserializer.Double();
+
+        public Double() {
+            super(OffHeapDoubleList.class);
+        }
+
+        @Override
+        protected OffHeapDoubleList.Builder createIntermediate() {
+            return new OffHeapDoubleList.Builder();
+        }
+
+        @Override
+        protected void add(OffHeapDoubleList.Builder intermediate, JsonParser parser, DeserializationContext ctx)
+            throws JacksonException
+        {
+            intermediate.add(parser.getDoubleValue());
+        }
+
+        @Override
+        protected OffHeapDoubleList finish(OffHeapDoubleList.Builder intermediate) {
+            return intermediate.build();
+        }
+    }
+}
@@ -5,8 +5,10 @@ import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.datatype.primitive_collections_base.deser.BaseRefCollectionDeserializer;
 
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.SortedSets;
 
 public final class ImmutableSortedSetDeserializer {
@@ -37,4 +39,38 @@ public final class ImmutableSortedSetDeserializer {
             return new ImmutableSortedSetDeserializer.Ref(_elementType, typeDeserializerForValue, valueDeserializer);
         }
     }
+
+    /**
+     * Variant used when input is expected to be already sorted (see
+     * {@link tools.jackson.datatype.eclipsecollections.EclipseCollectionsModule#expectSortedInput}):
+     * instead of inserting elements into a tree one by one, they are collected into
+     * a list and the set constructed from its array with a single sort, which only
+     * takes one linear pass of comparisons if elements are already in order.
+     *
+     * @since 3.1
+     */
+    public static final class SortedInputRef
+            extends BaseRefCollectionDeserializer<ImmutableSortedSet<?>, MutableList<Object>> {
+        public SortedInputRef(JavaType elementType, TypeDeserializer typeDeserializer, ValueDeserializer<?> deserializer) {
+            super(ImmutableSortedSet.class, elementType, typeDeserializer, deserializer);
+        }
+
+        @Override
+        protected MutableList<Object> createIntermediate() {
+            return Lists.mutable.empty();
+        }
+
+        @Override
+        protected ImmutableSortedSet<?> finish(MutableList<Object> objects) {
+            return SortedSets.immutable.with(objects.toArray());
+        }
+
+        @Override
+        protected SortedInputRef withResolved(
+                TypeDeserializer typeDeserializerForValue,
+                ValueDeserializer<?> valueDeserializer
+        ) {
+            return new ImmutableSortedSetDeserializer.SortedInputRef(_elementType, typeDeserializerForValue, valueDeserializer);
+        }
+    }
 }
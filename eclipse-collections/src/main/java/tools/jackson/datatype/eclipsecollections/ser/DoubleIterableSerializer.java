@@ -4,11 +4,14 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.datatype.primitive_collections_base.ser.PrimitiveIterableSerializer;
 
 import org.eclipse.collections.api.DoubleIterable;
 import org.eclipse.collections.api.iterator.DoubleIterator;
+import org.eclipse.collections.api.list.primitive.DoubleList;
 
 public final class DoubleIterableSerializer extends EclipsePrimitiveIterableSerializer<DoubleIterable>
+    implements PrimitiveIterableSerializer.Indexed<DoubleIterable>
 {
     public DoubleIterableSerializer(BeanProperty property, Boolean unwrapSingle) {
         super(DoubleIterable.class, elementType(double.class), property, unwrapSingle);
@@ -23,4 +26,19 @@ public final class DoubleIterableSerializer extends EclipsePrimitiveIterableSeri
             gen.writeNumber(iterator.next());
         }
     }
+
+    @Override
+    public int indexedSize(DoubleIterable value) {
+        return (value instanceof DoubleList) ? value.size() : -1;
+    }
+
+    @Override
+    public void serializeRange(DoubleIterable value, JsonGenerator gen, int from, int to)
+        throws JacksonException
+    {
+        final DoubleList list = (DoubleList) value;
+        for (int i = from; i < to; ++i) {
+            gen.writeNumber(list.get(i));
+        }
+    }
 }
@@ -31,6 +31,11 @@ public abstract class EclipsePrimitiveIterableSerializer<C extends PrimitiveIter
         return false;
     }
 
+    @Override
+    protected long elementCount(C value) {
+        return value.size();
+    }
+
     protected static JavaType elementType(Class<?> rawElementType) {
         return TYPE_F.constructType(rawElementType);
     }
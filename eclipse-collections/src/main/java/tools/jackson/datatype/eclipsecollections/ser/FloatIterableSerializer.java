@@ -4,11 +4,14 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.datatype.primitive_collections_base.ser.PrimitiveIterableSerializer;
 
 import org.eclipse.collections.api.FloatIterable;
 import org.eclipse.collections.api.iterator.FloatIterator;
+import org.eclipse.collections.api.list.primitive.FloatList;
 
 public final class FloatIterableSerializer extends EclipsePrimitiveIterableSerializer<FloatIterable>
+    implements PrimitiveIterableSerializer.Indexed<FloatIterable>
 {
     public FloatIterableSerializer(BeanProperty property, Boolean unwrapSingle) {
         super(FloatIterable.class, elementType(float.class), property, unwrapSingle);
@@ -23,4 +26,19 @@ public final class FloatIterableSerializer extends EclipsePrimitiveIterableSeria
             gen.writeNumber(iterator.next());
         }
     }
+
+    @Override
+    public int indexedSize(FloatIterable value) {
+        return (value instanceof FloatList) ? value.size() : -1;
+    }
+
+    @Override
+    public void serializeRange(FloatIterable value, JsonGenerator gen, int from, int to)
+        throws JacksonException
+    {
+        final FloatList list = (FloatList) value;
+        for (int i = from; i < to; ++i) {
+            gen.writeNumber(list.get(i));
+        }
+    }
 }
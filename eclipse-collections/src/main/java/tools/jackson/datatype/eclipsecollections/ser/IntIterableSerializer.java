@@ -4,11 +4,14 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.datatype.primitive_collections_base.ser.PrimitiveIterableSerializer;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.list.primitive.IntList;
 
 public final class IntIterableSerializer extends EclipsePrimitiveIterableSerializer<IntIterable>
+    implements PrimitiveIterableSerializer.Indexed<IntIterable>
 {
     public IntIterableSerializer(BeanProperty property, Boolean unwrapSingle) {
         super(IntIterable.class, elementType(int.class), property, unwrapSingle);
@@ -23,4 +26,19 @@ public final class IntIterableSerializer extends EclipsePrimitiveIterableSeriali
             gen.writeNumber(iterator.next());
         }
     }
+
+    @Override
+    public int indexedSize(IntIterable value) {
+        return (value instanceof IntList) ? value.size() : -1;
+    }
+
+    @Override
+    public void serializeRange(IntIterable value, JsonGenerator gen, int from, int to)
+        throws JacksonException
+    {
+        final IntList list = (IntList) value;
+        for (int i = from; i < to; ++i) {
+            gen.writeNumber(list.get(i));
+        }
+    }
 }
@@ -4,11 +4,14 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.datatype.primitive_collections_base.ser.PrimitiveIterableSerializer;
 
 import org.eclipse.collections.api.LongIterable;
 import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.list.primitive.LongList;
 
 public final class LongIterableSerializer extends EclipsePrimitiveIterableSerializer<LongIterable>
+    implements PrimitiveIterableSerializer.Indexed<LongIterable>
 {
     public LongIterableSerializer(BeanProperty property, Boolean unwrapSingle) {
         super(LongIterable.class, elementType(long.class), property, unwrapSingle);
@@ -23,4 +26,19 @@ public final class LongIterableSerializer extends EclipsePrimitiveIterableSerial
             gen.writeNumber(iterator.next());
         }
     }
+
+    @Override
+    public int indexedSize(LongIterable value) {
+        return (value instanceof LongList) ? value.size() : -1;
+    }
+
+    @Override
+    public void serializeRange(LongIterable value, JsonGenerator gen, int from, int to)
+        throws JacksonException
+    {
+        final LongList list = (LongList) value;
+        for (int i = from; i < to; ++i) {
+            gen.writeNumber(list.get(i));
+        }
+    }
 }
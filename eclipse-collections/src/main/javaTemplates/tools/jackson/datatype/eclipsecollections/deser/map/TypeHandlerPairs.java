@@ -11,6 +11,7 @@ import org.eclipse.collections.api.map.*;
 import org.eclipse.collections.api.map.primitive.*;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.factory.primitive.*;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 
 public final class TypeHandlerPairs {
 
@@ -70,10 +71,58 @@ public final class TypeHandlerPairs {
                 ) throws JacksonException {
                     target.put(kh.key(ctx, k), vh.value(ctx, v));
                 }
+
+                @Override
+                public boolean clear(/*MapType*/MutableByteShortMap/**/ target) {
+                    target.clear();
+                    return true;
+                }
             };
 
     /* endwith */
 
+    private static final TypeHandlerPair<ConcurrentMutableMap<Object, Object>,
+            RefKeyHandler,
+            RefValueHandler> CONCURRENT_OBJECT_OBJECT =
+            new TypeHandlerPair<ConcurrentMutableMap<Object, Object>,
+                    RefKeyHandler,
+                    RefValueHandler>() {
+                @Override
+                public RefKeyHandler keyHandler(JavaType type) {
+                    return new RefKeyHandler(type, null);
+                }
+
+                @Override
+                public RefValueHandler valueHandler(JavaType type) {
+                    return new RefValueHandler(type, null, null);
+                }
+
+                @Override
+                public ConcurrentMutableMap<Object, Object> createEmpty() {
+                    return ConcurrentHashMap.newMap();
+                }
+
+                @Override
+                public ConcurrentMutableMap<Object, Object> createEmpty(int expectedSize) {
+                    return ConcurrentHashMap.newMap(expectedSize);
+                }
+
+                @Override
+                public void add(
+                        ConcurrentMutableMap<Object, Object> target,
+                        RefKeyHandler kh,
+                        RefValueHandler vh,
+                        DeserializationContext ctx, String k, JsonParser v
+                ) throws JacksonException {
+                    target.put(kh.key(ctx, k), vh.value(ctx, v));
+                }
+
+                @Override
+                public boolean clear(ConcurrentMutableMap<Object, Object> target) {
+                    target.clear();
+                    return true;
+                }
+            };
 
     static void addDeserializers() {
         EclipseMapDeserializers.add(true, true, MutableMap.class, OBJECT_OBJECT, null);
@@ -84,6 +133,10 @@ public final class TypeHandlerPairs {
                 true, true, ImmutableMap.class, OBJECT_OBJECT, MutableMap::toImmutable);
         EclipseMapDeserializers.add(
                 true, true, ImmutableMapIterable.class, OBJECT_OBJECT, MutableMap::toImmutable);
+        EclipseMapDeserializers.add(
+                true, true, ConcurrentMutableMap.class, CONCURRENT_OBJECT_OBJECT, null);
+        EclipseMapDeserializers.add(
+                true, true, ConcurrentHashMap.class, CONCURRENT_OBJECT_OBJECT, null);
 
         /* with
             byte|char|short|int|long|float|double|object key
@@ -0,0 +1,617 @@
+package tools.jackson.datatype.eclipsecollections.offheap;
+
+import java.io.IOException;
+import java.nio.*;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import org.eclipse.collections.api.*;
+import org.eclipse.collections.api.block.function.primitive.*;
+import org.eclipse.collections.api.block.predicate.primitive.*;
+import org.eclipse.collections.api.block.procedure.primitive.*;
+import org.eclipse.collections.api.iterator.*;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.*;
+import org.eclipse.collections.api.set.primitive.*;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.*;
+import org.eclipse.collections.impl.lazy.primitive.*;
+import org.eclipse.collections.impl.primitive.*;
+
+/**
+ * Read-only primitive lists that store their elements outside of Java heap
+ * (in direct {@link ByteBuffer}s, in native byte order), to keep very large
+ * numeric arrays from increasing heap size and GC pause times. Lists can
+ * be used as deserialization targets (for example as property types),
+ * in which case elements are staged on heap one segment at a time, and
+ * copied off heap once per segment.
+ *<p>
+ * Storage is split into segments of up to {@link #SEGMENT_SIZE} elements, so
+ * that size of lists is not limited by maximum capacity of a single buffer.
+ * Off-heap memory is released when a list (and any sub-lists of it) is garbage
+ * collected. Lists derived from off-heap lists (with methods like
+ * {@code select()}, {@code distinct()} and {@code toReversed()}) are regular
+ * heap-based lists, except for those created with {@code subList()}, which
+ * are views of original lists.
+ *
+ * @since 3.1
+ */
+public final class OffHeapLists
+{
+    /**
+     * Maximum number of elements in a single segment of storage.
+     */
+    public final static int SEGMENT_SIZE = 1 << 20;
+
+    final static int SEGMENT_SHIFT = 20;
+
+    final static int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    final static int INITIAL_CAPACITY = 64;
+
+    private OffHeapLists() { }
+
+    /* with double|int|long elem */
+
+    /**
+     * Off-heap {@link DoubleList}; constructed using a {@link Builder}
+     * (or {@link #copyOf}).
+     */
+    public static final class OffHeapDoubleList extends AbstractDoubleIterable
+        implements DoubleList
+    {
+        /* define SumType //
+        // if double elem //double// elif int|long elem //long// endif //
+        // enddefine */
+
+        private final static int ELEMENT_BYTES = /* if double|long elem */8/* elif int elem //4// endif */;
+
+        private final DoubleBuffer[] _segments;
+
+        private final int _offset;
+
+        private final int _size;
+
+        OffHeapDoubleList(DoubleBuffer[] segments, int offset, int size) {
+            _segments = segments;
+            _offset = offset;
+            _size = size;
+        }
+
+        /**
+         * Factory method for constructing an off-heap copy of given elements.
+         */
+        public static OffHeapDoubleList copyOf(DoubleIterable source) {
+            final Builder b = new Builder();
+            source.each(b::add);
+            return b.build();
+        }
+
+        /**
+         * Factory method for constructing a list that is a view of contents
+         * (from position to limit) of given buffers, such as memory-mapped
+         * file regions: contents are not copied. All buffers except for the
+         * last one must have exactly {@link OffHeapLists#SEGMENT_SIZE} elements.
+         */
+        public static OffHeapDoubleList wrap(DoubleBuffer... segments) {
+            final DoubleBuffer[] views = new DoubleBuffer[segments.length];
+            long size = 0L;
+            for (int i = 0; i < segments.length; ++i) {
+                views[i] = segments[i].slice();
+                final int count = views[i].remaining();
+                if ((count > SEGMENT_SIZE) || ((count < SEGMENT_SIZE) && (i < segments.length - 1))) {
+                    throw new IllegalArgumentException("Invalid size for segment #"+i+" ("+count
+                            +"): must be "+SEGMENT_SIZE+" (or less for last segment)");
+                }
+                size += count;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Maximum list size ("+Integer.MAX_VALUE+") exceeded");
+            }
+            return new OffHeapDoubleList(views, 0, (int) size);
+        }
+
+        /*
+        /******************************************************************
+        /* Access
+        /******************************************************************
+         */
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public double get(int index) {
+            if ((index < 0) || (index >= _size)) {
+                throw new IndexOutOfBoundsException("Index: "+index+" Size: "+_size);
+            }
+            return _get(index);
+        }
+
+        private double _get(int index) {
+            final int ix = _offset + index;
+            return _segments[ix >>> SEGMENT_SHIFT].get(ix & SEGMENT_MASK);
+        }
+
+        @Override
+        public double getFirst() {
+            _checkNotEmpty();
+            return _get(0);
+        }
+
+        @Override
+        public double getLast() {
+            _checkNotEmpty();
+            return _get(_size - 1);
+        }
+
+        @Override
+        public boolean contains(double value) {
+            return indexOf(value) >= 0;
+        }
+
+        @Override
+        public int indexOf(double value) {
+            for (int i = 0; i < _size; ++i) {
+                if (_compare(_get(i), value) == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(double value) {
+            for (int i = _size; --i >= 0; ) {
+                if (_compare(_get(i), value) == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int binarySearch(double value) {
+            int low = 0;
+            int high = _size - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = _compare(_get(mid), value);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Copies elements to a new heap array, using bulk copies from segments.
+         */
+        @Override
+        public double[] toArray() {
+            final double[] result = new double[_size];
+            int ix = _offset;
+            int copied = 0;
+            while (copied < _size) {
+                final int segOffset = ix & SEGMENT_MASK;
+                final int count = Math.min(_size - copied, SEGMENT_SIZE - segOffset);
+                _segments[ix >>> SEGMENT_SHIFT].get(segOffset, result, copied, count);
+                ix += count;
+                copied += count;
+            }
+            return result;
+        }
+
+        @Override
+        public DoubleList subList(int fromIndex, int toIndex) {
+            if ((fromIndex < 0) || (toIndex > _size) || (fromIndex > toIndex)) {
+                throw new IndexOutOfBoundsException("fromIndex: "+fromIndex+" toIndex: "+toIndex
+                        +" Size: "+_size);
+            }
+            return new OffHeapDoubleList(_segments, _offset + fromIndex, toIndex - fromIndex);
+        }
+
+        /*
+        /******************************************************************
+        /* Iteration
+        /******************************************************************
+         */
+
+        @Override
+        public DoubleIterator doubleIterator() {
+            return new DoubleIterator() {
+                private int _index;
+
+                @Override
+                public boolean hasNext() {
+                    return _index < _size;
+                }
+
+                @Override
+                public double next() {
+                    if (_index >= _size) {
+                        throw new NoSuchElementException();
+                    }
+                    return _get(_index++);
+                }
+            };
+        }
+
+        @Override
+        public Spliterator.OfDouble spliterator() {
+            final DoubleIterator it = doubleIterator();
+            return Spliterators.spliterator(new PrimitiveIterator.OfDouble() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public double nextDouble() {
+                    return it.next();
+                }
+            }, _size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public void each(DoubleProcedure procedure) {
+            for (int i = 0; i < _size; ++i) {
+                procedure.value(_get(i));
+            }
+        }
+
+        @Override
+        public void forEachWithIndex(DoubleIntProcedure procedure) {
+            for (int i = 0; i < _size; ++i) {
+                procedure.value(_get(i), i);
+            }
+        }
+
+        @Override
+        public LazyDoubleIterable asReversed() {
+            return ReverseDoubleIterable.adapt(this);
+        }
+
+        /*
+        /******************************************************************
+        /* Queries, aggregation
+        /******************************************************************
+         */
+
+        @Override
+        public int count(DoublePredicate predicate) {
+            int count = 0;
+            for (int i = 0; i < _size; ++i) {
+                if (predicate.accept(_get(i))) {
+                    ++count;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean anySatisfy(DoublePredicate predicate) {
+            for (int i = 0; i < _size; ++i) {
+                if (predicate.accept(_get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean allSatisfy(DoublePredicate predicate) {
+            for (int i = 0; i < _size; ++i) {
+                if (!predicate.accept(_get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public double detectIfNone(DoublePredicate predicate, double ifNone) {
+            for (int i = 0; i < _size; ++i) {
+                final double value = _get(i);
+                if (predicate.accept(value)) {
+                    return value;
+                }
+            }
+            return ifNone;
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue,
+                ObjectDoubleToObjectFunction<? super T, ? extends T> function) {
+            T result = injectedValue;
+            for (int i = 0; i < _size; ++i) {
+                result = function.valueOf(result, _get(i));
+            }
+            return result;
+        }
+
+        @Override
+        public <T> T injectIntoWithIndex(T injectedValue,
+                ObjectDoubleIntToObjectFunction<? super T, ? extends T> function) {
+            T result = injectedValue;
+            for (int i = 0; i < _size; ++i) {
+                result = function.valueOf(result, _get(i), i);
+            }
+            return result;
+        }
+
+        @Override
+        public /*SumType*/double/**/ sum() {
+            /*SumType*/double/**/ result = 0;
+            /* if double elem */
+            // compensated summation, same as with heap-based lists
+            double compensation = 0.0;
+            for (int i = 0; i < _size; ++i) {
+                final double adjusted = _get(i) - compensation;
+                final double next = result + adjusted;
+                compensation = (next - result) - adjusted;
+                result = next;
+            }
+            /* elif int|long elem //
+            for (int i = 0; i < _size; ++i) {
+                result += _get(i);
+            }
+            // endif */
+            return result;
+        }
+
+        @Override
+        public double max() {
+            _checkNotEmpty();
+            double max = _get(0);
+            for (int i = 1; i < _size; ++i) {
+                final double value = _get(i);
+                if (_compare(value, max) > 0) {
+                    max = value;
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public double min() {
+            _checkNotEmpty();
+            double min = _get(0);
+            for (int i = 1; i < _size; ++i) {
+                final double value = _get(i);
+                if (_compare(value, min) < 0) {
+                    min = value;
+                }
+            }
+            return min;
+        }
+
+        @Override
+        public /*SumType*/double/**/ dotProduct(DoubleList list) {
+            if (list.size() != _size) {
+                throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+            }
+            /*SumType*/double/**/ result = 0;
+            for (int i = 0; i < _size; ++i) {
+                result += /* if double|long elem *//* elif int elem //(long) // endif */_get(i) * list.get(i);
+            }
+            return result;
+        }
+
+        /*
+        /******************************************************************
+        /* Derived lists (on heap)
+        /******************************************************************
+         */
+
+        @Override
+        public DoubleList select(DoublePredicate predicate) {
+            final MutableDoubleList result = DoubleLists.mutable.empty();
+            for (int i = 0; i < _size; ++i) {
+                final double value = _get(i);
+                if (predicate.accept(value)) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public DoubleList reject(DoublePredicate predicate) {
+            final MutableDoubleList result = DoubleLists.mutable.empty();
+            for (int i = 0; i < _size; ++i) {
+                final double value = _get(i);
+                if (!predicate.accept(value)) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public <V> ListIterable<V> collect(DoubleToObjectFunction<? extends V> function) {
+            final MutableList<V> result = Lists.mutable.withInitialCapacity(_size);
+            for (int i = 0; i < _size; ++i) {
+                result.add(function.valueOf(_get(i)));
+            }
+            return result;
+        }
+
+        @Override
+        public DoubleList distinct() {
+            final MutableDoubleList result = DoubleLists.mutable.empty();
+            final MutableDoubleSet seen = DoubleSets.mutable.empty();
+            for (int i = 0; i < _size; ++i) {
+                final double value = _get(i);
+                if (seen.add(value)) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public DoubleList toReversed() {
+            return DoubleLists.mutable.with(toArray()).reverseThis();
+        }
+
+        @Override
+        public ImmutableDoubleList toImmutable() {
+            return DoubleLists.immutable.with(toArray());
+        }
+
+        /*
+        /******************************************************************
+        /* Standard methods
+        /******************************************************************
+         */
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end) {
+            try {
+                appendable.append(start);
+                for (int i = 0; i < _size; ++i) {
+                    if (i > 0) {
+                        appendable.append(separator);
+                    }
+                    appendable.append(String.valueOf(_get(i)));
+                }
+                appendable.append(end);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof DoubleList)) {
+                return false;
+            }
+            final DoubleList other = (DoubleList) o;
+            if (other.size() != _size) {
+                return false;
+            }
+            for (int i = 0; i < _size; ++i) {
+                if (_compare(_get(i), other.get(i)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            for (int i = 0; i < _size; ++i) {
+                hashCode = 31 * hashCode + _hash(_get(i));
+            }
+            return hashCode;
+        }
+
+        /*
+        /******************************************************************
+        /* Internal methods
+        /******************************************************************
+         */
+
+        private void _checkNotEmpty() {
+            if (_size == 0) {
+                throw new NoSuchElementException();
+            }
+        }
+
+        // same element comparison (and hashing) as with heap-based lists
+        private static int _compare(double a, double b) {
+            return /* if double elem */Double.compare(a, b)
+                    /* elif int elem //Integer.compare(a, b)// elif long elem //Long.compare(a, b)// endif */;
+        }
+
+        private static int _hash(double value) {
+            return /* if double elem */(int) (Double.doubleToLongBits(value) ^ (Double.doubleToLongBits(value) >>> 32))
+                    /* elif int elem //value// elif long elem //(int) (value ^ (value >>> 32))// endif */;
+        }
+
+        static DoubleBuffer _allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * ELEMENT_BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asDoubleBuffer();
+        }
+
+        /**
+         * Builder for {@link OffHeapDoubleList}s: elements of the segment being
+         * filled are collected in a heap array (of at most
+         * {@link OffHeapLists#SEGMENT_SIZE} elements), which is copied once
+         * to an off-heap buffer of exact size when the segment is full, or
+         * when {@link #build()} is called. Builder may not be used after
+         * {@link #build()} has been called.
+         */
+        public static final class Builder
+        {
+            private DoubleBuffer[] _segments = new DoubleBuffer[0];
+
+            private double[] _current = new double[INITIAL_CAPACITY];
+
+            private int _currentSize;
+
+            private int _size;
+
+            public Builder() { }
+
+            public Builder add(double value) {
+                if (_currentSize == _current.length) {
+                    _grow();
+                }
+                _current[_currentSize++] = value;
+                ++_size;
+                return this;
+            }
+
+            public int size() {
+                return _size;
+            }
+
+            public OffHeapDoubleList build() {
+                if ((_currentSize > 0) || (_segments.length == 0)) {
+                    _addSegment();
+                }
+                _current = null;
+                return new OffHeapDoubleList(_segments, 0, _size);
+            }
+
+            private void _grow() {
+                if (_size == Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Maximum list size ("+Integer.MAX_VALUE+") exceeded");
+                }
+                // heap array grows (by doubling) until full segment size; then it is moved off heap
+                if (_current.length < SEGMENT_SIZE) {
+                    _current = Arrays.copyOf(_current, Math.min(SEGMENT_SIZE, _current.length * 2));
+                } else {
+                    _addSegment();
+                }
+            }
+
+            private void _addSegment() {
+                final DoubleBuffer segment = _allocate(_currentSize);
+                segment.put(_current, 0, _currentSize).flip();
+                _segments = Arrays.copyOf(_segments, _segments.length + 1);
+                _segments[_segments.length - 1] = segment;
+                _currentSize = 0;
+            }
+        }
+    }
+
+    /* endwith */
+}
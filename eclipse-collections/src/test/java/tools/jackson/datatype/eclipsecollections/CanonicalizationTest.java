@@ -0,0 +1,94 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for canonicalization of deserialized immutable collections,
+ * enabled with {@link EclipseCollectionsModule#canonicalizeImmutableCollections}.
+ */
+public class CanonicalizationTest extends ModuleTestBase
+{
+    static class Record {
+        public ImmutableSet<String> tags;
+        public ImmutableSortedSet<String> sortedTags;
+        public ImmutableList<String> names;
+        public ImmutableIntList ids;
+    }
+
+    static class UpperCaseDeserializer extends StdScalarDeserializer<String> {
+        public UpperCaseDeserializer() { super(String.class); }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) {
+            return p.getString().toUpperCase();
+        }
+    }
+
+    private final static TypeReference<List<Record>> RECORDS_TYPE
+        = new TypeReference<List<Record>>() { };
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new EclipseCollectionsModule().canonicalizeImmutableCollections(3, true))
+            .build();
+
+    @Test
+    public void testEqualCollectionsShared() throws Exception
+    {
+        List<Record> records = MAPPER.readValue(
+                "[{\"tags\":[\"a\",\"b\"],\"sortedTags\":[\"a\",\"b\"],\"ids\":[1,2]},"
+                + "{\"tags\":[\"b\",\"a\"],\"sortedTags\":[\"b\",\"a\"],\"ids\":[1,2]},"
+                + "{\"names\":[\"a\",\"c\"],\"ids\":[1,2,3,4]},"
+                + "{\"ids\":[1,2,3,4]}]",
+                RECORDS_TYPE);
+        assertSame(records.get(0).tags, records.get(1).tags);
+        assertSame(records.get(0).sortedTags, records.get(1).sortedTags);
+        assertSame(records.get(0).ids, records.get(1).ids);
+        // Equal but different type must not be mixed up
+        assertNotSame((Object) records.get(0).tags, records.get(0).sortedTags);
+        // Larger ones not canonicalized
+        assertEquals(records.get(2).ids, records.get(3).ids);
+        assertNotSame(records.get(2).ids, records.get(3).ids);
+        // and String elements interned as well
+        assertSame(records.get(0).sortedTags.getFirst(), records.get(2).names.get(0));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        List<Record> records = mapperWithModule().readValue(
+                "[{\"ids\":[1,2]},{\"ids\":[1,2]}]", RECORDS_TYPE);
+        assertEquals(records.get(0).ids, records.get(1).ids);
+        assertNotSame(records.get(0).ids, records.get(1).ids);
+    }
+
+    @Test
+    public void testCustomStringDeserializer() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new EclipseCollectionsModule().canonicalizeImmutableCollections(3, true))
+                .addModule(new SimpleModule().addDeserializer(String.class, new UpperCaseDeserializer()))
+                .build();
+        List<ImmutableList<String>> lists = mapper.readValue("[[\"a\",\"b\"],[\"a\",\"b\"]]",
+                new TypeReference<List<ImmutableList<String>>>() { });
+        assertEquals(Arrays.asList("A", "B"), lists.get(0).castToList());
+        assertSame(lists.get(0), lists.get(1));
+    }
+}
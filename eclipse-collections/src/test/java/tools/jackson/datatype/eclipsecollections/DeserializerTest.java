@@ -33,6 +33,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.primitive.*;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
@@ -49,6 +50,7 @@ import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
 import org.eclipse.collections.impl.factory.*;
 import org.eclipse.collections.impl.factory.primitive.*;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 
@@ -399,6 +401,19 @@ public final class DeserializerTest extends ModuleTestBase {
         );
     }
 
+    @Test
+    public void concurrentMaps() throws Exception {
+        ConcurrentMutableMap<String, Integer> map = mapperWithModule().readValue("{\"a\":1,\"b\":2}",
+                new TypeReference<ConcurrentMutableMap<String, Integer>>() {});
+        assertInstanceOf(ConcurrentHashMap.class, map);
+        assertEquals(Maps.mutable.of("a", 1, "b", 2), map);
+        assertEquals(
+                mapperWithModule().readValue("{\"abc\":\"def\"}",
+                                             new TypeReference<ConcurrentHashMap<String, String>>() {}),
+                Maps.mutable.of("abc", "def")
+        );
+    }
+
     private static Object randomSample(Class<?> type) {
         if (type == boolean.class) { return ThreadLocalRandom.current().nextBoolean(); }
         if (type == byte.class) { return ((byte) ThreadLocalRandom.current().nextInt()); }
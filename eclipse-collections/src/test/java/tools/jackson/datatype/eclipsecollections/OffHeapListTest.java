@@ -0,0 +1,88 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapDoubleList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapIntList;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapLongList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for off-heap lists ({@link OffHeapLists}) as deserialization targets.
+ */
+public class OffHeapListTest extends ModuleTestBase
+{
+    static class Weights {
+        public OffHeapDoubleList values;
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testRoundTrip() throws Exception
+    {
+        OffHeapIntList ints = MAPPER.readValue("[1,-2,3]", OffHeapIntList.class);
+        assertEquals(IntLists.mutable.of(1, -2, 3), ints);
+        assertEquals(ints, IntLists.mutable.of(1, -2, 3));
+        assertEquals(IntLists.mutable.of(1, -2, 3).hashCode(), ints.hashCode());
+        assertEquals("[1,-2,3]", MAPPER.writeValueAsString(ints));
+
+        OffHeapLongList longs = MAPPER.readValue("[]", OffHeapLongList.class);
+        assertTrue(longs.isEmpty());
+        assertEquals("[]", MAPPER.writeValueAsString(longs));
+
+        Weights w = MAPPER.readValue("{\"values\":[0.5,1.25,-3.0]}", Weights.class);
+        assertEquals(DoubleLists.mutable.of(0.5, 1.25, -3.0), w.values);
+        assertEquals("{\"values\":[0.5,1.25,-3.0]}", MAPPER.writeValueAsString(w));
+    }
+
+    @Test
+    public void testMultipleSegments() throws Exception
+    {
+        final int size = 2 * OffHeapLists.SEGMENT_SIZE + 123;
+        final MutableDoubleList expected = DoubleLists.mutable.withInitialCapacity(size);
+        for (int i = 0; i < size; ++i) {
+            expected.add(i * 0.25);
+        }
+        final byte[] json = MAPPER.writeValueAsBytes(expected);
+        final OffHeapDoubleList list = MAPPER.readValue(json, OffHeapDoubleList.class);
+        assertEquals(size, list.size());
+        assertEquals(expected, list);
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertArrayEquals(json, MAPPER.writeValueAsBytes(list));
+
+        // sub-lists spanning segments are views
+        final int from = OffHeapLists.SEGMENT_SIZE - 2;
+        final DoubleList sub = list.subList(from, from + 5);
+        final MutableDoubleList expectedSub = DoubleLists.mutable.of(
+                from * 0.25, (from + 1) * 0.25, (from + 2) * 0.25, (from + 3) * 0.25, (from + 4) * 0.25);
+        assertEquals(expectedSub, sub);
+        assertArrayEquals(expectedSub.toArray(), sub.toArray());
+        assertEquals(expected.sum(), list.sum(), 0.0);
+        assertEquals(expected.max(), list.max(), 0.0);
+        assertEquals(from + 3, list.binarySearch((from + 3) * 0.25));
+    }
+
+    @Test
+    public void testQueries() throws Exception
+    {
+        final OffHeapLongList list = OffHeapLongList.copyOf(LongLists.mutable.of(3L, 1L, 3L, 2L));
+        assertEquals(3L, list.getFirst());
+        assertEquals(2, list.lastIndexOf(3L));
+        assertEquals(LongLists.mutable.of(3L, 1L, 2L), list.distinct());
+        assertEquals(LongLists.mutable.of(2L, 3L, 1L, 3L), list.toReversed());
+        assertEquals(LongLists.immutable.of(3L, 1L, 3L), list.subList(0, 3).toImmutable());
+        assertEquals(9L, list.sum());
+        assertEquals("[3, 1, 3, 2]", list.toString());
+        assertEquals(LongLists.mutable.of(3L, 3L), list.select(v -> v > 2L));
+        assertEquals(LongLists.mutable.of(1L, 3L), list.subList(1, 3).toList());
+    }
+}
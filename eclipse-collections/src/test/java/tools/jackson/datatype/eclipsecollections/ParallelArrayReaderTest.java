@@ -0,0 +1,95 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.datatype.primitive_collections_base.deser.ParallelArrayReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading large JSON Arrays into primitive lists in parallel,
+ * using {@link ParallelArrayReader}.
+ */
+public class ParallelArrayReaderTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ParallelArrayReader<MutableDoubleList> DOUBLES = new ParallelArrayReader<MutableDoubleList>(
+            MAPPER.readerFor(MutableDoubleList.class),
+            (result, chunk) -> result.addAll(chunk))
+        .withChunkSize(100);
+
+    @Test
+    public void testSameResultAsSequential() throws Exception
+    {
+        final MutableDoubleList doubles = DoubleLists.mutable.empty();
+        for (int i = 0; i < 5000; ++i) {
+            doubles.add((i - 100) / 3.0);
+        }
+        final byte[] json = MAPPER.writeValueAsBytes(doubles);
+        assertEquals(doubles, DOUBLES.readValue(json));
+
+        // also with whitespace, from a direct (similar to memory-mapped) buffer
+        final byte[] spaced = (" "+new String(json, StandardCharsets.UTF_8).replace(",", " ,\n ")+"\n")
+                .getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(spaced.length + 2);
+        buffer.put((byte) 'x').put(spaced).flip().position(1);
+        assertEquals(doubles, DOUBLES.readValue(buffer));
+        assertEquals(1, buffer.position());
+
+        final MutableLongList longs = LongLists.mutable.empty();
+        for (int i = 0; i < 5000; ++i) {
+            longs.add(-i * 0x12345678L);
+        }
+        final AtomicInteger threads = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(3, p -> {
+            threads.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            assertEquals(longs, new ParallelArrayReader<MutableLongList>(
+                        MAPPER.readerFor(MutableLongList.class), (result, chunk) -> result.addAll(chunk))
+                    .withChunkSize(10)
+                    .withPool(pool)
+                    .readValue(MAPPER.writeValueAsBytes(longs)));
+            // verify chunks were actually read by given pool
+            assertTrue(threads.get() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSequentialFallback() throws Exception
+    {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; ++i) {
+            sb.append(i).append(',');
+        }
+        // Strings with commas cannot be split
+        sb.append("\"1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20,21,22,23,24,25,26,27,28,29\"]");
+        final byte[] json = sb.toString().getBytes(StandardCharsets.UTF_8);
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+        JacksonException expected = assertThrows(JacksonException.class, () -> r.readValue(json));
+        JacksonException actual = assertThrows(JacksonException.class, () -> DOUBLES.readValue(json));
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getMessage(), actual.getMessage());
+
+        // nor is trailing comma accepted
+        final byte[] trailing = (sb.substring(0, sb.indexOf("\"")) + "]")
+                .getBytes(StandardCharsets.UTF_8);
+        assertThrows(JacksonException.class, () -> DOUBLES.readValue(trailing));
+    }
+}
@@ -0,0 +1,168 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableFloatList;
+import org.eclipse.collections.api.set.primitive.MutableDoubleSet;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.json.JsonReadFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.ParallelNumberDecoding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for decoding large JSON number arrays into primitive collections
+ * in parallel, using {@link ParallelNumberDecoding}.
+ */
+public class ParallelNumberDecodingTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+            .addModule(new EclipseCollectionsModule())
+            .build();
+
+    // mix of integral and floating-point numbers, and special values
+    private String _json(int count)
+    {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            switch (i % 1000) {
+            case 7:
+                sb.append("-0");
+                break;
+            case 8:
+                sb.append("-0.0");
+                break;
+            case 9:
+                sb.append("NaN");
+                break;
+            case 11:
+                sb.append("-Infinity");
+                break;
+            default:
+                if ((i % 3) == 0) {
+                    sb.append(i - 5000);
+                } else {
+                    sb.append((i - 100) / 3.0).append("e-").append(i % 40);
+                }
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    @Test
+    public void testSameResultAsSequential() throws Exception
+    {
+        final String json = _json(100_000);
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+        final MutableDoubleList expDoubles = r.readValue(json);
+        assertEquals(100_000, expDoubles.size());
+        assertEquals(expDoubles, r.withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                .readValue(json));
+        // also when below threshold
+        assertEquals(expDoubles, r.withAttribute(ParallelNumberDecoding.THRESHOLD, 200_000)
+                .readValue(json));
+
+        final ObjectReader fr = MAPPER.readerFor(MutableFloatList.class);
+        final MutableFloatList expFloats = fr.readValue(json);
+        assertEquals(expFloats, fr.withAttribute(ParallelNumberDecoding.THRESHOLD, 50_000)
+                .readValue(json));
+
+        final ObjectReader sr = MAPPER.readerFor(MutableDoubleSet.class);
+        assertEquals((Object) sr.readValue(json), sr.withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                .readValue(json));
+    }
+
+    @Test
+    public void testNonTextualParser() throws Exception
+    {
+        // like binary formats, trees have 32-bit float values, whose text
+        // ("0.1") would not decode to the same double as the value itself
+        final ArrayNode tree = MAPPER.createArrayNode();
+        for (int i = 0; i < 100_000; ++i) {
+            tree.add(i / 10.0f);
+        }
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+        final MutableDoubleList expDoubles = r.readValue(tree);
+        assertEquals((double) 0.1f, expDoubles.get(1));
+        assertEquals(expDoubles, r.withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                .readValue(tree));
+
+        final ObjectReader fr = MAPPER.readerFor(MutableFloatList.class);
+        assertEquals((Object) fr.readValue(tree), fr.withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                .readValue(tree));
+    }
+
+    @Test
+    public void testWithPool() throws Exception
+    {
+        final String json = _json(100_000);
+        final AtomicInteger threads = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(3, p -> {
+            threads.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+            assertEquals((Object) r.readValue(json), r
+                    .withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                    .withAttribute(ParallelNumberDecoding.POOL, pool)
+                    .readValue(json));
+            // verify chunks were actually decoded by given pool
+            assertTrue(threads.get() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLimits() throws Exception
+    {
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class)
+                .withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                .withAttribute(CollectionLimits.MAX_ELEMENTS, 50_000);
+        final String json = _json(100_000);
+        Exception expected = assertThrows(Exception.class,
+                () -> r.withoutAttribute(ParallelNumberDecoding.THRESHOLD).readValue(json));
+        Exception actual = assertThrows(Exception.class, () -> r.readValue(json));
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void testNonNumberElement() throws Exception
+    {
+        // non-number elements are handled by sequential code, after preceding numbers
+        final String json = _json(100_000).replaceFirst(",-4901,", ",\"-4901\",");
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+        Exception expected = assertThrows(Exception.class, () -> r.readValue(json));
+        Exception actual = assertThrows(Exception.class,
+                () -> r.withAttribute(ParallelNumberDecoding.THRESHOLD, 0).readValue(json));
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void testInvalidAttributes() throws Exception
+    {
+        final ObjectReader r = MAPPER.readerFor(MutableDoubleList.class);
+        assertThrows(InvalidDefinitionException.class,
+                () -> r.withAttribute(ParallelNumberDecoding.THRESHOLD, -1).readValue("[1.5]"));
+        assertThrows(InvalidDefinitionException.class,
+                () -> r.withAttribute(ParallelNumberDecoding.THRESHOLD, 0)
+                    .withAttribute(ParallelNumberDecoding.POOL, "pool")
+                    .readValue(_json(100_000)));
+    }
+}
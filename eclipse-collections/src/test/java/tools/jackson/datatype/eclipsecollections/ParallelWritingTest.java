@@ -0,0 +1,107 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.factory.primitive.LongSets;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.datatype.primitive_collections_base.ser.ParallelWriting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for writing large primitive lists in parallel, using {@link ParallelWriting}.
+ */
+public class ParallelWritingTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testSameOutputAsSequential() throws Exception
+    {
+        final int size = 3 * ParallelWriting.CHUNK_SIZE + 17;
+        final MutableLongList longs = LongLists.mutable.empty();
+        final MutableDoubleList doubles = DoubleLists.mutable.empty();
+        for (int i = 0; i < size; ++i) {
+            longs.add(i * 0x1234567L - size);
+            doubles.add(i / 7.0);
+        }
+        doubles.add(Double.NaN);
+        final ObjectWriter w = MAPPER.writer()
+                .withAttribute(ParallelWriting.THRESHOLD, ParallelWriting.CHUNK_SIZE);
+        final AtomicInteger threads = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(3, p -> {
+            threads.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            assertEquals(MAPPER.writeValueAsString(longs), w.writeValueAsString(longs));
+            assertEquals(MAPPER.writeValueAsString(doubles),
+                    w.withAttribute(ParallelWriting.POOL, pool).writeValueAsString(doubles));
+            // verify chunks were actually written by given pool
+            assertTrue(threads.get() > 0);
+        } finally {
+            pool.shutdown();
+        }
+
+        // and within other content
+        final Object[] wrapped = new Object[] { "a", longs, doubles, 3 };
+        assertEquals(MAPPER.writeValueAsString(wrapped), w.writeValueAsString(wrapped));
+        assertArrayEquals(MAPPER.writeValueAsBytes(longs), w.writeValueAsBytes(longs));
+    }
+
+    @Test
+    public void testSequentialFallback() throws Exception
+    {
+        final ObjectWriter w = MAPPER.writer()
+                .withAttribute(ParallelWriting.THRESHOLD, 1);
+        // pretty-printed and non-indexed collections are written sequentially
+        assertEquals(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(LongLists.mutable.of(1L, 2L)),
+                w.withDefaultPrettyPrinter().writeValueAsString(LongLists.mutable.of(1L, 2L)));
+        assertEquals("[3]", w.writeValueAsString(LongSets.mutable.of(3L)));
+        assertEquals("[1,2]", w.writeValueAsString(LongLists.immutable.of(1L, 2L)));
+    }
+
+    @Test
+    public void testNotUsedWithoutJsonGenerator() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new EclipseCollectionsModule())
+                .defaultAttributes(MAPPER.serializationConfig().getAttributes()
+                        .withSharedAttribute(ParallelWriting.THRESHOLD, 1))
+                .build();
+        // buffered into a `TokenBuffer`: must be written as regular elements
+        final JsonNode tree = mapper.valueToTree(IntLists.mutable.of(1, 2, 3));
+        assertEquals(MAPPER.readTree("[1,2,3]"), tree);
+        assertArrayEquals(new int[] { 1, 2, 3 },
+                mapper.convertValue(IntLists.mutable.of(1, 2, 3), int[].class));
+        assertEquals("[1,2,3]", mapper.writeValueAsString(IntLists.mutable.of(1, 2, 3)));
+    }
+
+    @Test
+    public void testInvalidAttributes() throws Exception
+    {
+        InvalidDefinitionException e = assertThrows(InvalidDefinitionException.class,
+                () -> MAPPER.writer()
+                    .withAttribute(ParallelWriting.THRESHOLD, "1")
+                    .writeValueAsString(IntLists.mutable.of(1, 2, 3)));
+        verifyException(e, "Invalid value for attribute `"+ParallelWriting.THRESHOLD+"`");
+        e = assertThrows(InvalidDefinitionException.class,
+                () -> MAPPER.writer()
+                    .withAttribute(ParallelWriting.THRESHOLD, 1)
+                    .withAttribute(ParallelWriting.POOL, "pool")
+                    .writeValueAsString(IntLists.mutable.of(1, 2, 3)));
+        verifyException(e, "Invalid value for attribute `"+ParallelWriting.POOL+"`");
+    }
+}
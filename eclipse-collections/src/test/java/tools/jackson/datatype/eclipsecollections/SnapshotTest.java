@@ -0,0 +1,149 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntIntMaps;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists;
+import tools.jackson.datatype.eclipsecollections.offheap.OffHeapLists.OffHeapIntList;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshotWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for binary snapshots of primitive collections, written and read
+ * using {@link EclipseSnapshots}.
+ */
+public class SnapshotTest extends ModuleTestBase
+{
+    static class Route {
+        public String host;
+        public int port;
+
+        protected Route() { }
+
+        public Route(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof Route) && ((Route) o).host.equals(host) && ((Route) o).port == port;
+        }
+
+        @Override
+        public int hashCode() {
+            return host.hashCode() + port;
+        }
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLists() throws Exception
+    {
+        final Path file = tempDir.resolve("list.snapshot");
+        final MutableIntList ints = IntLists.mutable.empty();
+        for (int i = 0; i < 2 * OffHeapLists.SEGMENT_SIZE + 5; ++i) {
+            ints.add(i * 31 - 7);
+        }
+        EclipseSnapshots.writeIntList(file, ints);
+        assertEquals(ints, EclipseSnapshots.readIntList(file));
+
+        // and as a view, serializable as usual
+        final OffHeapIntList view = EclipseSnapshots.mapIntList(file);
+        assertEquals(ints, view);
+        assertEquals(MAPPER.writeValueAsString(ints), MAPPER.writeValueAsString(view));
+
+        // (separate files, since mapped files must not be overwritten while in use)
+        final Path doubleFile = tempDir.resolve("doubles.snapshot");
+        final MutableDoubleList doubles = DoubleLists.mutable.of(0.5, -1.0, Double.NaN);
+        EclipseSnapshots.writeDoubleList(doubleFile, doubles);
+        assertEquals(doubles, EclipseSnapshots.readDoubleList(doubleFile));
+        assertEquals(doubles, EclipseSnapshots.mapDoubleList(doubleFile));
+
+        final Path longFile = tempDir.resolve("longs.snapshot");
+        EclipseSnapshots.writeLongList(longFile, LongLists.mutable.empty());
+        assertTrue(EclipseSnapshots.readLongList(longFile).isEmpty());
+        assertTrue(EclipseSnapshots.mapLongList(longFile).isEmpty());
+    }
+
+    @Test
+    public void testMaps() throws Exception
+    {
+        final Path file = tempDir.resolve("map.snapshot");
+        final MutableIntIntMap intMap = IntIntMaps.mutable.empty();
+        for (int i = 0; i < 1000; ++i) {
+            intMap.put(i * 7, -i);
+        }
+        EclipseSnapshots.writeIntIntMap(file, intMap);
+        assertEquals(intMap, EclipseSnapshots.readIntIntMap(file));
+
+        final MutableLongObjectMap<Route> routes = LongObjectMaps.mutable.empty();
+        routes.put(1L, new Route("a", 80));
+        routes.put(2L, new Route("b", 8080));
+        routes.put(3L, new Route("a", 80));
+        routes.put(4L, null);
+        final Path routeFile = tempDir.resolve("routes.snapshot");
+        EclipseSnapshots.writeLongObjectMap(routeFile, routes, MAPPER.writer());
+        try (PrimitiveSnapshot snapshot = PrimitiveSnapshot.open(routeFile)) {
+            assertEquals(PrimitiveSnapshot.ColumnType.REF, snapshot.columnType(1));
+            assertEquals(4, snapshot.columnSize(1));
+        }
+        MutableLongObjectMap<Route> result = EclipseSnapshots.readLongObjectMap(routeFile,
+                MAPPER.reader(), Route.class);
+        assertEquals(routes, result);
+        // distinct values are stored (and read) just once
+        assertSame(result.get(1L), result.get(3L));
+    }
+
+    @Test
+    public void testInvalidSnapshots() throws Exception
+    {
+        final Path file = tempDir.resolve("invalid.snapshot");
+        Files.write(file, "[1,2,3]".getBytes(StandardCharsets.UTF_8));
+        IOException e = assertThrows(IOException.class, () -> EclipseSnapshots.readIntList(file));
+        verifyException(e, "Not a primitive collection snapshot");
+
+        EclipseSnapshots.writeDoubleList(file, DoubleLists.mutable.of(1.0));
+        e = assertThrows(IOException.class, () -> EclipseSnapshots.readIntList(file));
+        verifyException(e, "Unexpected snapshot contents");
+    }
+
+    @Test
+    public void testInvalidDictionaryIndex() throws Exception
+    {
+        final Path file = tempDir.resolve("refs.snapshot");
+        new PrimitiveSnapshotWriter(MAPPER.writer())
+            .addRefs(new Object[] { "a", null })
+            .write(file);
+        // indexes are the last 8 bytes of file: replace first one (0) with 1, outside dictionary
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 8] = 1;
+        Files.write(file, bytes);
+        try (PrimitiveSnapshot snapshot = PrimitiveSnapshot.open(file)) {
+            IOException e = assertThrows(IOException.class,
+                    () -> snapshot.readRefs(0, MAPPER.reader(), String.class));
+            verifyException(e, "Invalid dictionary index (1) for element #0");
+        }
+    }
+}
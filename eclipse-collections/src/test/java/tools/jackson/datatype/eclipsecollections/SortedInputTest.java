@@ -0,0 +1,43 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading sorted collections with
+ * {@link EclipseCollectionsModule#expectSortedInput} enabled: results must be
+ * the same regardless of whether input is sorted.
+ */
+public class SortedInputTest extends ModuleTestBase
+{
+    private final static TypeReference<ImmutableSortedSet<String>> SET_TYPE
+        = new TypeReference<ImmutableSortedSet<String>>() { };
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new EclipseCollectionsModule().expectSortedInput(true))
+            .build();
+
+    @Test
+    public void testSortedInput() throws Exception
+    {
+        ImmutableSortedSet<String> set = SortedSets.immutable.with("a", "b", "c", "d");
+        assertEquals(set, MAPPER.readValue(MAPPER.writeValueAsString(set), SET_TYPE));
+        assertTrue(MAPPER.readValue("[]", SET_TYPE).isEmpty());
+    }
+
+    @Test
+    public void testUnsortedInput() throws Exception
+    {
+        ImmutableSortedSet<String> set = MAPPER.readValue("[\"c\",\"a\",\"b\",\"a\"]", SET_TYPE);
+        assertEquals(Lists.mutable.with("a", "b", "c"), set.toList());
+    }
+}
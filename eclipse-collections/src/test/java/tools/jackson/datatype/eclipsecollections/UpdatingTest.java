@@ -0,0 +1,103 @@
+package tools.jackson.datatype.eclipsecollections;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableCharList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.CharLists;
+import org.eclipse.collections.impl.factory.primitive.IntIntMaps;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for updating existing (mutable) containers with
+ * {@code ObjectMapper.readerForUpdating()}.
+ */
+public class UpdatingTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testAppendToPrimitiveList() throws Exception
+    {
+        final MutableIntList list = IntLists.mutable.of(1, 2);
+        MutableIntList result = MAPPER.readerForUpdating(list)
+                .forType(MutableIntList.class)
+                .readValue("[3,4]");
+        assertSame(list, result);
+        assertEquals(IntLists.mutable.of(1, 2, 3, 4), result);
+    }
+
+    @Test
+    public void testClearOnUpdate() throws Exception
+    {
+        final MutableIntList list = IntLists.mutable.of(1, 2, 3);
+        MutableIntList result = MAPPER.readerForUpdating(list)
+                .forType(MutableIntList.class)
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue("[7]");
+        assertSame(list, result);
+        assertEquals(IntLists.mutable.of(7), result);
+
+        final MutableCharList chars = CharLists.mutable.of('a');
+        MutableCharList charResult = MAPPER.readerForUpdating(chars)
+                .forType(MutableCharList.class)
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue("\"xy\"");
+        assertSame(chars, charResult);
+        assertEquals(CharLists.mutable.of('x', 'y'), charResult);
+
+        final MutableList<String> refs = Lists.mutable.of("a");
+        MutableList<String> refResult = MAPPER.readerForUpdating(refs)
+                .forType(new TypeReference<MutableList<String>>() { })
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue("[\"b\"]");
+        assertSame(refs, refResult);
+        assertEquals(Lists.mutable.of("b"), refResult);
+    }
+
+    @Test
+    public void testUpdateMap() throws Exception
+    {
+        final MutableIntIntMap map = IntIntMaps.mutable.of(1, 1, 2, 2);
+        MutableIntIntMap result = MAPPER.readerForUpdating(map)
+                .forType(MutableIntIntMap.class)
+                .readValue("{\"2\":20,\"3\":30}");
+        assertSame(map, result);
+        assertEquals(IntIntMaps.mutable.of(1, 1, 2, 20, 3, 30), result);
+
+        result = MAPPER.readerForUpdating(map)
+                .forType(MutableIntIntMap.class)
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue("{\"4\":40}");
+        assertSame(map, result);
+        assertEquals(IntIntMaps.mutable.of(4, 40), result);
+    }
+
+    @Test
+    public void testImmutableNotUpdated() throws Exception
+    {
+        final ImmutableIntList list = IntLists.immutable.of(1, 2);
+        ImmutableIntList result = MAPPER.readerForUpdating(list)
+                .forType(ImmutableIntList.class)
+                .readValue("[3]");
+        assertEquals(IntLists.immutable.of(3), result);
+        assertEquals(IntLists.immutable.of(1, 2), list);
+
+        final ImmutableList<String> refs = Lists.immutable.of("a");
+        ImmutableList<String> refResult = MAPPER.readerForUpdating(refs)
+                .forType(new TypeReference<ImmutableList<String>>() { })
+                .readValue("[\"b\"]");
+        assertEquals(Lists.immutable.of("b"), refResult);
+    }
+}
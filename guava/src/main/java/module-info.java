@@ -6,6 +6,8 @@ module tools.jackson.datatype.guava
     requires tools.jackson.core;
     requires transitive tools.jackson.databind;
 
+    requires transitive tools.jackson.datatype.primitive_collections_base;
+
     requires com.google.common;
 
     exports tools.jackson.datatype.guava;
@@ -1,10 +1,19 @@
 package tools.jackson.datatype.guava;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.collect.*;
+import com.google.common.graph.ImmutableGraph;
+import com.google.common.graph.ImmutableNetwork;
+import com.google.common.graph.ImmutableValueGraph;
+import com.google.common.graph.MutableGraph;
+import com.google.common.graph.MutableNetwork;
+import com.google.common.graph.MutableValueGraph;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
 import com.google.common.hash.HashCode;
 import com.google.common.net.HostAndPort;
 import com.google.common.net.InternetDomainName;
@@ -21,11 +30,15 @@ import tools.jackson.datatype.guava.deser.multimap.list.ArrayListMultimapDeseria
 import tools.jackson.datatype.guava.deser.multimap.list.LinkedListMultimapDeserializer;
 import tools.jackson.datatype.guava.deser.multimap.set.HashMultimapDeserializer;
 import tools.jackson.datatype.guava.deser.multimap.set.LinkedHashMultimapDeserializer;
+import tools.jackson.datatype.guava.deser.table.ArrayTableDeserializer;
 import tools.jackson.datatype.guava.deser.table.HashBasedTableDeserializer;
 import tools.jackson.datatype.guava.deser.table.ImmutableTableDeserializer;
 import tools.jackson.datatype.guava.deser.table.TreeBasedTableDeserializer;
+import tools.jackson.datatype.guava.deser.util.GraphHelper;
 import tools.jackson.datatype.guava.util.ImmutablePrimitiveTypes;
 import tools.jackson.datatype.guava.util.PrimitiveTypes;
+import tools.jackson.datatype.primitive_collections_base.deser.Canonicalizer;
+import tools.jackson.datatype.primitive_collections_base.deser.CanonicalizingDeserializer;
 
 /**
  * Custom deserializers module offers.
@@ -37,105 +50,338 @@ public class GuavaDeserializers
     static final long serialVersionUID = 1L;
     protected BoundType _defaultBoundType;
 
+    /**
+     * @since 3.1
+     */
+    protected TableShape _defaultTableShape;
+
+    /**
+     * Explicitly registered {@link Funnel}s to use for {@link BloomFilter}s
+     * of given element type; {@code null} if none.
+     *
+     * @since 3.1
+     */
+    protected Map<Class<?>, Funnel<?>> _funnels;
+
+    /**
+     * Canonicalizer to use for immutable collections, if canonicalization
+     * enabled; {@code null} if not.
+     *
+     * @since 3.1
+     */
+    protected Canonicalizer _canonicalizer;
+
+    /**
+     * Whether contents of sorted containers are expected to be already sorted
+     * (see {@link GuavaModule#expectSortedInput}).
+     *
+     * @since 3.1
+     */
+    protected boolean _sortedInput;
+
     public GuavaDeserializers() {
         this(null);
     }
 
     public GuavaDeserializers(BoundType defaultBoundType) {
+        this(defaultBoundType, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public GuavaDeserializers(BoundType defaultBoundType, TableShape defaultTableShape) {
+        this(defaultBoundType, defaultTableShape, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public GuavaDeserializers(BoundType defaultBoundType, TableShape defaultTableShape,
+            Map<Class<?>, Funnel<?>> funnels) {
+        this(defaultBoundType, defaultTableShape, funnels, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public GuavaDeserializers(BoundType defaultBoundType, TableShape defaultTableShape,
+            Map<Class<?>, Funnel<?>> funnels, Canonicalizer canonicalizer) {
+        this(defaultBoundType, defaultTableShape, funnels, canonicalizer, false);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public GuavaDeserializers(BoundType defaultBoundType, TableShape defaultTableShape,
+            Map<Class<?>, Funnel<?>> funnels, Canonicalizer canonicalizer,
+            boolean sortedInput) {
         _defaultBoundType = defaultBoundType;
+        _defaultTableShape = defaultTableShape;
+        // copied, since module may still register more funnels
+        _funnels = (funnels == null) ? null : ImmutableMap.copyOf(funnels);
+        _canonicalizer = canonicalizer;
+        _sortedInput = sortedInput;
     }
 
+    /*
+    /**********************************************************************
+    /* Memoized type dispatch
+    /**********************************************************************
+     */
+
+    // Collection (and Collection-like) types handled, memoized per raw type
+
+    private final static int COLL_NONE = 0;
+    private final static int COLL_IMMUTABLE_LIST = 1;
+    private final static int COLL_IMMUTABLE_MULTISET = 2;
+    private final static int COLL_IMMUTABLE_SORTED_MULTISET = 3;
+    private final static int COLL_IMMUTABLE_SET = 4;
+    private final static int COLL_IMMUTABLE_SORTED_SET = 5;
+    private final static int COLL_TREE_MULTISET = 6;
+    private final static int COLL_LINKED_HASH_MULTISET = 7;
+    private final static int COLL_CONCURRENT_HASH_MULTISET = 8;
+    private final static int COLL_HASH_MULTISET = 9;
+
+    // Map-like types handled, memoized per raw type
+
+    private final static int MAP_LIKE_NONE = 0;
+    private final static int MAP_LIKE_ARRAY_LIST_MULTIMAP = 1;
+    private final static int MAP_LIKE_LINKED_LIST_MULTIMAP = 2;
+    private final static int MAP_LIKE_HASH_MULTIMAP = 3;
+    private final static int MAP_LIKE_LINKED_HASH_MULTIMAP = 4;
+    private final static int MAP_LIKE_RANGE_MAP = 5;
+    private final static int MAP_LIKE_IMMUTABLE_RANGE_MAP = 6;
+    private final static int MAP_LIKE_ARRAY_TABLE = 7;
+    private final static int MAP_LIKE_HASH_BASED_TABLE = 8;
+    private final static int MAP_LIKE_TREE_BASED_TABLE = 9;
+    private final static int MAP_LIKE_IMMUTABLE_TABLE = 10;
+
     /**
-     * We have plenty of collection types to support...
+     * Kind of Collection type ({@code COLL_xxx}) for raw types seen so far:
+     * deserializers themselves depend on full type and configuration,
+     * but the choice of deserializer only on the raw type, and resolving
+     * it through the chain of assignability checks for every new mapper
+     * (each of which has its own deserializer cache) gets costly.
+     *
+     * @since 3.1
      */
-    @Override
-    public ValueDeserializer<?> findCollectionDeserializer(CollectionType type,
-            DeserializationConfig config, BeanDescription.Supplier beanDescRef,
-            TypeDeserializer elementTypeDeserializer, ValueDeserializer<?> elementDeserializer)
-    {
-        Class<?> raw = type.getRawClass();
+    private final static ClassValue<Integer> _collectionKinds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> raw) {
+            return _findCollectionKind(raw);
+        }
+    };
 
+    /**
+     * Kind of Map-like type ({@code MAP_LIKE_xxx}) for raw types seen so far:
+     * see {@link #_collectionKinds} for details.
+     *
+     * @since 3.1
+     */
+    private final static ClassValue<Integer> _mapLikeKinds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> raw) {
+            return _findMapLikeKind(raw);
+        }
+    };
+
+    private static int _findCollectionKind(Class<?> raw)
+    {
         // ImmutableXxx types?
         if (ImmutableCollection.class.isAssignableFrom(raw)) {
             if (ImmutableList.class.isAssignableFrom(raw)) {
-                return new ImmutableListDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
+                return COLL_IMMUTABLE_LIST;
             }
             if (ImmutableMultiset.class.isAssignableFrom(raw)) {
-                // sorted one?
                 if (ImmutableSortedMultiset.class.isAssignableFrom(raw)) {
-                    /* See considerations for ImmutableSortedSet below. */
-                    requireCollectionOfComparableElements(type, "ImmutableSortedMultiset");
-                    return new ImmutableSortedMultisetDeserializer(type,
-                            elementDeserializer, elementTypeDeserializer,
-                            null, null);
+                    return COLL_IMMUTABLE_SORTED_MULTISET;
                 }
-                // nah, just regular one
-                return new ImmutableMultisetDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
+                return COLL_IMMUTABLE_MULTISET;
             }
             if (ImmutableSet.class.isAssignableFrom(raw)) {
-                // sorted one?
                 if (ImmutableSortedSet.class.isAssignableFrom(raw)) {
-                    // 28-Nov-2010, tatu: With some more work would be able to use other things
-                    //   than natural ordering; but that'll have to do for now...
-                    requireCollectionOfComparableElements(type, "ImmutableSortedSet");
-                    return new ImmutableSortedSetDeserializer(type,
-                            elementDeserializer, elementTypeDeserializer,
-                            null, null);
+                    return COLL_IMMUTABLE_SORTED_SET;
                 }
-                // nah, just regular one
-                return new ImmutableSetDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
+                return COLL_IMMUTABLE_SET;
             }
             // TODO: make configurable (for now just default blindly to a list)
-            return new ImmutableListDeserializer(type,
-                    elementDeserializer, elementTypeDeserializer,
-                    null, null);
+            return COLL_IMMUTABLE_LIST;
         }
 
         // Multi-xxx collections?
         if (Multiset.class.isAssignableFrom(raw)) {
             if (SortedMultiset.class.isAssignableFrom(raw)) {
-                if (TreeMultiset.class.isAssignableFrom(raw)) {
-                    return new TreeMultisetDeserializer(type,
-                            elementDeserializer, elementTypeDeserializer,
-                            null, null);
-                }
-
                 // TODO: make configurable (for now just default blindly)
-                return new TreeMultisetDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
+                return COLL_TREE_MULTISET;
             }
-
             // Quite a few variations...
             if (LinkedHashMultiset.class.isAssignableFrom(raw)) {
-                return new LinkedHashMultisetDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
-           }
-            if (HashMultiset.class.isAssignableFrom(raw)) {
-                return new HashMultisetDeserializer(type,
-                        elementDeserializer, elementTypeDeserializer,
-                        null, null);
+                return COLL_LINKED_HASH_MULTISET;
+            }
+            if (ConcurrentHashMultiset.class.isAssignableFrom(raw)) {
+                return COLL_CONCURRENT_HASH_MULTISET;
             }
             if (EnumMultiset.class.isAssignableFrom(raw)) {
                 // !!! TODO
             }
-
             // TODO: make configurable (for now just default blindly)
+            return COLL_HASH_MULTISET;
+        }
+        return COLL_NONE;
+    }
+
+    private static int _findMapLikeKind(Class<?> raw)
+    {
+        // ListMultimaps
+        if (ListMultimap.class.isAssignableFrom(raw)) {
+            if (ImmutableListMultimap.class.isAssignableFrom(raw)) {
+                // TODO
+            }
+            if (LinkedListMultimap.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_LINKED_LIST_MULTIMAP;
+            }
+            if (ForwardingListMultimap.class.isAssignableFrom(raw)) {
+                // TODO
+            }
+            // TODO: Remove the default fall-through once all implementations are in place.
+            return MAP_LIKE_ARRAY_LIST_MULTIMAP;
+        }
+
+        // SetMultimaps
+        if (SetMultimap.class.isAssignableFrom(raw)) {
+            // SortedSetMultimap
+            if (SortedSetMultimap.class.isAssignableFrom(raw)) {
+                if (TreeMultimap.class.isAssignableFrom(raw)) {
+                    // TODO
+                }
+                if (ForwardingSortedSetMultimap.class.isAssignableFrom(raw)) {
+                    // TODO
+                }
+            }
+            if (ImmutableSetMultimap.class.isAssignableFrom(raw)) {
+                // [#67]: Preserve order of entries
+                return MAP_LIKE_LINKED_HASH_MULTIMAP;
+            }
+            if (HashMultimap.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_HASH_MULTIMAP;
+            }
+            if (ForwardingSetMultimap.class.isAssignableFrom(raw)) {
+                // TODO
+            }
+            // TODO: Remove the default fall-through once all implementations are covered.
+            return MAP_LIKE_LINKED_HASH_MULTIMAP;
+        }
+
+        // Handle the case where nothing more specific was provided.
+        if (Multimap.class.isAssignableFrom(raw)) {
+            return MAP_LIKE_LINKED_LIST_MULTIMAP;
+        }
+
+        if (RangeMap.class.isAssignableFrom(raw)) {
+            if (ImmutableRangeMap.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_IMMUTABLE_RANGE_MAP;
+            }
+            return MAP_LIKE_RANGE_MAP;
+        }
+
+        if (Table.class.isAssignableFrom(raw)) {
+            if (ArrayTable.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_ARRAY_TABLE;
+            }
+            if (HashBasedTable.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_HASH_BASED_TABLE;
+            }
+            if (TreeBasedTable.class.isAssignableFrom(raw)) {
+                return MAP_LIKE_TREE_BASED_TABLE;
+            }
+            return MAP_LIKE_IMMUTABLE_TABLE;
+        }
+        return MAP_LIKE_NONE;
+    }
+
+    /*
+    /**********************************************************************
+    /* Deserializer lookup
+    /**********************************************************************
+     */
+
+    /**
+     * We have plenty of collection types to support...
+     */
+    @Override
+    public ValueDeserializer<?> findCollectionDeserializer(CollectionType type,
+            DeserializationConfig config, BeanDescription.Supplier beanDescRef,
+            TypeDeserializer elementTypeDeserializer, ValueDeserializer<?> elementDeserializer)
+    {
+        final int kind = _collectionKinds.get(type.getRawClass());
+        switch (kind) {
+        case COLL_NONE:
+            return PrimitiveTypes.isAssignableFromPrimitive(type.getRawClass())
+                    .transform(PrimitiveTypes.Primitives::newDeserializer)
+                    .orNull();
+        case COLL_TREE_MULTISET:
+            return new TreeMultisetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        case COLL_LINKED_HASH_MULTISET:
+            return new LinkedHashMultisetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        case COLL_CONCURRENT_HASH_MULTISET:
+            return new ConcurrentHashMultisetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        case COLL_HASH_MULTISET:
             return new HashMultisetDeserializer(type,
                     elementDeserializer, elementTypeDeserializer,
                     null, null);
+        default: // ImmutableXxx types
         }
+        if (_canonicalizer != null) {
+            // String elements can only be canonicalized before they are added
+            if ((elementDeserializer == null) && _canonicalizer.internsStrings()
+                    && type.getContentType().hasRawClass(String.class)) {
+                elementDeserializer = CanonicalizingDeserializer.forElements(type.getContentType(),
+                        _canonicalizer);
+            }
+            return new CanonicalizingDeserializer(_findImmutableCollectionDeserializer(kind, type,
+                    elementTypeDeserializer, elementDeserializer), _canonicalizer);
+        }
+        return _findImmutableCollectionDeserializer(kind, type,
+                elementTypeDeserializer, elementDeserializer);
+    }
 
-        return PrimitiveTypes.isAssignableFromPrimitive(raw)
-                .transform(PrimitiveTypes.Primitives::newDeserializer)
-                .orNull();
+    private ValueDeserializer<?> _findImmutableCollectionDeserializer(int kind, CollectionType type,
+            TypeDeserializer elementTypeDeserializer, ValueDeserializer<?> elementDeserializer)
+    {
+        switch (kind) {
+        case COLL_IMMUTABLE_SORTED_MULTISET:
+            /* See considerations for ImmutableSortedSet below. */
+            requireCollectionOfComparableElements(type, "ImmutableSortedMultiset");
+            return new ImmutableSortedMultisetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        case COLL_IMMUTABLE_MULTISET:
+            return new ImmutableMultisetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        case COLL_IMMUTABLE_SORTED_SET:
+            // 28-Nov-2010, tatu: With some more work would be able to use other things
+            //   than natural ordering; but that'll have to do for now...
+            requireCollectionOfComparableElements(type, "ImmutableSortedSet");
+            return new ImmutableSortedSetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null, _sortedInput);
+        case COLL_IMMUTABLE_SET:
+            return new ImmutableSetDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        default:
+            return new ImmutableListDeserializer(type,
+                    elementDeserializer, elementTypeDeserializer,
+                    null, null);
+        }
     }
 
     private void requireCollectionOfComparableElements(CollectionType actualType, String targetType) {
@@ -161,7 +407,7 @@ public class GuavaDeserializers
         if (ImmutableMap.class.isAssignableFrom(raw)) {
             if (ImmutableSortedMap.class.isAssignableFrom(raw)) {
                 return new ImmutableSortedMapDeserializer(type, keyDeserializer,
-                        valueDeserializer, valueTypeDeserializer, null);
+                        valueDeserializer, valueTypeDeserializer, null, _sortedInput);
             }
             if (ImmutableBiMap.class.isAssignableFrom(raw)) {
                 return new ImmutableBiMapDeserializer(type, keyDeserializer,
@@ -198,82 +444,34 @@ public class GuavaDeserializers
     {
         Class<?> raw = type.getRawClass();
 
-        // ListMultimaps
-        if (ListMultimap.class.isAssignableFrom(raw)) {
-            if (ImmutableListMultimap.class.isAssignableFrom(raw)) {
-                // TODO
-            }
-            if (ArrayListMultimap.class.isAssignableFrom(raw)) {
-                return new ArrayListMultimapDeserializer(type, keyDeserializer,
-                        elementTypeDeserializer, elementDeserializer);
-            }
-            if (LinkedListMultimap.class.isAssignableFrom(raw)) {
-                return new LinkedListMultimapDeserializer(type, keyDeserializer,
-                        elementTypeDeserializer, elementDeserializer);
-            }
-            if (ForwardingListMultimap.class.isAssignableFrom(raw)) {
-                // TODO
-            }
-
-            // TODO: Remove the default fall-through once all implementations are in place.
+        final int kind = _mapLikeKinds.get(raw);
+        switch (kind) {
+        case MAP_LIKE_ARRAY_LIST_MULTIMAP:
             return new ArrayListMultimapDeserializer(type, keyDeserializer,
                     elementTypeDeserializer, elementDeserializer);
-        }
-
-        // SetMultimaps
-        if (SetMultimap.class.isAssignableFrom(raw)) {
-
-            // SortedSetMultimap
-            if (SortedSetMultimap.class.isAssignableFrom(raw)) {
-                if (TreeMultimap.class.isAssignableFrom(raw)) {
-                    // TODO
-                }
-                if (ForwardingSortedSetMultimap.class.isAssignableFrom(raw)) {
-                    // TODO
-                }
-            }
-
-            if (ImmutableSetMultimap.class.isAssignableFrom(raw)) {
-                // [#67]: Preserve order of entries
-                return new LinkedHashMultimapDeserializer(type, keyDeserializer,
-                        elementTypeDeserializer, elementDeserializer);
-            }
-            if (HashMultimap.class.isAssignableFrom(raw)) {
-                return new HashMultimapDeserializer(type, keyDeserializer, elementTypeDeserializer,
-                        elementDeserializer);
-            }
-            if (LinkedHashMultimap.class.isAssignableFrom(raw)) {
-                return new LinkedHashMultimapDeserializer(type, keyDeserializer,
-                        elementTypeDeserializer, elementDeserializer);
-            }
-            if (ForwardingSetMultimap.class.isAssignableFrom(raw)) {
-                // TODO
-            }
-
-            // TODO: Remove the default fall-through once all implementations are covered.
-            return new LinkedHashMultimapDeserializer(type, keyDeserializer, elementTypeDeserializer,
-                    elementDeserializer);
-        }
-
-        // Handle the case where nothing more specific was provided.
-        if (Multimap.class.isAssignableFrom(raw)) {
+        case MAP_LIKE_LINKED_LIST_MULTIMAP:
             return new LinkedListMultimapDeserializer(type, keyDeserializer,
                     elementTypeDeserializer, elementDeserializer);
-        }
-
-        if (RangeMap.class.isAssignableFrom(raw)) {
-            return new RangeMapDeserializer(type, keyDeserializer,
-                    elementTypeDeserializer, elementDeserializer, ImmutableRangeMap.class.isAssignableFrom(raw));
-        }
-
-        if (Table.class.isAssignableFrom(raw)) {
-            if (HashBasedTable.class.isAssignableFrom(raw)) {
-                return new HashBasedTableDeserializer(type);
-            }
-            if (TreeBasedTable.class.isAssignableFrom(raw)) {
-                return new TreeBasedTableDeserializer(type);
-            }
-            return new ImmutableTableDeserializer(type);
+        case MAP_LIKE_HASH_MULTIMAP:
+            return new HashMultimapDeserializer(type, keyDeserializer, elementTypeDeserializer,
+                    elementDeserializer);
+        case MAP_LIKE_LINKED_HASH_MULTIMAP:
+            return new LinkedHashMultimapDeserializer(type, keyDeserializer,
+                    elementTypeDeserializer, elementDeserializer);
+        case MAP_LIKE_RANGE_MAP:
+        case MAP_LIKE_IMMUTABLE_RANGE_MAP:
+            return new RangeMapDeserializer<>(type, keyDeserializer,
+                    elementTypeDeserializer, elementDeserializer,
+                    (kind == MAP_LIKE_IMMUTABLE_RANGE_MAP));
+        case MAP_LIKE_ARRAY_TABLE:
+            return new ArrayTableDeserializer(type, _defaultTableShape);
+        case MAP_LIKE_HASH_BASED_TABLE:
+            return new HashBasedTableDeserializer(type, _defaultTableShape);
+        case MAP_LIKE_TREE_BASED_TABLE:
+            return new TreeBasedTableDeserializer(type, _defaultTableShape);
+        case MAP_LIKE_IMMUTABLE_TABLE:
+            return new ImmutableTableDeserializer(type, _defaultTableShape);
+        default:
         }
 
         // @since 2.16 : support Cache deserialization
@@ -345,6 +543,14 @@ public class GuavaDeserializers
         if (type.hasRawClass(HashCode.class)) {
             return HashCodeDeserializer.std;
         }
+        if (type.hasRawClass(BloomFilter.class)) {
+            return new BloomFilterDeserializer(type,
+                    _findFunnel(type.containedTypeOrUnknown(0).getRawClass()));
+        }
+        final int graphKind = GraphHelper.graphKind(type.getRawClass());
+        if (graphKind != 0) {
+            return _findGraphDeserializer(type, graphKind);
+        }
         return ImmutablePrimitiveTypes.isAssignableFromImmutableArray(type.getRawClass())
                 .transform(ImmutablePrimitiveTypes.ImmutablePrimitiveArrays::newDeserializer)
                 .orNull();
@@ -357,18 +563,75 @@ public class GuavaDeserializers
                     || (valueType == HostAndPort.class)
                     || (valueType == InternetDomainName.class)
                     || (valueType == HashCode.class)
+                    || (valueType == BloomFilter.class)
                     // Ok to claim we might support; not a guarantee
-                    || Multiset.class.isAssignableFrom(valueType)
-                    || Multimap.class.isAssignableFrom(valueType)
-                    || ImmutableCollection.class.isAssignableFrom(valueType)
-                    || ImmutableMap.class.isAssignableFrom(valueType)
-                    || BiMap.class.isAssignableFrom(valueType)
-                    || PrimitiveTypes.isAssignableFromPrimitive(valueType).isPresent()
+                    || isContainerType(valueType)
                     || ImmutablePrimitiveTypes.isAssignableFromImmutableArray(valueType).isPresent()
-                    || ImmutableRangeSet.class.isAssignableFrom(valueType)
+                    || (GraphHelper.graphKind(valueType) != 0)
                     ;
         }
         return false;
     }
 
+    /**
+     * Helper method for checking whether given type is one of Guava container
+     * types (collections, maps, multimaps, tables, range sets and maps, caches)
+     * that deserializers of this module are located for.
+     *
+     * @since 3.1
+     */
+    public static boolean isContainerType(Class<?> raw) {
+        return ImmutableCollection.class.isAssignableFrom(raw)
+                || ImmutableMap.class.isAssignableFrom(raw)
+                || Multiset.class.isAssignableFrom(raw)
+                || Multimap.class.isAssignableFrom(raw)
+                || BiMap.class.isAssignableFrom(raw)
+                || Table.class.isAssignableFrom(raw)
+                || RangeSet.class.isAssignableFrom(raw)
+                || RangeMap.class.isAssignableFrom(raw)
+                || Cache.class.isAssignableFrom(raw)
+                || PrimitiveTypes.isAssignableFromPrimitive(raw).isPresent();
+    }
+
+    /**
+     * Helper method for locating deserializer for Guava graph types: immutable
+     * graphs are built directly, mutable ones copied from those.
+     * Other implementations are not supported.
+     */
+    protected ValueDeserializer<?> _findGraphDeserializer(JavaType type, int graphKind)
+    {
+        final Class<?> raw = type.getRawClass();
+        final Class<?> immutableType, mutableType;
+        switch (graphKind) {
+        case GraphHelper.KIND_VALUE_GRAPH:
+            immutableType = ImmutableValueGraph.class;
+            mutableType = MutableValueGraph.class;
+            break;
+        case GraphHelper.KIND_NETWORK:
+            immutableType = ImmutableNetwork.class;
+            mutableType = MutableNetwork.class;
+            break;
+        default:
+            immutableType = ImmutableGraph.class;
+            mutableType = MutableGraph.class;
+        }
+        if (raw.isAssignableFrom(immutableType)) {
+            return new GraphDeserializer(type, false);
+        }
+        if (raw.isAssignableFrom(mutableType)) {
+            return new GraphDeserializer(type, true);
+        }
+        return null;
+    }
+
+    /**
+     * Helper method for locating {@link Funnel} registered for {@link BloomFilter}
+     * with given element type, if any: there are no defaults, since a funnel that
+     * differs from one used for creating the filter would silently produce
+     * wrong results.
+     */
+    protected Funnel<?> _findFunnel(Class<?> elementType)
+    {
+        return (_funnels == null) ? null : _funnels.get(elementType);
+    }
 }
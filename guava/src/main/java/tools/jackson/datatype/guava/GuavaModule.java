@@ -1,11 +1,21 @@
 package tools.jackson.datatype.guava;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
 import com.google.common.collect.BoundType;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.Funnel;
 
 import tools.jackson.core.Version;
 
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.datatype.guava.ser.GuavaBeanSerializerModifier;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.JsonCollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.Canonicalizer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -44,6 +54,63 @@ public class GuavaModule extends JacksonModule // can't use just SimpleModule, d
      */
     protected boolean _cfgHandleAbsentAsNull = false;
     protected BoundType _defaultBoundType;
+
+    /**
+     * Shape to use for {@link com.google.common.collect.Table} values unless
+     * overridden by {@code @JsonFormat}; {@code null} means default
+     * ({@link TableShape#NESTED}).
+     *
+     * @since 3.1
+     */
+    protected TableShape _defaultTableShape;
+
+    /**
+     * {@link Funnel}s registered for deserializing
+     * {@link com.google.common.hash.BloomFilter}s with given element type.
+     *
+     * @since 3.1
+     */
+    protected HashMap<Class<?>, Funnel<?>> _funnels;
+
+    /**
+     * Canonicalizer for deserialized immutable collections, if enabled
+     * with {@link #canonicalizeImmutableCollections}; {@code null} if not.
+     *
+     * @since 3.1
+     */
+    protected Canonicalizer _canonicalizer;
+
+    /**
+     * Whether contents of sorted containers are expected to be already sorted:
+     * see {@link #expectSortedInput}.
+     *
+     * @since 3.1
+     */
+    protected boolean _sortedInput;
+
+    /**
+     * Listener to report (de)serialization metrics to, if any: see
+     * {@link #metricsListener}.
+     *
+     * @since 3.1
+     */
+    protected CollectionMetricsListener _metricsListener;
+
+    /**
+     * Maximum number of elements per container to allow, if any: see
+     * {@link #maxCollectionElements}; negative value if not configured.
+     *
+     * @since 3.1
+     */
+    protected int _maxElements = -1;
+
+    /**
+     * Maximum number of values per multimap key to allow, if any: see
+     * {@link #maxMultimapValuesPerKey}; negative value if not configured.
+     *
+     * @since 3.1
+     */
+    protected int _maxValuesPerKey = -1;
     
     public GuavaModule() {
         super();
@@ -55,15 +122,25 @@ public class GuavaModule extends JacksonModule // can't use just SimpleModule, d
     @Override
     public void setupModule(SetupContext context)
     {
-        context.addDeserializers(new GuavaDeserializers(_defaultBoundType));
+        context.addDeserializers(new GuavaDeserializers(_defaultBoundType, _defaultTableShape,
+                _funnels, _canonicalizer, _sortedInput));
         context.addKeyDeserializers(new GuavaKeyDeserializers());
-        context.addSerializers(new GuavaSerializers());
+        context.addSerializers(new GuavaSerializers(_defaultTableShape));
         context.addTypeModifier(new GuavaTypeModifier());
 
         // 28-Apr-2015, tatu: Allow disabling "treat Optional.absent() like Java nulls"
         if (_cfgHandleAbsentAsNull) {
             context.addSerializerModifier(new GuavaBeanSerializerModifier());
         }
+
+        if (_metricsListener != null) {
+            final MetricsReporting metrics = new MetricsReporting(_metricsListener);
+            context.addDeserializerModifier(metrics.deserializerModifier());
+            context.addSerializerModifier(metrics.serializerModifier());
+        }
+
+        context.addDeserializerModifier(CollectionLimits.deserializerModifier(GuavaDeserializers::isContainerType));
+        CollectionLimits.applyDefaults(context, _maxElements, _maxValuesPerKey);
     }
 
     /**
@@ -97,4 +174,179 @@ public class GuavaModule extends JacksonModule // can't use just SimpleModule, d
         _defaultBoundType = boundType;
         return this;
     }
+
+    /**
+     * Configuration method that may be used to change the default {@link TableShape}
+     * used for serializing and deserializing {@link com.google.common.collect.Table}
+     * values. Per-property {@code @JsonFormat} shape overrides take precedence.
+     * The default shape is {@link TableShape#NESTED}; {@link TableShape#COLUMNAR}
+     * is the most compact choice for dense tables like
+     * {@link com.google.common.collect.ArrayTable}.
+     *
+     * @param shape {@link TableShape} to use by default
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule defaultTableShape(TableShape shape) {
+        checkNotNull(shape);
+        _defaultTableShape = shape;
+        return this;
+    }
+
+    /**
+     * Configuration method for registering {@link Funnel} to use when deserializing
+     * {@link com.google.common.hash.BloomFilter}s with given element type
+     * (since funnel is not included in serialized filter).
+     * There are no default funnels: deserialization of filters with element
+     * type that has no registered funnel fails with
+     * {@link tools.jackson.databind.exc.InvalidDefinitionException}.
+     *
+     * @param elementType Element type of filters funnel is used for
+     * @param funnel Funnel to use
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public <T> GuavaModule registerFunnel(Class<T> elementType, Funnel<? super T> funnel) {
+        checkNotNull(elementType);
+        checkNotNull(funnel);
+        if (_funnels == null) {
+            _funnels = new HashMap<>();
+        }
+        _funnels.put(elementType, funnel);
+        return this;
+    }
+
+    /**
+     * Configuration method for enabling canonicalization ("interning") of deserialized
+     * Guava immutable collections ({@link com.google.common.collect.ImmutableList},
+     * {@link com.google.common.collect.ImmutableSet} and so on): a collection equal to
+     * one deserialized earlier (and still reachable) is replaced by the earlier instance.
+     * This can considerably reduce retained memory when same small values are repeated
+     * across many records, at the cost of hashing each deserialized collection.
+     * Canonical instances are only weakly referenced, so they do not prevent
+     * garbage collection; and at most {@link Canonicalizer#DEFAULT_MAX_ENTRIES}
+     * of them are retained per collection type.
+     *<p>
+     * Canonicalization is disabled by default.
+     *
+     * @param maxElements Maximum number of elements for collections to canonicalize
+     *    (larger ones are returned as-is); {@code 0} or less to disable canonicalization
+     *    (see {@link Canonicalizer#DEFAULT_MAX_ELEMENTS} for suggested value)
+     * @param internStrings Whether {@link String} elements of these collections should
+     *    also be canonicalized
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule canonicalizeImmutableCollections(int maxElements, boolean internStrings) {
+        _canonicalizer = (maxElements > 0) ? new GuavaCanonicalizer(maxElements, internStrings) : null;
+        return this;
+    }
+
+    /**
+     * Canonicalizer that retains iteration order of values: Sets and Multisets are
+     * equal regardless of ordering, but Guava immutable ones do retain insertion order.
+     */
+    private final static class GuavaCanonicalizer extends Canonicalizer
+    {
+        private static final long serialVersionUID = 1L;
+
+        GuavaCanonicalizer(int maxElements, boolean internStrings) {
+            super(maxElements, internStrings);
+        }
+
+        @Override
+        protected boolean canReplace(Object canonical, Object value) {
+            if ((value instanceof Collection<?>) && !(value instanceof List<?>)) {
+                return Iterables.elementsEqual((Collection<?>) canonical, (Collection<?>) value);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Configuration method for indicating that contents of
+     * {@link com.google.common.collect.ImmutableSortedSet}s and keys of
+     * {@link com.google.common.collect.ImmutableSortedMap}s (using natural ordering)
+     * are expected to be already sorted in input, as is the case when they were
+     * written by Jackson. If enabled, ordering is verified in a single pass while
+     * reading, and containers constructed without sorting; if any element is out of
+     * order, contents are sorted as usual. So this setting only affects performance,
+     * not results.
+     *<p>
+     * Default setting is {@code false}.
+     *
+     * @param state Whether input is expected to be sorted
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule expectSortedInput(boolean state) {
+        _sortedInput = state;
+        return this;
+    }
+
+    /**
+     * Configuration method for registering a listener to be notified of each
+     * (de)serialized value of Guava container types, with shape, element count
+     * and time taken; as well as of skipped {@code null} elements and dynamic
+     * serializer lookups (see {@link CollectionMetricsListener}).
+     * (De)serializers are only wrapped for reporting if a listener is configured,
+     * so there is no overhead otherwise.
+     *
+     * @param listener Listener to report metrics to; {@code null} for none (default)
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule metricsListener(CollectionMetricsListener listener) {
+        _metricsListener = listener;
+        return this;
+    }
+
+    /**
+     * Configuration method for limiting number of elements (or entries) of
+     * deserialized Guava containers (and those of other collection datatype
+     * modules), to protect against untrusted input: used as the default for
+     * {@link CollectionLimits#MAX_ELEMENTS} attribute, unless that is
+     * configured with {@code MapperBuilder.defaultAttributes()}. Limit may
+     * still be changed per read with {@code ObjectReader.withAttribute()},
+     * and for specific properties with {@link JsonCollectionLimits}.
+     *
+     * @param max Maximum number of elements allowed per container
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule maxCollectionElements(int max) {
+        _maxElements = CollectionLimits.checkLimit("maxCollectionElements", max);
+        return this;
+    }
+
+    /**
+     * Configuration method for limiting number of values per key of deserialized
+     * {@link com.google.common.collect.Multimap}s: used as the default for
+     * {@link CollectionLimits#MAX_VALUES_PER_KEY} attribute, unless that is
+     * configured with {@code MapperBuilder.defaultAttributes()}. Limit may
+     * still be changed per read with {@code ObjectReader.withAttribute()},
+     * and for specific properties with {@link JsonCollectionLimits}.
+     *
+     * @param max Maximum number of values allowed per key
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public GuavaModule maxMultimapValuesPerKey(int max) {
+        _maxValuesPerKey = CollectionLimits.checkLimit("maxMultimapValuesPerKey", max);
+        return this;
+    }
 }
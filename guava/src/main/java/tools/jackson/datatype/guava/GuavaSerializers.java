@@ -13,13 +13,20 @@ import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.Serializers;
 import tools.jackson.databind.ser.std.ToStringSerializer;
 import tools.jackson.databind.type.CollectionLikeType;
+import tools.jackson.databind.type.CollectionType;
 import tools.jackson.databind.type.MapLikeType;
 import tools.jackson.databind.type.ReferenceType;
 import tools.jackson.databind.ser.std.StdDelegatingSerializer;
+import tools.jackson.databind.util.ClassUtil;
 import tools.jackson.databind.util.StdConverter;
+import tools.jackson.datatype.guava.deser.util.GraphHelper;
+import tools.jackson.datatype.guava.ser.BloomFilterSerializer;
 import tools.jackson.datatype.guava.ser.CacheSerializer;
+import tools.jackson.datatype.guava.ser.GraphSerializer;
 import tools.jackson.datatype.guava.ser.GuavaOptionalSerializer;
+import tools.jackson.datatype.guava.ser.HashCodeSerializer;
 import tools.jackson.datatype.guava.ser.MultimapSerializer;
+import tools.jackson.datatype.guava.ser.PrimitiveListSerializer;
 import tools.jackson.datatype.guava.ser.RangeMapSerializer;
 import tools.jackson.datatype.guava.ser.RangeSerializer;
 import tools.jackson.datatype.guava.ser.RangeSetSerializer;
@@ -36,6 +43,7 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.Table;
+import com.google.common.hash.BloomFilter;
 import com.google.common.hash.HashCode;
 import com.google.common.net.HostAndPort;
 import com.google.common.net.InternetDomainName;
@@ -45,6 +53,22 @@ public class GuavaSerializers extends Serializers.Base
 {
     static final long serialVersionUID = 1L;
 
+    /**
+     * @since 3.1
+     */
+    protected final TableShape _defaultTableShape;
+
+    public GuavaSerializers() {
+        this(null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public GuavaSerializers(TableShape defaultTableShape) {
+        _defaultTableShape = defaultTableShape;
+    }
+
     static class FluentConverter extends StdConverter<Object,Iterable<?>> {
         static final FluentConverter instance = new FluentConverter();
 
@@ -89,7 +113,13 @@ public class GuavaSerializers extends Serializers.Base
             return ToStringSerializer.instance;
         }
         if (type.isTypeOrSubTypeOf(HashCode.class)) {
-            return ToStringSerializer.instance;
+            return HashCodeSerializer.std;
+        }
+        if (type.hasRawClass(BloomFilter.class)) {
+            return BloomFilterSerializer.std;
+        }
+        if (GraphHelper.graphKind(type.getRawClass()) != 0) {
+            return new GraphSerializer(type);
         }
         if (type.isTypeOrSubTypeOf(FluentIterable.class)) {
             JavaType iterableType = _findDeclared(type, Iterable.class);
@@ -134,7 +164,30 @@ public class GuavaSerializers extends Serializers.Base
                 keySerializer, elementTypeSerializer, elementValueSerializer, ignored, filterId);
         }
         if (type.isTypeOrSubTypeOf(Table.class)) {
-            return new TableSerializer(type);
+            return new TableSerializer(type, _defaultTableShape);
+        }
+        return null;
+    }
+
+    @Override
+    public ValueSerializer<?> findCollectionSerializer(SerializationConfig config,
+            CollectionType type, BeanDescription.Supplier beanDescRef, JsonFormat.Value formatOverrides,
+            TypeSerializer elementTypeSerializer, ValueSerializer<Object> elementValueSerializer)
+    {
+        // Lists backed by primitive arrays can be written without boxing, unless
+        // custom handling of elements is needed
+        if ((elementTypeSerializer == null)
+                && ((elementValueSerializer == null) || ClassUtil.isJacksonStdImpl(elementValueSerializer))) {
+            final Class<?> raw = type.getRawClass();
+            if (raw == PrimitiveTypes.IntsType) {
+                return PrimitiveListSerializer.INTS;
+            }
+            if (raw == PrimitiveTypes.LongsType) {
+                return PrimitiveListSerializer.LONGS;
+            }
+            if (raw == PrimitiveTypes.DoublesType) {
+                return PrimitiveListSerializer.DOUBLES;
+            }
         }
         return null;
     }
@@ -0,0 +1,33 @@
+package tools.jackson.datatype.guava;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for choosing {@link TableShape} of the Guava
+ * {@link com.google.common.collect.Table} value of annotated property,
+ * like:
+ *<pre>
+ *  public class Prices {
+ *      &#64;JsonTableShape(TableShape.COLUMNAR)
+ *      public ArrayTable&lt;String, Integer, Double&gt; matrix;
+ *  }
+ *</pre>
+ * Unlike {@code @JsonFormat(shape = ...)}, which can only select
+ * {@link TableShape#CELLS} or {@link TableShape#NESTED}, allows choosing
+ * any of shapes; if both are present, this annotation has precedence.
+ *
+ * @since 3.1
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD,
+    ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonTableShape
+{
+    /**
+     * Shape to use for the Table value of the property.
+     */
+    public TableShape value();
+}
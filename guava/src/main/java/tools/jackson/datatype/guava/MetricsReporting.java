@@ -0,0 +1,60 @@
+package tools.jackson.datatype.guava;
+
+import java.util.Collection;
+import java.util.Map;
+
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
+import com.google.common.cache.Cache;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.Table;
+
+/**
+ * Reports metrics on (de)serialization of Guava container types, as
+ * recognized by {@link GuavaDeserializers#isContainerType}.
+ * Only registered if a listener is configured.
+ *
+ * @since 3.1
+ */
+final class MetricsReporting extends CollectionMetricsReporting
+{
+    private static final long serialVersionUID = 1L;
+
+    MetricsReporting(CollectionMetricsListener listener) {
+        super(listener);
+    }
+
+    @Override
+    protected boolean isContainer(Class<?> raw) {
+        return GuavaDeserializers.isContainerType(raw);
+    }
+
+    @Override
+    protected int elementCount(Object value) {
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map<?,?>) {
+            return ((Map<?,?>) value).size();
+        }
+        if (value instanceof Multimap<?,?>) {
+            return ((Multimap<?,?>) value).size();
+        }
+        if (value instanceof Table<?,?,?>) {
+            return ((Table<?,?,?>) value).size();
+        }
+        if (value instanceof RangeSet<?>) {
+            return ((RangeSet<?>) value).asRanges().size();
+        }
+        if (value instanceof RangeMap<?,?>) {
+            return ((RangeMap<?,?>) value).asMapOfRanges().size();
+        }
+        if (value instanceof Cache<?,?>) {
+            return (int) Math.min(((Cache<?,?>) value).size(), Integer.MAX_VALUE);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,88 @@
+package tools.jackson.datatype.guava;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import tools.jackson.databind.BeanProperty;
+
+/**
+ * Enumeration of alternative JSON shapes supported for Guava
+ * {@link com.google.common.collect.Table} values.
+ *<p>
+ * Shape may be chosen for all Tables using
+ * {@link GuavaModule#defaultTableShape(TableShape)}, and for a single
+ * property using {@link JsonTableShape}; in addition, per-property
+ * {@code @JsonFormat(shape = JsonFormat.Shape.ARRAY)} selects {@link #CELLS}
+ * and {@code @JsonFormat(shape = JsonFormat.Shape.OBJECT)} selects {@link #NESTED}.
+ *
+ * @since 3.1
+ */
+public enum TableShape
+{
+    /**
+     * Default shape: JSON Object of row keys, each with a JSON Object of
+     * column keys to values:
+     *<pre>
+     *  {"r1":{"c1":1,"c2":2},"r2":{"c1":3}}
+     *</pre>
+     */
+    NESTED,
+
+    /**
+     * Flat JSON Array of cells, each a three-element JSON Array of
+     * row key, column key and value:
+     *<pre>
+     *  [["r1","c1",1],["r1","c2",2],["r2","c1",3]]
+     *</pre>
+     * Row and column keys are written as regular values (not as property names).
+     */
+    CELLS,
+
+    /**
+     * Columnar JSON Object that lists row and column keys once, followed
+     * by a row-major matrix of values where missing cells are {@code null}:
+     *<pre>
+     *  {"rows":["r1","r2"],"columns":["c1","c2"],"values":[[1,2],[3,null]]}
+     *</pre>
+     * Row and column keys are written as regular values (not as property names).
+     */
+    COLUMNAR;
+
+    /**
+     * Property names used for {@link #COLUMNAR} shape.
+     */
+    public final static String PROP_ROWS = "rows";
+    public final static String PROP_COLUMNS = "columns";
+    public final static String PROP_VALUES = "values";
+
+    /**
+     * Helper method for resolving effective shape from possible
+     * {@code @JsonFormat} shape override, and configured default shape.
+     */
+    public static TableShape from(JsonFormat.Shape formatShape, TableShape defaultShape)
+    {
+        if (formatShape == JsonFormat.Shape.ARRAY) {
+            return CELLS;
+        }
+        if (formatShape == JsonFormat.Shape.OBJECT) {
+            return NESTED;
+        }
+        return (defaultShape == null) ? NESTED : defaultShape;
+    }
+
+    /**
+     * Helper method for resolving effective shape for given property (if any):
+     * {@link JsonTableShape} annotation of the property has precedence over
+     * {@code @JsonFormat} shape override and configured default shape.
+     */
+    public static TableShape from(BeanProperty property, JsonFormat.Shape formatShape,
+            TableShape defaultShape)
+    {
+        if (property != null) {
+            final JsonTableShape ann = property.getAnnotation(JsonTableShape.class);
+            if (ann != null) {
+                return ann.value();
+            }
+        }
+        return from(formatShape, defaultShape);
+    }
+}
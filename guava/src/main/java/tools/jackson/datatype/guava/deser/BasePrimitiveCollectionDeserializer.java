@@ -8,6 +8,7 @@ import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 
 /**
  * Base deserializer of a primitive collection or an immutable primitive array.
@@ -67,7 +68,12 @@ public abstract class BasePrimitiveCollectionDeserializer<ObjectType, PrimitiveL
             throws JacksonException {
         IntermediateContainer collection = createIntermediateCollection();
 
+        final int maxElements = CollectionLimits.maxElements(context, parser);
+        int elements = 0;
         while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(context, this, maxElements);
+            }
             add(collection, parser, context);
         }
         return finish(collection);
@@ -0,0 +1,83 @@
+package tools.jackson.datatype.guava.deser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+import tools.jackson.databind.type.LogicalType;
+
+/**
+ * Deserializer for Guava {@link BloomFilter}, reading binary value
+ * produced by {@link tools.jackson.datatype.guava.ser.BloomFilterSerializer}
+ * using {@link BloomFilter#readFrom}.
+ *<p>
+ * Since {@link Funnel} is not included in serialized contents, it has to
+ * be resolved based on the element type: see
+ * {@link tools.jackson.datatype.guava.GuavaModule#registerFunnel}.
+ *
+ * @since 3.1
+ */
+public class BloomFilterDeserializer
+    extends StdScalarDeserializer<BloomFilter<?>>
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final JavaType _filterType;
+
+    /**
+     * Funnel to use for filters; {@code null} if none was registered
+     * (in which case contextualization fails).
+     */
+    protected final Funnel<Object> _funnel;
+
+    @SuppressWarnings("unchecked")
+    public BloomFilterDeserializer(JavaType filterType, Funnel<?> funnel) {
+        super(filterType);
+        _filterType = filterType;
+        _funnel = (Funnel<Object>) funnel;
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Binary;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property)
+    {
+        if (_funnel == null) {
+            return ctxt.reportBadDefinition(_filterType, String.format(
+"No `Funnel` registered for %s: need to register one with `GuavaModule.registerFunnel()`",
+                    _filterType));
+        }
+        return this;
+    }
+
+    @Override
+    public BloomFilter<?> deserialize(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!p.hasToken(JsonToken.VALUE_STRING) && !p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+            return (BloomFilter<?>) ctxt.handleUnexpectedToken(_filterType, p);
+        }
+        final byte[] data = p.getBinaryValue(ctxt.getBase64Variant());
+        try {
+            return BloomFilter.readFrom(new ByteArrayInputStream(data), _funnel);
+        } catch (IOException e) {
+            return ctxt.reportInputMismatch(this, "Problem deserializing %s: %s",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package tools.jackson.datatype.guava.deser;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.NullValueProvider;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+
+/**
+ * Deserializer for {@link ConcurrentHashMultiset}: contents are read directly
+ * into the concurrent multiset, backing map of which is pre-sized based on the
+ * number of distinct elements in earlier deserialized values.
+ *
+ * @since 3.1
+ */
+public class ConcurrentHashMultisetDeserializer
+    extends GuavaMultisetDeserializer<ConcurrentHashMultiset<Object>>
+{
+    /**
+     * Running estimate of number of distinct elements in multisets produced,
+     * used for pre-sizing backing maps: see {@link SizeHint}.
+     */
+    protected transient int _sizeHint;
+
+    public ConcurrentHashMultisetDeserializer(JavaType selfType,
+            ValueDeserializer<?> deser, TypeDeserializer typeDeser,
+            NullValueProvider nuller, Boolean unwrapSingle) {
+        super(selfType, deser, typeDeser, nuller, unwrapSingle);
+    }
+
+    @Override
+    public ConcurrentHashMultisetDeserializer withResolved(ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
+            NullValueProvider nuller, Boolean unwrapSingle) {
+        return new ConcurrentHashMultisetDeserializer(_containerType,
+                valueDeser, typeDeser, nuller, unwrapSingle);
+    }
+
+    @Override
+    protected ConcurrentHashMultiset<Object> createMultiset() {
+        return ConcurrentHashMultiset.create(new ConcurrentHashMap<>(_sizeHint));
+    }
+
+    @Override
+    protected ConcurrentHashMultiset<Object> _deserializeContents(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        ConcurrentHashMultiset<Object> result = super._deserializeContents(p, ctxt);
+        _sizeHint = SizeHint.next(_sizeHint, result.elementSet().size());
+        return result;
+    }
+}
@@ -0,0 +1,475 @@
+package tools.jackson.datatype.guava.deser;
+
+import java.util.Arrays;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import tools.jackson.databind.*;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.LogicalType;
+import tools.jackson.datatype.guava.deser.util.GraphHelper;
+
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.Graphs;
+import com.google.common.graph.ImmutableGraph;
+import com.google.common.graph.ImmutableNetwork;
+import com.google.common.graph.ImmutableValueGraph;
+import com.google.common.graph.NetworkBuilder;
+import com.google.common.graph.ValueGraphBuilder;
+
+/**
+ * Deserializer for Guava {@link com.google.common.graph.Graph},
+ * {@link com.google.common.graph.ValueGraph} and
+ * {@link com.google.common.graph.Network} values, written using compact
+ * adjacency representation (see {@link GraphHelper}).
+ *<p>
+ * Values are built using {@link ImmutableGraph.Builder} (and its value graph
+ * and network counterparts), created with expected node count once node table
+ * has been read; edges of plain graphs are added as successor indexes are read.
+ * Mutable variants are copied from the immutable result.
+ *
+ * @since 3.1
+ */
+public class GraphDeserializer
+    extends StdDeserializer<Object>
+{
+    /**
+     * Declared graph type ({@link com.google.common.graph.Graph},
+     * {@link com.google.common.graph.ValueGraph} or
+     * {@link com.google.common.graph.Network}).
+     */
+    protected final JavaType _type;
+
+    protected final int _kind;
+
+    /**
+     * Whether result is to be a mutable graph instead of an immutable one.
+     */
+    protected final boolean _mutable;
+
+    protected final ValueDeserializer<Object> _nodeDeserializer;
+
+    /**
+     * Deserializer for edge values ({@link com.google.common.graph.ValueGraph})
+     * or edge objects ({@link com.google.common.graph.Network}).
+     */
+    protected final ValueDeserializer<Object> _contentDeserializer;
+
+    protected final TypeDeserializer _contentTypeDeserializer;
+
+    public GraphDeserializer(JavaType type, boolean mutable)
+    {
+        super(type);
+        _kind = GraphHelper.graphKind(type.getRawClass());
+        _type = type.findSuperType(GraphHelper.graphInterface(_kind));
+        _mutable = mutable;
+        _nodeDeserializer = null;
+        _contentDeserializer = null;
+        _contentTypeDeserializer = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected GraphDeserializer(GraphDeserializer base, ValueDeserializer<?> nodeDeser,
+            ValueDeserializer<?> contentDeser, TypeDeserializer contentTypeDeser)
+    {
+        super(base);
+        _type = base._type;
+        _kind = base._kind;
+        _mutable = base._mutable;
+        _nodeDeserializer = (ValueDeserializer<Object>) nodeDeser;
+        _contentDeserializer = (ValueDeserializer<Object>) contentDeser;
+        _contentTypeDeserializer = contentTypeDeser;
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Collection;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property)
+    {
+        ValueDeserializer<?> nodeDeser = _nodeDeserializer;
+        if (nodeDeser == null) {
+            nodeDeser = ctxt.findContextualValueDeserializer(_type.containedTypeOrUnknown(0), property);
+        } else {
+            nodeDeser = ctxt.handleSecondaryContextualization(nodeDeser, property,
+                    _type.containedTypeOrUnknown(0));
+        }
+        ValueDeserializer<?> contentDeser = _contentDeserializer;
+        TypeDeserializer contentTypeDeser = _contentTypeDeserializer;
+        if (_kind != GraphHelper.KIND_GRAPH) {
+            final JavaType contentType = _type.containedTypeOrUnknown(1);
+            if (contentDeser == null) {
+                contentDeser = ctxt.findContextualValueDeserializer(contentType, property);
+            } else {
+                contentDeser = ctxt.handleSecondaryContextualization(contentDeser, property,
+                        contentType);
+            }
+            if (contentTypeDeser == null) {
+                contentTypeDeser = ctxt.findTypeDeserializer(contentType);
+            }
+            if (contentTypeDeser != null) {
+                contentTypeDeser = contentTypeDeser.forProperty(property);
+            }
+        }
+        return new GraphDeserializer(this, nodeDeser, contentDeser, contentTypeDeser);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer)
+        throws JacksonException
+    {
+        return typeDeserializer.deserializeTypedFromObject(p, ctxt);
+    }
+
+    /*
+    /**********************************************************************
+    /* Main deserialization
+    /**********************************************************************
+     */
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if ((t != JsonToken.PROPERTY_NAME) && (t != JsonToken.END_OBJECT)) {
+            return ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        final GraphReader reader = new GraphReader();
+        final String contentProp = GraphHelper.contentProperty(_kind);
+        try {
+            for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+                final String propName = p.currentName();
+                t = p.nextToken();
+                if (GraphHelper.PROP_NODES.equals(propName)) {
+                    reader.readNodes(p, ctxt);
+                } else if (GraphHelper.PROP_SUCCESSORS.equals(propName)) {
+                    reader.readSuccessors(p, ctxt);
+                } else if ((contentProp != null) && contentProp.equals(propName)) {
+                    reader.readContents(p, ctxt, contentProp);
+                } else if (GraphHelper.PROP_DIRECTED.equals(propName)) {
+                    reader.directed = _readFlag(p, ctxt, reader, propName);
+                } else if (GraphHelper.PROP_ALLOWS_SELF_LOOPS.equals(propName)) {
+                    reader.allowsSelfLoops = _readFlag(p, ctxt, reader, propName);
+                } else if ((_kind == GraphHelper.KIND_NETWORK)
+                        && GraphHelper.PROP_ALLOWS_PARALLEL_EDGES.equals(propName)) {
+                    reader.allowsParallelEdges = _readFlag(p, ctxt, reader, propName);
+                } else {
+                    ctxt.handleUnknownProperty(p, this, handledType(), propName);
+                }
+            }
+            return reader.build(ctxt, contentProp);
+        } catch (IllegalArgumentException e) {
+            // Guava reports disallowed self-loops, parallel edges and so on with IAE
+            return ctxt.reportInputMismatch(this, "Problem deserializing %s: %s",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+
+    private boolean _readFlag(JsonParser p, DeserializationContext ctxt,
+            GraphReader reader, String propName)
+        throws JacksonException
+    {
+        if (reader.hasBuilder()) {
+            _reportOrder(ctxt, propName, GraphHelper.PROP_SUCCESSORS, "precede");
+        }
+        return _parseBooleanPrimitive(p, ctxt);
+    }
+
+    private int _readIndex(JsonParser p, DeserializationContext ctxt, JsonToken t,
+            int nodeCount)
+        throws JacksonException
+    {
+        if (t != JsonToken.VALUE_NUMBER_INT) {
+            ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: expected node index (int), found %s",
+                    handledType().getName(), t);
+        }
+        final int ix = p.getIntValue();
+        if ((ix < 0) || (ix >= nodeCount)) {
+            ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: node index %d out of range (%d nodes)",
+                    handledType().getName(), ix, nodeCount);
+        }
+        return ix;
+    }
+
+    private void _expectArray(JsonParser p, DeserializationContext ctxt)
+    {
+        if (!p.hasToken(JsonToken.START_ARRAY)) {
+            ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: expecting %s, found %s",
+                    handledType().getName(), JsonToken.START_ARRAY, p.currentToken());
+        }
+    }
+
+    private void _reportOrder(DeserializationContext ctxt, String prop, String other,
+            String relation)
+    {
+        ctxt.reportInputMismatch(this, "Problem deserializing %s: '%s' must %s '%s'",
+                handledType().getName(), prop, relation, other);
+    }
+
+    /**
+     * Helper class that keeps track of state while reading graph contents,
+     * and creates the builder once node table is known.
+     */
+    private final class GraphReader
+    {
+        boolean directed = true;
+        boolean allowsSelfLoops = false;
+        boolean allowsParallelEdges = false;
+
+        private Object[] _nodes;
+
+        /**
+         * Successor indexes, retained for graphs with per-edge content
+         * (values or edge objects) that follow them.
+         */
+        private int[][] _successors;
+
+        private int _edgeCount;
+
+        private boolean _contentsRead;
+
+        private ImmutableGraph.Builder<Object> _graphBuilder;
+        private ImmutableValueGraph.Builder<Object, Object> _valueGraphBuilder;
+        private ImmutableNetwork.Builder<Object, Object> _networkBuilder;
+
+        boolean hasBuilder() {
+            return (_graphBuilder != null) || (_valueGraphBuilder != null)
+                    || (_networkBuilder != null);
+        }
+
+        void readNodes(JsonParser p, DeserializationContext ctxt)
+            throws JacksonException
+        {
+            if (hasBuilder() || (_successors != null)) {
+                _reportOrder(ctxt, GraphHelper.PROP_NODES, GraphHelper.PROP_SUCCESSORS, "precede");
+            }
+            _expectArray(p, ctxt);
+            Object[] nodes = new Object[16];
+            int count = 0;
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (count == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, count + (count >> 1));
+                }
+                final Object node = (t == JsonToken.VALUE_NULL)
+                        ? _nodeDeserializer.getNullValue(ctxt)
+                        : _nodeDeserializer.deserialize(p, ctxt);
+                if (node == null) {
+                    ctxt.reportInputMismatch(GraphDeserializer.this,
+                            "Problem deserializing %s: null not allowed in '%s'",
+                            handledType().getName(), GraphHelper.PROP_NODES);
+                }
+                nodes[count++] = node;
+            }
+            _nodes = Arrays.copyOf(nodes, count);
+        }
+
+        void readSuccessors(JsonParser p, DeserializationContext ctxt)
+            throws JacksonException
+        {
+            if (_nodes == null) {
+                _reportOrder(ctxt, GraphHelper.PROP_SUCCESSORS, GraphHelper.PROP_NODES,
+                        "be preceded by");
+            }
+            _expectArray(p, ctxt);
+            final int nodeCount = _nodes.length;
+            final boolean retain = (_kind != GraphHelper.KIND_GRAPH);
+            if (retain) {
+                _successors = new int[nodeCount][];
+            } else {
+                _startBuilder(0);
+            }
+            int[] buffer = new int[16];
+            int nodeIndex = 0;
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (nodeIndex >= nodeCount) {
+                    ctxt.reportInputMismatch(GraphDeserializer.this,
+                            "Problem deserializing %s: more successor lists than the %d nodes",
+                            handledType().getName(), nodeCount);
+                }
+                _expectArray(p, ctxt);
+                final Object node = _nodes[nodeIndex];
+                int count = 0;
+                while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                    final int ix = _readIndex(p, ctxt, t, nodeCount);
+                    if (retain) {
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, count << 1);
+                        }
+                        buffer[count++] = ix;
+                    } else {
+                        _graphBuilder.putEdge(node, _nodes[ix]);
+                    }
+                }
+                if (retain) {
+                    _successors[nodeIndex] = Arrays.copyOf(buffer, count);
+                    _edgeCount += count;
+                }
+                ++nodeIndex;
+            }
+        }
+
+        void readContents(JsonParser p, DeserializationContext ctxt, String contentProp)
+            throws JacksonException
+        {
+            if (_successors == null) {
+                _reportOrder(ctxt, contentProp, GraphHelper.PROP_SUCCESSORS, "be preceded by");
+            }
+            _expectArray(p, ctxt);
+            _startBuilder(_edgeCount);
+            int nodeIndex = 0;
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (nodeIndex >= _nodes.length) {
+                    ctxt.reportInputMismatch(GraphDeserializer.this,
+                            "Problem deserializing %s: more '%s' lists than the %d nodes",
+                            handledType().getName(), contentProp, _nodes.length);
+                }
+                _expectArray(p, ctxt);
+                final Object node = _nodes[nodeIndex];
+                final int[] successors = _successors[nodeIndex];
+                final int expected = (successors == null) ? 0 : successors.length;
+                int count = 0;
+                while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (count >= expected) {
+                        _reportCountMismatch(ctxt, contentProp, nodeIndex);
+                    }
+                    final Object value = _readContent(p, ctxt, t, contentProp);
+                    final Object successor = _nodes[successors[count++]];
+                    if (_networkBuilder != null) {
+                        _networkBuilder.addEdge(node, successor, value);
+                    } else {
+                        _valueGraphBuilder.putEdgeValue(node, successor, value);
+                    }
+                }
+                if (count != expected) {
+                    _reportCountMismatch(ctxt, contentProp, nodeIndex);
+                }
+                ++nodeIndex;
+            }
+            // Trailing lists may be omitted, but only for nodes without successors
+            for (; nodeIndex < _nodes.length; ++nodeIndex) {
+                final int[] successors = _successors[nodeIndex];
+                if ((successors != null) && (successors.length > 0)) {
+                    _reportCountMismatch(ctxt, contentProp, nodeIndex);
+                }
+            }
+            _contentsRead = true;
+        }
+
+        private Object _readContent(JsonParser p, DeserializationContext ctxt, JsonToken t,
+                String contentProp)
+            throws JacksonException
+        {
+            final Object value;
+            if (t == JsonToken.VALUE_NULL) {
+                value = _contentDeserializer.getNullValue(ctxt);
+            } else if (_contentTypeDeserializer == null) {
+                value = _contentDeserializer.deserialize(p, ctxt);
+            } else {
+                value = _contentDeserializer.deserializeWithType(p, ctxt, _contentTypeDeserializer);
+            }
+            if (value == null) {
+                ctxt.reportInputMismatch(GraphDeserializer.this,
+                        "Problem deserializing %s: null not allowed in '%s'",
+                        handledType().getName(), contentProp);
+            }
+            return value;
+        }
+
+        private void _reportCountMismatch(DeserializationContext ctxt, String contentProp,
+                int nodeIndex)
+        {
+            ctxt.reportInputMismatch(GraphDeserializer.this,
+                    "Problem deserializing %s: number of '%s' for node #%d does not match its '%s'",
+                    handledType().getName(), contentProp, nodeIndex, GraphHelper.PROP_SUCCESSORS);
+        }
+
+        private void _startBuilder(int edgeCount)
+        {
+            final Object[] nodes = (_nodes == null) ? new Object[0] : _nodes;
+            switch (_kind) {
+            case GraphHelper.KIND_VALUE_GRAPH:
+                {
+                    final ValueGraphBuilder<Object, Object> b = directed
+                            ? ValueGraphBuilder.directed() : ValueGraphBuilder.undirected();
+                    _valueGraphBuilder = b.allowsSelfLoops(allowsSelfLoops)
+                            .expectedNodeCount(nodes.length)
+                            .immutable();
+                    for (Object node : nodes) {
+                        _valueGraphBuilder.addNode(node);
+                    }
+                }
+                break;
+            case GraphHelper.KIND_NETWORK:
+                {
+                    final NetworkBuilder<Object, Object> b = directed
+                            ? NetworkBuilder.directed() : NetworkBuilder.undirected();
+                    _networkBuilder = b.allowsSelfLoops(allowsSelfLoops)
+                            .allowsParallelEdges(allowsParallelEdges)
+                            .expectedNodeCount(nodes.length)
+                            .expectedEdgeCount(edgeCount)
+                            .immutable();
+                    for (Object node : nodes) {
+                        _networkBuilder.addNode(node);
+                    }
+                }
+                break;
+            default:
+                {
+                    final GraphBuilder<Object> b = directed
+                            ? GraphBuilder.directed() : GraphBuilder.undirected();
+                    _graphBuilder = b.allowsSelfLoops(allowsSelfLoops)
+                            .expectedNodeCount(nodes.length)
+                            .immutable();
+                    for (Object node : nodes) {
+                        _graphBuilder.addNode(node);
+                    }
+                }
+            }
+        }
+
+        Object build(DeserializationContext ctxt, String contentProp)
+        {
+            if ((_edgeCount > 0) && !_contentsRead) {
+                ctxt.reportInputMismatch(GraphDeserializer.this,
+                        "Problem deserializing %s: missing '%s'",
+                        handledType().getName(), contentProp);
+            }
+            if (!hasBuilder()) {
+                _startBuilder(0);
+            }
+            switch (_kind) {
+            case GraphHelper.KIND_VALUE_GRAPH:
+                {
+                    ImmutableValueGraph<Object, Object> graph = _valueGraphBuilder.build();
+                    return _mutable ? Graphs.copyOf(graph) : graph;
+                }
+            case GraphHelper.KIND_NETWORK:
+                {
+                    ImmutableNetwork<Object, Object> network = _networkBuilder.build();
+                    return _mutable ? Graphs.copyOf(network) : network;
+                }
+            default:
+                {
+                    ImmutableGraph<Object> graph = _graphBuilder.build();
+                    return _mutable ? Graphs.copyOf(graph) : graph;
+                }
+            }
+        }
+    }
+}
@@ -14,6 +14,8 @@ import tools.jackson.databind.type.LogicalType;
 import tools.jackson.databind.type.MapLikeType;
 import tools.jackson.databind.util.ClassUtil;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 public abstract class GuavaCacheDeserializer<T extends Cache<Object, Object>> 
     extends StdDeserializer<T>
 {
@@ -135,6 +137,7 @@ public abstract class GuavaCacheDeserializer<T extends Cache<Object, Object>>
             final Object value;
             if (p.currentToken() == JsonToken.VALUE_NULL) {
                 if (skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                     continue;
                 }
                 value = nullProvider.getNullValue(ctxt);
@@ -13,6 +13,9 @@ import tools.jackson.databind.type.LogicalType;
 import tools.jackson.databind.util.AccessPattern;
 import tools.jackson.databind.util.ClassUtil;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 /**
  * Base class for Guava-specific collection deserializers.
  */
@@ -72,6 +75,9 @@ public abstract class GuavaCollectionDeserializer<T>
         TypeDeserializer valueTypeDeser = _valueTypeDeserializer;
         if (valueDeser == null) {
             valueDeser = ctxt.findContextualValueDeserializer(_containerType.getContentType(), property);
+        } else { // if directly assigned, probably not yet contextual, so:
+            valueDeser = ctxt.handleSecondaryContextualization(valueDeser, property,
+                    _containerType.getContentType());
         }
         if (valueTypeDeser != null) {
             valueTypeDeser = valueTypeDeser.forProperty(property);
@@ -129,18 +135,26 @@ public abstract class GuavaCollectionDeserializer<T>
     public T deserialize(JsonParser p, DeserializationContext ctxt)
             throws JacksonException
     {
+        final Object event = CollectionEvents.startDeserialization(p);
+        final T result;
         // Should usually point to START_ARRAY
         if (p.isExpectedStartArrayToken()) {
-            return _deserializeContents(p, ctxt);
+            result = _deserializeContents(p, ctxt);
+        } else {
+            // But may support implicit arrays from single values?
+            final boolean canWrap = (_unwrapSingle == Boolean.TRUE) ||
+                    ((_unwrapSingle == null) && ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY));
+            if (!canWrap) {
+                // Otherwise, we have a problem
+                return (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+            }
+            result = _deserializeFromSingleValue(p, ctxt);
         }
-        // But may support implicit arrays from single values?
-        final boolean canWrap = (_unwrapSingle == Boolean.TRUE) ||
-                ((_unwrapSingle == null) && ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY));
-        if (canWrap) {
-            return _deserializeFromSingleValue(p, ctxt);
+        if (event != null) {
+            CollectionEvents.finishDeserialization(event, p, handledType(),
+                    (result instanceof Collection<?>) ? ((Collection<?>) result).size() : -1L);
         }
-        // Otherwise, we have a problem
-        return (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        return result;
     }
 
     /*
@@ -175,6 +189,7 @@ public abstract class GuavaCollectionDeserializer<T>
 
         if (t == JsonToken.VALUE_NULL) {
             if (_skipNullValues) {
+                CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                 return _createEmpty(ctxt);
             }
             value = _nullProvider.getNullValue(ctxt);
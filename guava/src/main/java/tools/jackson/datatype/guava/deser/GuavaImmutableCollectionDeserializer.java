@@ -12,12 +12,23 @@ import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.util.AccessPattern;
 import tools.jackson.databind.util.ClassUtil;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.ImmutableCollection;
 
 abstract class GuavaImmutableCollectionDeserializer<T extends ImmutableCollection<Object>>
         extends GuavaCollectionDeserializer<T>
 {
+    /**
+     * Running estimate of sizes of collections produced, used for pre-sizing
+     * builders: see {@link SizeHint}.
+     *
+     * @since 3.1
+     */
+    protected transient int _sizeHint;
+
     GuavaImmutableCollectionDeserializer(JavaType selfType,
             ValueDeserializer<?> deser, TypeDeserializer typeDeser,
             NullValueProvider nuller, Boolean unwrapSingle) {
@@ -26,6 +37,17 @@ abstract class GuavaImmutableCollectionDeserializer<T extends ImmutableCollectio
 
     protected abstract ImmutableCollection.Builder<Object> createBuilder();
 
+    /**
+     * Method called to create builder pre-sized for given number of elements;
+     * default implementation simply calls {@link #createBuilder()} for builders
+     * that do not support pre-sizing.
+     *
+     * @since 3.1
+     */
+    protected ImmutableCollection.Builder<Object> createBuilder(int expectedSize) {
+        return createBuilder();
+    }
+
     // Can not modify Immutable collections now can we
     @Override
     public Boolean supportsUpdate(DeserializationConfig config) {
@@ -52,13 +74,20 @@ abstract class GuavaImmutableCollectionDeserializer<T extends ImmutableCollectio
         final TypeDeserializer typeDeser = _valueTypeDeserializer;
         // No way to pass actual type parameter; but does not matter, just
         // compiler-time fluff:
-        ImmutableCollection.Builder<Object> builder = createBuilder();
+        ImmutableCollection.Builder<Object> builder = createBuilder(_sizeHint);
+        int count = 0;
 
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             Object value;
 
             if (t == JsonToken.VALUE_NULL) {
                 if (_skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                     continue;
                 }
                 value = _resolveNullToValue(ctxt);
@@ -74,7 +103,9 @@ abstract class GuavaImmutableCollectionDeserializer<T extends ImmutableCollectio
             }
 
             builder.add(value);
+            ++count;
         }
+        _sizeHint = SizeHint.next(_sizeHint, count);
         // No class outside of the package will be able to subclass us,
         // and we provide the proper builder for the subclasses we implement.
         @SuppressWarnings("unchecked")
@@ -11,12 +11,23 @@ import tools.jackson.databind.KeyDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.util.AccessPattern;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.ImmutableMap;
 
 abstract class GuavaImmutableMapDeserializer<T extends ImmutableMap<Object, Object>> extends
         GuavaMapDeserializer<T>
 {
+    /**
+     * Running estimate of sizes of maps produced, used for pre-sizing
+     * builders: see {@link SizeHint}.
+     *
+     * @since 3.1
+     */
+    protected transient int _sizeHint;
+
     GuavaImmutableMapDeserializer(JavaType type, KeyDeserializer keyDeser,
             ValueDeserializer<?> valueDeser, TypeDeserializer valueTypeDeser,
             NullValueProvider nuller) {
@@ -31,6 +42,17 @@ abstract class GuavaImmutableMapDeserializer<T extends ImmutableMap<Object, Obje
 
     protected abstract ImmutableMap.Builder<Object, Object> createBuilder();
 
+    /**
+     * Method called to create builder pre-sized for given number of entries;
+     * default implementation simply calls {@link #createBuilder()} for builders
+     * that do not support pre-sizing.
+     *
+     * @since 3.1
+     */
+    protected ImmutableMap.Builder<Object, Object> createBuilder(int expectedSize) {
+        return createBuilder();
+    }
+
     @Override
     protected T _deserializeEntries(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
@@ -39,8 +61,14 @@ abstract class GuavaImmutableMapDeserializer<T extends ImmutableMap<Object, Obje
         final ValueDeserializer<?> valueDes = _valueDeserializer;
         final TypeDeserializer typeDeser = _valueTypeDeserializer;
     
-        ImmutableMap.Builder<Object, Object> builder = createBuilder();
+        ImmutableMap.Builder<Object, Object> builder = createBuilder(_sizeHint);
+        int count = 0;
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             // Must point to field name now
             String fieldName = p.currentName();
             Object key = (keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt);
@@ -55,7 +83,10 @@ abstract class GuavaImmutableMapDeserializer<T extends ImmutableMap<Object, Obje
                     // TODO: allow reporting problem via a feature, in future?
                     if (value != null) {
                         builder.put(key, value);
+                        ++count;
                     }
+                } else {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                 }
                 continue;
             }
@@ -65,7 +96,9 @@ abstract class GuavaImmutableMapDeserializer<T extends ImmutableMap<Object, Obje
                 value = valueDes.deserializeWithType(p, ctxt, typeDeser);
             }
             builder.put(key, value);
+            ++count;
         }
+        _sizeHint = SizeHint.next(_sizeHint, count);
         // No class outside of the package will be able to subclass us,
         // and we provide the proper builder for the subclasses we implement.
         @SuppressWarnings("unchecked")
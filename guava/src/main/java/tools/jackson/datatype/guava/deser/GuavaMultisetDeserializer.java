@@ -4,12 +4,16 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
 
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.util.AccessPattern;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.Multiset;
 
@@ -35,20 +39,64 @@ abstract class GuavaMultisetDeserializer<T extends Multiset<Object>>
         return _createEmpty(ctxt);
     }
 
+    /**
+     * Multisets are mutable so existing instances can be updated.
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Method called when updating existing multiset: elements read are
+     * added to it, after clearing existing contents if so configured
+     * (see {@link CollectionUpdates}).
+     *
+     * @since 3.1
+     */
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (!p.isExpectedStartArrayToken()) {
+            return deserialize(p, ctxt);
+        }
+        if (CollectionUpdates.clearOnUpdate(ctxt)) {
+            intoValue.clear();
+        }
+        return _deserializeContents(p, ctxt, intoValue);
+    }
+
     @Override
     protected T _deserializeContents(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
+    {
+        return _deserializeContents(p, ctxt, createMultiset());
+    }
+
+    /**
+     * @since 3.1
+     */
+    protected T _deserializeContents(JsonParser p, DeserializationContext ctxt, T set)
+        throws JacksonException
     {
         ValueDeserializer<?> valueDes = _valueDeserializer;
         JsonToken t;
         final TypeDeserializer typeDeser = _valueTypeDeserializer;
-        T set = createMultiset();
-    
+
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             Object value;
 
             if (t == JsonToken.VALUE_NULL) {
                 if (_skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                     continue;
                 }
                 value = _nullProvider.getNullValue(ctxt);
@@ -2,18 +2,87 @@ package tools.jackson.datatype.guava.deser;
 
 import java.util.Locale;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 
+import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.deser.std.FromStringDeserializer;
 
 import com.google.common.hash.HashCode;
 
+/**
+ * Deserializer for Guava {@link HashCode}: by default reads hex Strings
+ * (case-insensitive), but with {@code @JsonFormat(shape = JsonFormat.Shape.BINARY)}
+ * (or matching config override) reads JSON Strings as Base64-encoded binary.
+ * Native binary values (from formats like Smile or CBOR) are accepted in both cases.
+ */
 public class HashCodeDeserializer extends FromStringDeserializer<HashCode>
 {
     public final static HashCodeDeserializer std = new HashCodeDeserializer();
 
-    public HashCodeDeserializer() { super(HashCode.class); }
+    /**
+     * Whether JSON String values are expected to contain Base64-encoded binary
+     * (instead of hex).
+     *
+     * @since 3.1
+     */
+    protected final boolean _binary;
+
+    public HashCodeDeserializer() { this(false); }
+
+    /**
+     * @since 3.1
+     */
+    protected HashCodeDeserializer(boolean binary) {
+        super(HashCode.class);
+        _binary = binary;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property)
+    {
+        final JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        final boolean binary = (format.getShape() == JsonFormat.Shape.BINARY);
+        if (binary == _binary) {
+            return this;
+        }
+        return new HashCodeDeserializer(binary);
+    }
+
+    @Override
+    public HashCode deserialize(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        // Fast path for well-formed values; others (including empty and
+        // invalid Strings) handled by standard processing
+        if (p.hasToken(JsonToken.VALUE_STRING) && (p.getStringLength() > 0)) {
+            if (_binary) {
+                final byte[] bytes = p.getBinaryValue(ctxt.getBase64Variant());
+                if (bytes.length == 0) {
+                    return (HashCode) ctxt.handleWeirdStringValue(HashCode.class, p.getString(),
+                            "Base64 value decodes to no bytes; `HashCode` must have at least one byte");
+                }
+                return HashCode.fromBytes(bytes);
+            }
+            HashCode result = _decodeHex(p.getStringCharacters(), p.getStringOffset(),
+                    p.getStringLength());
+            if (result != null) {
+                return result;
+            }
+        } else if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+            Object ob = p.getEmbeddedObject();
+            if ((ob instanceof byte[]) && (((byte[]) ob).length > 0)) {
+                return HashCode.fromBytes((byte[]) ob);
+            }
+        }
+        return super.deserialize(p, ctxt);
+    }
 
     @Override
     protected HashCode _deserialize(String value, DeserializationContext ctxt)
@@ -21,4 +90,40 @@ public class HashCodeDeserializer extends FromStringDeserializer<HashCode>
     {
         return HashCode.fromString(value.toLowerCase(Locale.ENGLISH));
     }
+
+    /**
+     * Helper method for decoding hex value directly from parser buffer.
+     *
+     * @return Decoded {@link HashCode}, if contents were valid hex;
+     *    {@code null} if not
+     */
+    private static HashCode _decodeHex(char[] buf, int offset, int len)
+    {
+        if ((len < 2) || ((len & 1) != 0)) {
+            return null;
+        }
+        final byte[] bytes = new byte[len >> 1];
+        for (int i = 0; i < bytes.length; ++i, offset += 2) {
+            final int hi = _hexValue(buf[offset]);
+            final int lo = _hexValue(buf[offset+1]);
+            if ((hi | lo) < 0) {
+                return null;
+            }
+            bytes[i] = (byte) ((hi << 4) | lo);
+        }
+        return HashCode.fromBytes(bytes);
+    }
+
+    // Note: unlike `Character.digit()`, only accepts ASCII characters
+    private static int _hexValue(char c)
+    {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        c |= 0x20; // to lower case
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
 }
@@ -29,6 +29,11 @@ public class ImmutableBiMapDeserializer
         return ImmutableBiMap.builder();
     }
 
+    @Override
+    protected Builder<Object, Object> createBuilder(int expectedSize) {
+        return ImmutableBiMap.builderWithExpectedSize(expectedSize);
+    }
+
     @Override
     public GuavaMapDeserializer<ImmutableBiMap<Object, Object>> withResolved(KeyDeserializer keyDeser,
             ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
@@ -33,6 +33,11 @@ public class ImmutableListDeserializer extends
         return ImmutableList.builder();
     }
 
+    @Override
+    protected ImmutableList.Builder<Object> createBuilder(int expectedSize) {
+        return ImmutableList.builderWithExpectedSize(expectedSize);
+    }
+
     @Override
     protected ImmutableList<Object> _createEmpty(DeserializationContext ctxt) {
         return ImmutableList.of();
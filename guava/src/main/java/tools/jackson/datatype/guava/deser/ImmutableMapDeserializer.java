@@ -36,4 +36,9 @@ public class ImmutableMapDeserializer
     protected ImmutableMap.Builder<Object, Object> createBuilder() {
         return ImmutableMap.builder();
     }
+
+    @Override
+    protected ImmutableMap.Builder<Object, Object> createBuilder(int expectedSize) {
+        return ImmutableMap.builderWithExpectedSize(expectedSize);
+    }
 }
@@ -29,6 +29,11 @@ public class ImmutableSetDeserializer extends GuavaImmutableCollectionDeserializ
         return ImmutableSet.builder();
     }
 
+    @Override
+    protected Builder<Object> createBuilder(int expectedSize) {
+        return ImmutableSet.builderWithExpectedSize(expectedSize);
+    }
+
     @Override
     protected ImmutableSet<Object> _createEmpty(DeserializationContext ctxt) {
         return ImmutableSet.of();
@@ -1,5 +1,9 @@
 package tools.jackson.datatype.guava.deser;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
@@ -7,6 +11,9 @@ import tools.jackson.databind.KeyDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 
 import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.util.ObjectBuffer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.ImmutableSortedMap;
@@ -14,10 +21,28 @@ import com.google.common.collect.ImmutableSortedMap;
 public class ImmutableSortedMapDeserializer
     extends GuavaImmutableMapDeserializer<ImmutableSortedMap<Object, Object>>
 {
+    /**
+     * Whether input is expected to be already sorted by key: if so, ordering is
+     * verified while reading and sorting only done if it is not.
+     *
+     * @since 3.1
+     */
+    protected final boolean _sortedInput;
+
     public ImmutableSortedMapDeserializer(JavaType type, KeyDeserializer keyDeser,
             ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
             NullValueProvider nuller) {
+        this(type, keyDeser, valueDeser, typeDeser, nuller, false);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public ImmutableSortedMapDeserializer(JavaType type, KeyDeserializer keyDeser,
+            ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
+            NullValueProvider nuller, boolean sortedInput) {
         super(type, keyDeser, valueDeser, typeDeser, nuller);
+        _sortedInput = sortedInput;
     }
 
     @Override
@@ -42,6 +67,77 @@ public class ImmutableSortedMapDeserializer
             ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
             NullValueProvider nuller)
     {
-        return new ImmutableSortedMapDeserializer(_containerType, keyDeser, valueDeser, typeDeser, nuller);
+        return new ImmutableSortedMapDeserializer(_containerType, keyDeser, valueDeser, typeDeser, nuller,
+                _sortedInput);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected ImmutableSortedMap<Object, Object> _deserializeEntries(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!_sortedInput) {
+            return super._deserializeEntries(p, ctxt);
+        }
+        final KeyDeserializer keyDes = _keyDeserializer;
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _valueTypeDeserializer;
+        // keys and values interleaved
+        final ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+        Object[] chunk = buffer.resetAndStart();
+        int ix = 0;
+        Object prevKey = null;
+        boolean ordered = true;
+
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            String fieldName = p.currentName();
+            Object key = (keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt);
+            JsonToken t = p.nextToken();
+            Object value;
+            if (t == JsonToken.VALUE_NULL) {
+                if (_skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
+                    continue;
+                }
+                value = _nullProvider.getNullValue(ctxt);
+                // as with builder-based handling, skip entries with null values
+                if (value == null) {
+                    continue;
+                }
+            } else if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            if (ordered && (prevKey != null)) {
+                ordered = SortedArrays.inOrder(prevKey, key);
+            }
+            prevKey = key;
+            if (ix >= chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+                ix = 0;
+            }
+            chunk[ix++] = key;
+            if (ix >= chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+                ix = 0;
+            }
+            chunk[ix++] = value;
+        }
+        final Object[] keysAndValues = buffer.completeAndClearBuffer(chunk, ix);
+        ctxt.returnObjectBuffer(buffer);
+        if (ordered) {
+            return SortedArrays.sortedMap(keysAndValues);
+        }
+        Builder<Object, Object> builder = createBuilder();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            builder.put(keysAndValues[i], keysAndValues[i+1]);
+        }
+        return (ImmutableSortedMap<Object, Object>) builder.build();
     }
 }
@@ -1,10 +1,17 @@
 package tools.jackson.datatype.guava.deser;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.util.ObjectBuffer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.ImmutableCollection.Builder;
 import com.google.common.collect.ImmutableSortedSet;
@@ -12,17 +19,35 @@ import com.google.common.collect.ImmutableSortedSet;
 public class ImmutableSortedSetDeserializer
     extends GuavaImmutableCollectionDeserializer<ImmutableSortedSet<Object>>
 {
+    /**
+     * Whether input is expected to be already sorted: if so, ordering is verified
+     * while reading and sorting only done if it is not.
+     *
+     * @since 3.1
+     */
+    protected final boolean _sortedInput;
+
     public ImmutableSortedSetDeserializer(JavaType selfType,
             ValueDeserializer<?> deser, TypeDeserializer typeDeser,
             NullValueProvider nuller, Boolean unwrapSingle) {
+        this(selfType, deser, typeDeser, nuller, unwrapSingle, false);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public ImmutableSortedSetDeserializer(JavaType selfType,
+            ValueDeserializer<?> deser, TypeDeserializer typeDeser,
+            NullValueProvider nuller, Boolean unwrapSingle, boolean sortedInput) {
         super(selfType, deser, typeDeser, nuller, unwrapSingle);
+        _sortedInput = sortedInput;
     }
 
     @Override
     public ImmutableSortedSetDeserializer withResolved(ValueDeserializer<?> valueDeser, TypeDeserializer typeDeser,
             NullValueProvider nuller, Boolean unwrapSingle) {
         return new ImmutableSortedSetDeserializer(_containerType,
-                valueDeser, typeDeser, nuller, unwrapSingle);
+                valueDeser, typeDeser, nuller, unwrapSingle, _sortedInput);
     }
 
     @SuppressWarnings("unchecked")
@@ -49,4 +74,63 @@ public class ImmutableSortedSetDeserializer
                 .add(value)
                 .build();
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected ImmutableSortedSet<Object> _deserializeContents(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!_sortedInput) {
+            return super._deserializeContents(p, ctxt);
+        }
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _valueTypeDeserializer;
+        final ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+        Object[] chunk = buffer.resetAndStart();
+        int ix = 0;
+        Object prev = null;
+        boolean ordered = true;
+        JsonToken t;
+
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int count = 0;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (++count > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            Object value;
+
+            if (t == JsonToken.VALUE_NULL) {
+                if (_skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
+                    continue;
+                }
+                value = _resolveNullToValue(ctxt);
+            } else if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            if (value == null) {
+                // not accepted; let builder report the problem
+                _tryToAddNull(p, ctxt, createBuilder());
+                continue;
+            }
+            if (ordered && (prev != null)) {
+                ordered = SortedArrays.inOrder(prev, value);
+            }
+            prev = value;
+            if (ix >= chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+                ix = 0;
+            }
+            chunk[ix++] = value;
+        }
+        final Object[] elements = buffer.completeAndClearBuffer(chunk, ix);
+        ctxt.returnObjectBuffer(buffer);
+        if (ordered) {
+            return SortedArrays.sortedSet(elements);
+        }
+        return (ImmutableSortedSet<Object>) createBuilder().add(elements).build();
+    }
 }
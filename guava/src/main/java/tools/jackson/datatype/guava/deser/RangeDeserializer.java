@@ -17,6 +17,7 @@ import tools.jackson.databind.type.LogicalType;
 import tools.jackson.databind.util.ClassUtil;
 import tools.jackson.datatype.guava.deser.util.RangeFactory;
 import tools.jackson.datatype.guava.deser.util.RangeHelper;
+import tools.jackson.datatype.guava.deser.util.RangeStringCodec;
 
 /**
  * Jackson deserializer for a Guava {@link Range}.
@@ -45,6 +46,14 @@ public class RangeDeserializer
      */
     protected final KeyDeserializer _fromStringDeserializer;
 
+    /**
+     * Codec used for JSON String (inline) representation, if any;
+     * based on {@link #_fromStringDeserializer}.
+     *
+     * @since 3.1
+     */
+    protected final RangeStringCodec _stringCodec;
+
     protected final BoundType _defaultBoundType;
 
     protected final RangeHelper.RangeProperties _fieldNames;
@@ -74,6 +83,8 @@ public class RangeDeserializer
         _rangeType = rangeType;
         _endpointDeserializer = (ValueDeserializer<Object>) endpointDeser;
         _fromStringDeserializer = fromStringDeserializer;
+        _stringCodec = (fromStringDeserializer == null) ? null
+                : RangeStringCodec.construct(rangeType, fromStringDeserializer);
         _defaultBoundType = defaultBoundType;
         _fieldNames = fieldNames;
         _shape = shape;
@@ -232,7 +243,7 @@ public class RangeDeserializer
             return null;
         }
 
-        return RangeHelper.getRangeFromString(rangeInterval, context, _fromStringDeserializer, _rangeType, handledType());
+        return _stringCodec.decode(rangeInterval, context, handledType());
     }
 
     private BoundType deserializeBoundType(DeserializationContext context, JsonParser p)
@@ -6,7 +6,7 @@ import com.google.common.collect.RangeMap;
 import tools.jackson.databind.*;
 import tools.jackson.databind.deser.ContextualKeyDeserializer;
 import tools.jackson.databind.type.TypeFactory;
-import tools.jackson.datatype.guava.deser.util.RangeHelper;
+import tools.jackson.datatype.guava.deser.util.RangeStringCodec;
 
 /**
  * Jackson key deserializer for a Guava {@link Range}.
@@ -22,6 +22,11 @@ public class RangeKeyDeserializer
 
     protected final KeyDeserializer _fromStringDeserializer;
 
+    /**
+     * @since 3.1
+     */
+    protected final RangeStringCodec _stringCodec;
+
     /**
      * @since 2.21
      */
@@ -32,6 +37,8 @@ public class RangeKeyDeserializer
     protected RangeKeyDeserializer(JavaType rangeType, KeyDeserializer rangeDeserializer) {
         _rangeType = rangeType;
         _fromStringDeserializer = rangeDeserializer;
+        _stringCodec = (rangeDeserializer == null) ? null
+                : RangeStringCodec.construct(rangeType, rangeDeserializer);
     }
 
     @Override
@@ -57,6 +64,6 @@ public class RangeKeyDeserializer
             throw context.instantiationException(RangeMap.class, "RangeMap keys can't be null or empty.");
         }
 
-        return RangeHelper.getRangeFromString(rangeInterval, context, _fromStringDeserializer, _rangeType, Range.class);
+        return _stringCodec.decode(rangeInterval, context, Range.class);
     }
 }
@@ -18,6 +18,8 @@ import tools.jackson.databind.type.LogicalType;
 import tools.jackson.databind.type.MapLikeType;
 import tools.jackson.databind.util.ClassUtil;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 /**
  * Jackson deserializer for a Guava {@link RangeMap}.
  * <p>
@@ -137,7 +139,12 @@ public class RangeMapDeserializer<T extends RangeMap<Comparable<?>, Object>>
     public T deserialize(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
-        RangeMap rangeMap = TreeRangeMap.create();
+        // Immutable range maps are built directly (without intermediate `TreeRangeMap`)
+        // as long as ranges are in order and do not overlap
+        ImmutableRangeMap.Builder<Comparable<?>, Object> builder = isImmutable
+                ? ImmutableRangeMap.builder() : null;
+        Range<Comparable<?>> prevKey = null;
+        RangeMap<Comparable<?>, Object> rangeMap = isImmutable ? null : TreeRangeMap.create();
 
         JsonToken currToken = p.currentToken();
         if (currToken != JsonToken.PROPERTY_NAME) {
@@ -154,6 +161,7 @@ public class RangeMapDeserializer<T extends RangeMap<Comparable<?>, Object>>
             final Object value;
             if (p.currentToken() == JsonToken.VALUE_NULL) {
                 if (skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                     continue;
                 }
                 value = nullProvider.getNullValue(ctxt);
@@ -162,9 +170,26 @@ public class RangeMapDeserializer<T extends RangeMap<Comparable<?>, Object>>
             } else {
                 value = elementDeserializer.deserialize(p, ctxt);
             }
-            rangeMap.put(key, value);
+            if (builder == null) {
+                rangeMap.put(key, value);
+            } else if (!key.isEmpty()) { // as with `TreeRangeMap`, ignore empty ranges
+                if ((prevKey == null) || _follows(prevKey, key)) {
+                    builder.put(key, value);
+                    prevKey = key;
+                } else {
+                    // Possibly overlapping ranges: later ones win, same as with
+                    // `TreeRangeMap.put()`; ranges so far are known not to overlap
+                    rangeMap = TreeRangeMap.create();
+                    rangeMap.putAll(builder.build());
+                    rangeMap.put(key, value);
+                    builder = null;
+                }
+            }
         }
 
+        if (builder != null) {
+            return (T) builder.build();
+        }
         if (creatorMethod == null) {
             return (T) rangeMap;
         }
@@ -177,6 +202,24 @@ public class RangeMapDeserializer<T extends RangeMap<Comparable<?>, Object>>
         }
     }
 
+    /**
+     * Helper method for checking whether given (non-empty) range is above
+     * the previous one, without overlapping it.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static boolean _follows(Range<Comparable<?>> prev, Range<Comparable<?>> next)
+    {
+        if (!prev.hasUpperBound() || !next.hasLowerBound()) {
+            return false;
+        }
+        final int cmp = ((Comparable) next.lowerEndpoint()).compareTo(prev.upperEndpoint());
+        if (cmp != 0) {
+            return cmp > 0;
+        }
+        // shared endpoint may only belong to one of ranges
+        return (prev.upperBoundType() == BoundType.OPEN) || (next.lowerBoundType() == BoundType.OPEN);
+    }
+
     private void expect(DeserializationContext context,
             JsonToken expected, JsonToken actual)
     {
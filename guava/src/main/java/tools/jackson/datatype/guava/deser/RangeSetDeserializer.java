@@ -1,8 +1,5 @@
 package tools.jackson.datatype.guava.deser;
 
-import java.util.Collection;
-import java.util.List;
-
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
@@ -10,27 +7,51 @@ import tools.jackson.core.JsonToken;
 import tools.jackson.databind.*;
 import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.type.LogicalType;
-import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.util.ClassUtil;
+import tools.jackson.datatype.guava.deser.util.RangeHelper;
 
 import com.google.common.collect.ImmutableRangeSet;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 
+/**
+ * Deserializer for Guava {@link RangeSet}s: accepts both the default representation
+ * (JSON Array of {@link Range}s) and the compact one (JSON Object with
+ * {@link RangeHelper#PROP_CLOSED_OPEN} or {@link RangeHelper#PROP_RANGES} property,
+ * see {@link tools.jackson.datatype.guava.ser.RangeSetSerializer}).
+ * In both cases ranges are added to {@link ImmutableRangeSet.Builder} as they are
+ * read.
+ */
 public class RangeSetDeserializer
     extends StdDeserializer<RangeSet<?>>
 {
+    /**
+     * Deserializer for {@link Range} values of default representation.
+     */
     private final ValueDeserializer<Object> _deserializer;
 
+    /**
+     * Deserializer for endpoint values of compact representation.
+     *
+     * @since 3.1
+     */
+    private final ValueDeserializer<Object> _endpointDeserializer;
+
     public RangeSetDeserializer() {
         super(RangeSet.class);
         _deserializer = null;
+        _endpointDeserializer = null;
     }
 
+    /**
+     * @since 3.1
+     */
     protected RangeSetDeserializer(RangeSetDeserializer base,
-            ValueDeserializer<Object> deser)
+            ValueDeserializer<Object> deser, ValueDeserializer<Object> endpointDeser)
     {
         super(base);
         _deserializer = deser;
+        _endpointDeserializer = endpointDeser;
     }
 
     @Override
@@ -41,30 +62,27 @@ public class RangeSetDeserializer
     @Override
     public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
     {
-        JavaType genericType = _findType(ctxt, ctxt.getContextualType());
-        if (genericType == null) {
+        JavaType endpointType = _findEndpointType(ctxt, ctxt.getContextualType());
+        if (endpointType == null) {
             if (property != null) {
-                genericType = _findType(ctxt, property.getType());
+                endpointType = _findEndpointType(ctxt, property.getType());
             }
             // Cannot locate generic type to use? Leave as-is, fail on attempt to deserialize
-            if (genericType == null) {
+            if (endpointType == null) {
                 return this;
             }
         }
-        ValueDeserializer<Object> deser = ctxt.findContextualValueDeserializer(genericType, property);
-        return new RangeSetDeserializer(this, deser);
+        final JavaType rangeType = ctxt.getTypeFactory()
+                .constructParametricType(Range.class, endpointType);
+        ValueDeserializer<Object> deser = ctxt.findContextualValueDeserializer(rangeType, property);
+        ValueDeserializer<Object> endpointDeser = ctxt.findContextualValueDeserializer(endpointType, property);
+        return new RangeSetDeserializer(this, deser, endpointDeser);
     }
 
-    private JavaType _findType(DeserializationContext ctxt, JavaType base)
+    private JavaType _findEndpointType(DeserializationContext ctxt, JavaType base)
     {
-        Class<?> raw = base.getRawClass();
-        final TypeFactory tf = ctxt.getTypeFactory();
-        if (RangeSet.class.isAssignableFrom(raw)) {
-            JavaType valueType = tf.findFirstTypeParameter(base, RangeSet.class);
-            if (valueType != null) {
-                JavaType rangeType = tf.constructParametricType(Range.class, valueType);
-                return tf.constructCollectionType(List.class, rangeType);
-            }
+        if ((base != null) && RangeSet.class.isAssignableFrom(base.getRawClass())) {
+            return ctxt.getTypeFactory().findFirstTypeParameter(base, RangeSet.class);
         }
         return null;
     }
@@ -77,18 +95,132 @@ public class RangeSetDeserializer
             ctxt.reportBadDefinition(handledType(),
 "Not contextualized to have value deserializer or value type of `RangeSet` was not available via type parameters");
         }
-        final Collection<?> ranges = (Collection<?>) _deserializer.deserialize(p, ctxt);
         ImmutableRangeSet.Builder<Comparable<?>> builder = ImmutableRangeSet.builder();
-        for (Object ob : ranges) {
-            if (ob == null) {
+        if (p.isExpectedStartArrayToken()) {
+            _deserializeRanges(p, ctxt, builder);
+        } else if (p.isExpectedStartObjectToken() || p.hasToken(JsonToken.PROPERTY_NAME)) {
+            _deserializeCompact(p, ctxt, builder);
+        } else {
+            return (RangeSet<?>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        try {
+            return builder.build();
+        } catch (IllegalArgumentException e) { // overlapping ranges
+            return ctxt.reportInputMismatch(this, "Problem deserializing %s: %s",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _deserializeRanges(JsonParser p, DeserializationContext ctxt,
+            ImmutableRangeSet.Builder<Comparable<?>> builder)
+        throws JacksonException
+    {
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == JsonToken.VALUE_NULL) {
                 _tryToAddNull(p, ctxt, builder);
                 continue;
             }
             @SuppressWarnings("unchecked")
-            Range<Comparable<?>> range = (Range<Comparable<?>>) ob;
+            Range<Comparable<?>> range = (Range<Comparable<?>>) _deserializer.deserialize(p, ctxt);
+            if (range == null) {
+                _tryToAddNull(p, ctxt, builder);
+                continue;
+            }
+            _add(ctxt, builder, range);
+        }
+    }
+
+    private void _deserializeCompact(JsonParser p, DeserializationContext ctxt,
+            ImmutableRangeSet.Builder<Comparable<?>> builder)
+        throws JacksonException
+    {
+        String name = p.isExpectedStartObjectToken() ? p.nextName() : p.currentName();
+        for (; name != null; name = p.nextName()) {
+            final boolean closedOpen;
+            if (RangeHelper.PROP_CLOSED_OPEN.equals(name)) {
+                closedOpen = true;
+            } else if (RangeHelper.PROP_RANGES.equals(name)) {
+                closedOpen = false;
+            } else {
+                p.nextToken();
+                ctxt.handleUnknownProperty(p, this, RangeSet.class, name);
+                continue;
+            }
+            _expect(p, ctxt, JsonToken.START_ARRAY, p.nextToken());
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                final Comparable<?> lower = _deserializeEndpoint(p, ctxt, t);
+                final Comparable<?> upper = _deserializeEndpoint(p, ctxt, p.nextToken());
+                final int bits;
+                if (closedOpen) {
+                    if ((lower == null) || (upper == null)) {
+                        ctxt.reportInputMismatch(this,
+                                "Problem deserializing %s: '%s' ranges must have both endpoints",
+                                handledType().getName(), name);
+                    }
+                    bits = RangeHelper.BOUND_LOWER_CLOSED;
+                } else {
+                    _expect(p, ctxt, JsonToken.VALUE_NUMBER_INT, p.nextToken());
+                    bits = p.getIntValue();
+                }
+                Range<Comparable<?>> range;
+                try {
+                    range = RangeHelper.rangeFrom(lower, upper, bits);
+                } catch (IllegalArgumentException e) {
+                    range = ctxt.reportInputMismatch(this, "Problem deserializing %s: %s",
+                            handledType().getName(), e.getMessage());
+                }
+                _add(ctxt, builder, range);
+            }
+        }
+    }
+
+    private Comparable<?> _deserializeEndpoint(JsonParser p, DeserializationContext ctxt,
+            JsonToken t)
+        throws JacksonException
+    {
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if ((t == null) || (t == JsonToken.END_ARRAY)) {
+            ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: unexpected end of compact ranges, incomplete range",
+                    handledType().getName());
+        }
+        Object ob = _endpointDeserializer.deserialize(p, ctxt);
+        if ((ob != null) && !(ob instanceof Comparable)) {
+            ctxt.reportBadDefinition(handledType(), String.format(
+                    "Endpoint deserialized to a %s, which does not implement `Comparable`",
+                    ClassUtil.classNameOf(ob)));
+        }
+        return (Comparable<?>) ob;
+    }
+
+    private void _add(DeserializationContext ctxt,
+            ImmutableRangeSet.Builder<Comparable<?>> builder, Range<Comparable<?>> range)
+    {
+        try {
             builder.add(range);
+        } catch (IllegalArgumentException e) { // empty range
+            ctxt.reportInputMismatch(this, "Problem deserializing %s: %s",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+
+    private void _expect(JsonParser p, DeserializationContext ctxt,
+            JsonToken expected, JsonToken actual)
+    {
+        if (actual != expected) {
+            ctxt.reportInputMismatch(this, "Problem deserializing %s: expecting %s, found %s",
+                    handledType().getName(), expected, actual);
         }
-        return builder.build();
     }
 
     /**
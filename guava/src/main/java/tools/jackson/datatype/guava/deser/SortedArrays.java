@@ -0,0 +1,195 @@
+package tools.jackson.datatype.guava.deser;
+
+import java.util.*;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+/**
+ * Helper class for constructing Guava sorted immutable containers from contents
+ * read in (expected) sorted order, without sorting them again. Callers verify
+ * ordering with {@link #inOrder} as contents are read; if all of it is in strictly
+ * ascending natural order, container is constructed with {@link #sortedSet} or
+ * {@link #sortedMap}, which use {@code copyOfSorted()} (that neither sorts
+ * nor checks for duplicates); otherwise caller needs to fall back to regular
+ * (sorting) builders.
+ *<p>
+ * Sorted views used are not general-purpose collections: they only support
+ * the operations {@code copyOfSorted()} needs (iteration, size, comparator),
+ * and throw {@link UnsupportedOperationException} for range views
+ * ({@code subSet()}, {@code headMap()} and so on); so they are never exposed
+ * outside this class.
+ *
+ * @since 3.1
+ */
+final class SortedArrays
+{
+    private SortedArrays() { }
+
+    /**
+     * Method for checking whether given two consecutive values are in
+     * strictly ascending natural order.
+     */
+    @SuppressWarnings("unchecked")
+    static boolean inOrder(Object prev, Object next) {
+        return ((Comparable<Object>) prev).compareTo(next) < 0;
+    }
+
+    /**
+     * Method for constructing set from elements verified to be in strictly
+     * ascending natural order.
+     */
+    static ImmutableSortedSet<Object> sortedSet(Object[] elements) {
+        return ImmutableSortedSet.copyOfSorted(new SortedSetView(elements));
+    }
+
+    /**
+     * Method for constructing map from keys (with values) verified to be in strictly
+     * ascending natural order.
+     *
+     * @param keysAndValues Keys and values of entries, interleaved: key of entry at
+     *    index {@code 2*i}, value at {@code 2*i + 1}
+     */
+    static ImmutableSortedMap<Object, Object> sortedMap(Object[] keysAndValues) {
+        return ImmutableSortedMap.copyOfSorted(new SortedMapView(keysAndValues));
+    }
+
+    /*
+    /**********************************************************************
+    /* Minimal read-only views, only to be passed to copyOfSorted()
+    /* (range views are not supported)
+    /**********************************************************************
+     */
+
+    private final static class SortedSetView
+        extends AbstractSet<Object>
+        implements SortedSet<Object>
+    {
+        private final Object[] _elements;
+
+        SortedSetView(Object[] elements) {
+            _elements = elements;
+        }
+
+        @Override
+        public int size() {
+            return _elements.length;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return Arrays.asList(_elements).iterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return _elements.clone();
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            // natural ordering
+            return null;
+        }
+
+        @Override
+        public Object first() {
+            return _elements[0];
+        }
+
+        @Override
+        public Object last() {
+            return _elements[_elements.length - 1];
+        }
+
+        @Override
+        public SortedSet<Object> subSet(Object fromElement, Object toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Object> headSet(Object toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Object> tailSet(Object fromElement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final static class SortedMapView
+        extends AbstractMap<Object, Object>
+        implements SortedMap<Object, Object>
+    {
+        private final Object[] _keysAndValues;
+
+        SortedMapView(Object[] keysAndValues) {
+            _keysAndValues = keysAndValues;
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<Object, Object>>() {
+                @Override
+                public int size() {
+                    return _keysAndValues.length >> 1;
+                }
+
+                @Override
+                public Iterator<Map.Entry<Object, Object>> iterator() {
+                    return new Iterator<Map.Entry<Object, Object>>() {
+                        private int _index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return _index < _keysAndValues.length;
+                        }
+
+                        @Override
+                        public Map.Entry<Object, Object> next() {
+                            if (_index >= _keysAndValues.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final int ix = _index;
+                            _index += 2;
+                            return new AbstractMap.SimpleImmutableEntry<>(_keysAndValues[ix],
+                                    _keysAndValues[ix+1]);
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            // natural ordering
+            return null;
+        }
+
+        @Override
+        public Object firstKey() {
+            return _keysAndValues[0];
+        }
+
+        @Override
+        public Object lastKey() {
+            return _keysAndValues[_keysAndValues.length - 2];
+        }
+
+        @Override
+        public SortedMap<Object, Object> subMap(Object fromKey, Object toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<Object, Object> headMap(Object toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<Object, Object> tailMap(Object fromKey) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -13,8 +13,13 @@ import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.deser.std.ContainerDeserializerBase;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.LogicalType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
@@ -140,19 +145,80 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
     public T deserialize(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
+        final Object event = CollectionEvents.startDeserialization(p);
+        final T result;
         //check if ACCEPT_SINGLE_VALUE_AS_ARRAY feature is enabled
         if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
-            return deserializeFromSingleValue(p, ctxt);
+            result = transform(ctxt, deserializeFromSingleValue(p, ctxt, createMultimap()));
+        } else {
+            // if not deserialize the normal way
+            result = transform(ctxt, deserializeContents(p, ctxt, createMultimap()));
         }
-        // if not deserialize the normal way
-        return deserializeContents(p, ctxt);
+        if (event != null) {
+            CollectionEvents.finishDeserialization(event, p, handledType(),
+                    (result == null) ? -1L : result.size());
+        }
+        return result;
+    }
+
+    /**
+     * Mutable multimaps can be updated in place.
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Method called when updating existing multimap: values read are
+     * added to it, after clearing existing contents if so configured
+     * (see {@link CollectionUpdates}). Immutable multimaps can not be
+     * updated, so a new instance is constructed for them.
+     *
+     * @since 3.1
+     */
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (intoValue instanceof ImmutableMultimap<?,?>) {
+            return deserialize(p, ctxt);
+        }
+        if (CollectionUpdates.clearOnUpdate(ctxt)) {
+            intoValue.clear();
+        }
+        if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+            return deserializeFromSingleValue(p, ctxt, intoValue);
+        }
+        return deserializeContents(p, ctxt, intoValue);
     }
 
-    private T deserializeContents(JsonParser p, DeserializationContext ctxt)
+    /**
+     * Helper method for converting multimap read into the actual result type,
+     * if necessary.
+     */
+    private T transform(DeserializationContext ctxt, T multimap)
         throws JacksonException
     {
-        T multimap = createMultimap();
+        if (creatorMethod == null) {
+            return multimap;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            T map = (T) creatorMethod.invoke(null, multimap);
+            return map;
+        } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
+            @SuppressWarnings("unchecked")
+            T result = (T) ctxt.handleInstantiationProblem(handledType(), multimap, e);
+            return result;
+        }
+    }
 
+    private T deserializeContents(JsonParser p, DeserializationContext ctxt, T multimap)
+        throws JacksonException
+    {
         JsonToken currToken = p.currentToken();
         if (currToken != JsonToken.PROPERTY_NAME) {
             // 01-Mar-2023, tatu: [datatypes-collections#104] Handle empty Maps too
@@ -162,6 +228,9 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
             }
         }
 
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        final int maxValuesPerKey = CollectionLimits.maxValuesPerKey(ctxt, p);
+        int elements = 0;
         for (; currToken == JsonToken.PROPERTY_NAME; currToken = p.nextToken()) {
             final Object key;
             if (_keyDeserializer != null) {
@@ -173,10 +242,18 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
             p.nextToken();
             expect(ctxt, p, JsonToken.START_ARRAY);
 
+            int values = 0;
             while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (++values > maxValuesPerKey) {
+                    return CollectionLimits.reportTooManyValues(ctxt, this, key, maxValuesPerKey);
+                }
+                if (++elements > maxElements) {
+                    return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                }
                 final Object value;
                 if (p.currentToken() == JsonToken.VALUE_NULL) {
                     if (_skipNullValues) {
+                        CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
                         continue;
                     }
                     value = _nullProvider.getNullValue(ctxt);
@@ -188,26 +265,17 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
                 multimap.put(key, value);
             }
         }
-        if (creatorMethod == null) {
-            return multimap;
-        }
-        try {
-            @SuppressWarnings("unchecked")
-            T map = (T) creatorMethod.invoke(null, multimap);
-            return map;
-        } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
-            @SuppressWarnings("unchecked")
-            T result = (T) ctxt.handleInstantiationProblem(handledType(), multimap, e);
-            return result;
-        }
+        return multimap;
     }
 
-    private T deserializeFromSingleValue(JsonParser p, DeserializationContext ctxt)
+    private T deserializeFromSingleValue(JsonParser p, DeserializationContext ctxt, T multimap)
         throws JacksonException
     {
         expect(ctxt, p, JsonToken.START_OBJECT);
 
-        final T multimap = createMultimap();
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        final int maxValuesPerKey = CollectionLimits.maxValuesPerKey(ctxt, p);
+        int elements = 0;
         while (p.nextToken() != JsonToken.END_OBJECT) {
             final Object key;
             if (_keyDeserializer != null) {
@@ -221,7 +289,14 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
             // if there is an array, parse the array and add the elements
             if (p.currentToken() == JsonToken.START_ARRAY) {
 
+                int values = 0;
                 while (p.nextToken() != JsonToken.END_ARRAY) {
+                    if (++values > maxValuesPerKey) {
+                        return CollectionLimits.reportTooManyValues(ctxt, this, key, maxValuesPerKey);
+                    }
+                    if (++elements > maxElements) {
+                        return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                    }
                     // get the current token value
                     final Object value = getCurrentTokenValue(p, ctxt);
                     // add the token value to the map
@@ -230,24 +305,16 @@ public abstract class GuavaMultimapDeserializer<T extends Multimap<Object, Objec
             }
             // if the element is a String, then add it as a List
             else {
+                if (++elements > maxElements) {
+                    return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                }
                 // get the current token value
                 final Object value = getCurrentTokenValue(p, ctxt);
                 // add the single value
                 multimap.put(key, value);
             }
         }
-        if (creatorMethod == null) {
-            return multimap;
-        }
-        try {
-            @SuppressWarnings("unchecked")
-            T map = (T) creatorMethod.invoke(null, multimap);
-            return map;
-        } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
-            @SuppressWarnings("unchecked")
-            T result = (T) ctxt.handleInstantiationProblem(handledType(), multimap, e);
-            return result;
-        }
+        return multimap;
     }
 
     private Object getCurrentTokenValue(JsonParser p, DeserializationContext ctxt)
@@ -1,13 +1,34 @@
 package tools.jackson.datatype.guava.deser.primitives;
 
+import java.nio.ByteBuffer;
+
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.datatype.guava.deser.BasePrimitiveCollectionDeserializer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
 
+/**
+ * Base class for {@code Immutable[Primitive]Array} deserializers.
+ *<p>
+ * In addition to JSON Arrays of numbers, packed binary representation is
+ * accepted (unless {@link #packedElementSize()} returns {@code 0}): either
+ * native binary value or Base64-encoded String, containing big-endian
+ * element values back to back.
+ */
 public abstract class BaseImmutableArrayDeserializer<ObjectType, ImmutablePrimitiveArray, IntermediateArrayBuilder>
         extends BasePrimitiveCollectionDeserializer<ObjectType, ImmutablePrimitiveArray, IntermediateArrayBuilder> {
 
+    /**
+     * Running estimate of sizes of arrays produced, used for pre-sizing
+     * builders: see {@link SizeHint}.
+     *
+     * @since 3.1
+     */
+    protected transient int _sizeHint;
+
     protected BaseImmutableArrayDeserializer(Class<? extends ImmutablePrimitiveArray> cls, Class<? super ObjectType> itemType) {
         super(cls, itemType);
     }
@@ -20,4 +41,51 @@ public abstract class BaseImmutableArrayDeserializer<ObjectType, ImmutablePrimit
     protected abstract void collect(IntermediateArrayBuilder intermediateBuilder, ObjectType value);
 
     protected abstract ObjectType asPrimitive(JsonParser parser) throws JacksonException;
+
+    @Override
+    public ImmutablePrimitiveArray deserialize(JsonParser parser, DeserializationContext context)
+            throws JacksonException {
+        if ((packedElementSize() > 0)
+                && (parser.hasToken(JsonToken.VALUE_STRING)
+                        || parser.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT))) {
+            return _deserializePacked(parser, context);
+        }
+        return super.deserialize(parser, context);
+    }
+
+    /**
+     * Size of a single element in packed binary representation, in bytes;
+     * or {@code 0} if packed representation is not supported.
+     *
+     * @since 3.1
+     */
+    protected abstract int packedElementSize();
+
+    /**
+     * Method called to construct array from packed binary representation
+     * (unless {@link #packedElementSize()} returns {@code 0}).
+     *
+     * @param packed Buffer positioned at the first element
+     * @param count Number of elements to read
+     *
+     * @since 3.1
+     */
+    protected abstract ImmutablePrimitiveArray fromPacked(ByteBuffer packed, int count);
+
+    protected ImmutablePrimitiveArray _deserializePacked(JsonParser parser, DeserializationContext context)
+            throws JacksonException {
+        final byte[] packed = parser.getBinaryValue(context.getBase64Variant());
+        final int elementSize = packedElementSize();
+        if ((packed.length % elementSize) != 0) {
+            context.reportInputMismatch(this,
+                    "Problem deserializing %s: packed binary length (%d) not a multiple of element size (%d)",
+                    handledType().getName(), packed.length, elementSize);
+        }
+        final int count = packed.length / elementSize;
+        final int maxElements = CollectionLimits.maxElements(context, parser);
+        if (count > maxElements) {
+            return CollectionLimits.reportTooManyElements(context, this, maxElements);
+        }
+        return fromPacked(ByteBuffer.wrap(packed), count);
+    }
 }
@@ -2,10 +2,14 @@ package tools.jackson.datatype.guava.deser.primitives;
 
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 import tools.jackson.datatype.guava.util.PrimitiveTypes;
 
 import com.google.common.primitives.Chars;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -24,4 +28,35 @@ public class CharsPrimitiveCollectionDeserializer
     protected List<Character> finish(Collection<Character> characters) {
         return Chars.asList(Chars.toArray(characters));
     }
+
+    /**
+     * Overridden to collect values in a primitive {@code char[]} buffer
+     * (instead of boxing them into an intermediate collection); String values
+     * are accessed without constructing {@link String} instances.
+     *
+     * @since 3.1
+     */
+    @Override
+    protected List<Character> _deserializeContents(JsonParser parser, DeserializationContext context)
+            throws JacksonException {
+        char[] buffer = new char[16];
+        int ix = 0;
+        JsonToken t;
+        final int maxElements = CollectionLimits.maxElements(context, parser);
+        int elements = 0;
+        while ((t = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(context, this, maxElements);
+            }
+            if (ix >= buffer.length) {
+                buffer = Arrays.copyOf(buffer, ix + (ix >> 1));
+            }
+            if ((t == JsonToken.VALUE_STRING) && (parser.getStringLength() > 0)) {
+                buffer[ix++] = parser.getStringCharacters()[parser.getStringOffset()];
+            } else {
+                buffer[ix++] = asPrimitive(parser);
+            }
+        }
+        return Chars.asList(Arrays.copyOf(buffer, ix));
+    }
 }
@@ -2,6 +2,10 @@ package tools.jackson.datatype.guava.deser.primitives;
 
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.databind.util.ArrayBuilders;
 import tools.jackson.datatype.guava.util.PrimitiveTypes;
 
 import com.google.common.primitives.Floats;
@@ -24,4 +28,32 @@ public class FloatsPrimitiveCollectionDeserializer
     protected List<Float> finish(Collection<Float> floats) {
         return Floats.asList(Floats.toArray(floats));
     }
+
+    /**
+     * Overridden to collect values in a primitive {@code float[]} buffer
+     * (instead of boxing them into an intermediate collection); exact-size
+     * result array is wrapped without further copying.
+     *
+     * @since 3.1
+     */
+    @Override
+    protected List<Float> _deserializeContents(JsonParser parser, DeserializationContext context)
+            throws JacksonException {
+        final ArrayBuilders.FloatBuilder builder = context.getArrayBuilders().getFloatBuilder();
+        float[] chunk = builder.resetAndStart();
+        int ix = 0;
+        final int maxElements = CollectionLimits.maxElements(context, parser);
+        int elements = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(context, this, maxElements);
+            }
+            if (ix >= chunk.length) {
+                chunk = builder.appendCompletedChunk(chunk, ix);
+                ix = 0;
+            }
+            chunk[ix++] = parser.getFloatValue();
+        }
+        return Floats.asList(builder.completeAndClearBuffer(chunk, ix));
+    }
 }
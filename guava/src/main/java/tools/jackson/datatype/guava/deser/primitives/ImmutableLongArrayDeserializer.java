@@ -1,7 +1,13 @@
 package tools.jackson.datatype.guava.deser.primitives;
 
+import java.nio.ByteBuffer;
+
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
 import tools.jackson.datatype.guava.util.ImmutablePrimitiveTypes;
 
 import com.google.common.primitives.ImmutableLongArray;
@@ -31,4 +37,41 @@ public class ImmutableLongArrayDeserializer
     protected Long asPrimitive(JsonParser parser) throws JacksonException {
         return parser.getLongValue();
     }
+
+    /**
+     * Overridden to append unboxed values directly to a builder pre-sized using
+     * size estimate; result is trimmed to exact size if estimate was off.
+     *
+     * @since 3.1
+     */
+    @Override
+    protected ImmutableLongArray _deserializeContents(JsonParser parser, DeserializationContext context)
+            throws JacksonException {
+        final ImmutableLongArray.Builder builder = ImmutableLongArray.builder(_sizeHint);
+        final int maxElements = CollectionLimits.maxElements(context, parser);
+        int elements = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(context, this, maxElements);
+            }
+            builder.add(parser.getLongValue());
+        }
+        final ImmutableLongArray result = builder.build();
+        _sizeHint = SizeHint.next(_sizeHint, result.length());
+        return result.trimmed();
+    }
+
+    @Override
+    protected int packedElementSize() {
+        return Long.BYTES;
+    }
+
+    @Override
+    protected ImmutableLongArray fromPacked(ByteBuffer packed, int count) {
+        final ImmutableLongArray.Builder builder = ImmutableLongArray.builder(count);
+        for (int i = 0; i < count; ++i) {
+            builder.add(packed.getLong());
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,188 @@
+package tools.jackson.datatype.guava.deser.table;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.NullValueProvider;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.MapLikeType;
+import tools.jackson.databind.util.ClassUtil;
+import tools.jackson.datatype.guava.TableShape;
+
+import com.google.common.collect.ArrayTable;
+import com.google.common.collect.HashBasedTable;
+
+/**
+ * Provides deserialization for the Guava ArrayTable class.
+ *<p>
+ * Columnar input ({@link TableShape#COLUMNAR}) is read directly into
+ * {@link ArrayTable#create(Iterable, Iterable)} using index-based
+ * {@link ArrayTable#set}; other shapes are first collected to determine
+ * row and column keys. Since every row and column key pair has a cell,
+ * {@code null} values are accepted as missing cells in all shapes.
+ *
+ * @since 3.1
+ */
+public class ArrayTableDeserializer
+    extends TableDeserializer<ArrayTable<Object, Object, Object>>
+{
+    private static final long serialVersionUID = 1L;
+
+    // Value types for which numbers may be read without value deserializer
+    private final static int NUMBER_NONE = 0;
+    private final static int NUMBER_INT = 1;
+    private final static int NUMBER_LONG = 2;
+    private final static int NUMBER_DOUBLE = 3;
+
+    protected final int _numberType;
+
+    public ArrayTableDeserializer(MapLikeType type, TableShape defaultShape) {
+        super(type, defaultShape);
+        _numberType = NUMBER_NONE;
+    }
+
+    public ArrayTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
+        KeyDeserializer columnDeserializer, TypeDeserializer valueTypeDeserializer,
+        ValueDeserializer<?> valueDeserializer, NullValueProvider nvp,
+        TableShape defaultShape, ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
+        super(type, rowDeserializer, columnDeserializer, valueTypeDeserializer,
+            valueDeserializer, nvp, defaultShape, rvd, cvd
+        );
+        _numberType = _findNumberType();
+    }
+
+    private int _findNumberType() {
+        if ((_valueTypeDeserializer != null)
+                || !ClassUtil.isJacksonStdImpl(_valueDeserializer)) {
+            return NUMBER_NONE;
+        }
+        final Class<?> raw = _type.getContentType().getContentType().getRawClass();
+        if (raw == Double.class) {
+            return NUMBER_DOUBLE;
+        }
+        if (raw == Long.class) {
+            return NUMBER_LONG;
+        }
+        if (raw == Integer.class) {
+            return NUMBER_INT;
+        }
+        return NUMBER_NONE;
+    }
+
+    @Override
+    protected ValueDeserializer<?> _createContextual(MapLikeType type,
+        KeyDeserializer rowDeserializer,
+        KeyDeserializer columnDeserializer, TypeDeserializer valueTypeDeserializer,
+        ValueDeserializer<?> valueDeserializer, NullValueProvider nvp,
+        ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
+        return new ArrayTableDeserializer(type, rowDeserializer, columnDeserializer,
+                valueTypeDeserializer, valueDeserializer, nvp,
+                _defaultShape, rvd, cvd);
+    }
+
+    @Override
+    public ArrayTable<Object, Object, Object> deserialize(JsonParser p,
+        DeserializationContext ctxt)
+    {
+        ArrayTableBuilder builder = new ArrayTableBuilder(ctxt);
+        _deserializeCells(p, ctxt, builder);
+        return builder.build();
+    }
+
+    @Override
+    protected Object _deserializeValue(JsonParser p, DeserializationContext ctxt)
+    {
+        // Dense numeric grids are common enough to warrant a shortcut
+        switch (_numberType) {
+        case NUMBER_DOUBLE:
+            if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+                return p.getDoubleValue();
+            }
+            break;
+        case NUMBER_LONG:
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)
+                    && (p.getNumberType() != JsonParser.NumberType.BIG_INTEGER)) {
+                return p.getLongValue();
+            }
+            break;
+        case NUMBER_INT:
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)
+                    && (p.getNumberType() == JsonParser.NumberType.INT)) {
+                return p.getIntValue();
+            }
+            break;
+        default:
+        }
+        return super._deserializeValue(p, ctxt);
+    }
+
+    /**
+     * Helper class that either fills {@link ArrayTable} directly (for columnar
+     * input), or collects cells to create one from at the end.
+     */
+    private final class ArrayTableBuilder implements CellConsumer
+    {
+        private final DeserializationContext _context;
+
+        private ArrayTable<Object, Object, Object> _table;
+
+        private HashBasedTable<Object, Object, Object> _cells;
+
+        private Set<Object> _rowKeys, _columnKeys;
+
+        ArrayTableBuilder(DeserializationContext ctxt) {
+            _context = ctxt;
+        }
+
+        @Override
+        public void startMatrix(Object[] rowKeys, Object[] columnKeys) {
+            try {
+                _table = ArrayTable.create(Arrays.asList(rowKeys), Arrays.asList(columnKeys));
+            } catch (IllegalArgumentException e) {
+                _context.reportInputMismatch(ArrayTableDeserializer.this,
+                        "Problem deserializing %s: %s",
+                        handledType().getName(), e.getMessage());
+            }
+        }
+
+        @Override
+        public void acceptAt(int rowIndex, int columnIndex,
+                Object rowKey, Object columnKey, Object value) {
+            _table.set(rowIndex, columnIndex, value);
+        }
+
+        @Override
+        public void accept(Object rowKey, Object columnKey, Object value) {
+            if (_cells == null) {
+                _cells = HashBasedTable.create();
+                _rowKeys = new LinkedHashSet<>();
+                _columnKeys = new LinkedHashSet<>();
+            }
+            // null cells are just missing ones, but their keys still belong to the table
+            _rowKeys.add(rowKey);
+            _columnKeys.add(columnKey);
+            if (value != null) {
+                _cells.put(rowKey, columnKey, value);
+            }
+        }
+
+        public ArrayTable<Object, Object, Object> build() {
+            if (_table != null) {
+                return _table;
+            }
+            if (_cells != null) {
+                ArrayTable<Object, Object, Object> table = ArrayTable.create(_rowKeys, _columnKeys);
+                table.putAll(_cells);
+                return table;
+            }
+            return ArrayTable.create(Arrays.asList(), Arrays.asList());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import tools.jackson.databind.KeyDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.MapLikeType;
+import tools.jackson.datatype.guava.TableShape;
 
 import com.google.common.collect.HashBasedTable;
 
@@ -19,6 +20,13 @@ public class HashBasedTableDeserializer
     public HashBasedTableDeserializer(MapLikeType type) {
         super(type);
     }
+
+    /**
+     * @since 3.1
+     */
+    public HashBasedTableDeserializer(MapLikeType type, TableShape defaultShape) {
+        super(type, defaultShape);
+    }
     
     public HashBasedTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
         KeyDeserializer columnDeserializer, TypeDeserializer elementTypeDeserializer,
@@ -27,6 +35,18 @@ public class HashBasedTableDeserializer
             elementDeserializer, nvp
         );
     }
+
+    /**
+     * @since 3.1
+     */
+    public HashBasedTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
+        KeyDeserializer columnDeserializer, TypeDeserializer elementTypeDeserializer,
+        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp,
+        TableShape defaultShape, ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
+        super(type, rowDeserializer, columnDeserializer, elementTypeDeserializer,
+            elementDeserializer, nvp, defaultShape, rvd, cvd
+        );
+    }
     
     @Override
     protected HashBasedTable<Object, Object, Object> createTable() {
@@ -37,8 +57,10 @@ public class HashBasedTableDeserializer
     protected ValueDeserializer<?> _createContextual(MapLikeType type,
         KeyDeserializer rowDeserializer,
         KeyDeserializer columnDeserializer, TypeDeserializer typeDeserializer,
-        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp) {
+        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp,
+        ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
         return new HashBasedTableDeserializer(type,
-                rowDeserializer, columnDeserializer, typeDeserializer, elementDeserializer, nvp);
+                rowDeserializer, columnDeserializer, typeDeserializer, elementDeserializer, nvp,
+                _defaultShape, rvd, cvd);
     }
 }
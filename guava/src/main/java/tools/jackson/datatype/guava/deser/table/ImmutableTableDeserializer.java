@@ -1,7 +1,6 @@
 package tools.jackson.datatype.guava.deser.table;
 
 import tools.jackson.core.JsonParser;
-import tools.jackson.core.JsonToken;
 
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ValueDeserializer;
@@ -10,6 +9,7 @@ import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.MapLikeType;
 import tools.jackson.databind.util.AccessPattern;
+import tools.jackson.datatype.guava.TableShape;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableTable;
@@ -25,6 +25,13 @@ public class ImmutableTableDeserializer
     public ImmutableTableDeserializer(MapLikeType type) {
         super(type);
     }
+
+    /**
+     * @since 3.1
+     */
+    public ImmutableTableDeserializer(MapLikeType type, TableShape defaultShape) {
+        super(type, defaultShape);
+    }
     
     protected ImmutableTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
         KeyDeserializer colDeserializer, ValueDeserializer<?> valueDeserializer,
@@ -33,6 +40,18 @@ public class ImmutableTableDeserializer
             nuller
         );
     }
+
+    /**
+     * @since 3.1
+     */
+    protected ImmutableTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
+        KeyDeserializer colDeserializer, ValueDeserializer<?> valueDeserializer,
+        TypeDeserializer valueTypeDeserializer, NullValueProvider nuller,
+        TableShape defaultShape, ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
+        super(type, rowDeserializer, colDeserializer, valueTypeDeserializer, valueDeserializer,
+            nuller, defaultShape, rvd, cvd
+        );
+    }
     
     @Override
     public AccessPattern getEmptyAccessPattern() {
@@ -55,51 +74,7 @@ public class ImmutableTableDeserializer
         DeserializationContext ctxt)
     {
         ImmutableTable.Builder<Object, Object, Object> table = createBuilder();
-        
-        JsonToken currToken = p.currentToken();
-        if (currToken != JsonToken.PROPERTY_NAME && currToken != JsonToken.END_OBJECT) {
-            expect(ctxt, JsonToken.START_OBJECT, currToken);
-            currToken = p.nextToken();
-        }
-        
-        for (; currToken == JsonToken.PROPERTY_NAME; currToken = p.nextToken()) {
-            final Object rowKey;
-            if (_rowDeserializer != null) {
-                rowKey = _rowDeserializer.deserializeKey(p.currentName(), ctxt);
-            } else {
-                rowKey = p.currentName();
-            }
-            
-            currToken = p.nextToken();
-            expect(ctxt, JsonToken.START_OBJECT, currToken);
-            
-            for (
-                currToken = p.nextToken(); currToken == JsonToken.PROPERTY_NAME;
-                currToken = p.nextToken()) {
-                final Object colKey;
-                if (_colDeserializer != null) {
-                    colKey = _colDeserializer.deserializeKey(p.currentName(), ctxt);
-                } else {
-                    colKey = p.currentName();
-                }
-                
-                p.nextToken();
-                
-                final Object value;
-                if (p.currentToken() == JsonToken.VALUE_NULL) {
-                    if (_skipNullValues) {
-                        continue;
-                    }
-                    value = _nullProvider.getNullValue(ctxt);
-                } else if (_valueTypeDeserializer != null) {
-                    value = _valueDeserializer.deserializeWithType(p, ctxt, _valueTypeDeserializer);
-                } else {
-                    value = _valueDeserializer.deserialize(p, ctxt);
-                }
-                table.put(rowKey, colKey, value);
-            }
-            expect(ctxt, JsonToken.END_OBJECT, p.currentToken());
-        }
+        _deserializeCells(p, ctxt, table::put);
         return table.build();
     }
     
@@ -107,9 +82,11 @@ public class ImmutableTableDeserializer
     protected ValueDeserializer<?> _createContextual(MapLikeType type,
         KeyDeserializer rowDeserializer,
         KeyDeserializer columnDeserializer, TypeDeserializer valueTypeDeserializer,
-        ValueDeserializer<?> valueDeserializer, NullValueProvider nullValueProvider) {
+        ValueDeserializer<?> valueDeserializer, NullValueProvider nullValueProvider,
+        ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
         return new ImmutableTableDeserializer(type, rowDeserializer, columnDeserializer,
-            valueDeserializer, valueTypeDeserializer, nullValueProvider
+            valueDeserializer, valueTypeDeserializer, nullValueProvider,
+            _defaultShape, rvd, cvd
         );
     }
 }
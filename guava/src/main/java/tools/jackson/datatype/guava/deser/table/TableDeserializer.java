@@ -1,6 +1,11 @@
 package tools.jackson.datatype.guava.deser.table;
 
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
 
 import tools.jackson.databind.*;
@@ -9,10 +14,16 @@ import tools.jackson.databind.deser.impl.NullsConstantProvider;
 import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.MapLikeType;
+import tools.jackson.datatype.guava.TableShape;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.Table;
 
 /**
+ * Base class for Guava {@link Table} deserializers. Accepts all shapes
+ * defined by {@link TableShape}: nested JSON Objects, JSON Array of cells,
+ * and columnar JSON Object (detected by its JSON Array valued properties).
+ *
  * @author Abhishekkr3003
  */
 public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
@@ -27,7 +38,26 @@ public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
     // since 2.9.5: in 3.x demote to `ContainerDeserializerBase`
     protected final NullValueProvider _nullProvider;
     protected final boolean _skipNullValues;
-    
+
+    /**
+     * Configured default shape: used to determine whether value deserializers
+     * for row and column keys are to be resolved eagerly.
+     *
+     * @since 3.1
+     */
+    protected final TableShape _defaultShape;
+
+    /**
+     * Deserializers for row and column keys written as values, used with
+     * {@link TableShape#CELLS} and {@link TableShape#COLUMNAR} input.
+     * Resolved during contextualization if alternate shape is expected;
+     * otherwise located lazily if and when such input is encountered.
+     *
+     * @since 3.1
+     */
+    protected final ValueDeserializer<Object> _rowValueDeserializer;
+    protected final ValueDeserializer<Object> _colValueDeserializer;
+
     protected TableDeserializer(MapLikeType _type, KeyDeserializer _rowDeserializer,
         KeyDeserializer _colDeserializer, TypeDeserializer _valueTypeDeserializer,
         ValueDeserializer<?> _valueDeserializer) {
@@ -40,6 +70,19 @@ public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
     protected TableDeserializer(MapLikeType _type, KeyDeserializer _rowDeserializer,
         KeyDeserializer _colDeserializer, TypeDeserializer _valueTypeDeserializer,
         ValueDeserializer<?> _valueDeserializer, NullValueProvider nvp) {
+        this(_type, _rowDeserializer, _colDeserializer, _valueTypeDeserializer, _valueDeserializer,
+            nvp, null, null, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    protected TableDeserializer(MapLikeType _type, KeyDeserializer _rowDeserializer,
+        KeyDeserializer _colDeserializer, TypeDeserializer _valueTypeDeserializer,
+        ValueDeserializer<?> _valueDeserializer, NullValueProvider nvp,
+        TableShape defaultShape,
+        ValueDeserializer<?> rowValueDeserializer, ValueDeserializer<?> colValueDeserializer) {
         super(_type);
         this._type = _type;
         this._rowDeserializer = _rowDeserializer;
@@ -48,9 +91,19 @@ public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
         this._valueDeserializer = _valueDeserializer;
         this._nullProvider = nvp;
         _skipNullValues = (nvp == null) ? false : NullsConstantProvider.isSkipper(nvp);
+        _defaultShape = defaultShape;
+        _rowValueDeserializer = (ValueDeserializer<Object>) rowValueDeserializer;
+        _colValueDeserializer = (ValueDeserializer<Object>) colValueDeserializer;
     }
     
     protected TableDeserializer(MapLikeType type) {
+        this(type, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    protected TableDeserializer(MapLikeType type, TableShape defaultShape) {
         super(type);
         _type = type;
         _rowDeserializer = null;
@@ -59,6 +112,9 @@ public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
         _valueTypeDeserializer = null;
         _nullProvider = null;
         _skipNullValues = false;
+        _defaultShape = defaultShape;
+        _rowValueDeserializer = null;
+        _colValueDeserializer = null;
     }
     
     /**
@@ -90,13 +146,307 @@ public abstract class TableDeserializer<T extends Table<Object, Object, Object>>
         if (vtd != null) {
             vtd = vtd.forProperty(property);
         }
+        // Alternate shapes have keys as values; only resolve deserializers if expected
+        ValueDeserializer<?> rvd = _rowValueDeserializer;
+        ValueDeserializer<?> cvd = _colValueDeserializer;
+        final JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (TableShape.from(property, format.getShape(), _defaultShape) != TableShape.NESTED) {
+            if (rvd == null) {
+                rvd = ctxt.findContextualValueDeserializer(_type.getKeyType(), property);
+            }
+            if (cvd == null) {
+                cvd = ctxt.findContextualValueDeserializer(columnValueType.getKeyType(), property);
+            }
+        }
         return _createContextual(_type,
-                rkd, ckd, vtd, valueDeser, findContentNullProvider(ctxt, property, valueDeser));
+                rkd, ckd, vtd, valueDeser, findContentNullProvider(ctxt, property, valueDeser),
+                rvd, cvd);
     }
     
+    /**
+     * @since 3.1
+     */
     protected abstract ValueDeserializer<?> _createContextual(MapLikeType t, KeyDeserializer rkd,
-        KeyDeserializer ckd, TypeDeserializer vtd, ValueDeserializer<?> vd, NullValueProvider np);
-    
+        KeyDeserializer ckd, TypeDeserializer vtd, ValueDeserializer<?> vd, NullValueProvider np,
+        ValueDeserializer<?> rvd, ValueDeserializer<?> cvd);
+
+    /*
+    /**********************************************************************
+    /* Shared reading of all supported shapes
+    /**********************************************************************
+     */
+
+    /**
+     * Callback used for adding deserialized cells into table (or builder)
+     * being constructed.
+     *
+     * @since 3.1
+     */
+    @FunctionalInterface
+    protected interface CellConsumer {
+        void accept(Object rowKey, Object columnKey, Object value);
+
+        /**
+         * Called for columnar input once both row and column keys have been
+         * read, before any of the values.
+         */
+        default void startMatrix(Object[] rowKeys, Object[] columnKeys) { }
+
+        /**
+         * Called for columnar input for each non-null value, with indexes
+         * of row and column keys.
+         */
+        default void acceptAt(int rowIndex, int columnIndex,
+                Object rowKey, Object columnKey, Object value) {
+            accept(rowKey, columnKey, value);
+        }
+    }
+
+    /**
+     * Method that reads table contents in any of supported shapes, passing
+     * cells to given consumer. Expects parser to point to START_OBJECT,
+     * START_ARRAY or (for polymorphic handling) first PROPERTY_NAME.
+     *
+     * @since 3.1
+     */
+    protected void _deserializeCells(JsonParser p, DeserializationContext ctxt,
+            CellConsumer cells)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_ARRAY) {
+            _deserializeCellList(p, ctxt, cells);
+            return;
+        }
+        if (t != JsonToken.PROPERTY_NAME && t != JsonToken.END_OBJECT) {
+            expect(ctxt, JsonToken.START_OBJECT, t);
+            t = p.nextToken();
+        }
+        if (t == JsonToken.PROPERTY_NAME) {
+            // Nested shape only has Object values, so Array means columnar shape
+            if (p.nextToken() == JsonToken.START_ARRAY) {
+                _deserializeColumnar(p, ctxt, cells);
+                return;
+            }
+            _deserializeNested(p, ctxt, cells);
+        }
+    }
+
+    /**
+     * Method for reading {@link TableShape#NESTED} contents; called with parser
+     * pointing to START_OBJECT of the first row.
+     */
+    private void _deserializeNested(JsonParser p, DeserializationContext ctxt,
+            CellConsumer cells)
+        throws JacksonException
+    {
+        JsonToken currToken = p.currentToken();
+        while (true) {
+            final Object rowKey;
+            if (_rowDeserializer != null) {
+                rowKey = _rowDeserializer.deserializeKey(p.currentName(), ctxt);
+            } else {
+                rowKey = p.currentName();
+            }
+            
+            expect(ctxt, JsonToken.START_OBJECT, currToken);
+            
+            for (
+                currToken = p.nextToken(); currToken == JsonToken.PROPERTY_NAME;
+                currToken = p.nextToken()) {
+                final Object colKey;
+                if (_colDeserializer != null) {
+                    colKey = _colDeserializer.deserializeKey(p.currentName(), ctxt);
+                } else {
+                    colKey = p.currentName();
+                }
+                
+                p.nextToken();
+                
+                final Object value;
+                if (p.currentToken() == JsonToken.VALUE_NULL) {
+                    if (_skipNullValues) {
+                        CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
+                        continue;
+                    }
+                    value = _nullProvider.getNullValue(ctxt);
+                } else {
+                    value = _deserializeValue(p, ctxt);
+                }
+                cells.accept(rowKey, colKey, value);
+            }
+            expect(ctxt, JsonToken.END_OBJECT, p.currentToken());
+            if (p.nextToken() != JsonToken.PROPERTY_NAME) {
+                break;
+            }
+            currToken = p.nextToken();
+        }
+    }
+
+    /**
+     * Method for reading {@link TableShape#CELLS} contents; called with parser
+     * pointing to START_ARRAY.
+     */
+    private void _deserializeCellList(JsonParser p, DeserializationContext ctxt,
+            CellConsumer cells)
+        throws JacksonException
+    {
+        final ValueDeserializer<Object> rowDeser = _rowValueDeserializer(ctxt);
+        final ValueDeserializer<Object> colDeser = _colValueDeserializer(ctxt);
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            expect(ctxt, JsonToken.START_ARRAY, t);
+            p.nextToken();
+            final Object rowKey = rowDeser.deserialize(p, ctxt);
+            p.nextToken();
+            final Object colKey = colDeser.deserialize(p, ctxt);
+            t = p.nextToken();
+            final Object value;
+            if (t == JsonToken.VALUE_NULL) {
+                value = null;
+            } else {
+                value = _deserializeValue(p, ctxt);
+            }
+            expect(ctxt, JsonToken.END_ARRAY, p.nextToken());
+            // Tables can not contain nulls; either skip or use replacement
+            if (value == null) {
+                if (_skipNullValues) {
+                    CollectionMetricsReporting.reportNullSkipped(ctxt, handledType());
+                    continue;
+                }
+                if (_nullProvider == null) {
+                    continue;
+                }
+                final Object nullValue = _nullProvider.getNullValue(ctxt);
+                if (nullValue != null) {
+                    cells.accept(rowKey, colKey, nullValue);
+                }
+                continue;
+            }
+            cells.accept(rowKey, colKey, value);
+        }
+    }
+
+    /**
+     * Method for reading {@link TableShape#COLUMNAR} contents; called with parser
+     * pointing to START_ARRAY value of the first property. Row and column keys
+     * must precede values; {@code null}s in value matrix denote missing cells.
+     */
+    private void _deserializeColumnar(JsonParser p, DeserializationContext ctxt,
+            CellConsumer cells)
+        throws JacksonException
+    {
+        Object[] rowKeys = null;
+        Object[] colKeys = null;
+        boolean valuesSeen = false;
+
+        JsonToken t = p.currentToken();
+        while (true) {
+            final String propName = p.currentName();
+            if (TableShape.PROP_ROWS.equals(propName)) {
+                expect(ctxt, JsonToken.START_ARRAY, t);
+                rowKeys = _deserializeKeys(p, ctxt, _rowValueDeserializer(ctxt));
+            } else if (TableShape.PROP_COLUMNS.equals(propName)) {
+                expect(ctxt, JsonToken.START_ARRAY, t);
+                colKeys = _deserializeKeys(p, ctxt, _colValueDeserializer(ctxt));
+            } else if (TableShape.PROP_VALUES.equals(propName)) {
+                if (rowKeys == null || colKeys == null) {
+                    ctxt.reportInputMismatch(this, String.format(
+"Problem deserializing %s: '%s' must be preceded by '%s' and '%s'",
+                            handledType().getName(), TableShape.PROP_VALUES,
+                            TableShape.PROP_ROWS, TableShape.PROP_COLUMNS));
+                }
+                expect(ctxt, JsonToken.START_ARRAY, t);
+                _deserializeMatrix(p, ctxt, rowKeys, colKeys, cells);
+                valuesSeen = true;
+            } else {
+                ctxt.handleUnknownProperty(p, this, handledType(), propName);
+            }
+            t = p.nextToken();
+            if (t != JsonToken.PROPERTY_NAME) {
+                expect(ctxt, JsonToken.END_OBJECT, t);
+                break;
+            }
+            t = p.nextToken();
+        }
+        if (!valuesSeen && (rowKeys != null) && (rowKeys.length > 0)) {
+            ctxt.reportInputMismatch(this, String.format(
+                    "Problem deserializing %s: missing '%s'",
+                    handledType().getName(), TableShape.PROP_VALUES));
+        }
+    }
+
+    private void _deserializeMatrix(JsonParser p, DeserializationContext ctxt,
+            Object[] rowKeys, Object[] colKeys, CellConsumer cells)
+        throws JacksonException
+    {
+        cells.startMatrix(rowKeys, colKeys);
+        int row = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            expect(ctxt, JsonToken.START_ARRAY, t);
+            if (row >= rowKeys.length) {
+                ctxt.reportInputMismatch(this, String.format(
+                        "Problem deserializing %s: more value rows than the %d row keys",
+                        handledType().getName(), rowKeys.length));
+            }
+            final int rowIndex = row++;
+            final Object rowKey = rowKeys[rowIndex];
+            int col = 0;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (col >= colKeys.length) {
+                    ctxt.reportInputMismatch(this, String.format(
+                            "Problem deserializing %s: more values than the %d column keys",
+                            handledType().getName(), colKeys.length));
+                }
+                final int colIndex = col++;
+                if (t == JsonToken.VALUE_NULL) { // missing cell
+                    continue;
+                }
+                cells.acceptAt(rowIndex, colIndex, rowKey, colKeys[colIndex],
+                        _deserializeValue(p, ctxt));
+            }
+        }
+    }
+
+    private Object[] _deserializeKeys(JsonParser p, DeserializationContext ctxt,
+            ValueDeserializer<Object> keyDeser)
+        throws JacksonException
+    {
+        Object[] keys = new Object[8];
+        int count = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count + (count >> 1));
+            }
+            keys[count++] = keyDeser.deserialize(p, ctxt);
+        }
+        return (count == keys.length) ? keys : Arrays.copyOf(keys, count);
+    }
+
+    protected Object _deserializeValue(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (_valueTypeDeserializer != null) {
+            return _valueDeserializer.deserializeWithType(p, ctxt, _valueTypeDeserializer);
+        }
+        return _valueDeserializer.deserialize(p, ctxt);
+    }
+
+    private ValueDeserializer<Object> _rowValueDeserializer(DeserializationContext ctxt) {
+        if (_rowValueDeserializer != null) {
+            return _rowValueDeserializer;
+        }
+        return ctxt.findContextualValueDeserializer(_type.getKeyType(), null);
+    }
+
+    private ValueDeserializer<Object> _colValueDeserializer(DeserializationContext ctxt) {
+        if (_colValueDeserializer != null) {
+            return _colValueDeserializer;
+        }
+        return ctxt.findContextualValueDeserializer(_type.getContentType().getKeyType(), null);
+    }
+
 
     protected void expect(DeserializationContext context, JsonToken expected, JsonToken actual)
     {
@@ -5,6 +5,7 @@ import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.deser.NullValueProvider;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.MapLikeType;
+import tools.jackson.datatype.guava.TableShape;
 
 import com.google.common.collect.TreeBasedTable;
 
@@ -20,6 +21,13 @@ public class TreeBasedTableDeserializer
     public TreeBasedTableDeserializer(MapLikeType type) {
         super(type);
     }
+
+    /**
+     * @since 3.1
+     */
+    public TreeBasedTableDeserializer(MapLikeType type, TableShape defaultShape) {
+        super(type, defaultShape);
+    }
     
     public TreeBasedTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
         KeyDeserializer columnDeserializer, TypeDeserializer elementTypeDeserializer,
@@ -28,6 +36,18 @@ public class TreeBasedTableDeserializer
             elementDeserializer, nvp
         );
     }
+
+    /**
+     * @since 3.1
+     */
+    public TreeBasedTableDeserializer(MapLikeType type, KeyDeserializer rowDeserializer,
+        KeyDeserializer columnDeserializer, TypeDeserializer elementTypeDeserializer,
+        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp,
+        TableShape defaultShape, ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
+        super(type, rowDeserializer, columnDeserializer, elementTypeDeserializer,
+            elementDeserializer, nvp, defaultShape, rvd, cvd
+        );
+    }
     
     @SuppressWarnings("unchecked")
     @Override
@@ -40,8 +60,10 @@ public class TreeBasedTableDeserializer
     protected ValueDeserializer<?> _createContextual(MapLikeType type,
         KeyDeserializer rowDeserializer,
         KeyDeserializer columnDeserializer, TypeDeserializer typeDeserializer,
-        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp) {
+        ValueDeserializer<?> elementDeserializer, NullValueProvider nvp,
+        ValueDeserializer<?> rvd, ValueDeserializer<?> cvd) {
         return new TreeBasedTableDeserializer(
-            type, rowDeserializer, columnDeserializer, typeDeserializer, elementDeserializer, nvp);
+            type, rowDeserializer, columnDeserializer, typeDeserializer, elementDeserializer, nvp,
+            _defaultShape, rvd, cvd);
     }
 }
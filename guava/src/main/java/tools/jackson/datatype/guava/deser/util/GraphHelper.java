@@ -0,0 +1,90 @@
+package tools.jackson.datatype.guava.deser.util;
+
+import com.google.common.graph.Graph;
+import com.google.common.graph.Network;
+import com.google.common.graph.ValueGraph;
+
+/**
+ * Helper class with definitions shared by serializer and deserializer of
+ * Guava {@link Graph}, {@link ValueGraph} and {@link Network} values.
+ *<p>
+ * Graphs are written as a JSON Object with adjacency lists that refer to
+ * nodes by their index in the node table, like:
+ *<pre>
+ *  {"directed":true,"allowsSelfLoops":false,
+ *   "nodes":["a","b","c"],
+ *   "successors":[[1,2],[2],[]],
+ *   "values":[[0.5,1.0],[2.0],[]]}
+ *</pre>
+ * where {@link #PROP_VALUES} is only included for {@link ValueGraph}s
+ * and {@link #PROP_EDGES} (with {@link #PROP_ALLOWS_PARALLEL_EDGES}) only
+ * for {@link Network}s. For undirected graphs each edge is only listed once,
+ * for the node with lower index.
+ *
+ * @since 3.1
+ */
+public class GraphHelper
+{
+    public final static String PROP_DIRECTED = "directed";
+    public final static String PROP_ALLOWS_SELF_LOOPS = "allowsSelfLoops";
+    public final static String PROP_ALLOWS_PARALLEL_EDGES = "allowsParallelEdges";
+    public final static String PROP_NODES = "nodes";
+    public final static String PROP_SUCCESSORS = "successors";
+    public final static String PROP_VALUES = "values";
+    public final static String PROP_EDGES = "edges";
+
+    public final static int KIND_GRAPH = 1;
+    public final static int KIND_VALUE_GRAPH = 2;
+    public final static int KIND_NETWORK = 3;
+
+    private GraphHelper() { }
+
+    /**
+     * Helper method for determining which kind of graph given type is;
+     * returns {@code 0} if none.
+     */
+    public static int graphKind(Class<?> raw)
+    {
+        if (Graph.class.isAssignableFrom(raw)) {
+            return KIND_GRAPH;
+        }
+        if (ValueGraph.class.isAssignableFrom(raw)) {
+            return KIND_VALUE_GRAPH;
+        }
+        if (Network.class.isAssignableFrom(raw)) {
+            return KIND_NETWORK;
+        }
+        return 0;
+    }
+
+    /**
+     * Name of property that contains per-edge content for given kind of
+     * graph; {@code null} for plain {@link Graph}s.
+     */
+    public static String contentProperty(int kind)
+    {
+        switch (kind) {
+        case KIND_VALUE_GRAPH:
+            return PROP_VALUES;
+        case KIND_NETWORK:
+            return PROP_EDGES;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Declared graph interface for given kind, used to resolve type parameters.
+     */
+    public static Class<?> graphInterface(int kind)
+    {
+        switch (kind) {
+        case KIND_VALUE_GRAPH:
+            return ValueGraph.class;
+        case KIND_NETWORK:
+            return Network.class;
+        default:
+            return Graph.class;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package tools.jackson.datatype.guava.deser.util;
 
 import java.lang.reflect.Field;
-import java.util.regex.Pattern;
 
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
@@ -10,7 +9,6 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.cfg.MapperConfig;
 import tools.jackson.databind.introspect.AnnotatedField;
 import tools.jackson.databind.introspect.TypeResolutionContext;
-import tools.jackson.databind.util.ClassUtil;
 
 public class RangeHelper
 {
@@ -52,16 +50,83 @@ public class RangeHelper
         }
     }
 
+    /**
+     * Property name for compact {@link com.google.common.collect.RangeSet}
+     * representation where all ranges are closed-open: value is a flat JSON Array
+     * of lower and upper endpoints.
+     *
+     * @since 3.1
+     */
+    public final static String PROP_CLOSED_OPEN = "closedOpen";
+
+    /**
+     * Property name for compact {@link com.google.common.collect.RangeSet}
+     * representation with arbitrary ranges: value is a flat JSON Array with
+     * lower endpoint, upper endpoint and bound type bits (see {@link #BOUND_LOWER_CLOSED}
+     * and {@link #BOUND_UPPER_CLOSED}) for each range; {@code null} endpoint
+     * means that range is unbounded on that side.
+     *
+     * @since 3.1
+     */
+    public final static String PROP_RANGES = "ranges";
+
+    /**
+     * @since 3.1
+     */
+    public final static int BOUND_LOWER_CLOSED = 1;
+
+    /**
+     * @since 3.1
+     */
+    public final static int BOUND_UPPER_CLOSED = 2;
+
     private final static RangeProperties STD_NAMES = new RangeProperties();
 
     private final static Field[] FIELDS = STD_NAMES.fields();
 
-    private final static Pattern PATTERN_DOUBLE_DOT = Pattern.compile("\\.\\.");
-
     public static RangeProperties standardNames() {
         return STD_NAMES;
     }
 
+    /**
+     * Helper method for encoding bound types of given {@link Range} as bits
+     * used by compact representation.
+     *
+     * @since 3.1
+     */
+    public static int boundBits(Range<?> range)
+    {
+        int bits = 0;
+        if (range.hasLowerBound() && (range.lowerBoundType() == BoundType.CLOSED)) {
+            bits |= BOUND_LOWER_CLOSED;
+        }
+        if (range.hasUpperBound() && (range.upperBoundType() == BoundType.CLOSED)) {
+            bits |= BOUND_UPPER_CLOSED;
+        }
+        return bits;
+    }
+
+    /**
+     * Helper method for constructing {@link Range} from compact representation:
+     * {@code null} endpoint means that range is unbounded on that side.
+     *
+     * @since 3.1
+     */
+    public static <C extends Comparable<?>> Range<C> rangeFrom(C lower, C upper, int boundBits)
+    {
+        final BoundType lowerType = ((boundBits & BOUND_LOWER_CLOSED) != 0)
+                ? BoundType.CLOSED : BoundType.OPEN;
+        final BoundType upperType = ((boundBits & BOUND_UPPER_CLOSED) != 0)
+                ? BoundType.CLOSED : BoundType.OPEN;
+        if (lower == null) {
+            return (upper == null) ? RangeFactory.all() : RangeFactory.upTo(upper, upperType);
+        }
+        if (upper == null) {
+            return RangeFactory.downTo(lower, lowerType);
+        }
+        return RangeFactory.range(lower, lowerType, upper, upperType);
+    }
+
     public static RangeProperties getPropertyNames(MapperConfig<?> config, PropertyNamingStrategy pns) {
         if (pns == null) {
             return STD_NAMES;
@@ -81,68 +146,20 @@ public class RangeHelper
         return pns.nameForField(config, af, field.getName());
     }
 
+    /**
+     * Method for decoding bracket notation String into a {@link Range}.
+     *<p>
+     * NOTE: for repeated use, {@link RangeStringCodec} should be constructed
+     * (once) and used instead.
+     */
     public static Range<? extends Comparable> getRangeFromString(String rangeInterval,
             DeserializationContext context, KeyDeserializer fromStringDeserializer,
             JavaType rangeType, Class<?> targetClass)
     {
-        if (_isValidBracketNotation(rangeInterval)) {
-            BoundType lowerBoundType = rangeInterval.startsWith("[") ? BoundType.CLOSED : BoundType.OPEN;
-            BoundType upperBoundType = rangeInterval.endsWith("]") ? BoundType.CLOSED : BoundType.OPEN;
-
-            rangeInterval = rangeInterval.substring(1, rangeInterval.length() - 1);
-            String[] parts = PATTERN_DOUBLE_DOT.split(rangeInterval);
-
-            if (parts.length == 2) {
-                boolean isLowerInfinite = parts[0].equals("-∞");
-                boolean isUpperInfinite = parts[1].equals("+∞");
-
-                if (isLowerInfinite && isUpperInfinite) {
-                    return RangeFactory.all();
-                } else if (isLowerInfinite) {
-                    return RangeFactory.upTo(deserializeStringified(context, parts[1], fromStringDeserializer, rangeType), upperBoundType);
-                } else if (isUpperInfinite) {
-                    return RangeFactory.downTo(deserializeStringified(context, parts[0], fromStringDeserializer, rangeType), lowerBoundType);
-                } else {
-                    return RangeFactory.range(deserializeStringified(context, parts[0], fromStringDeserializer, rangeType),
-                            lowerBoundType,
-                            deserializeStringified(context, parts[1], fromStringDeserializer, rangeType),
-                            upperBoundType);
-                }
-            }
-        } else {
-            String msg = "Invalid Range: should start with '[' or '(', end with ')' or ']'";
-            return (Range<?>) context.handleWeirdStringValue(targetClass, rangeInterval, msg);
-        }
-
-        // Give generic failure if no specific reason can be given.
-        // Although most likely will happen because `..` is absent, since we are validating brackets above.
-        return (Range<?>) context.handleWeirdStringValue(targetClass, rangeInterval,
-                "Invalid bracket-notation representation (possibly missing \"..\" delimiter in your Stringified Range)");
-    }
-
-    private static Comparable<?> deserializeStringified(DeserializationContext context,
-            String value, KeyDeserializer fromStringDeserializer, JavaType rangeType)
-    {
-        Object obj = fromStringDeserializer.deserializeKey(value, context);
-        if (!(obj instanceof Comparable)) {
-            // 02-Jan-2024, tatu: Not sure this is possible but let's double-check
-            context.reportBadDefinition(rangeType,
-                    String.format(
-                            "Stringified endpoint '%s' deserialized to a %s, which does not implement `Comparable`",
-                            value,
-                            ClassUtil.classNameOf(obj)));
-        }
-        return (Comparable<?>) obj;
-    }
-
-
-    private static boolean _isValidBracketNotation(String range) {
-        if (range.isEmpty()) {
-            return false;
-        }
-        char first = range.charAt(0);
-        char last = range.charAt(range.length() - 1);
-
-        return (first == '[' || first == '(') && (last == ']' || last == ')');
+        @SuppressWarnings("unchecked")
+        Range<? extends Comparable<?>> range = (Range<? extends Comparable<?>>) RangeStringCodec
+                .construct(rangeType, fromStringDeserializer)
+                .decode(rangeInterval, context, targetClass);
+        return range;
     }
 }
@@ -0,0 +1,221 @@
+package tools.jackson.datatype.guava.deser.util;
+
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.deser.jdk.JDKKeyDeserializer;
+import tools.jackson.databind.ext.javatime.deser.key.InstantKeyDeserializer;
+import tools.jackson.databind.util.ClassUtil;
+
+/**
+ * Helper class for reading and writing Guava {@link Range}s using bracket
+ * notation, like {@code "[1..5)"} or {@code "(-∞..+∞)"}.
+ *<p>
+ * Decoding is done in a single pass without regular expressions; for common
+ * endpoint types ({@link Integer}, {@link Long}, {@link BigDecimal} and
+ * {@link Instant}) endpoints are decoded directly, as long as the default
+ * key deserializer would be used. Otherwise (and for invalid values, to get
+ * standard error reporting) configured {@link KeyDeserializer} is used.
+ * Choice of method is made once, when constructing codec instance.
+ *
+ * @since 3.1
+ */
+public class RangeStringCodec
+{
+    public final static String NEGATIVE_INFINITY = "-∞";
+    public final static String POSITIVE_INFINITY = "+∞";
+
+    private final static String DELIMITER = "..";
+
+    private final static int ENDPOINT_OTHER = 0;
+    private final static int ENDPOINT_INT = 1;
+    private final static int ENDPOINT_LONG = 2;
+    private final static int ENDPOINT_BIG_DECIMAL = 3;
+    private final static int ENDPOINT_INSTANT = 4;
+
+    protected final JavaType _rangeType;
+
+    /**
+     * Deserializer used for endpoints that have no direct decoding, as well as
+     * for reporting problems with ones that do.
+     */
+    protected final KeyDeserializer _endpointDeserializer;
+
+    protected final int _endpointKind;
+
+    protected RangeStringCodec(JavaType rangeType, KeyDeserializer endpointDeser,
+            int endpointKind)
+    {
+        _rangeType = rangeType;
+        _endpointDeserializer = endpointDeser;
+        _endpointKind = endpointKind;
+    }
+
+    /**
+     * Factory method for constructing codec for given {@link Range} type, using
+     * given (contextualized) endpoint key deserializer.
+     */
+    public static RangeStringCodec construct(JavaType rangeType, KeyDeserializer endpointDeser)
+    {
+        return new RangeStringCodec(rangeType, endpointDeser,
+                _endpointKind(rangeType, endpointDeser));
+    }
+
+    private static int _endpointKind(JavaType rangeType, KeyDeserializer kd)
+    {
+        // Fast paths only if default key deserializer would be used
+        final Class<?> raw = rangeType.containedTypeOrUnknown(0).getRawClass();
+        if (kd instanceof JDKKeyDeserializer) {
+            if (raw == Integer.class) {
+                return ENDPOINT_INT;
+            }
+            if (raw == Long.class) {
+                return ENDPOINT_LONG;
+            }
+            if (raw == BigDecimal.class) {
+                return ENDPOINT_BIG_DECIMAL;
+            }
+        } else if ((raw == Instant.class) && (kd instanceof InstantKeyDeserializer)) {
+            return ENDPOINT_INSTANT;
+        }
+        return ENDPOINT_OTHER;
+    }
+
+    /*
+    /**********************************************************************
+    /* Decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for decoding given bracket notation String into a {@link Range};
+     * problems are reported using {@code targetClass} as the type.
+     */
+    public Range<?> decode(String text, DeserializationContext ctxt, Class<?> targetClass)
+    {
+        final int end = text.length() - 1;
+        if ((end < 1) || !_isBracket(text.charAt(0), '[', '(')
+                || !_isBracket(text.charAt(end), ']', ')')) {
+            return (Range<?>) ctxt.handleWeirdStringValue(targetClass, text,
+                    "Invalid Range: should start with '[' or '(', end with ')' or ']'");
+        }
+        final int sep = text.indexOf(DELIMITER, 1);
+        final int upperStart = sep + DELIMITER.length();
+        // need exactly one delimiter within brackets, and something after it
+        if ((sep < 0) || (upperStart >= end)
+                || (text.indexOf(DELIMITER, upperStart) >= 0)) {
+            return (Range<?>) ctxt.handleWeirdStringValue(targetClass, text,
+                    "Invalid bracket-notation representation (possibly missing \"..\" delimiter in your Stringified Range)");
+        }
+        final BoundType lowerBoundType = (text.charAt(0) == '[') ? BoundType.CLOSED : BoundType.OPEN;
+        final BoundType upperBoundType = (text.charAt(end) == ']') ? BoundType.CLOSED : BoundType.OPEN;
+        final boolean isLowerInfinite = _matches(text, 1, sep, NEGATIVE_INFINITY);
+        final boolean isUpperInfinite = _matches(text, upperStart, end, POSITIVE_INFINITY);
+
+        if (isLowerInfinite) {
+            if (isUpperInfinite) {
+                return RangeFactory.all();
+            }
+            return RangeFactory.upTo(_decodeEndpoint(ctxt, text, upperStart, end), upperBoundType);
+        }
+        if (isUpperInfinite) {
+            return RangeFactory.downTo(_decodeEndpoint(ctxt, text, 1, sep), lowerBoundType);
+        }
+        return RangeFactory.range(_decodeEndpoint(ctxt, text, 1, sep), lowerBoundType,
+                _decodeEndpoint(ctxt, text, upperStart, end), upperBoundType);
+    }
+
+    protected Comparable<?> _decodeEndpoint(DeserializationContext ctxt, String text,
+            int start, int end)
+    {
+        try {
+            switch (_endpointKind) {
+            case ENDPOINT_INT:
+                return Integer.parseInt(text, start, end, 10);
+            case ENDPOINT_LONG:
+                return Long.parseLong(text, start, end, 10);
+            case ENDPOINT_BIG_DECIMAL:
+                return new BigDecimal(text.substring(start, end));
+            case ENDPOINT_INSTANT:
+                return DateTimeFormatter.ISO_INSTANT.parse(CharBuffer.wrap(text, start, end),
+                        Instant::from);
+            default:
+            }
+        } catch (NumberFormatException | DateTimeException e) {
+            // fall through to let key deserializer report the problem
+        }
+        return _decodeStringified(ctxt, text.substring(start, end));
+    }
+
+    private Comparable<?> _decodeStringified(DeserializationContext ctxt, String value)
+    {
+        Object obj = _endpointDeserializer.deserializeKey(value, ctxt);
+        if (!(obj instanceof Comparable)) {
+            // 02-Jan-2024, tatu: Not sure this is possible but let's double-check
+            ctxt.reportBadDefinition(_rangeType,
+                    String.format(
+                            "Stringified endpoint '%s' deserialized to a %s, which does not implement `Comparable`",
+                            value,
+                            ClassUtil.classNameOf(obj)));
+        }
+        return (Comparable<?>) obj;
+    }
+
+    private static boolean _isBracket(char c, char closed, char open) {
+        return (c == closed) || (c == open);
+    }
+
+    private static boolean _matches(String text, int start, int end, String expected) {
+        return ((end - start) == expected.length())
+                && text.startsWith(expected, start);
+    }
+
+    /*
+    /**********************************************************************
+    /* Encoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for encoding given {@link Range} using bracket notation.
+     */
+    public static String encode(Range<?> range)
+    {
+        StringBuilder sb = new StringBuilder(32);
+        if (range.hasLowerBound()) {
+            sb.append((range.lowerBoundType() == BoundType.CLOSED) ? '[' : '(');
+            _appendEndpoint(sb, range.lowerEndpoint());
+        } else {
+            sb.append('(').append(NEGATIVE_INFINITY);
+        }
+        sb.append(DELIMITER);
+        if (range.hasUpperBound()) {
+            _appendEndpoint(sb, range.upperEndpoint());
+            sb.append((range.upperBoundType() == BoundType.CLOSED) ? ']' : ')');
+        } else {
+            sb.append(POSITIVE_INFINITY).append(')');
+        }
+        return sb.toString();
+    }
+
+    private static void _appendEndpoint(StringBuilder sb, Object endpoint)
+    {
+        // avoid intermediate Strings for the most common endpoint types
+        if (endpoint instanceof Integer) {
+            sb.append(((Integer) endpoint).intValue());
+        } else if (endpoint instanceof Long) {
+            sb.append(((Long) endpoint).longValue());
+        } else {
+            sb.append(endpoint);
+        }
+    }
+}
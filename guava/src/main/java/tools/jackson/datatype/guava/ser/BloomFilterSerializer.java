@@ -0,0 +1,100 @@
+package tools.jackson.datatype.guava.ser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import com.google.common.hash.BloomFilter;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Serializer for Guava {@link BloomFilter}: written as a binary value
+ * (Base64-encoded String for textual formats) containing output of
+ * {@link BloomFilter#writeTo}.
+ *<p>
+ * Contents are written just once, into a buffer that is allocated with exact
+ * size as soon as the length prefix of serialized bit array has been written,
+ * and then handed to generator as-is.
+ *
+ * @since 3.1
+ */
+public class BloomFilterSerializer extends StdScalarSerializer<BloomFilter<?>>
+{
+    public final static BloomFilterSerializer std = new BloomFilterSerializer();
+
+    public BloomFilterSerializer() {
+        super(BloomFilter.class, false);
+    }
+
+    @Override
+    public void serialize(BloomFilter<?> value, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        final FilterBuffer buffer = new FilterBuffer();
+        try {
+            value.writeTo(buffer);
+        } catch (IOException e) { // should not occur with in-memory stream
+            throw JacksonIOException.construct(e, g);
+        }
+        g.writeBinary(ctxt.getConfig().getBase64Variant(), buffer.buffer, 0, buffer.count);
+    }
+
+    /**
+     * Helper stream for collecting serialized contents. Output of
+     * {@link BloomFilter#writeTo} starts with a fixed-size header that ends with
+     * the number of {@code long}s to follow, so buffer is only resized once,
+     * after the header.
+     */
+    private final static class FilterBuffer extends OutputStream
+    {
+        // Strategy ordinal (byte), number of hash functions (byte), number of longs (int)
+        private final static int HEADER_LENGTH = 6;
+
+        byte[] buffer = new byte[HEADER_LENGTH];
+        int count;
+
+        @Override
+        public void write(int b) {
+            _ensureCapacity(1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // header must be complete before buffer is resized
+            if ((count < HEADER_LENGTH) && (count + len > HEADER_LENGTH)) {
+                final int headerPart = HEADER_LENGTH - count;
+                write(b, off, headerPart);
+                off += headerPart;
+                len -= headerPart;
+            }
+            _ensureCapacity(len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        private void _ensureCapacity(int len) {
+            final int needed = count + len;
+            if (needed <= buffer.length) {
+                return;
+            }
+            // Should not need more than one resize, but just in case format changes
+            int newLength = Math.max(needed, buffer.length << 1);
+            if (buffer.length == HEADER_LENGTH) {
+                final int longs = ((buffer[2] & 0xFF) << 24) | ((buffer[3] & 0xFF) << 16)
+                        | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+                final long expected = HEADER_LENGTH + 8L * longs;
+                if ((expected >= needed) && (expected <= Integer.MAX_VALUE - 8)) {
+                    newLength = (int) expected;
+                }
+            }
+            buffer = Arrays.copyOf(buffer, newLength);
+        }
+    }
+}
@@ -23,6 +23,9 @@ import tools.jackson.databind.ser.jdk.MapProperty;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 import tools.jackson.databind.type.MapLikeType;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 import com.google.common.cache.Cache;
 
 /**
@@ -247,9 +250,13 @@ public class CacheSerializer
     public void serialize(Cache<?, ?> value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException
     {
+        final Object event = CollectionEvents.startSerialization();
         gen.writeStartObject(value);
         _writeContents(value, gen, ctxt);
         gen.writeEndObject();
+        if (event != null) {
+            CollectionEvents.finishSerialization(event, handledType(), value.size());
+        }
     }
     
     @Override
@@ -424,6 +431,7 @@ public class CacheSerializer
     {
         PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, ctxt, _property);
         // did we get a new map of serializers? If so, start using it
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type);
         if (map != result.map) {
             _dynamicValueSerializers = result.map;
         }
@@ -435,6 +443,7 @@ public class CacheSerializer
         throws JacksonException
     {
         PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, ctxt, _property);
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type.getRawClass());
         if (map != result.map) {
             _dynamicValueSerializers = result.map;
         }
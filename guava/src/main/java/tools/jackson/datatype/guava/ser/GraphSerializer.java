@@ -0,0 +1,355 @@
+package tools.jackson.datatype.guava.ser;
+
+import java.util.Map;
+import java.util.Set;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+
+import tools.jackson.databind.*;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.datatype.guava.deser.util.GraphHelper;
+
+import com.google.common.collect.Maps;
+import com.google.common.graph.EndpointPair;
+import com.google.common.graph.Graph;
+import com.google.common.graph.Network;
+import com.google.common.graph.ValueGraph;
+
+/**
+ * Serializer for Guava {@link Graph}, {@link ValueGraph} and {@link Network}
+ * values, using compact adjacency representation described in
+ * {@link GraphHelper}: nodes are written once, and edges as per-node arrays
+ * of successor node indexes.
+ *
+ * @since 3.1
+ */
+public class GraphSerializer
+    extends StdSerializer<Object>
+{
+    /**
+     * Declared graph type ({@link Graph}, {@link ValueGraph} or {@link Network}),
+     * used for resolving node and edge value/object types.
+     */
+    protected final JavaType _type;
+
+    protected final int _kind;
+
+    /**
+     * Serializer for nodes, if statically known; {@code null} if to be
+     * located dynamically.
+     */
+    protected final ValueSerializer<Object> _nodeSerializer;
+
+    /**
+     * Serializer for edge values ({@link ValueGraph}) or edge objects
+     * ({@link Network}), if statically known.
+     */
+    protected final ValueSerializer<Object> _contentSerializer;
+
+    public GraphSerializer(JavaType type)
+    {
+        super(type);
+        _kind = GraphHelper.graphKind(type.getRawClass());
+        _type = type.findSuperType(GraphHelper.graphInterface(_kind));
+        _nodeSerializer = null;
+        _contentSerializer = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected GraphSerializer(GraphSerializer base,
+            ValueSerializer<?> nodeSer, ValueSerializer<?> contentSer)
+    {
+        super(base);
+        _type = base._type;
+        _kind = base._kind;
+        _nodeSerializer = (ValueSerializer<Object>) nodeSer;
+        _contentSerializer = (ValueSerializer<Object>) contentSer;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt,
+            BeanProperty property)
+    {
+        ValueSerializer<?> nodeSer = _nodeSerializer;
+        if (nodeSer == null) {
+            nodeSer = _findSerializer(ctxt, _type.containedTypeOrUnknown(0), property);
+        } else {
+            nodeSer = ctxt.handleSecondaryContextualization(nodeSer, property);
+        }
+        ValueSerializer<?> contentSer = _contentSerializer;
+        if (contentSer == null) {
+            if (_kind != GraphHelper.KIND_GRAPH) {
+                contentSer = _findSerializer(ctxt, _type.containedTypeOrUnknown(1), property);
+            }
+        } else {
+            contentSer = ctxt.handleSecondaryContextualization(contentSer, property);
+        }
+        if ((nodeSer == _nodeSerializer) && (contentSer == _contentSerializer)) {
+            return this;
+        }
+        return new GraphSerializer(this, nodeSer, contentSer);
+    }
+
+    private ValueSerializer<?> _findSerializer(SerializationContext ctxt,
+            JavaType type, BeanProperty property)
+    {
+        // only resolve eagerly if type is final (and not "untyped")
+        if (type.isFinal() && !type.hasRawClass(Object.class)) {
+            return ctxt.findContentValueSerializer(type, property);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Object value) {
+        switch (_kind) {
+        case GraphHelper.KIND_VALUE_GRAPH:
+            return ((ValueGraph<?, ?>) value).nodes().isEmpty();
+        case GraphHelper.KIND_NETWORK:
+            return ((Network<?, ?>) value).nodes().isEmpty();
+        default:
+            return ((Graph<?>) value).nodes().isEmpty();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Main serialization methods
+    /**********************************************************************
+     */
+
+    @Override
+    public void serialize(Object value, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        g.writeStartObject(value);
+        _serializeContents(value, g, ctxt);
+        g.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator g,
+            SerializationContext ctxt, TypeSerializer typeSer)
+        throws JacksonException
+    {
+        g.assignCurrentValue(value);
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt,
+                typeSer.typeId(value, JsonToken.START_OBJECT));
+        _serializeContents(value, g, ctxt);
+        typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void _serializeContents(Object value, JsonGenerator g,
+            SerializationContext ctxt)
+        throws JacksonException
+    {
+        switch (_kind) {
+        case GraphHelper.KIND_VALUE_GRAPH:
+            {
+                final ValueGraph<Object, Object> graph = (ValueGraph<Object, Object>) value;
+                final Graph<Object> structure = graph.asGraph();
+                _writeFlags(g, graph.isDirected(), graph.allowsSelfLoops());
+                final Map<Object, Integer> index = _writeNodes(graph.nodes(), g, ctxt);
+                _writeSuccessors(structure, index, g);
+                _writeEdgeValues(graph, structure, index, g, ctxt);
+            }
+            break;
+        case GraphHelper.KIND_NETWORK:
+            {
+                final Network<Object, Object> network = (Network<Object, Object>) value;
+                _writeFlags(g, network.isDirected(), network.allowsSelfLoops());
+                g.writeName(GraphHelper.PROP_ALLOWS_PARALLEL_EDGES);
+                g.writeBoolean(network.allowsParallelEdges());
+                final Map<Object, Integer> index = _writeNodes(network.nodes(), g, ctxt);
+                _writeSuccessors(network, index, g);
+                _writeEdges(network, index, g, ctxt);
+            }
+            break;
+        default:
+            {
+                final Graph<Object> graph = (Graph<Object>) value;
+                _writeFlags(g, graph.isDirected(), graph.allowsSelfLoops());
+                _writeSuccessors(graph, _writeNodes(graph.nodes(), g, ctxt), g);
+            }
+        }
+    }
+
+    private void _writeFlags(JsonGenerator g, boolean directed, boolean allowsSelfLoops)
+        throws JacksonException
+    {
+        g.writeName(GraphHelper.PROP_DIRECTED);
+        g.writeBoolean(directed);
+        g.writeName(GraphHelper.PROP_ALLOWS_SELF_LOOPS);
+        g.writeBoolean(allowsSelfLoops);
+    }
+
+    /**
+     * Method for writing node table; returns mapping from nodes to their
+     * indexes.
+     */
+    protected Map<Object, Integer> _writeNodes(Set<Object> nodes, JsonGenerator g,
+            SerializationContext ctxt)
+        throws JacksonException
+    {
+        final int count = nodes.size();
+        final Map<Object, Integer> index = Maps.newHashMapWithExpectedSize(count);
+        g.writeName(GraphHelper.PROP_NODES);
+        g.writeStartArray(nodes, count);
+        for (Object node : nodes) {
+            index.put(node, index.size());
+            if (_nodeSerializer == null) {
+                ctxt.writeValue(g, node);
+            } else {
+                _nodeSerializer.serialize(node, g, ctxt);
+            }
+        }
+        g.writeEndArray();
+        return index;
+    }
+
+    /**
+     * Method for writing successor indexes of {@link Graph} (or structure of
+     * {@link ValueGraph}): one {@code int} array per node.
+     */
+    protected void _writeSuccessors(Graph<Object> graph, Map<Object, Integer> index,
+            JsonGenerator g)
+        throws JacksonException
+    {
+        final boolean directed = graph.isDirected();
+        final Set<Object> nodes = graph.nodes();
+        int[] buffer = new int[16];
+        int nodeIndex = 0;
+
+        g.writeName(GraphHelper.PROP_SUCCESSORS);
+        g.writeStartArray(nodes, nodes.size());
+        for (Object node : nodes) {
+            final Set<Object> adjacent = directed ? graph.successors(node) : graph.adjacentNodes(node);
+            if (buffer.length < adjacent.size()) {
+                buffer = new int[adjacent.size()];
+            }
+            int count = 0;
+            for (Object successor : adjacent) {
+                final int ix = index.get(successor);
+                // undirected edges are only listed for one of the nodes
+                if (directed || (ix >= nodeIndex)) {
+                    buffer[count++] = ix;
+                }
+            }
+            g.writeArray(buffer, 0, count);
+            ++nodeIndex;
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Method for writing edge values of {@link ValueGraph}, in the same order
+     * as successor indexes.
+     */
+    protected void _writeEdgeValues(ValueGraph<Object, Object> graph, Graph<Object> structure,
+            Map<Object, Integer> index, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        final boolean directed = graph.isDirected();
+        final Set<Object> nodes = graph.nodes();
+        int nodeIndex = 0;
+
+        g.writeName(GraphHelper.PROP_VALUES);
+        g.writeStartArray(nodes, nodes.size());
+        for (Object node : nodes) {
+            final Set<Object> adjacent = directed ? structure.successors(node)
+                    : structure.adjacentNodes(node);
+            g.writeStartArray(adjacent);
+            for (Object successor : adjacent) {
+                if (directed || (index.get(successor) >= nodeIndex)) {
+                    _writeContent(graph.edgeValueOrDefault(node, successor, null), g, ctxt);
+                }
+            }
+            g.writeEndArray();
+            ++nodeIndex;
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Method for writing successor indexes of {@link Network}: one entry
+     * per edge, so parallel edges lead to repeated indexes.
+     */
+    protected void _writeSuccessors(Network<Object, Object> network, Map<Object, Integer> index,
+            JsonGenerator g)
+        throws JacksonException
+    {
+        final boolean directed = network.isDirected();
+        final Set<Object> nodes = network.nodes();
+        int[] buffer = new int[16];
+        int nodeIndex = 0;
+
+        g.writeName(GraphHelper.PROP_SUCCESSORS);
+        g.writeStartArray(nodes, nodes.size());
+        for (Object node : nodes) {
+            final Set<Object> edges = directed ? network.outEdges(node) : network.incidentEdges(node);
+            if (buffer.length < edges.size()) {
+                buffer = new int[edges.size()];
+            }
+            int count = 0;
+            for (Object edge : edges) {
+                final int ix = _adjacentIndex(network, index, node, edge);
+                if (directed || (ix >= nodeIndex)) {
+                    buffer[count++] = ix;
+                }
+            }
+            g.writeArray(buffer, 0, count);
+            ++nodeIndex;
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Method for writing edge objects of {@link Network}, in the same order
+     * as successor indexes.
+     */
+    protected void _writeEdges(Network<Object, Object> network, Map<Object, Integer> index,
+            JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        final boolean directed = network.isDirected();
+        final Set<Object> nodes = network.nodes();
+        int nodeIndex = 0;
+
+        g.writeName(GraphHelper.PROP_EDGES);
+        g.writeStartArray(nodes, nodes.size());
+        for (Object node : nodes) {
+            final Set<Object> edges = directed ? network.outEdges(node) : network.incidentEdges(node);
+            g.writeStartArray(edges);
+            for (Object edge : edges) {
+                if (directed || (_adjacentIndex(network, index, node, edge) >= nodeIndex)) {
+                    _writeContent(edge, g, ctxt);
+                }
+            }
+            g.writeEndArray();
+            ++nodeIndex;
+        }
+        g.writeEndArray();
+    }
+
+    private static int _adjacentIndex(Network<Object, Object> network, Map<Object, Integer> index,
+            Object node, Object edge)
+    {
+        final EndpointPair<Object> endpoints = network.incidentNodes(edge);
+        return index.get(endpoints.adjacentNode(node));
+    }
+
+    private void _writeContent(Object value, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        if (_contentSerializer == null) {
+            ctxt.writeValue(g, value);
+        } else {
+            _contentSerializer.serialize(value, g, ctxt);
+        }
+    }
+}
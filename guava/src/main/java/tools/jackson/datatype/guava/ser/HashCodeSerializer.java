@@ -0,0 +1,67 @@
+package tools.jackson.datatype.guava.ser;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import com.google.common.hash.HashCode;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Serializer for Guava {@link HashCode}: by default written as lower-case
+ * hex String (same as {@link HashCode#toString()}), but with
+ * {@code @JsonFormat(shape = JsonFormat.Shape.BINARY)} (or matching config
+ * override for {@link HashCode}) as binary value, which for binary formats
+ * like Smile or CBOR is half the size.
+ *
+ * @since 3.1
+ */
+public class HashCodeSerializer extends StdScalarSerializer<HashCode>
+{
+    public final static HashCodeSerializer std = new HashCodeSerializer(false);
+
+    private final static char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    protected final boolean _binary;
+
+    protected HashCodeSerializer(boolean binary) {
+        super(HashCode.class);
+        _binary = binary;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt,
+            BeanProperty property)
+    {
+        final JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        final boolean binary = (format.getShape() == JsonFormat.Shape.BINARY);
+        if (binary == _binary) {
+            return this;
+        }
+        return new HashCodeSerializer(binary);
+    }
+
+    @Override
+    public void serialize(HashCode value, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        final byte[] bytes = value.asBytes();
+        if (_binary) {
+            g.writeBinary(ctxt.getConfig().getBase64Variant(), bytes, 0, bytes.length);
+            return;
+        }
+        // Write hex chars directly, instead of constructing String via `toString()`
+        final char[] chars = new char[bytes.length << 1];
+        for (int i = 0, ix = 0; i < bytes.length; ++i) {
+            final int b = bytes[i];
+            chars[ix++] = HEX_CHARS[(b >> 4) & 0xF];
+            chars[ix++] = HEX_CHARS[b & 0xF];
+        }
+        g.writeString(chars, 0, chars.length);
+    }
+}
@@ -20,6 +20,7 @@ import tools.jackson.databind.ser.PropertyFilter;
 import tools.jackson.databind.ser.jdk.MapProperty;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 import tools.jackson.databind.type.MapLikeType;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 import com.google.common.collect.Multimap;
 import com.google.common.collect.TreeMultimap;
@@ -383,6 +384,22 @@ public class MultimapSerializer
     /**********************************************************************
      */
 
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            Class<?> type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type);
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            JavaType type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type.getRawClass());
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     protected Multimap<?,?> _orderEntriesByKey(Multimap<?,?> value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException
@@ -0,0 +1,155 @@
+package tools.jackson.datatype.guava.ser;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+/**
+ * Serializer for lists returned by {@link Ints#asList}, {@link Longs#asList}
+ * and {@link Doubles#asList}: backing values are unwrapped into a primitive
+ * array (using {@code Ints.toArray()} and so on, which copies backing
+ * array range directly) and written using
+ * {@link JsonGenerator#writeArray(int[], int, int)} and its overloads,
+ * instead of boxing each element.
+ *<p>
+ * Single-element lists are written as scalars if
+ * {@link SerializationFeature#WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED} is enabled,
+ * either globally or for property with {@link JsonFormat.Feature#WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED}.
+ *
+ * @since 3.1
+ */
+public class PrimitiveListSerializer
+    extends StdSerializer<List<?>>
+{
+    protected final static int TYPE_INT = 1;
+    protected final static int TYPE_LONG = 2;
+    protected final static int TYPE_DOUBLE = 3;
+
+    public final static PrimitiveListSerializer INTS = new PrimitiveListSerializer(TYPE_INT);
+    public final static PrimitiveListSerializer LONGS = new PrimitiveListSerializer(TYPE_LONG);
+    public final static PrimitiveListSerializer DOUBLES = new PrimitiveListSerializer(TYPE_DOUBLE);
+
+    protected final int _primitiveType;
+
+    /**
+     * Setting for specific local override for "unwrap single element arrays":
+     * true for enable unwrapping, false for preventing it, `null` for using
+     * global configuration.
+     */
+    protected final Boolean _unwrapSingle;
+
+    protected PrimitiveListSerializer(int primitiveType) {
+        super(List.class);
+        _primitiveType = primitiveType;
+        _unwrapSingle = null;
+    }
+
+    protected PrimitiveListSerializer(PrimitiveListSerializer src, Boolean unwrapSingle) {
+        super(src);
+        _primitiveType = src._primitiveType;
+        _unwrapSingle = unwrapSingle;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt,
+            BeanProperty property)
+    {
+        final Boolean unwrapSingle = findFormatFeature(ctxt, property, handledType(),
+                JsonFormat.Feature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
+        if (Objects.equals(unwrapSingle, _unwrapSingle)) {
+            return this;
+        }
+        return new PrimitiveListSerializer(this, unwrapSingle);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, List<?> value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(List<?> value, JsonGenerator g, SerializationContext ctxt)
+        throws JacksonException
+    {
+        if ((value.size() == 1)
+                && ((_unwrapSingle == null)
+                        ? ctxt.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                        : _unwrapSingle)) {
+            _serializeSingle(value, g);
+            return;
+        }
+        _serializeArray(value, g);
+    }
+
+    @Override
+    public void serializeWithType(List<?> value, JsonGenerator g,
+            SerializationContext ctxt, TypeSerializer typeSer)
+        throws JacksonException
+    {
+        // Array content would be written by the generator; so need to use scalar type id
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt,
+                typeSer.typeId(value, JsonToken.VALUE_EMBEDDED_OBJECT));
+        _serializeArray(value, g);
+        typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void _serializeArray(List<?> value, JsonGenerator g)
+        throws JacksonException
+    {
+        g.assignCurrentValue(value);
+        switch (_primitiveType) {
+        case TYPE_INT:
+            {
+                final int[] ints = Ints.toArray((Collection<Integer>) value);
+                g.writeArray(ints, 0, ints.length);
+            }
+            break;
+        case TYPE_LONG:
+            {
+                final long[] longs = Longs.toArray((Collection<Long>) value);
+                g.writeArray(longs, 0, longs.length);
+            }
+            break;
+        default:
+            {
+                final double[] doubles = Doubles.toArray((Collection<Double>) value);
+                g.writeArray(doubles, 0, doubles.length);
+            }
+        }
+    }
+
+    private void _serializeSingle(List<?> value, JsonGenerator g)
+        throws JacksonException
+    {
+        final Number n = (Number) value.get(0);
+        switch (_primitiveType) {
+        case TYPE_INT:
+            g.writeNumber(n.intValue());
+            break;
+        case TYPE_LONG:
+            g.writeNumber(n.longValue());
+            break;
+        default:
+            g.writeNumber(n.doubleValue());
+        }
+    }
+}
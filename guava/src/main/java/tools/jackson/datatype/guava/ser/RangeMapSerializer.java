@@ -29,6 +29,8 @@ import tools.jackson.databind.ser.impl.PropertySerializerMap;
 import tools.jackson.databind.ser.jdk.MapProperty;
 import tools.jackson.databind.type.MapLikeType;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 /**
  * Serializer for Guava's {@link RangeMap} values. Output format encloses
  * values in JSON Object.
@@ -422,6 +424,7 @@ public class RangeMapSerializer
     {
         PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, _property);
         // did we get a new map of serializers? If so, start using it
+        CollectionMetricsReporting.reportDynamicLookup(provider, handledType(), type);
         if (map != result.map) {
             _dynamicValueSerializers = result.map;
         }
@@ -431,6 +434,7 @@ public class RangeMapSerializer
     protected final ValueSerializer<Object> _findAndAddDynamic(PropertySerializerMap map,
             JavaType type, SerializationContext provider) {
         PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, _property);
+        CollectionMetricsReporting.reportDynamicLookup(provider, handledType(), type.getRawClass());
         if (map != result.map) {
             _dynamicValueSerializers = result.map;
         }
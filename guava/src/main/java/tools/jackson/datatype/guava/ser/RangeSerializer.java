@@ -14,6 +14,7 @@ import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.std.StdSerializer;
 import tools.jackson.datatype.guava.deser.util.RangeHelper;
+import tools.jackson.datatype.guava.deser.util.RangeStringCodec;
 
 /**
  * Jackson serializer for Guava Range objects with enhanced serialization capabilities.
@@ -170,24 +171,8 @@ public class RangeSerializer extends StdSerializer<Range<?>>
         }
     }
 
-    private String _getStringFormat(Range<?> range){
-        StringBuilder builder = new StringBuilder();
-
-        if (range.hasLowerBound()) {
-            builder.append(range.lowerBoundType() == BoundType.CLOSED ? '[' : '(').append(range.lowerEndpoint());
-        } else {
-            builder.append("(-∞");
-        }
-
-        builder.append("..");
-
-        if (range.hasUpperBound()) {
-            builder.append(range.upperEndpoint()).append(range.upperBoundType() == BoundType.CLOSED ? ']' : ')');
-        } else {
-            builder.append("+∞)");
-        }
-
-        return builder.toString();
+    private String _getStringFormat(Range<?> range) {
+        return RangeStringCodec.encode(range);
     }
 
     @Override
@@ -1,29 +1,75 @@
 package tools.jackson.datatype.guava.ser;
 
 import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
 
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.datatype.guava.deser.util.RangeHelper;
 
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 
+/**
+ * Serializer for Guava {@link RangeSet}s. By default written as a JSON Array of
+ * {@link Range}s; but with {@code @JsonFormat(shape = JsonFormat.Shape.OBJECT)}
+ * (or matching config override for {@link RangeSet}) a compact representation
+ * is used instead: a JSON Object with a single property, either
+ *<ul>
+ * <li>{@link RangeHelper#PROP_CLOSED_OPEN} with flat JSON Array of endpoint pairs,
+ *    if all ranges are bounded and closed-open, like:
+ *    {@code {"closedOpen":[1,5,8,10]}}
+ *  </li>
+ * <li>{@link RangeHelper#PROP_RANGES} with flat JSON Array of endpoint pairs
+ *    each followed by bound type bits, with {@code null} for missing endpoints, like:
+ *    {@code {"ranges":[1,5,3,8,null,1]}}
+ *  </li>
+ *</ul>
+ */
 public class RangeSetSerializer extends StdSerializer<RangeSet<Comparable<?>>>
 {
     private final ValueSerializer<Object> _serializer;
 
+    /**
+     * Whether compact representation is to be used.
+     *
+     * @since 3.1
+     */
+    private final boolean _compact;
+
+    private final BeanProperty _property;
+
     public RangeSetSerializer() {
         super(RangeSet.class);
         _serializer = null;
+        _compact = false;
+        _property = null;
     }
 
     protected RangeSetSerializer(RangeSetSerializer base, ValueSerializer<Object> ser) {
+        this(base, ser, base._compact, base._property);
+    }
+
+    /**
+     * @since 3.1
+     */
+    protected RangeSetSerializer(RangeSetSerializer base, ValueSerializer<Object> ser,
+            boolean compact, BeanProperty property) {
         super(base);
         _serializer = ser;
+        _compact = compact;
+        _property = property;
     }
 
     @Override
@@ -34,7 +80,74 @@ public class RangeSetSerializer extends StdSerializer<RangeSet<Comparable<?>>>
         if (_serializer == null) {
             ctxt.reportBadDefinition(handledType(), "Not contextualized to have value serializer");
         }
-        _serializer.serialize(value.asRanges(), g, ctxt);
+        if (_compact) {
+            g.writeStartObject(value);
+            _serializeCompact(value, g, ctxt);
+            g.writeEndObject();
+        } else {
+            _serializer.serialize(value.asRanges(), g, ctxt);
+        }
+    }
+
+    @Override
+    public void serializeWithType(RangeSet<Comparable<?>> value, JsonGenerator g,
+            SerializationContext ctxt, TypeSerializer typeSer)
+        throws JacksonException
+    {
+        if (!_compact) {
+            super.serializeWithType(value, g, ctxt, typeSer);
+            return;
+        }
+        g.assignCurrentValue(value);
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt,
+                typeSer.typeId(value, JsonToken.START_OBJECT));
+        _serializeCompact(value, g, ctxt);
+        typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+    }
+
+    private void _serializeCompact(RangeSet<Comparable<?>> value, JsonGenerator g,
+            SerializationContext ctxt)
+        throws JacksonException
+    {
+        final Set<Range<Comparable<?>>> ranges = value.asRanges();
+        final boolean closedOpen = _allClosedOpen(ranges);
+        g.writeName(closedOpen ? RangeHelper.PROP_CLOSED_OPEN : RangeHelper.PROP_RANGES);
+        g.writeStartArray();
+        // endpoints are usually all of same type, so cache the last serializer
+        Class<?> prevClass = null;
+        ValueSerializer<Object> prevSer = null;
+        for (Range<Comparable<?>> range : ranges) {
+            for (int i = 0; i < 2; ++i) {
+                final boolean lower = (i == 0);
+                if (lower ? !range.hasLowerBound() : !range.hasUpperBound()) {
+                    g.writeNull();
+                    continue;
+                }
+                final Object endpoint = lower ? range.lowerEndpoint() : range.upperEndpoint();
+                final Class<?> cls = endpoint.getClass();
+                if (cls != prevClass) {
+                    prevSer = ctxt.findContentValueSerializer(cls, _property);
+                    prevClass = cls;
+                }
+                prevSer.serialize(endpoint, g, ctxt);
+            }
+            if (!closedOpen) {
+                g.writeNumber(RangeHelper.boundBits(range));
+            }
+        }
+        g.writeEndArray();
+    }
+
+    private static boolean _allClosedOpen(Set<Range<Comparable<?>>> ranges)
+    {
+        for (Range<?> range : ranges) {
+            if (!range.hasLowerBound() || !range.hasUpperBound()
+                    || (range.lowerBoundType() != BoundType.CLOSED)
+                    || (range.upperBoundType() != BoundType.OPEN)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -45,7 +158,9 @@ public class RangeSetSerializer extends StdSerializer<RangeSet<Comparable<?>>>
        
         
         ValueSerializer<Object> ser = ctxt.findContentValueSerializer(List.class, property);
-        return new RangeSetSerializer(this, ser);
+        final JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        final boolean compact = (format.getShape() == JsonFormat.Shape.OBJECT);
+        return new RangeSetSerializer(this, ser, compact, property);
 
         // Old (Jackson 2.x) implementation was along lines of
         /*
@@ -1,8 +1,13 @@
 package tools.jackson.datatype.guava.ser;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import tools.jackson.core.*;
 import tools.jackson.core.type.WritableTypeId;
 
@@ -12,10 +17,18 @@ import tools.jackson.databind.ser.jdk.MapSerializer;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 import tools.jackson.databind.type.MapType;
 import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.util.ClassUtil;
+import tools.jackson.datatype.guava.TableShape;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
+import com.google.common.collect.ArrayTable;
 import com.google.common.collect.Table;
 
 /**
+ * Serializer for Guava {@link Table} values. By default writes nested
+ * row-to-column JSON Objects; alternatively may write a flat list of cells or
+ * a columnar representation, see {@link TableShape}.
+ *
  * @author stevenmhood (via hyandell) - Initial implementation
  * @author tatu - Some refactoring to streamline code
  */
@@ -35,6 +48,40 @@ public class TableSerializer
 
     private final MapSerializer _rowMapSerializer;
 
+    /**
+     * Shape to use if no {@code @JsonFormat} override found.
+     *
+     * @since 3.1
+     */
+    private final TableShape _defaultShape;
+
+    /**
+     * Actual shape to use, resolved during contextualization
+     *
+     * @since 3.1
+     */
+    private final TableShape _shape;
+
+    /**
+     * Serializers for row and column keys as values, used for
+     * {@link TableShape#CELLS} and {@link TableShape#COLUMNAR}; {@code null}
+     * for untyped keys (resolved dynamically).
+     *
+     * @since 3.1
+     */
+    private final ValueSerializer<Object> _rowValueSerializer;
+    private final ValueSerializer<Object> _columnValueSerializer;
+
+    /**
+     * Primitive type ({@code int}, {@code long} or {@code double}) of values
+     * of {@link ArrayTable}s to write using primitive arrays with
+     * {@link TableShape#COLUMNAR}; {@code null} if values may not be
+     * written that way.
+     *
+     * @since 3.1
+     */
+    private final Class<?> _primitiveValueClass;
+
     /*
     /**********************************************************************
     /* Serializer lifecycle
@@ -42,6 +89,14 @@ public class TableSerializer
      */
     
     public TableSerializer(JavaType type)
+    {
+        this(type, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public TableSerializer(JavaType type, TableShape defaultShape)
     {
         super(type, null);
         _type = type;
@@ -51,9 +106,13 @@ public class TableSerializer
         _valueSerializer = null;
 
         _rowMapSerializer = null;
+        _defaultShape = defaultShape;
+        _shape = TableShape.from(null, defaultShape);
+        _rowValueSerializer = null;
+        _columnValueSerializer = null;
+        _primitiveValueClass = null;
     }
 
-    @SuppressWarnings( "unchecked" )
     protected TableSerializer(final TableSerializer src,
             final BeanProperty property,
             final TypeFactory typeFactory,
@@ -61,6 +120,26 @@ public class TableSerializer
             final ValueSerializer<?> columnKeySerializer,
             final TypeSerializer valueTypeSerializer,
             final ValueSerializer<?> valueSerializer)
+    {
+        this(src, property, typeFactory, rowKeySerializer, columnKeySerializer,
+                valueTypeSerializer, valueSerializer, src._shape, null, null, null);
+    }
+
+    /**
+     * @since 3.1
+     */
+    @SuppressWarnings( "unchecked" )
+    protected TableSerializer(final TableSerializer src,
+            final BeanProperty property,
+            final TypeFactory typeFactory,
+            final ValueSerializer<?> rowKeySerializer,
+            final ValueSerializer<?> columnKeySerializer,
+            final TypeSerializer valueTypeSerializer,
+            final ValueSerializer<?> valueSerializer,
+            final TableShape shape,
+            final ValueSerializer<?> rowValueSerializer,
+            final ValueSerializer<?> columnValueSerializer,
+            final Class<?> primitiveValueClass)
     {
         super(src, property);
         _type = src._type;
@@ -68,7 +147,12 @@ public class TableSerializer
         _columnSerializer = (ValueSerializer<Object>) columnKeySerializer;
         _valueTypeSerializer = valueTypeSerializer;
         _valueSerializer = (ValueSerializer<Object>) valueSerializer;
-        
+        _defaultShape = src._defaultShape;
+        _shape = shape;
+        _rowValueSerializer = (ValueSerializer<Object>) rowValueSerializer;
+        _columnValueSerializer = (ValueSerializer<Object>) columnValueSerializer;
+        _primitiveValueClass = primitiveValueClass;
+
         final MapType columnAndValueType = typeFactory.constructMapType(Map.class,
                 _type.containedTypeOrUnknown(1), _type.containedTypeOrUnknown(2));
 
@@ -101,6 +185,12 @@ public class TableSerializer
         _valueSerializer = src._valueSerializer;
 
         _rowMapSerializer = src._rowMapSerializer;
+        _defaultShape = src._defaultShape;
+        _shape = src._shape;
+        _rowValueSerializer = src._rowValueSerializer;
+        _columnValueSerializer = src._columnValueSerializer;
+        // may not write primitive arrays with value type information
+        _primitiveValueClass = null;
     }
 
     protected TableSerializer withResolved(final BeanProperty property,
@@ -114,6 +204,25 @@ public class TableSerializer
                 rowKeySer, columnKeySer, vts, valueSer);
     }
 
+    /**
+     * @since 3.1
+     */
+    protected TableSerializer withResolved(final BeanProperty property,
+            final TypeFactory typeFactory,
+            final ValueSerializer<?> rowKeySer,
+            final ValueSerializer<?> columnKeySer,
+            final TypeSerializer vts,
+            final ValueSerializer<?> valueSer,
+            final TableShape shape,
+            final ValueSerializer<?> rowValueSer,
+            final ValueSerializer<?> columnValueSer,
+            final Class<?> primitiveValueClass)
+    {
+        return new TableSerializer(this, property, typeFactory,
+                rowKeySer, columnKeySer, vts, valueSer,
+                shape, rowValueSer, columnValueSer, primitiveValueClass);
+    }
+
     @Override
     protected StdContainerSerializer<?> _withValueTypeSerializer(final TypeSerializer typeSer)
     {
@@ -150,7 +259,31 @@ public class TableSerializer
         if (typeSer != null) {
             typeSer = typeSer.forProperty(ctxt, property);
         }
-        return withResolved(property, ctxt.getTypeFactory(), rowKeySer, columnKeySer, typeSer, valueSer);
+        final JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        final TableShape shape = TableShape.from(property, format.getShape(), _defaultShape);
+        // Alternate shapes write keys as values, not property names
+        ValueSerializer<?> rowValueSer = null;
+        ValueSerializer<?> columnValueSer = null;
+        Class<?> primitiveValueClass = null;
+        if (shape != TableShape.NESTED) {
+            rowValueSer = _findKeyValueSerializer(ctxt, _type.containedTypeOrUnknown(0), property);
+            columnValueSer = _findKeyValueSerializer(ctxt, _type.containedTypeOrUnknown(1), property);
+            if (shape == TableShape.COLUMNAR) {
+                primitiveValueClass = _findPrimitiveValueClass(ctxt, property, typeSer, valueSer);
+            }
+        }
+        return withResolved(property, ctxt.getTypeFactory(), rowKeySer, columnKeySer, typeSer, valueSer,
+                shape, rowValueSer, columnValueSer, primitiveValueClass);
+    }
+
+    private ValueSerializer<?> _findKeyValueSerializer(SerializationContext ctxt,
+            JavaType keyType, BeanProperty property)
+    {
+        // let's not consider "untyped" (java.lang.Object) to be meaningful here...
+        if (keyType.hasRawClass(Object.class)) {
+            return null;
+        }
+        return ctxt.findContentValueSerializer(keyType, property);
     }
 
     /*
@@ -190,6 +323,19 @@ public class TableSerializer
             final JsonGenerator gen, final SerializationContext ctxt)
         throws JacksonException
     {
+        switch (_shape) {
+        case CELLS:
+            gen.writeStartArray(value, value.size());
+            serializeCells(value, gen, ctxt);
+            gen.writeEndArray();
+            return;
+        case COLUMNAR:
+            gen.writeStartObject(value);
+            serializeColumnar(value, gen, ctxt);
+            gen.writeEndObject();
+            return;
+        default:
+        }
         gen.writeStartObject(value);
         if (!value.isEmpty()) {
             serializeEntries(value, gen, ctxt);
@@ -204,9 +350,20 @@ public class TableSerializer
         throws JacksonException
     {
         g.assignCurrentValue(value);
+        if (_shape == TableShape.CELLS) {
+            WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt,
+                    typeSer.typeId(value, JsonToken.START_ARRAY));
+            serializeCells(value, g, ctxt);
+            typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+            return;
+        }
         WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt,
                 typeSer.typeId(value, JsonToken.START_OBJECT));
-        serializeEntries(value, g, ctxt);
+        if (_shape == TableShape.COLUMNAR) {
+            serializeColumnar(value, g, ctxt);
+        } else {
+            serializeEntries(value, g, ctxt);
+        }
         typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
     }
 
@@ -216,4 +373,241 @@ public class TableSerializer
     {
         _rowMapSerializer.serializeEntries(table.rowMap(), g, ctxt);
     }
+
+    /**
+     * Method for writing {@link TableShape#CELLS} contents: one 3-element
+     * JSON Array per cell.
+     *
+     * @since 3.1
+     */
+    protected void serializeCells(final Table<?, ?, ?> table, final JsonGenerator g,
+            final SerializationContext ctxt)
+        throws JacksonException
+    {
+        for (Table.Cell<?, ?, ?> cell : table.cellSet()) {
+            g.writeStartArray(cell, 3);
+            _writeKey(_rowValueSerializer, cell.getRowKey(), g, ctxt);
+            _writeKey(_columnValueSerializer, cell.getColumnKey(), g, ctxt);
+            _writeValue(cell.getValue(), g, ctxt);
+            g.writeEndArray();
+        }
+    }
+
+    /**
+     * Method for writing {@link TableShape#COLUMNAR} contents: row keys and
+     * column keys once, followed by row-major value matrix in which missing
+     * cells are written as {@code null}s.
+     *
+     * @since 3.1
+     */
+    protected void serializeColumnar(final Table<?, ?, ?> table, final JsonGenerator g,
+            final SerializationContext ctxt)
+        throws JacksonException
+    {
+        if (table instanceof ArrayTable<?, ?, ?>) {
+            serializeColumnar((ArrayTable<?, ?, ?>) table, g, ctxt);
+            return;
+        }
+        final Map<?, ? extends Map<?, ?>> rowMap = table.rowMap();
+        final List<Object> columnKeys = new ArrayList<>(table.columnKeySet());
+        final int columnCount = columnKeys.size();
+
+        g.writeName(TableShape.PROP_ROWS);
+        g.writeStartArray(rowMap, rowMap.size());
+        for (Object rowKey : rowMap.keySet()) {
+            _writeKey(_rowValueSerializer, rowKey, g, ctxt);
+        }
+        g.writeEndArray();
+
+        g.writeName(TableShape.PROP_COLUMNS);
+        g.writeStartArray(columnKeys, columnCount);
+        for (Object columnKey : columnKeys) {
+            _writeKey(_columnValueSerializer, columnKey, g, ctxt);
+        }
+        g.writeEndArray();
+
+        g.writeName(TableShape.PROP_VALUES);
+        g.writeStartArray(rowMap, rowMap.size());
+        for (Map<?, ?> row : rowMap.values()) {
+            g.writeStartArray(row, columnCount);
+            for (int i = 0; i < columnCount; ++i) {
+                _writeValue(row.get(columnKeys.get(i)), g, ctxt);
+            }
+            g.writeEndArray();
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Specialized variant of {@link #serializeColumnar(Table, JsonGenerator, SerializationContext)}
+     * for {@link ArrayTable}, which can access values by index; rows of
+     * {@code Integer}, {@code Long} or {@code Double} values without missing cells
+     * are written using primitive arrays.
+     *
+     * @since 3.1
+     */
+    protected void serializeColumnar(final ArrayTable<?, ?, ?> table, final JsonGenerator g,
+            final SerializationContext ctxt)
+        throws JacksonException
+    {
+        final List<?> rowKeys = table.rowKeyList();
+        final List<?> columnKeys = table.columnKeyList();
+        final int rowCount = rowKeys.size();
+        final int columnCount = columnKeys.size();
+
+        g.writeName(TableShape.PROP_ROWS);
+        g.writeStartArray(rowKeys, rowCount);
+        for (int i = 0; i < rowCount; ++i) {
+            _writeKey(_rowValueSerializer, rowKeys.get(i), g, ctxt);
+        }
+        g.writeEndArray();
+
+        g.writeName(TableShape.PROP_COLUMNS);
+        g.writeStartArray(columnKeys, columnCount);
+        for (int i = 0; i < columnCount; ++i) {
+            _writeKey(_columnValueSerializer, columnKeys.get(i), g, ctxt);
+        }
+        g.writeEndArray();
+
+        g.writeName(TableShape.PROP_VALUES);
+        g.writeStartArray(table, rowCount);
+        final Class<?> valueClass = _primitiveValueClass;
+        Object buffer = null;
+        for (int r = 0; r < rowCount; ++r) {
+            if ((valueClass != null) && _hasAllValues(table, r, columnCount)) {
+                if (buffer == null) {
+                    buffer = Array.newInstance(valueClass, columnCount);
+                }
+                _writePrimitiveRow(table, r, columnCount, buffer, g);
+                continue;
+            }
+            g.writeStartArray(null, columnCount);
+            for (int c = 0; c < columnCount; ++c) {
+                _writeValue(table.at(r, c), g, ctxt);
+            }
+            g.writeEndArray();
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Helper method for checking whether values may be written as primitive
+     * arrays: only if declared as {@code Integer}, {@code Long} or {@code Double},
+     * using standard serializers, and without {@code @JsonFormat} shape
+     * override (like {@code Shape.STRING}) for values.
+     */
+    private Class<?> _findPrimitiveValueClass(SerializationContext ctxt, BeanProperty property,
+            TypeSerializer typeSer, ValueSerializer<?> valueSer)
+    {
+        if ((typeSer != null)
+                || ((valueSer != null) && !ClassUtil.isJacksonStdImpl(valueSer))) {
+            return null;
+        }
+        final Class<?> raw = _type.containedTypeOrUnknown(2).getRawClass();
+        final Class<?> primitive;
+        if (raw == Integer.class) {
+            primitive = Integer.TYPE;
+        } else if (raw == Long.class) {
+            primitive = Long.TYPE;
+        } else if (raw == Double.class) {
+            primitive = Double.TYPE;
+        } else {
+            return null;
+        }
+        switch (findFormatOverrides(ctxt, property, raw).getShape()) {
+        case ANY:
+        case NATURAL:
+        case NUMBER:
+        case NUMBER_FLOAT:
+        case NUMBER_INT:
+            return primitive;
+        default:
+            return null;
+        }
+    }
+
+    private static boolean _hasAllValues(ArrayTable<?, ?, ?> table, int row, int columnCount)
+    {
+        for (int c = 0; c < columnCount; ++c) {
+            if (table.at(row, c) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void _writePrimitiveRow(ArrayTable<?, ?, ?> table, int row, int columnCount,
+            Object buffer, JsonGenerator g)
+        throws JacksonException
+    {
+        if (buffer instanceof int[]) {
+            final int[] ints = (int[]) buffer;
+            for (int c = 0; c < columnCount; ++c) {
+                ints[c] = ((Number) table.at(row, c)).intValue();
+            }
+            g.writeArray(ints, 0, columnCount);
+        } else if (buffer instanceof long[]) {
+            final long[] longs = (long[]) buffer;
+            for (int c = 0; c < columnCount; ++c) {
+                longs[c] = ((Number) table.at(row, c)).longValue();
+            }
+            g.writeArray(longs, 0, columnCount);
+        } else {
+            final double[] doubles = (double[]) buffer;
+            for (int c = 0; c < columnCount; ++c) {
+                doubles[c] = ((Number) table.at(row, c)).doubleValue();
+            }
+            g.writeArray(doubles, 0, columnCount);
+        }
+    }
+
+    private final void _writeKey(ValueSerializer<Object> ser, Object key,
+            final JsonGenerator g, final SerializationContext ctxt)
+        throws JacksonException
+    {
+        if (ser == null) {
+            ctxt.writeValue(g, key);
+        } else {
+            ser.serialize(key, g, ctxt);
+        }
+    }
+
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            Class<?> type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type);
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            JavaType type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type.getRawClass());
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
+    private final void _writeValue(Object value,
+            final JsonGenerator g, final SerializationContext ctxt)
+        throws JacksonException
+    {
+        if (value == null) {
+            ctxt.defaultSerializeNullValue(g);
+            return;
+        }
+        ValueSerializer<Object> ser = _valueSerializer;
+        if (ser == null) {
+            final Class<?> cc = value.getClass();
+            ser = _dynamicValueSerializers.serializerFor(cc);
+            if (ser == null) {
+                ser = _findAndAddDynamic(ctxt, cc);
+            }
+        }
+        if (_valueTypeSerializer == null) {
+            ser.serialize(value, g, ctxt);
+        } else {
+            ser.serializeWithType(value, g, ctxt, _valueTypeSerializer);
+        }
+    }
 }
@@ -11,11 +11,15 @@ public class ImmutableDoubleArraySerializer extends BaseImmutableArraySerializer
         super(ImmutablePrimitiveTypes.ImmutablePrimitiveArrays.DOUBLE);
     }
 
+    /**
+     * Writes values directly from the backing array (without copying it
+     * via {@code toArray()}, or boxing).
+     */
     @Override
     protected void writeArray(ImmutableDoubleArray immutableArray, JsonGenerator gen) {
-        if (!immutableArray.isEmpty()) {
-            gen.writeArray(immutableArray.toArray(), 0, immutableArray.length());
-        }
+        gen.writeStartArray(immutableArray, immutableArray.length());
+        immutableArray.forEach(gen::writeNumber);
+        gen.writeEndArray();
     }
 
 }
@@ -74,13 +74,26 @@ public class PrimitiveTypes {
         }
     }
 
+    /**
+     * Matching primitive list type for value types seen so far.
+     *
+     * @since 3.1
+     */
+    private static final ClassValue<Optional<PrimitiveTypes.Primitives>> MATCHING_PRIMITIVES =
+            new ClassValue<Optional<PrimitiveTypes.Primitives>>() {
+                @Override
+                protected Optional<PrimitiveTypes.Primitives> computeValue(Class<?> valueType) {
+                    for (PrimitiveTypes.Primitives primitive : PrimitiveTypes.Primitives.values()) {
+                        if (primitive.type().isAssignableFrom(valueType)) {
+                            return Optional.of(primitive);
+                        }
+                    }
+                    return Optional.absent();
+                }
+            };
+
     public static Optional<PrimitiveTypes.Primitives> isAssignableFromPrimitive(Class<?> valueType) {
-        for (PrimitiveTypes.Primitives primitive : PrimitiveTypes.Primitives.values()) {
-            if (primitive.type().isAssignableFrom(valueType)) {
-                return Optional.of(primitive);
-            }
-        }
-        return Optional.absent();
+        return MATCHING_PRIMITIVES.get(valueType);
     }
 
     /** Type of list returned by {@link Booleans#asList(boolean...)} */
@@ -0,0 +1,123 @@
+package tools.jackson.datatype.guava;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest extends ModuleTestBase
+{
+    static class FilterWrapper {
+        public BloomFilter<String> filter;
+
+        protected FilterWrapper() { }
+        public FilterWrapper(BloomFilter<String> f) { filter = f; }
+    }
+
+    private final static Funnel<UUID> UUID_FUNNEL = (uuid, sink) -> sink
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits());
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new GuavaModule()
+                    .registerFunnel(Integer.class, Funnels.integerFunnel())
+                    .registerFunnel(String.class, Funnels.stringFunnel(StandardCharsets.UTF_8)))
+            .build();
+
+    @Test
+    public void testIntegerFilter() throws Exception
+    {
+        BloomFilter<Integer> input = BloomFilter.create(Funnels.integerFunnel(), 1000, 0.01);
+        for (int i = 0; i < 500; i += 2) {
+            input.put(i);
+        }
+        final TypeReference<BloomFilter<Integer>> type = new TypeReference<BloomFilter<Integer>>() { };
+        final String json = MAPPER.writerFor(type).writeValueAsString(input);
+        // same contents as written by the filter itself
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        input.writeTo(bytes);
+        assertEquals(MAPPER.writeValueAsString(bytes.toByteArray()), json);
+
+        BloomFilter<Integer> result = MAPPER.readValue(json, type);
+        assertEquals(input, result);
+        assertTrue(result.mightContain(42));
+    }
+
+    @Test
+    public void testStringFilterAsProperty() throws Exception
+    {
+        BloomFilter<String> input = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), 100);
+        input.put("abc");
+        input.put("def");
+        final String json = MAPPER.writeValueAsString(new FilterWrapper(input));
+        BloomFilter<String> result = MAPPER.readValue(json, FilterWrapper.class).filter;
+        assertEquals(input, result);
+        assertTrue(result.mightContain("abc"));
+    }
+
+    @Test
+    public void testRegisteredFunnel() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().registerFunnel(UUID.class, UUID_FUNNEL))
+                .build();
+        final UUID id = UUID.randomUUID();
+        BloomFilter<UUID> input = BloomFilter.create(UUID_FUNNEL, 100);
+        input.put(id);
+        final TypeReference<BloomFilter<UUID>> type = new TypeReference<BloomFilter<UUID>>() { };
+        final String json = mapper.writerFor(type).writeValueAsString(input);
+        BloomFilter<UUID> result = mapper.readValue(json, type);
+        assertTrue(result.mightContain(id));
+
+        // but without registration, must fail
+        try {
+            MAPPER.readValue(json, type);
+            fail("Should not pass");
+        } catch (InvalidDefinitionException e) {
+            verifyException(e, "No `Funnel` registered");
+        }
+    }
+
+    @Test
+    public void testNoDefaultFunnels() throws Exception
+    {
+        final ObjectMapper mapper = mapperWithModule();
+        BloomFilter<String> input = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), 100);
+        input.put("abc");
+        final String json = mapper.writeValueAsString(new FilterWrapper(input));
+        // must fail when resolving deserializer, not guess a funnel
+        try {
+            mapper.readValue(json, FilterWrapper.class);
+            fail("Should not pass");
+        } catch (InvalidDefinitionException e) {
+            verifyException(e, "No `Funnel` registered");
+        }
+    }
+
+    @Test
+    public void testInvalidContents() throws Exception
+    {
+        try {
+            MAPPER.readValue(q("AAAA"), new TypeReference<BloomFilter<Integer>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "Problem deserializing");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package tools.jackson.datatype.guava;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify that pre-sizing of immutable builders based on
+ * earlier sizes does not affect results.
+ */
+public class BuilderSizeHintTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final static int[] SIZES = { 3, 100, 0, 1, 5000, 7, 7, 7, 250 };
+
+    @Test
+    public void testSizeHint()
+    {
+        assertEquals(10, SizeHint.next(0, 10));
+        assertEquals(10, SizeHint.next(10, 10));
+        assertEquals(6, SizeHint.next(10, 2));
+        assertEquals(20, SizeHint.next(10, 20));
+        assertEquals(SizeHint.MAX_HINT, SizeHint.next(10, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testListsAndSetsOfVaryingSize() throws Exception
+    {
+        for (int size : SIZES) {
+            final List<Integer> input = _ints(size);
+            final String json = MAPPER.writeValueAsString(input);
+            assertEquals(ImmutableList.copyOf(input),
+                    MAPPER.readValue(json, new TypeReference<ImmutableList<Integer>>() { }));
+            assertEquals(ImmutableSet.copyOf(input),
+                    MAPPER.readValue(json, new TypeReference<ImmutableSet<Integer>>() { }));
+        }
+    }
+
+    @Test
+    public void testMapsOfVaryingSize() throws Exception
+    {
+        for (int size : SIZES) {
+            final Map<String, Integer> input = new LinkedHashMap<>();
+            for (int i = 0; i < size; ++i) {
+                input.put("k" + i, i);
+            }
+            final String json = MAPPER.writeValueAsString(input);
+            assertEquals(ImmutableMap.copyOf(input),
+                    MAPPER.readValue(json, new TypeReference<ImmutableMap<String, Integer>>() { }));
+            assertEquals(ImmutableBiMap.copyOf(input),
+                    MAPPER.readValue(json, new TypeReference<ImmutableBiMap<String, Integer>>() { }));
+        }
+    }
+
+    private static List<Integer> _ints(int size) {
+        List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package tools.jackson.datatype.guava;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.datatype.primitive_collections_base.deser.Canonicalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for canonicalization of deserialized immutable collections,
+ * enabled with {@link GuavaModule#canonicalizeImmutableCollections}.
+ */
+public class CanonicalizationTest extends ModuleTestBase
+{
+    static class Record {
+        public ImmutableSet<String> tags;
+        public ImmutableList<Long> ids;
+        public ImmutableSortedSet<String> sortedTags;
+    }
+
+    static class UpperCaseDeserializer extends StdScalarDeserializer<String> {
+        public UpperCaseDeserializer() { super(String.class); }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) {
+            return p.getString().toUpperCase();
+        }
+    }
+
+    private final static TypeReference<List<Record>> RECORDS_TYPE
+        = new TypeReference<List<Record>>() { };
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new GuavaModule().canonicalizeImmutableCollections(3, true))
+            .build();
+
+    @Test
+    public void testEqualCollectionsShared() throws Exception
+    {
+        List<Record> records = MAPPER.readValue(a2q(
+                "[{'tags':['a','b'],'ids':[1,2],'sortedTags':['a','b']},"
+                +"{'tags':['a','b'],'ids':[1,2],'sortedTags':['b','a']},"
+                +"{'tags':['a','c'],'ids':[1,2,3]}]"),
+                RECORDS_TYPE);
+        assertSame(records.get(0).tags, records.get(1).tags);
+        assertSame(records.get(0).ids, records.get(1).ids);
+        assertSame(records.get(0).sortedTags, records.get(1).sortedTags);
+        assertNotSame(records.get(0).tags, records.get(2).tags);
+        // Equal but different type must not be mixed up
+        assertEquals(records.get(0).tags, records.get(0).sortedTags);
+        assertNotSame(records.get(0).tags, records.get(0).sortedTags);
+        // and String elements interned as well
+        assertSame(records.get(0).tags.asList().get(0), records.get(2).tags.asList().get(0));
+    }
+
+    @Test
+    public void testSizeLimit() throws Exception
+    {
+        List<Record> records = MAPPER.readValue(a2q(
+                "[{'ids':[1,2,3,4]},{'ids':[1,2,3,4]}]"), RECORDS_TYPE);
+        assertEquals(records.get(0).ids, records.get(1).ids);
+        assertNotSame(records.get(0).ids, records.get(1).ids);
+    }
+
+    @Test
+    public void testEntryLimit() throws Exception
+    {
+        final Canonicalizer canonicalizer = new Canonicalizer(Canonicalizer.DEFAULT_MAX_ELEMENTS,
+                false, 2);
+        final List<Integer> first = ImmutableList.of(1);
+        final List<Integer> second = ImmutableList.of(2);
+        assertSame(first, canonicalizer.canonicalize(first));
+        assertSame(second, canonicalizer.canonicalize(second));
+        // table full: new values not retained...
+        final List<Integer> third = ImmutableList.of(3);
+        assertSame(third, canonicalizer.canonicalize(third));
+        assertNotSame(third, canonicalizer.canonicalize(ImmutableList.of(3)));
+        // ... but existing ones still shared
+        assertSame(first, canonicalizer.canonicalize(ImmutableList.of(1)));
+    }
+
+    @Test
+    public void testIterationOrderRetained() throws Exception
+    {
+        List<Record> records = MAPPER.readValue(a2q(
+                "[{'tags':['a','b']},{'tags':['b','a']}]"), RECORDS_TYPE);
+        assertEquals(records.get(0).tags, records.get(1).tags);
+        assertEquals(ImmutableList.of("b", "a"), records.get(1).tags.asList());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        List<Record> records = mapperWithModule().readValue(a2q(
+                "[{'ids':[1,2]},{'ids':[1,2]}]"), RECORDS_TYPE);
+        assertEquals(records.get(0).ids, records.get(1).ids);
+        assertNotSame(records.get(0).ids, records.get(1).ids);
+    }
+
+    @Test
+    public void testCustomStringDeserializer() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().canonicalizeImmutableCollections(3, true))
+                .addModule(new SimpleModule().addDeserializer(String.class, new UpperCaseDeserializer()))
+                .build();
+        List<ImmutableList<String>> lists = mapper.readValue(a2q("[['a','b'],['a','b']]"),
+                new TypeReference<List<ImmutableList<String>>>() { });
+        assertEquals(Arrays.asList("A", "B"), lists.get(0).asList());
+        assertSame(lists.get(0), lists.get(1));
+    }
+}
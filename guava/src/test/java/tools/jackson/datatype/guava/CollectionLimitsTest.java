@@ -0,0 +1,181 @@
+package tools.jackson.datatype.guava;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.primitives.ImmutableIntArray;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DefaultTyping;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.JsonCollectionLimits;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for limits on container sizes configured using {@link CollectionLimits}.
+ */
+public class CollectionLimitsTest extends ModuleTestBase
+{
+    static class LimitedBean {
+        @JsonCollectionLimits(maxElements = 2)
+        public ImmutableList<ImmutableList<Integer>> lists;
+
+        @JsonCollectionLimits(maxValuesPerKey = 1)
+        public ListMultimap<String, Integer> multimap;
+
+        public ImmutableList<Integer> unlimited;
+    }
+
+    static class PolymorphicLimitedBean {
+        @JsonCollectionLimits(maxElements = 2)
+        public ImmutableList<Integer> values;
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testMaxElementsPerRead() throws Exception
+    {
+        final ObjectReader r = MAPPER.readerFor(new TypeReference<ImmutableList<Integer>>() { })
+                .withAttribute(CollectionLimits.MAX_ELEMENTS, 3);
+        assertEquals(ImmutableList.of(1, 2, 3), r.readValue("[1,2,3]"));
+
+        MismatchedInputException e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue("[1,2,3,4]"));
+        verifyException(e, "number of elements exceeds maximum allowed (3");
+
+        e = assertThrows(MismatchedInputException.class,
+                () -> r.forType(new TypeReference<ImmutableMap<String, Integer>>() { })
+                    .readValue(a2q("{'a':1,'b':2,'c':3,'d':4}")));
+        verifyException(e, "number of elements exceeds maximum allowed");
+
+        e = assertThrows(MismatchedInputException.class,
+                () -> r.forType(ImmutableIntArray.class).readValue("[1,2,3,4]"));
+        verifyException(e, "number of elements exceeds maximum allowed");
+
+        // no limit by default
+        assertEquals(4, MAPPER.readValue("[1,2,3,4]",
+                new TypeReference<ImmutableList<Integer>>() { }).size());
+    }
+
+    @Test
+    public void testMultimapLimits() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule())
+                .defaultAttributes(MAPPER.deserializationConfig().getAttributes()
+                        .withSharedAttribute(CollectionLimits.MAX_VALUES_PER_KEY, 2)
+                        .withSharedAttribute(CollectionLimits.MAX_ELEMENTS, 3))
+                .build();
+        final TypeReference<ListMultimap<String, Integer>> type =
+                new TypeReference<ListMultimap<String, Integer>>() { };
+
+        assertEquals(3, mapper.readValue(a2q("{'a':[1,2],'b':[3]}"), type).size());
+
+        MismatchedInputException e = assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue(a2q("{'a':[1,2,3]}"), type));
+        verifyException(e, "number of values for key 'a' exceeds maximum allowed (2");
+
+        e = assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue(a2q("{'a':[1,2],'b':[3,4]}"), type));
+        verifyException(e, "number of elements exceeds maximum allowed (3");
+    }
+
+    @Test
+    public void testModuleLimits() throws Exception
+    {
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule()
+                        .maxCollectionElements(3)
+                        .maxMultimapValuesPerKey(1))
+                .build();
+        assertEquals(3, mapper.readValue("[1,2,3]",
+                new TypeReference<ImmutableList<Integer>>() { }).size());
+        MismatchedInputException e = assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue("[1,2,3,4]", new TypeReference<ImmutableList<Integer>>() { }));
+        verifyException(e, "number of elements exceeds maximum allowed (3");
+        e = assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue(a2q("{'a':[1,2]}"),
+                        new TypeReference<ListMultimap<String, Integer>>() { }));
+        verifyException(e, "number of values for key 'a' exceeds maximum allowed (1");
+
+        // explicitly configured attributes have precedence
+        final ObjectMapper mapper2 = JsonMapper.builder()
+                .defaultAttributes(MAPPER.deserializationConfig().getAttributes()
+                        .withSharedAttribute(CollectionLimits.MAX_ELEMENTS, 4))
+                .addModule(new GuavaModule().maxCollectionElements(3))
+                .build();
+        assertEquals(4, mapper2.readValue("[1,2,3,4]",
+                new TypeReference<ImmutableList<Integer>>() { }).size());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new GuavaModule().maxCollectionElements(-1));
+    }
+
+    @Test
+    public void testPropertyLimits() throws Exception
+    {
+        final ObjectReader r = MAPPER.readerFor(LimitedBean.class)
+                .withAttribute(CollectionLimits.MAX_ELEMENTS, 3);
+
+        // annotation limits the property value, but not nested values
+        LimitedBean bean = r.readValue(a2q(
+                "{'lists':[[1,2,3],[4]],'multimap':{'a':[1],'b':[2]},'unlimited':[1,2,3]}"));
+        assertEquals(2, bean.lists.size());
+        assertEquals(2, bean.multimap.size());
+
+        MismatchedInputException e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue(a2q("{'lists':[[1],[2],[3]]}")));
+        verifyException(e, "number of elements exceeds maximum allowed (2");
+        e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue(a2q("{'lists':[[1,2,3,4]]}")));
+        verifyException(e, "number of elements exceeds maximum allowed (3");
+        e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue(a2q("{'multimap':{'a':[1,2]}}")));
+        verifyException(e, "number of values for key 'a' exceeds maximum allowed (1");
+        e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue(a2q("{'unlimited':[1,2,3,4]}")));
+        verifyException(e, "number of elements exceeds maximum allowed (3");
+    }
+
+    @Test
+    public void testPropertyLimitsPolymorphic() throws Exception
+    {
+        final ObjectMapper mapper = builderWithModule()
+                .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                        .allowIfBaseType(Object.class)
+                        .build(), DefaultTyping.NON_FINAL)
+                .build();
+        // limits could not be enforced, so must fail rather than ignore annotation
+        InvalidDefinitionException e = assertThrows(InvalidDefinitionException.class,
+                () -> mapper.readValue(a2q("['"+PolymorphicLimitedBean.class.getName()
+                        +"',{'values':['com.google.common.collect.ImmutableList',[1,2,3]]}]"),
+                        PolymorphicLimitedBean.class));
+        verifyException(e, "`@JsonCollectionLimits` not supported");
+        verifyException(e, "polymorphic type handling");
+    }
+
+    @Test
+    public void testInvalidLimitAttribute() throws Exception
+    {
+        InvalidDefinitionException e = assertThrows(InvalidDefinitionException.class,
+                () -> MAPPER.readerFor(new TypeReference<ImmutableList<Integer>>() { })
+                    .withAttribute(CollectionLimits.MAX_ELEMENTS, "3")
+                    .readValue("[1,2,3]"));
+        verifyException(e, "Invalid value for attribute `"+CollectionLimits.MAX_ELEMENTS+"`");
+        e = assertThrows(InvalidDefinitionException.class,
+                () -> MAPPER.readerFor(new TypeReference<ImmutableList<Integer>>() { })
+                    .withAttribute(CollectionLimits.MAX_ELEMENTS, -1)
+                    .readValue("[1,2,3]"));
+        verifyException(e, "expected non-negative `Integer`");
+    }
+}
@@ -0,0 +1,104 @@
+package tools.jackson.datatype.guava;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.primitive_collections_base.CollectionEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Flight Recorder events emitted by (de)serializers.
+ */
+public class FlightRecorderEventsTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testEventsRecorded() throws Exception
+    {
+        final Cache<String, Integer> cache = CacheBuilder.newBuilder().build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CollectionEvent.NAME);
+            recording.start();
+
+            ImmutableList<Integer> list = MAPPER.readValue("[1,2,3]",
+                    new TypeReference<ImmutableList<Integer>>() { });
+            assertEquals(3, list.size());
+            ListMultimap<String, Integer> multimap = MAPPER.readValue("{\"a\":[1,2],\"b\":[3]}",
+                    new TypeReference<ListMultimap<String, Integer>>() { });
+            assertEquals(3, multimap.size());
+            assertEquals(a2q("{'a':1,'b':2}"), MAPPER.writeValueAsString(cache));
+
+            recording.stop();
+            final Path file = Files.createTempFile("guava-events", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        final List<RecordedEvent> recorded = _events(events, CollectionEvent.NAME);
+        assertEquals(3, recorded.size());
+        final RecordedEvent listEvent = recorded.get(0);
+        assertEquals(CollectionEvent.DESERIALIZATION, listEvent.getString("direction"));
+        assertEquals(ImmutableList.class.getName(), listEvent.getClass("handledType").getName());
+        assertEquals(3L, listEvent.getLong("elementCount"));
+        assertEquals(7L, listEvent.getLong("inputSpan"));
+
+        final RecordedEvent multimapEvent = recorded.get(1);
+        assertEquals(CollectionEvent.DESERIALIZATION, multimapEvent.getString("direction"));
+        assertEquals(3L, multimapEvent.getLong("elementCount"));
+
+        final RecordedEvent cacheEvent = recorded.get(2);
+        assertEquals(CollectionEvent.SERIALIZATION, cacheEvent.getString("direction"));
+        assertEquals(2L, cacheEvent.getLong("elementCount"));
+        assertEquals(-1L, cacheEvent.getLong("inputSpan"));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        try (Recording recording = new Recording()) {
+            recording.start();
+            MAPPER.readValue("[1]", new TypeReference<ImmutableList<Integer>>() { });
+            recording.stop();
+            final Path file = Files.createTempFile("guava-events", ".jfr");
+            try {
+                recording.dump(file);
+                assertTrue(_events(RecordingFile.readAllEvents(file),
+                        CollectionEvent.NAME).isEmpty());
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static List<RecordedEvent> _events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
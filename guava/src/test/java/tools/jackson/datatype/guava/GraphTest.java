@@ -0,0 +1,278 @@
+package tools.jackson.datatype.guava;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.graph.Graph;
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.ImmutableGraph;
+import com.google.common.graph.ImmutableNetwork;
+import com.google.common.graph.ImmutableValueGraph;
+import com.google.common.graph.MutableGraph;
+import com.google.common.graph.Network;
+import com.google.common.graph.NetworkBuilder;
+import com.google.common.graph.ValueGraph;
+import com.google.common.graph.ValueGraphBuilder;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Guava {@link Graph}, {@link ValueGraph} and {@link Network}
+ * handling, using compact adjacency representation.
+ */
+public class GraphTest extends ModuleTestBase
+{
+    static class GraphWrapper {
+        public ImmutableGraph<String> graph;
+
+        protected GraphWrapper() { }
+        public GraphWrapper(ImmutableGraph<String> g) { graph = g; }
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final static TypeReference<ImmutableGraph<String>> GRAPH_TYPE
+        = new TypeReference<ImmutableGraph<String>>() { };
+
+    private final static TypeReference<ImmutableValueGraph<String, Double>> VALUE_GRAPH_TYPE
+        = new TypeReference<ImmutableValueGraph<String, Double>>() { };
+
+    private final static TypeReference<ImmutableNetwork<Integer, String>> NETWORK_TYPE
+        = new TypeReference<ImmutableNetwork<Integer, String>>() { };
+
+    /*
+    /**********************************************************************
+    /* Graph
+    /**********************************************************************
+     */
+
+    @Test
+    public void testDirectedGraph() throws Exception
+    {
+        final ImmutableGraph<String> graph = GraphBuilder.directed()
+                .<String>immutable()
+                .putEdge("a", "b")
+                .putEdge("a", "c")
+                .putEdge("b", "c")
+                .addNode("d")
+                .build();
+        final String json = MAPPER.writerFor(GRAPH_TYPE).writeValueAsString(graph);
+        assertEquals(a2q("{'directed':true,'allowsSelfLoops':false,'nodes':['a','b','c','d'],"
+                +"'successors':[[1,2],[2],[],[]]}"), json);
+
+        ImmutableGraph<String> result = MAPPER.readValue(json, GRAPH_TYPE);
+        assertEquals(graph, result);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), new ArrayList<>(result.nodes()));
+        assertFalse(result.allowsSelfLoops());
+
+        // and same via plain interface
+        assertEquals(graph, MAPPER.readValue(json, new TypeReference<Graph<String>>() { }));
+    }
+
+    @Test
+    public void testUndirectedGraphWithSelfLoops() throws Exception
+    {
+        final ImmutableGraph<Integer> graph = GraphBuilder.undirected()
+                .allowsSelfLoops(true)
+                .<Integer>immutable()
+                .putEdge(1, 2)
+                .putEdge(2, 2)
+                .putEdge(3, 1)
+                .build();
+        final TypeReference<ImmutableGraph<Integer>> type =
+                new TypeReference<ImmutableGraph<Integer>>() { };
+        final String json = MAPPER.writerFor(type).writeValueAsString(graph);
+        // each undirected edge listed just once
+        assertEquals(a2q("{'directed':false,'allowsSelfLoops':true,'nodes':[1,2,3],"
+                +"'successors':[[1,2],[1],[]]}"), json);
+
+        ImmutableGraph<Integer> result = MAPPER.readValue(json, type);
+        assertEquals(graph, result);
+        assertFalse(result.isDirected());
+        assertTrue(result.allowsSelfLoops());
+    }
+
+    @Test
+    public void testMutableGraph() throws Exception
+    {
+        final MutableGraph<String> graph = GraphBuilder.directed().build();
+        graph.putEdge("x", "y");
+        final TypeReference<MutableGraph<String>> type =
+                new TypeReference<MutableGraph<String>>() { };
+        MutableGraph<String> result = MAPPER.readValue(
+                MAPPER.writerFor(type).writeValueAsString(graph), type);
+        assertEquals(graph, result);
+        result.putEdge("y", "z");
+        assertEquals(3, result.nodes().size());
+    }
+
+    @Test
+    public void testGraphAsProperty() throws Exception
+    {
+        final ImmutableGraph<String> graph = GraphBuilder.directed()
+                .<String>immutable()
+                .putEdge("a", "b")
+                .build();
+        final String json = MAPPER.writeValueAsString(new GraphWrapper(graph));
+        assertEquals(graph, MAPPER.readValue(json, GraphWrapper.class).graph);
+    }
+
+    @Test
+    public void testEmptyGraph() throws Exception
+    {
+        ImmutableGraph<String> result = MAPPER.readValue("{}", GRAPH_TYPE);
+        assertTrue(result.nodes().isEmpty());
+        assertTrue(result.isDirected());
+    }
+
+    /*
+    /**********************************************************************
+    /* ValueGraph
+    /**********************************************************************
+     */
+
+    @Test
+    public void testValueGraph() throws Exception
+    {
+        final ImmutableValueGraph<String, Double> graph = ValueGraphBuilder.directed()
+                .<String, Double>immutable()
+                .putEdgeValue("a", "b", 0.5)
+                .putEdgeValue("b", "a", 1.5)
+                .putEdgeValue("b", "c", 2.0)
+                .build();
+        final String json = MAPPER.writerFor(VALUE_GRAPH_TYPE).writeValueAsString(graph);
+        assertEquals(a2q("{'directed':true,'allowsSelfLoops':false,'nodes':['a','b','c'],"
+                +"'successors':[[1],[0,2],[]],'values':[[0.5],[1.5,2.0],[]]}"), json);
+
+        ImmutableValueGraph<String, Double> result = MAPPER.readValue(json, VALUE_GRAPH_TYPE);
+        assertEquals(graph, result);
+        assertEquals(Double.valueOf(2.0), result.edgeValueOrDefault("b", "c", null));
+    }
+
+    @Test
+    public void testUndirectedValueGraph() throws Exception
+    {
+        final ImmutableValueGraph<String, Double> graph = ValueGraphBuilder.undirected()
+                .<String, Double>immutable()
+                .putEdgeValue("a", "b", 0.5)
+                .putEdgeValue("c", "b", 1.5)
+                .build();
+        final String json = MAPPER.writerFor(VALUE_GRAPH_TYPE).writeValueAsString(graph);
+        assertEquals(graph, MAPPER.readValue(json, VALUE_GRAPH_TYPE));
+    }
+
+    @Test
+    public void testValueGraphMissingValues() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'nodes':['a','b'],'successors':[[1],[]]}"), VALUE_GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "missing 'values'");
+        }
+        try {
+            MAPPER.readValue(a2q("{'nodes':['a','b'],'successors':[[1],[]],'values':[[0.5,1.0],[]]}"),
+                    VALUE_GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "does not match");
+        }
+        // values for edges of trailing nodes must not be left out either
+        try {
+            MAPPER.readValue(a2q("{'nodes':['a','b','c'],'successors':[[],[2],[]],'values':[[]]}"),
+                    VALUE_GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "for node #1 does not match");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Network
+    /**********************************************************************
+     */
+
+    @Test
+    public void testNetworkWithParallelEdges() throws Exception
+    {
+        final ImmutableNetwork<Integer, String> network = NetworkBuilder.directed()
+                .allowsParallelEdges(true)
+                .<Integer, String>immutable()
+                .addEdge(1, 2, "e1")
+                .addEdge(1, 2, "e2")
+                .addEdge(2, 3, "e3")
+                .build();
+        final String json = MAPPER.writerFor(NETWORK_TYPE).writeValueAsString(network);
+        assertEquals(a2q("{'directed':true,'allowsSelfLoops':false,'allowsParallelEdges':true,"
+                +"'nodes':[1,2,3],'successors':[[1,1],[2],[]],'edges':[['e1','e2'],['e3'],[]]}"),
+                json);
+
+        ImmutableNetwork<Integer, String> result = MAPPER.readValue(json, NETWORK_TYPE);
+        assertEquals(network, result);
+        assertTrue(result.allowsParallelEdges());
+        assertEquals(2, result.edgesConnecting(1, 2).size());
+    }
+
+    @Test
+    public void testUndirectedNetwork() throws Exception
+    {
+        final ImmutableNetwork<Integer, String> network = NetworkBuilder.undirected()
+                .allowsSelfLoops(true)
+                .<Integer, String>immutable()
+                .addEdge(1, 2, "a")
+                .addEdge(3, 1, "b")
+                .addEdge(3, 3, "c")
+                .build();
+        final String json = MAPPER.writerFor(NETWORK_TYPE).writeValueAsString(network);
+        assertEquals(network, MAPPER.readValue(json, NETWORK_TYPE));
+    }
+
+    /*
+    /**********************************************************************
+    /* Invalid input
+    /**********************************************************************
+     */
+
+    @Test
+    public void testSuccessorsBeforeNodes() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'successors':[[1],[]],'nodes':['a','b']}"), GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "must be preceded by 'nodes'");
+        }
+    }
+
+    @Test
+    public void testInvalidIndex() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'nodes':['a','b'],'successors':[[2],[]]}"), GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "node index 2 out of range");
+        }
+    }
+
+    @Test
+    public void testDisallowedSelfLoop() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'allowsSelfLoops':false,'nodes':['a'],'successors':[[0]]}"),
+                    GRAPH_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "Problem deserializing");
+            verifyException(e, "self-loop");
+        }
+    }
+}
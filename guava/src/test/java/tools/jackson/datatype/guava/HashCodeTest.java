@@ -2,15 +2,27 @@ package tools.jackson.datatype.guava;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import com.google.common.hash.HashCode;
 
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.BinaryNode;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class HashCodeTest extends ModuleTestBase
 {
+    static class BinaryWrapper {
+        @JsonFormat(shape = JsonFormat.Shape.BINARY)
+        public HashCode hash;
+
+        protected BinaryWrapper() { }
+        public BinaryWrapper(HashCode h) { hash = h; }
+    }
+
     private final ObjectMapper MAPPER = mapperWithModule();
 
     @Test
@@ -36,4 +48,40 @@ public class HashCodeTest extends ModuleTestBase
             verifyException(e, "Illegal hexadecimal character");
         }
     }
+
+    @Test
+    public void testBinaryShape() throws Exception
+    {
+        HashCode input = HashCode.fromString("cafebabe12345678");
+        String json = MAPPER.writeValueAsString(new BinaryWrapper(input));
+        assertEquals(a2q("{'hash':'yv66vhI0Vng='}"), json);
+        assertEquals(input, MAPPER.readValue(json, BinaryWrapper.class).hash);
+
+        // and native binary accepted regardless of shape
+        JsonNode tree = BinaryNode.valueOf(input.asBytes());
+        assertEquals(input, MAPPER.treeToValue(tree, HashCode.class));
+    }
+
+    @Test
+    public void testBinaryShapeNoBytes() throws Exception
+    {
+        // whitespace is skipped by Base64 decoding, leaving no bytes
+        try {
+            MAPPER.readValue(a2q("{'hash':'  '}"), BinaryWrapper.class);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "decodes to no bytes");
+        }
+    }
+
+    @Test
+    public void testDeserializationInvalidLength() throws Exception
+    {
+        try {
+            MAPPER.readValue(q("abc"), HashCode.class);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "even number of characters");
+        }
+    }
 }
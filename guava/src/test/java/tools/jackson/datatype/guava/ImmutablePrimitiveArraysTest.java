@@ -0,0 +1,111 @@
+package tools.jackson.datatype.guava;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.primitives.ImmutableDoubleArray;
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.common.primitives.ImmutableLongArray;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.BinaryNode;
+import tools.jackson.datatype.guava.util.ImmutablePrimitiveTypes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for unboxed handling of {@link ImmutableIntArray},
+ * {@link ImmutableLongArray} and {@link ImmutableDoubleArray},
+ * including packed binary input.
+ */
+public class ImmutablePrimitiveArraysTest extends ModuleTestBase
+{
+    static class IntArrayWrapper {
+        public ImmutableIntArray values;
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testRoundTripVaryingSizes() throws Exception
+    {
+        // size estimate both over and under actual sizes
+        for (int size : new int[] { 1000, 3, 0, 2500, 10 }) {
+            final ImmutableIntArray.Builder b = ImmutableIntArray.builder();
+            for (int i = 0; i < size; ++i) {
+                b.add(i * 7 - 100);
+            }
+            final ImmutableIntArray ints = b.build();
+            final String json = MAPPER.writeValueAsString(ints);
+            ImmutableIntArray result = MAPPER.readValue(json,
+                    ImmutablePrimitiveTypes.ImmutableIntArrayReference);
+            assertEquals(ints, result);
+        }
+    }
+
+    @Test
+    public void testEmptyAndSubArray() throws Exception
+    {
+        assertEquals("[]", MAPPER.writeValueAsString(ImmutableIntArray.of()));
+        final IntArrayWrapper w = new IntArrayWrapper();
+        w.values = ImmutableIntArray.of(1, 2, 3, 4).subArray(1, 3);
+        assertEquals(a2q("{'values':[2,3]}"), MAPPER.writeValueAsString(w));
+        w.values = ImmutableIntArray.of();
+        assertEquals(a2q("{'values':[]}"), MAPPER.writeValueAsString(w));
+    }
+
+    @Test
+    public void testLongsAndDoubles() throws Exception
+    {
+        final ImmutableLongArray longs = ImmutableLongArray.of(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        assertEquals(longs, MAPPER.readValue(MAPPER.writeValueAsString(longs),
+                ImmutablePrimitiveTypes.ImmutableLongArrayReference));
+        final ImmutableDoubleArray doubles = ImmutableDoubleArray.of(0.5, -1.25, 1e100);
+        assertEquals("[0.5,-1.25,1.0E100]", MAPPER.writeValueAsString(doubles));
+        assertEquals(doubles, MAPPER.readValue(MAPPER.writeValueAsString(doubles),
+                ImmutablePrimitiveTypes.ImmutableDoubleArrayReference));
+    }
+
+    @Test
+    public void testPackedBase64() throws Exception
+    {
+        final byte[] packed = ByteBuffer.allocate(12).putInt(1).putInt(-2).putInt(Integer.MAX_VALUE)
+                .array();
+        ImmutableIntArray ints = MAPPER.readValue(q(Base64.getEncoder().encodeToString(packed)),
+                ImmutablePrimitiveTypes.ImmutableIntArrayReference);
+        assertEquals(ImmutableIntArray.of(1, -2, Integer.MAX_VALUE), ints);
+
+        final byte[] packedDoubles = ByteBuffer.allocate(16).putDouble(0.25).putDouble(-3.0).array();
+        ImmutableDoubleArray doubles = MAPPER.readValue(
+                q(Base64.getEncoder().encodeToString(packedDoubles)),
+                ImmutablePrimitiveTypes.ImmutableDoubleArrayReference);
+        assertEquals(ImmutableDoubleArray.of(0.25, -3.0), doubles);
+
+        assertTrue(MAPPER.readValue(q(""),
+                ImmutablePrimitiveTypes.ImmutableLongArrayReference).isEmpty());
+    }
+
+    @Test
+    public void testPackedNativeBinary() throws Exception
+    {
+        final byte[] packed = ByteBuffer.allocate(16).putLong(42L).putLong(-1L).array();
+        ImmutableLongArray longs = MAPPER.treeToValue(BinaryNode.valueOf(packed),
+                ImmutableLongArray.class);
+        assertEquals(ImmutableLongArray.of(42L, -1L), longs);
+    }
+
+    @Test
+    public void testPackedInvalidLength() throws Exception
+    {
+        try {
+            MAPPER.readValue(q(Base64.getEncoder().encodeToString(new byte[6])),
+                    ImmutablePrimitiveTypes.ImmutableIntArrayReference);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "not a multiple of element size");
+        }
+    }
+}
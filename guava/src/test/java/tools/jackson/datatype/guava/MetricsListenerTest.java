@@ -0,0 +1,170 @@
+package tools.jackson.datatype.guava;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Table;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reporting metrics via {@link CollectionMetricsListener}.
+ */
+public class MetricsListenerTest extends ModuleTestBase
+{
+    static class Recorder implements CollectionMetricsListener
+    {
+        final List<String> deserialized = new ArrayList<>();
+        final List<String> serialized = new ArrayList<>();
+        final List<String> nullsSkipped = new ArrayList<>();
+        final List<String> lookups = new ArrayList<>();
+
+        @Override
+        public void valueDeserialized(Class<?> type, JsonFormat.Shape shape,
+                int elementCount, long nanos) {
+            assertTrue(nanos >= 0L);
+            deserialized.add(type.getSimpleName() + ":" + shape + ":" + elementCount);
+        }
+
+        @Override
+        public void valueSerialized(Class<?> type, JsonFormat.Shape shape,
+                int elementCount, long nanos) {
+            assertTrue(nanos >= 0L);
+            serialized.add(type.getSimpleName() + ":" + elementCount);
+        }
+
+        @Override
+        public void nullSkipped(Class<?> type) {
+            nullsSkipped.add(type.getSimpleName());
+        }
+
+        @Override
+        public void dynamicSerializerLookup(Class<?> type, Class<?> valueType) {
+            lookups.add(valueType.getSimpleName());
+        }
+    }
+
+    static class NullSkippingBean
+    {
+        @JsonSetter(contentNulls = Nulls.SKIP)
+        public ImmutableList<Integer> values;
+    }
+
+    @Test
+    public void testMetricsReported() throws Exception
+    {
+        final Recorder recorder = new Recorder();
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().metricsListener(recorder))
+                .build();
+
+        ImmutableList<ImmutableList<Integer>> lists = mapper.readValue("[[1,2],[3]]",
+                new TypeReference<ImmutableList<ImmutableList<Integer>>>() { });
+        assertEquals(ImmutableList.of(ImmutableList.of(1, 2), ImmutableList.of(3)), lists);
+        // inner values complete first
+        assertEquals(List.of("ImmutableList:ARRAY:2", "ImmutableList:ARRAY:1",
+                "ImmutableList:ARRAY:2"),
+                recorder.deserialized);
+
+        // non-container types not reported
+        assertEquals(Optional.of(3), mapper.readValue("3", new TypeReference<Optional<Integer>>() { }));
+        assertEquals(3, recorder.deserialized.size());
+
+        assertEquals(a2q("{'a':[1,2]}"),
+                mapper.writeValueAsString(ImmutableMultimap.of("a", 1, "a", 2)));
+        final Table<String, String, Integer> table = HashBasedTable.create();
+        table.put("r", "c", 1);
+        assertEquals(a2q("{'r':{'c':1}}"), mapper.writeValueAsString(table));
+        assertEquals(2, recorder.serialized.size());
+        assertTrue(recorder.serialized.get(0).endsWith(":2"));
+        assertEquals("HashBasedTable:1", recorder.serialized.get(1));
+    }
+
+    @Test
+    public void testShapeReported() throws Exception
+    {
+        final Recorder recorder = new Recorder();
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().metricsListener(recorder))
+                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+                .build();
+        assertEquals(ImmutableList.of(3), mapper.readValue("3",
+                new TypeReference<ImmutableList<Integer>>() { }));
+        assertEquals(List.of("ImmutableList:SCALAR:1"), recorder.deserialized);
+    }
+
+    @Test
+    public void testNullsSkippedReported() throws Exception
+    {
+        final Recorder recorder = new Recorder();
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().metricsListener(recorder))
+                .build();
+        NullSkippingBean bean = mapper.readValue(a2q("{'values':[1,null,2,null]}"),
+                NullSkippingBean.class);
+        assertEquals(ImmutableList.of(1, 2), bean.values);
+        assertEquals(List.of("ImmutableList", "ImmutableList"), recorder.nullsSkipped);
+    }
+
+    @Test
+    public void testDynamicLookupsReported() throws Exception
+    {
+        final Recorder recorder = new Recorder();
+        final ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new GuavaModule().metricsListener(recorder))
+                .build();
+        final Cache<String, Object> cache = CacheBuilder.newBuilder().build();
+        cache.put("a", 1);
+        cache.put("b", "x");
+        cache.put("c", 2);
+        mapper.writeValueAsString(cache);
+        // one lookup per distinct value type
+        assertEquals(2, recorder.lookups.size());
+        assertTrue(recorder.lookups.contains("Integer"));
+        assertTrue(recorder.lookups.contains("String"));
+
+        // and same for Multimaps and Tables
+        recorder.lookups.clear();
+        mapper.writeValueAsString(ImmutableListMultimap.<String, Object>of("a", 1, "a", "x", "b", 2));
+        assertEquals(List.of("Integer", "String"), recorder.lookups);
+
+        // (nested shape is written using standard Map serializers, so need other shape)
+        recorder.lookups.clear();
+        final ObjectMapper cellsMapper = JsonMapper.builder()
+                .addModule(new GuavaModule().metricsListener(recorder)
+                        .defaultTableShape(TableShape.CELLS))
+                .build();
+        final Table<String, String, Object> table = HashBasedTable.create();
+        table.put("r", "c1", 1);
+        table.put("r", "c2", true);
+        cellsMapper.writeValueAsString(table);
+        assertEquals(List.of("Integer", "Boolean"), recorder.lookups);
+    }
+
+    @Test
+    public void testNoListenerNoWrapping() throws Exception
+    {
+        final ObjectMapper mapper = mapperWithModule();
+        assertEquals(ImmutableList.of(1), mapper.readValue("[1]",
+                new TypeReference<ImmutableList<Integer>>() { }));
+    }
+}
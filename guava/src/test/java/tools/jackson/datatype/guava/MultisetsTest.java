@@ -88,6 +88,21 @@ public class MultisetsTest extends ModuleTestBase
         _testMultiset(new TypeReference<HashMultiset<String>>() { });
     }
 
+    @Test
+    public void testConcurrentHashMultiset() throws Exception {
+        _testMultiset(new TypeReference<ConcurrentHashMultiset<String>>() { });
+        // and with varying sizes, to exercise pre-sizing
+        final TypeReference<ConcurrentHashMultiset<Integer>> type =
+                new TypeReference<ConcurrentHashMultiset<Integer>>() { };
+        for (int size : new int[] { 500, 3, 0, 1200 }) {
+            final ConcurrentHashMultiset<Integer> set = ConcurrentHashMultiset.create();
+            for (int i = 0; i < size; ++i) {
+                set.add(i % 100, i % 3 + 1);
+            }
+            assertEquals(set, MAPPER.readValue(MAPPER.writeValueAsString(set), type));
+        }
+    }
+
     @Test
     public void testTreeMultiset() throws Exception {
         _testMultiset(new TypeReference<TreeMultiset<String>>() { });
@@ -0,0 +1,132 @@
+package tools.jackson.datatype.guava;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import com.google.common.primitives.Chars;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import tools.jackson.datatype.guava.util.PrimitiveTypes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for unboxed reading and writing of lists returned by
+ * {@link Ints#asList} and its siblings.
+ */
+public class PrimitiveListsTest extends ModuleTestBase
+{
+    static class IntsHolder {
+        public List<Integer> values;
+    }
+
+    static class UnwrappingHolder {
+        @JsonFormat(with = JsonFormat.Feature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+        public List<Integer> unwrapped;
+
+        @JsonFormat(without = JsonFormat.Feature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+        public List<Integer> wrapped;
+    }
+
+    static class PolymorphicHolder {
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object value;
+
+        protected PolymorphicHolder() { }
+        public PolymorphicHolder(Object v) { value = v; }
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testIntsRoundTrip() throws Exception
+    {
+        // enough entries to need multiple chunks
+        final int[] ints = new int[20000];
+        for (int i = 0; i < ints.length; ++i) {
+            ints[i] = i * 31 - 7000;
+        }
+        final String json = MAPPER.writeValueAsString(Ints.asList(ints));
+        List<Integer> result = MAPPER.readValue(json, PrimitiveTypes.IntsTypeReference);
+        assertTrue(PrimitiveTypes.IntsType.isInstance(result));
+        assertArrayEquals(ints, Ints.toArray(result));
+    }
+
+    @Test
+    public void testLongsAndDoubles() throws Exception
+    {
+        final List<Long> longs = Longs.asList(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        String json = MAPPER.writeValueAsString(longs);
+        assertEquals("[-9223372036854775808,0,9223372036854775807]", json);
+        assertEquals(longs, MAPPER.readValue(json, PrimitiveTypes.LongsTypeReference));
+
+        final List<Double> doubles = Doubles.asList(0.25, -1.5, 1e10);
+        json = MAPPER.writeValueAsString(doubles);
+        assertEquals("[0.25,-1.5,1.0E10]", json);
+        assertEquals(doubles, MAPPER.readValue(json, PrimitiveTypes.DoublesTypeReference));
+    }
+
+    @Test
+    public void testOtherPrimitives() throws Exception
+    {
+        assertEquals(Floats.asList(0.5f, 2f),
+                MAPPER.readValue("[0.5,2.0]", PrimitiveTypes.FloatsTypeReference));
+        assertEquals(Chars.asList('a', 'b', 'c'),
+                MAPPER.readValue(a2q("['a','bc','c']"), PrimitiveTypes.CharsTypeReference));
+        assertTrue(MAPPER.readValue("[]", PrimitiveTypes.IntsTypeReference).isEmpty());
+    }
+
+    @Test
+    public void testAsProperty() throws Exception
+    {
+        IntsHolder h = new IntsHolder();
+        h.values = Ints.asList(3, 1, 2);
+        assertEquals(a2q("{'values':[3,1,2]}"), MAPPER.writeValueAsString(h));
+    }
+
+    @Test
+    public void testSingleElementUnwrapped() throws Exception
+    {
+        assertEquals("7", MAPPER.writer()
+                .with(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                .writeValueAsString(Ints.asList(7)));
+    }
+
+    @Test
+    public void testSingleElementUnwrappedPerProperty() throws Exception
+    {
+        UnwrappingHolder h = new UnwrappingHolder();
+        h.unwrapped = Ints.asList(7);
+        h.wrapped = Ints.asList(8);
+        final String expected = a2q("{'unwrapped':7,'wrapped':[8]}");
+        assertEquals(expected, MAPPER.writeValueAsString(h));
+        // property overrides have precedence over global setting
+        assertEquals(expected, MAPPER.writer()
+                .with(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                .writeValueAsString(h));
+    }
+
+    @Test
+    public void testPolymorphic() throws Exception
+    {
+        final ObjectMapper mapper = builderWithModule()
+                .polymorphicTypeValidator(BasicPolymorphicTypeValidator.builder()
+                        .allowIfBaseType(Object.class)
+                        .build())
+                .build();
+        final String json = mapper.writeValueAsString(new PolymorphicHolder(Longs.asList(1L, 2L)));
+        PolymorphicHolder result = mapper.readValue(json, PolymorphicHolder.class);
+        assertTrue(PrimitiveTypes.LongsType.isInstance(result.value));
+        assertEquals(Longs.asList(1L, 2L), result.value);
+    }
+}
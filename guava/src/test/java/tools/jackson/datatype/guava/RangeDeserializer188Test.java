@@ -1,6 +1,8 @@
 package tools.jackson.datatype.guava;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
@@ -100,6 +102,44 @@ public class RangeDeserializer188Test extends ModuleTestBase
                 RangeFactory.closedOpen('a', 'z'), Character.class);
     }
 
+    @Test
+    public void testTypedEndpointRangesFromBracketNotation() throws Exception
+    {
+        _testStringifiedRangeDeserialization("{\"r\":\"(-5000000000..5000000000]\"}",
+                RangeFactory.openClosed(-5000000000L, 5000000000L), Long.class);
+        _testStringifiedRangeDeserialization("{\"r\":\"[0.25..+∞)\"}",
+                RangeFactory.atLeast(new BigDecimal("0.25")), BigDecimal.class);
+        _testStringifiedRangeDeserialization("{\"r\":\"[2023-01-01T00:00:00Z..2023-02-01T00:00:00Z)\"}",
+                RangeFactory.closedOpen(Instant.parse("2023-01-01T00:00:00Z"),
+                        Instant.parse("2023-02-01T00:00:00Z")), Instant.class);
+
+        // and round-trip, too
+        Stringified<Long> input = new Stringified<>(RangeFactory.closed(-1L, Long.MAX_VALUE));
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals("{\"r\":\"[-1..9223372036854775807]\"}", json);
+        assertEquals(input.r, MAPPER.readValue(json,
+                new TypeReference<Stringified<Long>>() { }).r);
+    }
+
+    @Test
+    public void testInvalidTypedEndpoint() throws Exception
+    {
+        try {
+            MAPPER.readValue("{\"r\":\"[1..x]\"}",
+                    new TypeReference<Stringified<Integer>>() {});
+            fail("Should not pass");
+        } catch (InvalidFormatException e) {
+            verifyException(e, "not a valid representation");
+        }
+        try {
+            MAPPER.readValue("{\"r\":\"[1..5000000000]\"}",
+                    new TypeReference<Stringified<Integer>>() {});
+            fail("Should not pass");
+        } catch (InvalidFormatException e) {
+            verifyException(e, "5000000000");
+        }
+    }
+
     // Cannot implement here since `Duration` KeyDeserializer provided by Java 8 date/time module
     @Test
     public void testDurationRangeDeserializationFromBracketNotation() throws Exception
@@ -133,6 +173,9 @@ public class RangeDeserializer188Test extends ModuleTestBase
         testInvalidStringifiedDeserialization("[1.23]", RangeError.GENERIC_INVALID);
         testInvalidStringifiedDeserialization("[1.23, 4.56]", RangeError.GENERIC_INVALID);
         testInvalidStringifiedDeserialization("[1.23, 4.56)", RangeError.GENERIC_INVALID);
+        testInvalidStringifiedDeserialization("[1..2..3]", RangeError.GENERIC_INVALID);
+        testInvalidStringifiedDeserialization("[1..]", RangeError.GENERIC_INVALID);
+        testInvalidStringifiedDeserialization("()", RangeError.GENERIC_INVALID);
 
         // and then failure due to actual bad range (start and end in wrong order)
         testInvalidStringifiedDeserialization("[24, 15)", RangeError.GENERIC_INVALID);
@@ -299,4 +299,51 @@ public class RangeMapsTest extends ModuleTestBase
         ImmutableRangeMapWrapper output = MAPPER.readValue(json, ImmutableRangeMapWrapper.class);
         assertEquals(input, output);
     }
+
+    @Test
+    public void testImmutableRangeMapOverlapping() throws Exception
+    {
+        // empty ranges are ignored, as with `TreeRangeMap`
+        ImmutableRangeMap<Integer, String> result = MAPPER.readValue(
+                a2q("{'[1..3)':'a','[5..5)':'x','[3..4]':'b'}"),
+                new TypeReference<ImmutableRangeMap<Integer, String>>() {});
+        assertEquals(ImmutableRangeMap.<Integer, String>builder()
+                .put(Range.closedOpen(1, 3), "a")
+                .put(Range.closed(3, 4), "b")
+                .build(), result);
+
+        // overlapping ranges are accepted, later ones winning, as with `TreeRangeMap`
+        result = MAPPER.readValue(a2q("{'[1..3]':'a','[2..4]':'b'}"),
+                new TypeReference<ImmutableRangeMap<Integer, String>>() {});
+        assertEquals(ImmutableRangeMap.<Integer, String>builder()
+                .put(Range.closedOpen(1, 2), "a")
+                .put(Range.closed(2, 4), "b")
+                .build(), result);
+    }
+
+    @Test
+    public void testImmutableRangeMapOutOfOrder() throws Exception
+    {
+        final TypeReference<ImmutableRangeMap<Integer, String>> type =
+                new TypeReference<ImmutableRangeMap<Integer, String>>() {};
+        // ranges sharing an endpoint that only one of them contains
+        ImmutableRangeMap<Integer, String> result = MAPPER.readValue(
+                a2q("{'(1..3]':'a','(3..4]':'b','(4..5)':'c'}"), type);
+        assertEquals(ImmutableRangeMap.<Integer, String>builder()
+                .put(Range.openClosed(1, 3), "a")
+                .put(Range.openClosed(3, 4), "b")
+                .put(Range.open(4, 5), "c")
+                .build(), result);
+        // unless both contain it, in which case later one wins
+        result = MAPPER.readValue(a2q("{'(1..3]':'a','[3..4]':'b'}"), type);
+        assertEquals("b", result.get(3));
+        assertEquals("a", result.get(2));
+
+        // out of order, overlapping after first entries
+        result = MAPPER.readValue(a2q("{'[5..6]':'c','[1..2]':'a','[1..3]':'b'}"), type);
+        assertEquals(ImmutableRangeMap.<Integer, String>builder()
+                .put(Range.closed(1, 3), "b")
+                .put(Range.closed(5, 6), "c")
+                .build(), result);
+    }
 }
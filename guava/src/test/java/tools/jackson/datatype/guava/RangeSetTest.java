@@ -2,6 +2,8 @@ package tools.jackson.datatype.guava;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import com.google.common.collect.ImmutableRangeSet;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
@@ -18,6 +20,14 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class RangeSetTest extends ModuleTestBase {
 
+    static class CompactWrapper {
+        @JsonFormat(shape = JsonFormat.Shape.OBJECT)
+        public RangeSet<Integer> ranges;
+
+        protected CompactWrapper() { }
+        public CompactWrapper(RangeSet<Integer> r) { ranges = r; }
+    }
+
     private final ObjectMapper MAPPER = mapperWithModule();
 
     @Test
@@ -66,4 +76,58 @@ public class RangeSetTest extends ModuleTestBase {
             verifyException(e, "Guava `RangeSet` does not accept `null` values");
         }
     }
+
+    @Test
+    public void testCompactClosedOpen() throws Exception
+    {
+        final RangeSet<Integer> rangeSet = ImmutableRangeSet.<Integer>builder()
+                .add(Range.closedOpen(1, 5))
+                .add(Range.closedOpen(8, 10))
+                .build();
+        final String json = MAPPER.writeValueAsString(new CompactWrapper(rangeSet));
+        assertEquals(a2q("{'ranges':{'closedOpen':[1,5,8,10]}}"), json);
+        assertEquals(rangeSet, MAPPER.readValue(json, CompactWrapper.class).ranges);
+    }
+
+    @Test
+    public void testCompactMixed() throws Exception
+    {
+        final RangeSet<Integer> rangeSet = ImmutableRangeSet.<Integer>builder()
+                .add(Range.atMost(0))
+                .add(Range.closed(1, 5))
+                .add(Range.openClosed(7, 9))
+                .add(Range.greaterThan(10))
+                .build();
+        final String json = MAPPER.writeValueAsString(new CompactWrapper(rangeSet));
+        assertEquals(a2q("{'ranges':{'ranges':[null,0,2,1,5,3,7,9,2,10,null,0]}}"), json);
+        assertEquals(rangeSet, MAPPER.readValue(json, CompactWrapper.class).ranges);
+
+        // and without annotation, using config override
+        ObjectMapper mapper = builderWithModule()
+                .withConfigOverride(RangeSet.class,
+                        o -> o.setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.OBJECT)))
+                .build();
+        final String json2 = mapper.writerFor(new TypeReference<RangeSet<Integer>>() { })
+                .writeValueAsString(rangeSet);
+        assertEquals(a2q("{'ranges':[null,0,2,1,5,3,7,9,2,10,null,0]}"), json2);
+        // which is accepted even without config
+        assertEquals(rangeSet, MAPPER.readValue(json2, new TypeReference<RangeSet<Integer>>() {}));
+    }
+
+    @Test
+    public void testCompactInvalid() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'closedOpen':[1,5,8]}"), new TypeReference<RangeSet<Integer>>() {});
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "incomplete range");
+        }
+        try {
+            MAPPER.readValue(a2q("{'closedOpen':[1,5,3,8]}"), new TypeReference<RangeSet<Integer>>() {});
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "Overlapping ranges");
+        }
+    }
 }
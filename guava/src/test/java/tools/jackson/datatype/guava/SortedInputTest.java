@@ -0,0 +1,89 @@
+package tools.jackson.datatype.guava;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading sorted containers with {@link GuavaModule#expectSortedInput}
+ * enabled: results must be the same regardless of whether input is sorted.
+ */
+public class SortedInputTest extends ModuleTestBase
+{
+    private final static TypeReference<ImmutableSortedSet<Integer>> SET_TYPE
+        = new TypeReference<ImmutableSortedSet<Integer>>() { };
+
+    private final static TypeReference<ImmutableSortedMap<String, Integer>> MAP_TYPE
+        = new TypeReference<ImmutableSortedMap<String, Integer>>() { };
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new GuavaModule().expectSortedInput(true))
+            .build();
+
+    @Test
+    public void testSortedSet() throws Exception
+    {
+        // enough elements to need multiple buffer chunks
+        final ImmutableSortedSet.Builder<Integer> b = ImmutableSortedSet.naturalOrder();
+        for (int i = 0; i < 5000; ++i) {
+            b.add(i * 3);
+        }
+        final ImmutableSortedSet<Integer> set = b.build();
+        assertEquals(set, MAPPER.readValue(MAPPER.writeValueAsString(set), SET_TYPE));
+
+        assertTrue(MAPPER.readValue("[]", SET_TYPE).isEmpty());
+        assertEquals(ImmutableSortedSet.of(4), MAPPER.readValue("[4]", SET_TYPE));
+    }
+
+    @Test
+    public void testUnsortedSetFallback() throws Exception
+    {
+        ImmutableSortedSet<Integer> set = MAPPER.readValue("[3,1,2,2,5]", SET_TYPE);
+        assertEquals(ImmutableList.of(1, 2, 3, 5), set.asList());
+    }
+
+    @Test
+    public void testSortedMap() throws Exception
+    {
+        final ImmutableSortedMap.Builder<String, Integer> b = ImmutableSortedMap.naturalOrder();
+        for (int i = 0; i < 3000; ++i) {
+            b.put(String.format("key%05d", i), i);
+        }
+        final ImmutableSortedMap<String, Integer> map = b.build();
+        ImmutableSortedMap<String, Integer> result = MAPPER.readValue(
+                MAPPER.writeValueAsString(map), MAP_TYPE);
+        assertEquals(map, result);
+        assertEquals(ImmutableList.copyOf(map.keySet()), ImmutableList.copyOf(result.keySet()));
+
+        assertTrue(MAPPER.readValue("{}", MAP_TYPE).isEmpty());
+    }
+
+    @Test
+    public void testUnsortedMapFallback() throws Exception
+    {
+        ImmutableSortedMap<String, Integer> map = MAPPER.readValue(
+                a2q("{'b':2,'a':1,'c':null,'d':4}"), MAP_TYPE);
+        assertEquals(ImmutableList.of("a", "b", "d"), ImmutableList.copyOf(map.keySet()));
+        assertEquals(Integer.valueOf(4), map.get("d"));
+    }
+
+    @Test
+    public void testDuplicateKeys() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'a':1,'a':2}"), MAP_TYPE);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Multiple entries with same key");
+        }
+    }
+}
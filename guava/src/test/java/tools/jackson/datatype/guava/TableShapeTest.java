@@ -0,0 +1,331 @@
+package tools.jackson.datatype.guava;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import com.google.common.collect.ArrayTable;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import com.google.common.collect.TreeBasedTable;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for alternate {@link TableShape}s: cell list and columnar,
+ * as well as {@link ArrayTable} handling.
+ */
+public class TableShapeTest extends ModuleTestBase
+{
+    static class CellsWrapper {
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public ImmutableTable<String, Integer, Double> table;
+
+        protected CellsWrapper() { }
+        public CellsWrapper(ImmutableTable<String, Integer, Double> t) { table = t; }
+    }
+
+    static class NestedWrapper {
+        @JsonFormat(shape = JsonFormat.Shape.OBJECT)
+        public ImmutableTable<String, Integer, Double> table;
+
+        protected NestedWrapper() { }
+        public NestedWrapper(ImmutableTable<String, Integer, Double> t) { table = t; }
+    }
+
+    static class ColumnarWrapper {
+        @JsonTableShape(TableShape.COLUMNAR)
+        public ArrayTable<String, String, Integer> table;
+
+        protected ColumnarWrapper() { }
+        public ColumnarWrapper(ArrayTable<String, String, Integer> t) { table = t; }
+    }
+
+    static class ColumnarStringsWrapper {
+        @JsonTableShape(TableShape.COLUMNAR)
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public ArrayTable<String, String, Integer> table;
+
+        protected ColumnarStringsWrapper() { }
+        public ColumnarStringsWrapper(ArrayTable<String, String, Integer> t) { table = t; }
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    private final ObjectMapper CELLS_MAPPER = mapperWithShape(TableShape.CELLS);
+
+    private final ObjectMapper COLUMNAR_MAPPER = mapperWithShape(TableShape.COLUMNAR);
+
+    private static ObjectMapper mapperWithShape(TableShape shape) {
+        return JsonMapper.builder()
+                .addModule(new GuavaModule().defaultTableShape(shape))
+                .build();
+    }
+
+    private static ImmutableTable<String, Integer, Double> _prices() {
+        return ImmutableTable.<String, Integer, Double>builder()
+                .put("a", 1, 0.5)
+                .put("a", 2, 1.5)
+                .put("b", 1, 2.5)
+                .build();
+    }
+
+    private final static TypeReference<ImmutableTable<String, Integer, Double>> IMMUTABLE_TYPE
+        = new TypeReference<ImmutableTable<String, Integer, Double>>() { };
+
+    /*
+    /**********************************************************************
+    /* Cell list
+    /**********************************************************************
+     */
+
+    @Test
+    public void testCellsRoundTrip() throws Exception
+    {
+        final ImmutableTable<String, Integer, Double> table = _prices();
+        final String json = CELLS_MAPPER.writerFor(IMMUTABLE_TYPE).writeValueAsString(table);
+        assertEquals(a2q("[['a',1,0.5],['a',2,1.5],['b',1,2.5]]"), json);
+
+        assertEquals(table, CELLS_MAPPER.readValue(json, IMMUTABLE_TYPE));
+        assertEquals(table, CELLS_MAPPER.readValue(json,
+                new TypeReference<HashBasedTable<String, Integer, Double>>() { }));
+        assertEquals(table, CELLS_MAPPER.readValue(json,
+                new TypeReference<TreeBasedTable<String, Integer, Double>>() { }));
+    }
+
+    @Test
+    public void testCellsAcceptedWithDefaultShape() throws Exception
+    {
+        // Cell list is unambiguous so should be accepted even if not configured
+        Table<String, Integer, Double> result = MAPPER.readValue(
+                a2q("[['a',1,0.5],['a',2,1.5],['b',1,2.5]]"), IMMUTABLE_TYPE);
+        assertEquals(_prices(), result);
+    }
+
+    @Test
+    public void testCellsViaAnnotation() throws Exception
+    {
+        final String json = MAPPER.writeValueAsString(new CellsWrapper(_prices()));
+        assertEquals(a2q("{'table':[['a',1,0.5],['a',2,1.5],['b',1,2.5]]}"), json);
+        assertEquals(_prices(), MAPPER.readValue(json, CellsWrapper.class).table);
+
+        // and explicit override back to default
+        assertEquals(a2q("{'table':{'a':{'1':0.5,'2':1.5},'b':{'1':2.5}}}"),
+                CELLS_MAPPER.writeValueAsString(new NestedWrapper(_prices())));
+    }
+
+    @Test
+    public void testCellsEmpty() throws Exception
+    {
+        assertEquals("[]", CELLS_MAPPER.writerFor(IMMUTABLE_TYPE)
+                .writeValueAsString(ImmutableTable.of()));
+        assertTrue(CELLS_MAPPER.readValue("[]", IMMUTABLE_TYPE).isEmpty());
+    }
+
+    @Test
+    public void testCellsInvalid() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("[['a',1,0.5,3]]"), IMMUTABLE_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "expecting END_ARRAY");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Columnar
+    /**********************************************************************
+     */
+
+    @Test
+    public void testColumnarRoundTrip() throws Exception
+    {
+        final ImmutableTable<String, Integer, Double> table = _prices();
+        final String json = COLUMNAR_MAPPER.writerFor(IMMUTABLE_TYPE).writeValueAsString(table);
+        assertEquals(a2q("{'rows':['a','b'],'columns':[1,2],'values':[[0.5,1.5],[2.5,null]]}"),
+                json);
+
+        assertEquals(table, COLUMNAR_MAPPER.readValue(json, IMMUTABLE_TYPE));
+        assertEquals(table, COLUMNAR_MAPPER.readValue(json,
+                new TypeReference<HashBasedTable<String, Integer, Double>>() { }));
+        assertEquals(table, COLUMNAR_MAPPER.readValue(json,
+                new TypeReference<TreeBasedTable<String, Integer, Double>>() { }));
+        // and detected with default settings too
+        assertEquals(table, MAPPER.readValue(json, IMMUTABLE_TYPE));
+    }
+
+    @Test
+    public void testColumnarEmpty() throws Exception
+    {
+        final String json = COLUMNAR_MAPPER.writerFor(IMMUTABLE_TYPE)
+                .writeValueAsString(ImmutableTable.of());
+        assertEquals(a2q("{'rows':[],'columns':[],'values':[]}"), json);
+        assertTrue(COLUMNAR_MAPPER.readValue(json, IMMUTABLE_TYPE).isEmpty());
+    }
+
+    @Test
+    public void testColumnarValuesBeforeKeys() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'values':[[1.0]],'rows':['a'],'columns':[1]}"), IMMUTABLE_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "must be preceded by");
+        }
+    }
+
+    @Test
+    public void testColumnarTooManyValues() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'rows':['a'],'columns':[1],'values':[[1.0,2.0]]}"),
+                    IMMUTABLE_TYPE);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "more values than");
+        }
+    }
+
+    @Test
+    public void testNestedStillWorks() throws Exception
+    {
+        final String json = MAPPER.writerFor(IMMUTABLE_TYPE).writeValueAsString(_prices());
+        assertEquals(a2q("{'a':{'1':0.5,'2':1.5},'b':{'1':2.5}}"), json);
+        assertEquals(_prices(), COLUMNAR_MAPPER.readValue(json, IMMUTABLE_TYPE));
+    }
+
+    /*
+    /**********************************************************************
+    /* ArrayTable
+    /**********************************************************************
+     */
+
+    @Test
+    public void testArrayTableDoubles() throws Exception
+    {
+        final ArrayTable<String, Integer, Double> table = ArrayTable.create(
+                Arrays.asList("a", "b"), Arrays.asList(1, 2, 3));
+        table.put("a", 1, 0.25);
+        table.put("a", 2, 0.5);
+        table.put("a", 3, 1.0);
+        table.put("b", 2, 4.0);
+
+        final TypeReference<ArrayTable<String, Integer, Double>> type =
+                new TypeReference<ArrayTable<String, Integer, Double>>() { };
+        final String json = COLUMNAR_MAPPER.writerFor(type).writeValueAsString(table);
+        assertEquals(a2q("{'rows':['a','b'],'columns':[1,2,3],'values':[[0.25,0.5,1.0],[null,4.0,null]]}"),
+                json);
+
+        ArrayTable<String, Integer, Double> result = COLUMNAR_MAPPER.readValue(json, type);
+        assertEquals(table, result);
+        assertEquals(Arrays.asList("a", "b"), result.rowKeyList());
+        assertEquals(Arrays.asList(1, 2, 3), result.columnKeyList());
+    }
+
+    @Test
+    public void testArrayTableInts() throws Exception
+    {
+        final ArrayTable<Integer, Integer, Integer> table = ArrayTable.create(
+                Arrays.asList(0, 1), Arrays.asList(0, 1));
+        table.set(0, 0, 1);
+        table.set(0, 1, 2);
+        table.set(1, 0, 3);
+        table.set(1, 1, Integer.MAX_VALUE);
+
+        final TypeReference<ArrayTable<Integer, Integer, Integer>> type =
+                new TypeReference<ArrayTable<Integer, Integer, Integer>>() { };
+        final String json = COLUMNAR_MAPPER.writerFor(type).writeValueAsString(table);
+        assertEquals(a2q("{'rows':[0,1],'columns':[0,1],'values':[[1,2],[3,2147483647]]}"), json);
+        assertEquals(table, COLUMNAR_MAPPER.readValue(json, type));
+    }
+
+    @Test
+    public void testArrayTableNullCells() throws Exception
+    {
+        final ArrayTable<String, String, Integer> table = ArrayTable.create(
+                Arrays.asList("r1", "r2"), Arrays.asList("c1", "c2"));
+        table.put("r1", "c1", 1);
+
+        // nested shape is still the default, and writes missing cells as nulls
+        final TypeReference<ArrayTable<String, String, Integer>> type =
+                new TypeReference<ArrayTable<String, String, Integer>>() { };
+        final String json = MAPPER.writerFor(type).writeValueAsString(table);
+        assertEquals(a2q("{'r1':{'c1':1,'c2':null},'r2':{'c1':null,'c2':null}}"), json);
+
+        ArrayTable<String, String, Integer> result = MAPPER.readValue(json, type);
+        assertEquals(table, result);
+        assertEquals(Arrays.asList("r1", "r2"), result.rowKeyList());
+        assertEquals(Arrays.asList("c1", "c2"), result.columnKeyList());
+    }
+
+    @Test
+    public void testArrayTableFromOtherShapes() throws Exception
+    {
+        final TypeReference<ArrayTable<String, String, String>> type =
+                new TypeReference<ArrayTable<String, String, String>>() { };
+        ArrayTable<String, String, String> result = MAPPER.readValue(
+                a2q("{'r1':{'c1':'x'},'r2':{'c2':'y'}}"), type);
+        assertEquals(Arrays.asList("r1", "r2"), result.rowKeyList());
+        assertEquals(Arrays.asList("c1", "c2"), result.columnKeyList());
+        assertEquals("y", result.get("r2", "c2"));
+        assertNull(result.get("r1", "c2"));
+
+        result = MAPPER.readValue(a2q("[['r1','c1','x'],['r2','c2','y']]"), type);
+        assertEquals(Arrays.asList("r1", "r2"), result.rowKeyList());
+        assertEquals("x", result.get("r1", "c1"));
+    }
+
+    @Test
+    public void testArrayTableDuplicateKeys() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'rows':['a','a'],'columns':[1],'values':[]}"),
+                    new TypeReference<ArrayTable<String, Integer, Double>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "Problem deserializing");
+        }
+    }
+
+    @Test
+    public void testColumnarViaAnnotation() throws Exception
+    {
+        final ArrayTable<String, String, Integer> table = ArrayTable.create(
+                Arrays.asList("r1", "r2"), Arrays.asList("c1", "c2"));
+        table.put("r1", "c1", 1);
+        table.put("r1", "c2", 2);
+        table.put("r2", "c2", 3);
+
+        final String json = MAPPER.writeValueAsString(new ColumnarWrapper(table));
+        assertEquals(a2q("{'table':{'rows':['r1','r2'],'columns':['c1','c2'],'values':[[1,2],[null,3]]}}"),
+                json);
+        assertEquals(table, MAPPER.readValue(json, ColumnarWrapper.class).table);
+
+        // annotation has precedence over default shape too
+        assertEquals(json, CELLS_MAPPER.writeValueAsString(new ColumnarWrapper(table)));
+    }
+
+    @Test
+    public void testArrayTableValueFormat() throws Exception
+    {
+        final ArrayTable<String, String, Integer> table = ArrayTable.create(
+                Arrays.asList("r1"), Arrays.asList("c1", "c2"));
+        table.put("r1", "c1", 1);
+        table.put("r1", "c2", 2);
+
+        // value format must be honored, even if all values are present
+        assertEquals(a2q("{'table':{'rows':['r1'],'columns':['c1','c2'],'values':[['1','2']]}}"),
+                MAPPER.writeValueAsString(new ColumnarStringsWrapper(table)));
+    }
+}
@@ -0,0 +1,68 @@
+package tools.jackson.datatype.guava;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multiset;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for updating existing (mutable) containers with
+ * {@code ObjectMapper.readerForUpdating()}.
+ */
+public class UpdatingTest extends ModuleTestBase
+{
+    private final static TypeReference<ArrayListMultimap<String, Integer>> MULTIMAP_TYPE =
+            new TypeReference<ArrayListMultimap<String, Integer>>() { };
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void testUpdateMultimap() throws Exception
+    {
+        final ListMultimap<String, Integer> multimap = ArrayListMultimap.create();
+        multimap.put("a", 1);
+
+        ListMultimap<String, Integer> result = MAPPER.readerForUpdating(multimap)
+                .forType(MULTIMAP_TYPE)
+                .readValue(a2q("{'a':[2],'b':[3]}"));
+        assertSame(multimap, result);
+        assertEquals(ImmutableListMultimap.of("a", 1, "a", 2, "b", 3), result);
+
+        result = MAPPER.readerForUpdating(multimap)
+                .forType(MULTIMAP_TYPE)
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue(a2q("{'c':[4]}"));
+        assertSame(multimap, result);
+        assertEquals(ImmutableListMultimap.of("c", 4), result);
+    }
+
+    @Test
+    public void testUpdateMultiset() throws Exception
+    {
+        final Multiset<String> multiset = HashMultiset.create();
+        multiset.add("a");
+
+        Multiset<String> result = MAPPER.readerForUpdating(multiset)
+                .forType(new TypeReference<HashMultiset<String>>() { })
+                .readValue(a2q("['a','b']"));
+        assertSame(multiset, result);
+        assertEquals(ImmutableMultiset.of("a", "a", "b"), result);
+
+        result = MAPPER.readerForUpdating(multiset)
+                .forType(new TypeReference<HashMultiset<String>>() { })
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue(a2q("['c']"));
+        assertSame(multiset, result);
+        assertEquals(ImmutableMultiset.of("c"), result);
+    }
+}
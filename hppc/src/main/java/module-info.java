@@ -3,6 +3,7 @@ module tools.jackson.datatype.hppc
 {
     requires tools.jackson.core;
     requires transitive tools.jackson.databind;
+    requires transitive tools.jackson.datatype.primitive_collections_base;
 
     requires com.carrotsearch.hppc;
 
@@ -8,6 +8,9 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.type.*;
 import tools.jackson.datatype.hppc.deser.HppcDeserializers;
 import tools.jackson.datatype.hppc.ser.*;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.JsonCollectionLimits;
 
 import com.carrotsearch.hppc.ObjectContainer;
 
@@ -18,6 +21,22 @@ public class HppcModule extends JacksonModule
 
     private final String NAME = "HppcDatatypeModule";
 
+    /**
+     * Listener to report (de)serialization metrics to, if any: see
+     * {@link #metricsListener}.
+     *
+     * @since 3.1
+     */
+    protected CollectionMetricsListener _metricsListener;
+
+    /**
+     * Maximum number of elements per container to allow, if any: see
+     * {@link #maxCollectionElements}; negative value if not configured.
+     *
+     * @since 3.1
+     */
+    protected int _maxElements = -1;
+
     @Override public String getModuleName() { return NAME; }
     @Override public Version version() { return PackageVersion.VERSION; }
     
@@ -28,6 +47,53 @@ public class HppcModule extends JacksonModule
         context.addTypeModifier(new HppcTypeModifier());
         context.addDeserializers(new HppcDeserializers());
         context.addSerializers(new HppcSerializers());
+
+        if (_metricsListener != null) {
+            final MetricsReporting metrics = new MetricsReporting(_metricsListener);
+            context.addDeserializerModifier(metrics.deserializerModifier());
+            context.addSerializerModifier(metrics.serializerModifier());
+        }
+
+        context.addDeserializerModifier(CollectionLimits.deserializerModifier(MetricsReporting::isContainerType));
+        CollectionLimits.applyDefaults(context, _maxElements, -1);
+    }
+
+    /**
+     * Configuration method for registering a listener to be notified of each
+     * (de)serialized value of HPPC container types, with shape, element count
+     * and time taken (see {@link CollectionMetricsListener}).
+     * (De)serializers are only wrapped for reporting if a listener is configured,
+     * so there is no overhead otherwise.
+     *
+     * @param listener Listener to report metrics to; {@code null} for none (default)
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public HppcModule metricsListener(CollectionMetricsListener listener) {
+        _metricsListener = listener;
+        return this;
+    }
+
+    /**
+     * Configuration method for limiting number of elements (or entries) of
+     * deserialized HPPC containers (and those of other collection datatype
+     * modules), to protect against untrusted input: used as the default for
+     * {@link CollectionLimits#MAX_ELEMENTS} attribute, unless that is
+     * configured with {@code MapperBuilder.defaultAttributes()}. Limit may
+     * still be changed per read with {@code ObjectReader.withAttribute()},
+     * and for specific properties with {@link JsonCollectionLimits}.
+     *
+     * @param max Maximum number of elements allowed per container
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public HppcModule maxCollectionElements(int max) {
+        _maxElements = CollectionLimits.checkLimit("maxCollectionElements", max);
+        return this;
     }
 
     /*
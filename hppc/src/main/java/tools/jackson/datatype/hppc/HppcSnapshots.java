@@ -0,0 +1,173 @@
+package tools.jackson.datatype.hppc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot.ColumnType;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshotWriter;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.DoubleContainer;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.IntContainer;
+import com.carrotsearch.hppc.IntIntAssociativeContainer;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongContainer;
+import com.carrotsearch.hppc.LongObjectAssociativeContainer;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.cursors.IntIntCursor;
+import com.carrotsearch.hppc.cursors.LongObjectCursor;
+
+/**
+ * Helper methods for writing HPPC primitive containers and maps as
+ * binary snapshots (see {@link PrimitiveSnapshot}), and for loading them back
+ * by bulk-copying contents into presized collections.
+ * Lists read are backed directly by arrays read from snapshot, without
+ * additional copying.
+ *
+ * @since 3.1
+ */
+public final class HppcSnapshots
+{
+    private HppcSnapshots() { }
+
+    /*
+    /**********************************************************************
+    /* Lists
+    /**********************************************************************
+     */
+
+    public static void writeIntList(Path path, IntContainer list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addInts(list.toArray()).write(path);
+    }
+
+    public static IntArrayList readIntList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.INT)) {
+            final IntArrayList list = new IntArrayList(0);
+            list.buffer = snapshot.readInts(0);
+            list.elementsCount = list.buffer.length;
+            return list;
+        }
+    }
+
+    public static void writeLongList(Path path, LongContainer list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addLongs(list.toArray()).write(path);
+    }
+
+    public static LongArrayList readLongList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.LONG)) {
+            final LongArrayList list = new LongArrayList(0);
+            list.buffer = snapshot.readLongs(0);
+            list.elementsCount = list.buffer.length;
+            return list;
+        }
+    }
+
+    public static void writeDoubleList(Path path, DoubleContainer list) throws IOException {
+        new PrimitiveSnapshotWriter(null).addDoubles(list.toArray()).write(path);
+    }
+
+    public static DoubleArrayList readDoubleList(Path path) throws IOException {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.DOUBLE)) {
+            final DoubleArrayList list = new DoubleArrayList(0);
+            list.buffer = snapshot.readDoubles(0);
+            list.elementsCount = list.buffer.length;
+            return list;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Maps
+    /**********************************************************************
+     */
+
+    public static void writeIntIntMap(Path path, IntIntAssociativeContainer map) throws IOException
+    {
+        final int[] keys = new int[map.size()];
+        final int[] values = new int[keys.length];
+        int index = 0;
+        for (IntIntCursor c : map) {
+            keys[index] = c.key;
+            values[index++] = c.value;
+        }
+        new PrimitiveSnapshotWriter(null).addInts(keys).addInts(values).write(path);
+    }
+
+    public static IntIntHashMap readIntIntMap(Path path) throws IOException
+    {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.INT, ColumnType.INT)) {
+            final int[] keys = snapshot.readInts(0);
+            final int[] values = snapshot.readInts(1);
+            final IntIntHashMap map = new IntIntHashMap(keys.length);
+            for (int i = 0; i < keys.length; ++i) {
+                map.put(keys[i], values[i]);
+            }
+            return map;
+        }
+    }
+
+    /**
+     * @param refWriter Writer used for serializing (distinct) values of the map
+     */
+    public static void writeLongObjectMap(Path path, LongObjectAssociativeContainer<?> map,
+            ObjectWriter refWriter)
+        throws IOException, JacksonException
+    {
+        final long[] keys = new long[map.size()];
+        final Object[] values = new Object[keys.length];
+        int index = 0;
+        for (LongObjectCursor<?> c : map) {
+            keys[index] = c.key;
+            values[index++] = c.value;
+        }
+        new PrimitiveSnapshotWriter(refWriter).addLongs(keys).addRefs(values).write(path);
+    }
+
+    /**
+     * @param refReader Reader used for deserializing (distinct) values of the map
+     * @param valueType Type of values of the map
+     */
+    public static <V> LongObjectHashMap<V> readLongObjectMap(Path path,
+            ObjectReader refReader, Class<V> valueType)
+        throws IOException, JacksonException
+    {
+        try (PrimitiveSnapshot snapshot = _open(path, ColumnType.LONG, ColumnType.REF)) {
+            final long[] keys = snapshot.readLongs(0);
+            final V[] values = snapshot.readRefs(1, refReader, valueType);
+            final LongObjectHashMap<V> map = new LongObjectHashMap<>(keys.length);
+            for (int i = 0; i < keys.length; ++i) {
+                map.put(keys[i], values[i]);
+            }
+            return map;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static PrimitiveSnapshot _open(Path path, ColumnType... expectedTypes)
+        throws IOException
+    {
+        final PrimitiveSnapshot snapshot = PrimitiveSnapshot.open(path);
+        boolean valid = (snapshot.columnCount() == expectedTypes.length);
+        for (int i = 0; valid && (i < expectedTypes.length); ++i) {
+            valid = (snapshot.columnType(i) == expectedTypes[i])
+                    && (snapshot.columnSize(i) == snapshot.columnSize(0));
+        }
+        if (!valid) {
+            snapshot.close();
+            throw new IOException("Unexpected snapshot contents ("+snapshot+") in: "+path);
+        }
+        return snapshot;
+    }
+}
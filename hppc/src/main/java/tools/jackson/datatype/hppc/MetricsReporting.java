@@ -0,0 +1,77 @@
+package tools.jackson.datatype.hppc;
+
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
+import com.carrotsearch.hppc.*;
+
+/**
+ * Reports metrics on (de)serialization of HPPC container types.
+ * Only registered if a listener is configured.
+ *
+ * @since 3.1
+ */
+final class MetricsReporting extends CollectionMetricsReporting
+{
+    private static final long serialVersionUID = 1L;
+
+    MetricsReporting(CollectionMetricsListener listener) {
+        super(listener);
+    }
+
+    @Override
+    protected boolean isContainer(Class<?> raw) {
+        return isContainerType(raw);
+    }
+
+    /**
+     * Method for checking whether given type is one of container types
+     * of the library.
+     */
+    static boolean isContainerType(Class<?> raw) {
+        return raw.getName().startsWith("com.carrotsearch.hppc.")
+                && (ObjectContainer.class.isAssignableFrom(raw)
+                        || ByteContainer.class.isAssignableFrom(raw)
+                        || ShortContainer.class.isAssignableFrom(raw)
+                        || IntContainer.class.isAssignableFrom(raw)
+                        || LongContainer.class.isAssignableFrom(raw)
+                        || CharContainer.class.isAssignableFrom(raw)
+                        || FloatContainer.class.isAssignableFrom(raw)
+                        || DoubleContainer.class.isAssignableFrom(raw)
+                        || BitSet.class.isAssignableFrom(raw));
+    }
+
+    @Override
+    protected int elementCount(Object value) {
+        // no common super type for HPPC containers, need to check one by one
+        if (value instanceof ObjectContainer<?>) {
+            return ((ObjectContainer<?>) value).size();
+        }
+        if (value instanceof IntContainer) {
+            return ((IntContainer) value).size();
+        }
+        if (value instanceof LongContainer) {
+            return ((LongContainer) value).size();
+        }
+        if (value instanceof DoubleContainer) {
+            return ((DoubleContainer) value).size();
+        }
+        if (value instanceof FloatContainer) {
+            return ((FloatContainer) value).size();
+        }
+        if (value instanceof ShortContainer) {
+            return ((ShortContainer) value).size();
+        }
+        if (value instanceof ByteContainer) {
+            return ((ByteContainer) value).size();
+        }
+        if (value instanceof CharContainer) {
+            return ((CharContainer) value).size();
+        }
+        if (value instanceof BitSet) {
+            // number of set bits, not capacity
+            return (int) Math.min(((BitSet) value).cardinality(), Integer.MAX_VALUE);
+        }
+        return -1;
+    }
+}
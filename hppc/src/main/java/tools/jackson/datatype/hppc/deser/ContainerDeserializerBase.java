@@ -9,6 +9,9 @@ import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.util.ClassUtil;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+
 public abstract class ContainerDeserializerBase<T>
     extends StdDeserializer<T>
 {
@@ -43,11 +46,77 @@ public abstract class ContainerDeserializerBase<T>
         if (!p.isExpectedStartArrayToken()) {
             return handleNonArray(p, ctxt);
         }
-        T container = createContainerInstance(ctxt);
+        return _deserialize(p, ctxt, createContainerInstance(ctxt));
+    }
+
+    /**
+     * Since all HPPC containers are mutable, existing container can be
+     * updated directly (see {@link CollectionUpdates}).
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Method called when updating existing container: elements read are
+     * appended to it, after clearing existing contents if so configured
+     * (see {@link CollectionUpdates#CLEAR_ON_UPDATE}).
+     *
+     * @since 3.1
+     */
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (!p.isExpectedStartArrayToken()) {
+            return handleNonArray(p, ctxt);
+        }
+        if (CollectionUpdates.clearOnUpdate(ctxt) && !clearContents(intoValue)) {
+            // cannot clear, so must construct a new one instead
+            return deserialize(p, ctxt);
+        }
+        return _deserialize(p, ctxt, intoValue);
+    }
+
+    protected T _deserialize(JsonParser p, DeserializationContext ctxt, T container)
+        throws JacksonException
+    {
+        final Object event = CollectionEvents.startDeserialization(p);
         deserializeContents(p, ctxt, container);
+        if (event != null) {
+            CollectionEvents.finishDeserialization(event, p, handledType(), elementCount(container));
+        }
         return container;
     }
 
+    /**
+     * Method for removing all elements of given container, when updating
+     * it with {@link CollectionUpdates#CLEAR_ON_UPDATE} enabled.
+     * Default implementation returns {@code false} to indicate that
+     * this is not supported.
+     *
+     * @return True if container was cleared; false if not supported
+     *
+     * @since 3.1
+     */
+    protected boolean clearContents(T container) {
+        return false;
+    }
+
+    /**
+     * Method for finding number of elements in given container, for diagnostic
+     * purposes (see {@link HppcEvents}); default implementation
+     * returns {@code -1} to indicate "not known".
+     *
+     * @since 3.1
+     */
+    protected long elementCount(T container) {
+        return -1L;
+    }
+
     @SuppressWarnings("unchecked")
     protected T handleNonArray(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
@@ -1,11 +1,13 @@
 package tools.jackson.datatype.hppc.deser;
 
+import java.lang.reflect.Modifier;
 import java.util.*;
 
 import tools.jackson.core.*;
 
 import tools.jackson.databind.*;
 import tools.jackson.databind.type.LogicalType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 import com.carrotsearch.hppc.*;
 
 public class HppcContainerDeserializers
@@ -30,6 +32,28 @@ public class HppcContainerDeserializers
         _concreteMapping.put(IntDeque.class, IntArrayDeque.class);
     }
 
+    // Kinds of containers resolved by lookups, memoized per raw type
+
+    private final static int KIND_NONE = 0;
+    private final static int KIND_INT_INDEXED = 1;
+    private final static int KIND_INT_SET = 2;
+    private final static int KIND_INT_DEQUE = 3;
+    private final static int KIND_INT_UNRECOGNIZED = 4;
+
+    /**
+     * Resolved kind (one of {@code KIND_xxx} constants) for raw types seen so
+     * far, so that assignability checks need not be repeated for each
+     * mapper (as each has its own deserializer cache).
+     *
+     * @since 3.1
+     */
+    private final static ClassValue<Integer> _kinds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> raw) {
+            return _findKind(raw);
+        }
+    };
+
     /**
      * Method called to see if this serializer (or a serializer this serializer
      * knows) should be used for given type; if not, null is returned.
@@ -39,48 +63,59 @@ public class HppcContainerDeserializers
     {
         JavaType type = origType;
         Class<?> raw = type.getRawClass();
+        final int kind = _kinds.get(raw);
+        if (kind == KIND_NONE) {
+            return null;
+        }
+        // maybe we have mapping from abstract to concrete type?
+        if (type.isAbstract()) {
+            Class<?> concrete = _concreteMapping.get(raw);
+            if (concrete != null) {
+                // 29-Mar-2016, tatu: was: type.forcedNarrowBy(concrete);
+                type = config.getTypeFactory().constructSpecializedType(type, concrete);
+            }
+        }
+        switch (kind) {
+        case KIND_INT_INDEXED:
+            return new IntIndexedContainerDeserializer(type, config);
+        case KIND_INT_SET:
+            return new IntSetDeserializer(type, config);
+        case KIND_INT_DEQUE:
+            return new IntDequeDeserializer(type, config);
+        default:
+            // how about this? should we signal an error?
+            throw DatabindException.from((JsonParser)null, "Unrecognized HPPC IntContainer type: "+origType);
+        }
+    }
+
+    public static boolean hasDeserializerFor(DeserializationConfig config,
+            final Class<?> rawType) {
+        return _kinds.get(rawType) != KIND_NONE;
+    }
 
+    private static int _findKind(Class<?> raw)
+    {
         if (IntContainer.class.isAssignableFrom(raw)) {
-            // maybe we have mapping from abstract to concrete type?
-            if (type.isAbstract()) {
+            // abstract types resolved as their default concrete types
+            if (Modifier.isAbstract(raw.getModifiers())) {
                 Class<?> concrete = _concreteMapping.get(raw);
                 if (concrete != null) {
-                    // 29-Mar-2016, tatu: was: type.forcedNarrowBy(concrete);
-                    type = config.getTypeFactory().constructSpecializedType(type, concrete);
                     raw = concrete;
                 }
             }
-            
             if (IntIndexedContainer.class.isAssignableFrom(raw)) {
-                return new IntIndexedContainerDeserializer(type, config);
+                return KIND_INT_INDEXED;
             }
             if (IntSet.class.isAssignableFrom(raw)) {
-                return new IntSetDeserializer(type, config);
+                return KIND_INT_SET;
             }
             if (IntDeque.class.isAssignableFrom(raw)) {
-                return new IntDequeDeserializer(type, config);
+                return KIND_INT_DEQUE;
             }
-            // how about this? should we signal an error?
-            throw DatabindException.from((JsonParser)null, "Unrecognized HPPC IntContainer type: "+origType);
-        } else if (LongContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        } else if (FloatContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        } else if (DoubleContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        } else if (ByteContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        } else if (ShortContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        } else if (CharContainer.class.isAssignableFrom(raw)) {
-            // !!! TBI
-        }
-        return null;
-    }
-
-    public static boolean hasDeserializerFor(DeserializationConfig config,
-            final Class<?> rawType) {
-        return IntContainer.class.isAssignableFrom(rawType);
+            return KIND_INT_UNRECOGNIZED;
+        }
+        // !!! TBI: Long/Float/Double/Byte/Short/CharContainer
+        return KIND_NONE;
     }
 
     /*
@@ -93,7 +128,7 @@ public class HppcContainerDeserializers
      * Intermediate base class used for various integral (as opposed to
      * floating point) value container types.
      */
-    static abstract class IntContainerDeserializerBase<T>
+    static abstract class IntContainerDeserializerBase<T extends IntContainer>
         extends ContainerDeserializerBase<T>
     {
         public IntContainerDeserializerBase(JavaType type, DeserializationConfig config)
@@ -111,8 +146,14 @@ public class HppcContainerDeserializers
                 T container)
             throws JacksonException
         {
+            final int maxElements = CollectionLimits.maxElements(ctxt, p);
+            int elements = 0;
             JsonToken t;
             while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (++elements > maxElements) {
+                    CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                    return; // never gets here
+                }
                 // whether we should allow truncating conversions?
                 int value;
                 if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
@@ -129,6 +170,20 @@ public class HppcContainerDeserializers
             }
         }
 
+        @Override
+        protected long elementCount(T container) {
+            return container.size();
+        }
+
+        @Override
+        protected boolean clearContents(T container) {
+            if (container instanceof IntCollection) {
+                ((IntCollection) container).clear();
+                return true;
+            }
+            return false;
+        }
+
         protected abstract void add(T container, int value);
     }
 
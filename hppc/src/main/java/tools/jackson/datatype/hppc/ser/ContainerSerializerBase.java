@@ -8,6 +8,8 @@ import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+
 /**
  * Base class for various container (~= Collection) serializers.
  */
@@ -73,14 +75,29 @@ public abstract class ContainerSerializerBase<T>
     public void serialize(T value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException
     {
+        final Object event = CollectionEvents.startSerialization();
         gen.assignCurrentValue(value);
         gen.writeStartArray();
         serializeContents(value, gen, ctxt);
         gen.writeEndArray();
+        if (event != null) {
+            CollectionEvents.finishSerialization(event, handledType(), elementCount(value));
+        }
     }
 
     protected abstract void serializeContents(T value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException;
+
+    /**
+     * Method for finding number of elements in given container, for diagnostic
+     * purposes (see {@link HppcEvents}); default implementation
+     * returns {@code -1} to indicate "not known".
+     *
+     * @since 3.1
+     */
+    protected long elementCount(T value) {
+        return -1L;
+    }
     
     @Override
     public void serializeWithType(T value, JsonGenerator gen, SerializationContext ctxt,
@@ -102,7 +119,20 @@ public abstract class ContainerSerializerBase<T>
     
     protected ValueSerializer<?> getSerializer(JavaType type)
     {
-        if (_handledType.isAssignableFrom(type.getRawClass())) {
+        return getSerializer(type.getRawClass());
+    }
+
+    /**
+     * Method called to see if this serializer (or a serializer this serializer
+     * knows) should be used for given raw type; if not, null is returned.
+     * Result may only depend on the raw type, as it gets memoized per type
+     * by {@link HppcContainerSerializers#getMatchingSerializer}.
+     *
+     * @since 3.1
+     */
+    protected ValueSerializer<?> getSerializer(Class<?> rawType)
+    {
+        if (_handledType.isAssignableFrom(rawType)) {
             return this;
         }
         return null;
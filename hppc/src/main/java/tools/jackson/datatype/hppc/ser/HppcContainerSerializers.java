@@ -9,6 +9,8 @@ import tools.jackson.databind.jsonFormatVisitors.JsonFormatTypes;
 import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import tools.jackson.databind.jsontype.TypeSerializer;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+
 import com.carrotsearch.hppc.*;
 import com.carrotsearch.hppc.procedures.DoubleProcedure;
 import com.carrotsearch.hppc.procedures.FloatProcedure;
@@ -31,6 +33,28 @@ public class HppcContainerSerializers
                 new BitSetSerializer()
         };
 
+    /**
+     * Matching serializer (if any) for raw types seen so far: since serializers
+     * are stateless and selection only depends on the raw type, result of
+     * going through {@link #_primitiveSerializers} is memoized per class,
+     * and shared by all mappers (which each have their own serializer caches).
+     *
+     * @since 3.1
+     */
+    private final static ClassValue<ValueSerializer<?>> _matchingSerializers =
+        new ClassValue<ValueSerializer<?>>() {
+            @Override
+            protected ValueSerializer<?> computeValue(Class<?> rawType) {
+                for (ContainerSerializerBase<?> ser : _primitiveSerializers) {
+                    ValueSerializer<?> actual = ser.getSerializer(rawType);
+                    if (actual != null) {
+                        return actual;
+                    }
+                }
+                return null;
+            }
+        };
+
     /**
      * Method called to see if this serializer (or a serializer this serializer
      * knows) should be used for given type; if not, null is returned.
@@ -38,14 +62,8 @@ public class HppcContainerSerializers
     public static ValueSerializer<?> getMatchingSerializer(SerializationConfig config,
             JavaType type)
     {
-        for (ContainerSerializerBase<?> ser : _primitiveSerializers) {
-            ValueSerializer<?> actual = ser.getSerializer(type);
-            if (actual != null) {
-                return actual;
-            }
-        }
-        return null;
-    }        
+        return _matchingSerializers.get(type.getRawClass());
+    }
 
     /*
     /**********************************************************************
@@ -83,12 +101,21 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(ByteContainer value) {
+            return value.size();
+        }
+
         @Override
         public void serialize(ByteContainer value, JsonGenerator gen, SerializationContext ctxt)
             throws JacksonException
         {
+            final Object event = CollectionEvents.startSerialization();
             gen.assignCurrentValue(value);
             serializeContents(value, gen, ctxt);
+            if (event != null) {
+                CollectionEvents.finishSerialization(event, handledType(), value.size());
+            }
         }
         
         @Override
@@ -128,6 +155,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(ShortContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -171,14 +203,16 @@ public class HppcContainerSerializers
             super(IntContainer.class, "integer");
         }
 
+        private final static Indexed INDEXED = new Indexed();
+
         // Overridden to allow use of more optimized serialized for indexed variant
         @Override
-        public ValueSerializer<?> getSerializer(JavaType type)
+        public ValueSerializer<?> getSerializer(Class<?> rawType)
         {
-            ValueSerializer<?> ser = super.getSerializer(type);
+            ValueSerializer<?> ser = super.getSerializer(rawType);
             if (ser != null) {
-                if (IntIndexedContainer.class.isAssignableFrom(type.getClass())) {
-                    return new Indexed();
+                if (IntIndexedContainer.class.isAssignableFrom(rawType)) {
+                    return INDEXED;
                 }
             }
             return ser;
@@ -194,6 +228,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(IntContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -234,6 +273,11 @@ public class HppcContainerSerializers
                 return value.size() == 1;
             }
 
+            @Override
+            protected long elementCount(IntIndexedContainer value) {
+                return value.size();
+            }
+
             @Override
             public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
             {
@@ -281,6 +325,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(LongContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -352,6 +401,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(CharContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -363,8 +417,12 @@ public class HppcContainerSerializers
         public void serialize(CharContainer value, JsonGenerator gen, SerializationContext ctxt)
             throws JacksonException
         {
+            final Object event = CollectionEvents.startSerialization();
             gen.assignCurrentValue(value);
             serializeContents(value, gen, ctxt);
+            if (event != null) {
+                CollectionEvents.finishSerialization(event, handledType(), value.size());
+            }
         }
         
         @Override
@@ -413,6 +471,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(FloatContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -461,6 +524,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(DoubleContainer value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -523,6 +591,11 @@ public class HppcContainerSerializers
             return value.size() == 1;
         }
 
+        @Override
+        protected long elementCount(BitSet value) {
+            return value.size();
+        }
+
         @Override
         public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         {
@@ -9,6 +9,8 @@ import tools.jackson.databind.ser.jdk.ObjectArraySerializer;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 import tools.jackson.databind.type.*;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+
 import com.carrotsearch.hppc.*;
 
 /**
@@ -125,7 +127,11 @@ public class ObjectContainerSerializer
     public void serialize(ObjectContainer<?> value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException
     {
+        final Object event = CollectionEvents.startSerialization();
         _delegate.serialize(value.toArray(), gen, ctxt);
+        if (event != null) {
+            CollectionEvents.finishSerialization(event, handledType(), value.size());
+        }
     }
     
     @Override
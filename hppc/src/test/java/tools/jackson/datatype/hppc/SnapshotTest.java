@@ -0,0 +1,128 @@
+package tools.jackson.datatype.hppc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for binary snapshots of primitive collections, written and read
+ * using {@link HppcSnapshots}.
+ */
+public class SnapshotTest extends ModuleTestBase
+{
+    static class Route {
+        public String host;
+        public int port;
+
+        protected Route() { }
+
+        public Route(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof Route) && ((Route) o).host.equals(host) && ((Route) o).port == port;
+        }
+
+        @Override
+        public int hashCode() {
+            return host.hashCode() + port;
+        }
+    }
+
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLists() throws Exception
+    {
+        final Path file = tempDir.resolve("list.snapshot");
+        final IntArrayList ints = new IntArrayList();
+        for (int i = 0; i < 1000; ++i) {
+            ints.add(i * 31 - 7);
+        }
+        HppcSnapshots.writeIntList(file, ints);
+        IntArrayList result = HppcSnapshots.readIntList(file);
+        assertEquals(ints, result);
+        // and usable as regular list
+        result.add(3);
+        assertEquals(1001, result.size());
+        assertEquals(MAPPER.writeValueAsString(ints).replace("]", ",3]"),
+                MAPPER.writeValueAsString(result));
+
+        // any container may be written
+        final IntHashSet set = IntHashSet.from(1, 2, 3);
+        HppcSnapshots.writeIntList(file, set);
+        assertEquals(IntHashSet.from(HppcSnapshots.readIntList(file).toArray()), set);
+
+        final DoubleArrayList doubles = DoubleArrayList.from(0.5, -1.0, Double.NaN);
+        HppcSnapshots.writeDoubleList(file, doubles);
+        assertEquals(doubles, HppcSnapshots.readDoubleList(file));
+
+        HppcSnapshots.writeLongList(file, new LongArrayList());
+        assertTrue(HppcSnapshots.readLongList(file).isEmpty());
+    }
+
+    @Test
+    public void testMaps() throws Exception
+    {
+        final Path file = tempDir.resolve("map.snapshot");
+        final IntIntHashMap intMap = new IntIntHashMap();
+        for (int i = 0; i < 1000; ++i) {
+            intMap.put(i * 7, -i);
+        }
+        HppcSnapshots.writeIntIntMap(file, intMap);
+        assertEquals(intMap, HppcSnapshots.readIntIntMap(file));
+
+        final LongObjectHashMap<Route> routes = new LongObjectHashMap<>();
+        routes.put(1L, new Route("a", 80));
+        routes.put(2L, new Route("b", 8080));
+        routes.put(3L, new Route("a", 80));
+        routes.put(4L, null);
+        final Path routeFile = tempDir.resolve("routes.snapshot");
+        HppcSnapshots.writeLongObjectMap(routeFile, routes, MAPPER.writer());
+        try (PrimitiveSnapshot snapshot = PrimitiveSnapshot.open(routeFile)) {
+            assertEquals(PrimitiveSnapshot.ColumnType.REF, snapshot.columnType(1));
+            assertEquals(4, snapshot.columnSize(1));
+        }
+        LongObjectHashMap<Route> result = HppcSnapshots.readLongObjectMap(routeFile,
+                MAPPER.reader(), Route.class);
+        assertEquals(routes, result);
+        // distinct values are stored (and read) just once
+        assertSame(result.get(1L), result.get(3L));
+        assertTrue(result.containsKey(4L));
+    }
+
+    @Test
+    public void testInvalidSnapshots() throws Exception
+    {
+        final Path file = tempDir.resolve("invalid.snapshot");
+        Files.write(file, "[1,2,3]".getBytes(StandardCharsets.UTF_8));
+        IOException e = assertThrows(IOException.class, () -> HppcSnapshots.readIntList(file));
+        verifyException(e, "Not a primitive collection snapshot");
+
+        HppcSnapshots.writeDoubleList(file, DoubleArrayList.from(1.0));
+        e = assertThrows(IOException.class, () -> HppcSnapshots.readIntList(file));
+        verifyException(e, "Unexpected snapshot contents");
+    }
+}
@@ -1,13 +1,26 @@
 package tools.jackson.datatype.hppc.deser;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import com.carrotsearch.hppc.*;
 
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.datatype.hppc.HppcModule;
 import tools.jackson.datatype.hppc.ModuleTestBase;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+import tools.jackson.datatype.primitive_collections_base.deser.ParallelArrayReader;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +51,75 @@ public class TestContainerDeserializers extends ModuleTestBase
         assertArrayEquals(new int[] { -0, 13 }, dq2.toArray());
     }
 
+    @Test
+    public void testMetricsListener() throws Exception
+    {
+        final List<String> reported = new ArrayList<>();
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new HppcModule().metricsListener(new CollectionMetricsListener() {
+                    @Override
+                    public void valueDeserialized(Class<?> type, JsonFormat.Shape shape,
+                            int elementCount, long nanos) {
+                        reported.add("deser:" + type.getSimpleName() + ":" + shape + ":" + elementCount);
+                    }
+
+                    @Override
+                    public void valueSerialized(Class<?> type, JsonFormat.Shape shape,
+                            int elementCount, long nanos) {
+                        reported.add("ser:" + type.getSimpleName() + ":" + elementCount);
+                    }
+                }))
+                .build();
+        IntArrayList array = mapper.readValue("[1,-3,5]", IntArrayList.class);
+        assertEquals("[1,-3,5]", mapper.writeValueAsString(array));
+        assertEquals(Arrays.asList("deser:IntArrayList:ARRAY:3", "ser:IntArrayList:3"), reported);
+    }
+
+    @Test
+    public void testMaxElements() throws Exception
+    {
+        ObjectReader r = mapperWithModule().readerFor(IntArrayList.class)
+                .withAttribute(CollectionLimits.MAX_ELEMENTS, 2);
+        assertEquals(2, r.<IntArrayList>readValue("[1,2]").size());
+        MismatchedInputException e = assertThrows(MismatchedInputException.class,
+                () -> r.readValue("[1,2,3]"));
+        verifyException(e, "number of elements exceeds maximum allowed (2");
+    }
+
+    @Test
+    public void testUpdating() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule();
+        IntArrayList list = IntArrayList.from(1, 2);
+        assertSame(list, mapper.readerForUpdating(list).readValue("[3]"));
+        assertArrayEquals(new int[] { 1, 2, 3 }, list.toArray());
+
+        // and with clearing, should reuse backing array as well
+        final int[] buffer = list.buffer;
+        assertSame(list, mapper.readerForUpdating(list)
+                .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+                .readValue("[4,5]"));
+        assertArrayEquals(new int[] { 4, 5 }, list.toArray());
+        assertSame(buffer, list.buffer);
+    }
+
+    @Test
+    public void testParallelRead() throws Exception
+    {
+        ObjectMapper mapper = mapperWithModule();
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < 5000; ++i) {
+            list.add(i * 7 - 1000);
+        }
+        final byte[] json = mapper.writeValueAsBytes(list);
+        ParallelArrayReader<IntArrayList> r = new ParallelArrayReader<IntArrayList>(
+                mapper.readerFor(IntArrayList.class),
+                (result, chunk) -> result.addAll((IntContainer) chunk))
+            .withChunkSize(100);
+        assertEquals(list, r.readValue(json));
+        assertEquals(list, r.readValue(ByteBuffer.wrap(json)));
+    }
+
     private void _assertSets(int[] exp, int[] actual)
     {
         assertEquals(exp.length, actual.length);
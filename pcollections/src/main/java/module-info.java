@@ -4,6 +4,8 @@ module jackson.datatype.pcollections
     requires tools.jackson.core;
     requires transitive tools.jackson.databind;
 
+    requires transitive tools.jackson.datatype.primitive_collections_base;
+
     requires org.pcollections;
 
     exports tools.jackson.datatype.pcollections;
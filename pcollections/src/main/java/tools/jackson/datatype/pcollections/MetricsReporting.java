@@ -0,0 +1,48 @@
+package tools.jackson.datatype.pcollections;
+
+import java.util.Collection;
+import java.util.Map;
+
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
+/**
+ * Reports metrics on (de)serialization of PCollections container types.
+ * Only registered if a listener is configured.
+ *
+ * @since 3.1
+ */
+final class MetricsReporting extends CollectionMetricsReporting
+{
+    private static final long serialVersionUID = 1L;
+
+    MetricsReporting(CollectionMetricsListener listener) {
+        super(listener);
+    }
+
+    @Override
+    protected boolean isContainer(Class<?> raw) {
+        return isContainerType(raw);
+    }
+
+    /**
+     * Method for checking whether given type is one of container types
+     * of the library.
+     */
+    static boolean isContainerType(Class<?> raw) {
+        return raw.getName().startsWith("org.pcollections.")
+                && (Collection.class.isAssignableFrom(raw)
+                        || Map.class.isAssignableFrom(raw));
+    }
+
+    @Override
+    protected int elementCount(Object value) {
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map<?,?>) {
+            return ((Map<?,?>) value).size();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,266 @@
+package tools.jackson.datatype.pcollections;
+
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import org.pcollections.PBag;
+import org.pcollections.PMap;
+import org.pcollections.PSet;
+import org.pcollections.PVector;
+
+/**
+ * Factory for deltas between two versions of PCollections vectors, sets, bags
+ * and maps: deltas contain only elements (or entries) added, removed or replaced.
+ * Deltas can be applied onto the base version by reading them with
+ * {@code ObjectMapper.readerForUpdating(base)}, if
+ * {@link PCollectionsModule#applyDeltasOnUpdate} is enabled.
+ *<p>
+ * Deltas are serialized as JSON Objects wrapped in a single-property
+ * JSON Object with name {@value #DELTA_PROPERTY}, which marks them as deltas
+ * (as opposed to full contents), like <code>{"$delta":{"add":[...]}}</code>.
+ * Delta formats (within the wrapper) are:
+ *<ul>
+ * <li>Vectors: <code>{"retain":N, "set":{"index":value, ...}, "add":[...]}</code>
+ *   -- first {@code N} elements of base version are retained (and rest dropped),
+ *   elements at given indexes replaced and elements appended
+ *  </li>
+ * <li>Sets and bags: <code>{"add":[...], "remove":[...]}</code> (for bags,
+ *   each entry of "remove" removes a single occurrence)
+ *  </li>
+ * <li>Maps: <code>{"put":{...}, "remove":{"key":null, ...}}</code> -- keys to remove
+ *   are written as property names (with {@code null} values), same as keys of "put"
+ *  </li>
+ *</ul>
+ *
+ * @since 3.1
+ */
+public final class PCollectionsDelta
+{
+    /**
+     * Name of the property of wrapper JSON Object that marks its value
+     * as a delta.
+     */
+    public final static String DELTA_PROPERTY = "$delta";
+
+    private PCollectionsDelta() { }
+
+    /**
+     * Method for constructing delta between two versions of a vector.
+     */
+    public static <E> VectorDelta<E> vectorDelta(PVector<E> base, PVector<E> current)
+    {
+        final int retain = Math.min(base.size(), current.size());
+        final Map<Integer, E> replaced = new TreeMap<>();
+        if (base != current) {
+            Iterator<E> baseIt = base.iterator();
+            Iterator<E> currIt = current.iterator();
+            for (int i = 0; i < retain; ++i) {
+                final E value = currIt.next();
+                if (!Objects.equals(baseIt.next(), value)) {
+                    replaced.put(i, value);
+                }
+            }
+        }
+        return new VectorDelta<E>(retain, retain < base.size(), replaced,
+                new ArrayList<>(current.subList(retain, current.size())));
+    }
+
+    /**
+     * Method for constructing delta between two versions of a set.
+     */
+    public static <E> CollectionDelta<E> setDelta(PSet<E> base, PSet<E> current)
+    {
+        final List<E> added = new ArrayList<>();
+        final List<E> removed = new ArrayList<>();
+        if (base != current) {
+            for (E value : current) {
+                if (!base.contains(value)) {
+                    added.add(value);
+                }
+            }
+            for (E value : base) {
+                if (!current.contains(value)) {
+                    removed.add(value);
+                }
+            }
+        }
+        return new CollectionDelta<E>(added, removed);
+    }
+
+    /**
+     * Method for constructing delta between two versions of a bag.
+     */
+    public static <E> CollectionDelta<E> bagDelta(PBag<E> base, PBag<E> current)
+    {
+        final List<E> added = new ArrayList<>();
+        final List<E> removed = new ArrayList<>();
+        if (base != current) {
+            final Map<E, Integer> counts = new LinkedHashMap<>();
+            for (E value : current) {
+                counts.merge(value, 1, Integer::sum);
+            }
+            for (E value : base) {
+                counts.merge(value, -1, Integer::sum);
+            }
+            for (Map.Entry<E, Integer> entry : counts.entrySet()) {
+                int diff = entry.getValue();
+                for (; diff > 0; --diff) {
+                    added.add(entry.getKey());
+                }
+                for (; diff < 0; ++diff) {
+                    removed.add(entry.getKey());
+                }
+            }
+        }
+        return new CollectionDelta<E>(added, removed);
+    }
+
+    /**
+     * Method for constructing delta between two versions of a map.
+     */
+    public static <K, V> MapDelta<K, V> mapDelta(PMap<K, V> base, PMap<K, V> current)
+    {
+        final Map<K, V> put = new LinkedHashMap<>();
+        final List<K> removed = new ArrayList<>();
+        if (base != current) {
+            for (Map.Entry<K, V> entry : current.entrySet()) {
+                final K key = entry.getKey();
+                final V value = entry.getValue();
+                // note: get() on persistent maps shares lookup path with containsKey()
+                final V old = base.get(key);
+                if ((old == null) ? ((value != null) || !base.containsKey(key))
+                        : !old.equals(value)) {
+                    put.put(key, value);
+                }
+            }
+            for (K key : base.keySet()) {
+                if (!current.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+        }
+        return new MapDelta<K, V>(put, removed);
+    }
+
+    /*
+    /**********************************************************
+    /* Delta value types
+    /**********************************************************
+     */
+
+    /**
+     * Base class for all delta types.
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+    @JsonTypeName(DELTA_PROPERTY)
+    public static abstract class Delta
+    {
+        Delta() { }
+
+        /**
+         * Whether this delta contains no changes: that is, whether applying it
+         * would produce a value equal to the base version.
+         */
+        @JsonIgnore
+        public abstract boolean isEmpty();
+    }
+
+    @JsonPropertyOrder({ "retain", "set", "add" })
+    public static final class VectorDelta<E> extends Delta
+    {
+        private final int _retain;
+        private final boolean _truncated;
+        private final Map<Integer, E> _set;
+        private final List<E> _add;
+
+        VectorDelta(int retain, boolean truncated, Map<Integer, E> set, List<E> add) {
+            _retain = retain;
+            _truncated = truncated;
+            _set = set;
+            _add = add;
+        }
+
+        public int getRetain() { return _retain; }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public Map<Integer, E> getSet() { return _set; }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<E> getAdd() { return _add; }
+
+        @JsonIgnore
+        @Override
+        public boolean isEmpty() {
+            return !_truncated && _set.isEmpty() && _add.isEmpty();
+        }
+    }
+
+    @JsonPropertyOrder({ "add", "remove" })
+    public static final class CollectionDelta<E> extends Delta
+    {
+        private final List<E> _add;
+        private final List<E> _remove;
+
+        CollectionDelta(List<E> add, List<E> remove) {
+            _add = add;
+            _remove = remove;
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<E> getAdd() { return _add; }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<E> getRemove() { return _remove; }
+
+        @JsonIgnore
+        @Override
+        public boolean isEmpty() {
+            return _add.isEmpty() && _remove.isEmpty();
+        }
+    }
+
+    @JsonPropertyOrder({ "put", "remove" })
+    public static final class MapDelta<K, V> extends Delta
+    {
+        private final Map<K, V> _put;
+        private final List<K> _remove;
+
+        MapDelta(Map<K, V> put, List<K> remove) {
+            _put = put;
+            _remove = remove;
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public Map<K, V> getPut() { return _put; }
+
+        @JsonIgnore
+        public List<K> getRemovedKeys() { return _remove; }
+
+        /**
+         * Keys to remove, as written: property names of a JSON Object (with
+         * {@code null} values), so that they are written with key serializers
+         * and read back with key deserializers, same as keys of "put".
+         */
+        @JsonProperty("remove")
+        @JsonInclude(value = JsonInclude.Include.NON_EMPTY, content = JsonInclude.Include.ALWAYS)
+        Map<K, Object> getRemoveAsProperties() {
+            final Map<K, Object> result = new LinkedHashMap<>();
+            for (K key : _remove) {
+                result.put(key, null);
+            }
+            return result;
+        }
+
+        @JsonIgnore
+        @Override
+        public boolean isEmpty() {
+            return _put.isEmpty() && _remove.isEmpty();
+        }
+    }
+}
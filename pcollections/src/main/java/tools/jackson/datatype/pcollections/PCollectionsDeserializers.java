@@ -15,6 +15,25 @@ import org.pcollections.*;
 public class PCollectionsDeserializers
     extends Deserializers.Base
 {
+    /**
+     * Whether updates are to be read as deltas
+     * (see {@link PCollectionsModule#applyDeltasOnUpdate}).
+     *
+     * @since 3.1
+     */
+    protected final boolean _deltaUpdates;
+
+    public PCollectionsDeserializers() {
+        this(false);
+    }
+
+    /**
+     * @since 3.1
+     */
+    public PCollectionsDeserializers(boolean deltaUpdates) {
+        _deltaUpdates = deltaUpdates;
+    }
+
     /**
      * We have plenty of collection types to support...
      */
@@ -30,19 +49,30 @@ public class PCollectionsDeserializers
             // We check these in order of most desirable to least desirable, using TreePVector as the most
             // desirable type if possible
             if (raw.isAssignableFrom(TreePVector.class)) {
-                return new TreePVectorDeserializer(type, elementTypeDeserializer, elementDeserializer);
+                return _withDeltaUpdates(new TreePVectorDeserializer(type,
+                        elementTypeDeserializer, elementDeserializer));
             }
             if (raw.isAssignableFrom(ConsPStack.class)) {
                 return new ConsPStackDeserializer(type, elementTypeDeserializer, elementDeserializer);
             }
             if (raw.isAssignableFrom(MapPSet.class)) {
-                return new HashTreePSetDeserializer(type, elementTypeDeserializer, elementDeserializer);
+                return _withDeltaUpdates(new HashTreePSetDeserializer(type,
+                        elementTypeDeserializer, elementDeserializer));
             }
             if (raw.isAssignableFrom(OrderedPSet.class)) {
-                return new OrderedPSetDeserializer(type, elementTypeDeserializer, elementDeserializer);
+                return _withDeltaUpdates(new OrderedPSetDeserializer(type,
+                        elementTypeDeserializer, elementDeserializer));
             }
             if (raw.isAssignableFrom(MapPBag.class)) {
-                return new HashTreePBagDeserializer(type, elementTypeDeserializer, elementDeserializer);
+                return _withDeltaUpdates(new HashTreePBagDeserializer(type,
+                        elementTypeDeserializer, elementDeserializer));
+            }
+            if (raw.isAssignableFrom(TreePSet.class)) {
+                return _withDeltaUpdates(new TreePSetDeserializer(type,
+                        elementTypeDeserializer, elementDeserializer));
+            }
+            if (raw.isAssignableFrom(AmortizedPQueue.class)) {
+                return new AmortizedPQueueDeserializer(type, elementTypeDeserializer, elementDeserializer);
             }
         }
         return null;
@@ -58,7 +88,15 @@ public class PCollectionsDeserializers
 
         if (PMap.class.isAssignableFrom(raw)) {
             if (raw.isAssignableFrom(HashPMap.class)) {
-                return new HashTreePMapDeserializer(type, keyDeserializer, elementTypeDeserializer, elementDeserializer);
+                return _withDeltaUpdates(new HashTreePMapDeserializer(type, keyDeserializer,
+                        elementTypeDeserializer, elementDeserializer));
+            }
+            if (raw.isAssignableFrom(TreePMap.class)) {
+                return _withDeltaUpdates(new TreePMapDeserializer(type, keyDeserializer,
+                        elementTypeDeserializer, elementDeserializer));
+            }
+            if (raw.isAssignableFrom(IntTreePMap.class)) {
+                return new IntTreePMapDeserializer(type, elementTypeDeserializer, elementDeserializer);
             }
         }
 
@@ -74,4 +112,8 @@ public class PCollectionsDeserializers
         return PCollection.class.isAssignableFrom(valueType)
                 || PMap.class.isAssignableFrom(valueType);
     }
+
+    protected ValueDeserializer<?> _withDeltaUpdates(ValueDeserializer<?> deser) {
+        return _deltaUpdates ? new DeltaUpdatingDeserializer(deser) : deser;
+    }
 }
@@ -3,6 +3,9 @@ package tools.jackson.datatype.pcollections;
 import tools.jackson.core.Version;
 
 import tools.jackson.databind.*;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsListener;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.JsonCollectionLimits;
 
 /**
  * Basic Jackson {@link JacksonModule} that adds support for PCollections types.
@@ -14,6 +17,27 @@ public class PCollectionsModule extends JacksonModule
 
     private final String NAME = "PCollectionsModule";
 
+    /**
+     * @since 3.1
+     */
+    protected boolean _deltaUpdates;
+
+    /**
+     * Listener to report (de)serialization metrics to, if any: see
+     * {@link #metricsListener}.
+     *
+     * @since 3.1
+     */
+    protected CollectionMetricsListener _metricsListener;
+
+    /**
+     * Maximum number of elements per container to allow, if any: see
+     * {@link #maxCollectionElements}; negative value if not configured.
+     *
+     * @since 3.1
+     */
+    protected int _maxElements = -1;
+
     public PCollectionsModule() {
         super();
     }
@@ -23,6 +47,76 @@ public class PCollectionsModule extends JacksonModule
 
     @Override
     public void setupModule(SetupContext context) {
-        context.addDeserializers(new PCollectionsDeserializers());
+        context.addDeserializers(new PCollectionsDeserializers(_deltaUpdates));
+
+        if (_metricsListener != null) {
+            final MetricsReporting metrics = new MetricsReporting(_metricsListener);
+            context.addDeserializerModifier(metrics.deserializerModifier());
+            context.addSerializerModifier(metrics.serializerModifier());
+        }
+
+        context.addDeserializerModifier(CollectionLimits.deserializerModifier(MetricsReporting::isContainerType));
+        CollectionLimits.applyDefaults(context, _maxElements, -1);
+    }
+
+    /**
+     * Configuration method for indicating that updates of PCollections
+     * vectors, sets, bags and maps (as done with
+     * {@code ObjectMapper.readerForUpdating()}) should apply input marked as
+     * a delta (as written using {@link PCollectionsDelta}: wrapped in a
+     * {@value PCollectionsDelta#DELTA_PROPERTY} JSON Object) onto the instance
+     * being updated, returning the new version. Any other input is read as
+     * full contents, replacing the instance.
+     *<p>
+     * Default setting is {@code false}, meaning that updates replace instances
+     * with full contents read.
+     *
+     * @param state Whether updates are read as deltas
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public PCollectionsModule applyDeltasOnUpdate(boolean state) {
+        _deltaUpdates = state;
+        return this;
+    }
+
+    /**
+     * Configuration method for registering a listener to be notified of each
+     * (de)serialized value of PCollections container types, with shape, element count
+     * and time taken (see {@link CollectionMetricsListener}).
+     * (De)serializers are only wrapped for reporting if a listener is configured,
+     * so there is no overhead otherwise.
+     *
+     * @param listener Listener to report metrics to; {@code null} for none (default)
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public PCollectionsModule metricsListener(CollectionMetricsListener listener) {
+        _metricsListener = listener;
+        return this;
+    }
+
+    /**
+     * Configuration method for limiting number of elements (or entries) of
+     * deserialized pcollections containers (and those of other collection datatype
+     * modules), to protect against untrusted input: used as the default for
+     * {@link CollectionLimits#MAX_ELEMENTS} attribute, unless that is
+     * configured with {@code MapperBuilder.defaultAttributes()}. Limit may
+     * still be changed per read with {@code ObjectReader.withAttribute()},
+     * and for specific properties with {@link JsonCollectionLimits}.
+     *
+     * @param max Maximum number of elements allowed per container
+     *
+     * @return This module instance, useful for chaining calls
+     *
+     * @since 3.1
+     */
+    public PCollectionsModule maxCollectionElements(int max) {
+        _maxElements = CollectionLimits.checkLimit("maxCollectionElements", max);
+        return this;
     }
 }
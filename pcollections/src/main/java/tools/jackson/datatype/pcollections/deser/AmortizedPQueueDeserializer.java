@@ -0,0 +1,39 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.CollectionType;
+import org.pcollections.AmortizedPQueue;
+
+/**
+ * Deserializer for {@link AmortizedPQueue} (and {@link org.pcollections.PQueue}):
+ * elements are queued in the order they are read.
+ *
+ * @since 3.1
+ */
+public class AmortizedPQueueDeserializer extends
+        PCollectionsCollectionDeserializer<AmortizedPQueue<Object>>
+{
+    public AmortizedPQueueDeserializer(CollectionType type,
+            TypeDeserializer typeDeser, ValueDeserializer<?> deser) {
+        super(type, typeDeser, deser);
+    }
+
+    @Override
+    public AmortizedPQueueDeserializer withResolved(TypeDeserializer typeDeser,
+            ValueDeserializer<?> valueDeser) {
+        return new AmortizedPQueueDeserializer(_containerType, typeDeser,
+                valueDeser);
+    }
+
+    /*
+    /**********************************************************
+    /* Deserialization
+    /**********************************************************
+     */
+
+    @Override
+    protected AmortizedPQueue<Object> createEmptyCollection() {
+        return AmortizedPQueue.empty();
+    }
+}
@@ -0,0 +1,87 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.datatype.pcollections.PCollectionsDelta;
+
+import org.pcollections.PCollection;
+import org.pcollections.PMap;
+
+/**
+ * Wrapper deserializer that reads updates (like ones done with
+ * {@code ObjectMapper.readerForUpdating()}) marked as deltas (wrapped in
+ * {@value PCollectionsDelta#DELTA_PROPERTY} JSON Object, as written by
+ * {@link PCollectionsDelta}) and applies them onto the instance to update.
+ * Other input is read as full contents, replacing the instance to update.
+ * Used when enabled with
+ * {@link tools.jackson.datatype.pcollections.PCollectionsModule#applyDeltasOnUpdate}.
+ *
+ * @since 3.1
+ */
+public class DeltaUpdatingDeserializer
+    extends DelegatingDeserializer
+{
+    public DeltaUpdatingDeserializer(ValueDeserializer<?> delegatee)
+    {
+        super(delegatee);
+    }
+
+    @Override
+    protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+        return new DeltaUpdatingDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        if ((t != JsonToken.PROPERTY_NAME)
+                || !PCollectionsDelta.DELTA_PROPERTY.equals(p.currentName())) {
+            // Not a delta: full contents (for maps, positioned at the first entry)
+            return _delegatee.deserialize(p, ctxt);
+        }
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: expected JSON Object for '%s', got %s",
+                    handledType().getName(), PCollectionsDelta.DELTA_PROPERTY, p.currentToken());
+        }
+        final Object result = _deserializeDelta(p, ctxt, intoValue);
+        if (p.nextToken() != JsonToken.END_OBJECT) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: unexpected content after '%s' (%s)",
+                    handledType().getName(), PCollectionsDelta.DELTA_PROPERTY, p.currentToken());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Object _deserializeDelta(JsonParser p, DeserializationContext ctxt, Object intoValue)
+        throws JacksonException
+    {
+        if (_delegatee instanceof PCollectionsCollectionDeserializer<?>) {
+            return ((PCollectionsCollectionDeserializer<PCollection<Object>>) _delegatee)
+                    ._deserializeDelta(p, ctxt, (PCollection<Object>) intoValue);
+        }
+        if (_delegatee instanceof PCollectionsMapDeserializer<?>) {
+            return ((PCollectionsMapDeserializer<PMap<Object, Object>>) _delegatee)
+                    ._deserializeDelta(p, ctxt, (PMap<Object, Object>) intoValue);
+        }
+        ctxt.handleBadMerge(_delegatee);
+        return _delegatee.deserialize(p, ctxt);
+    }
+}
@@ -1,5 +1,10 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import java.util.List;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.CollectionType;
@@ -31,4 +36,24 @@ public class HashTreePBagDeserializer extends
     protected MapPBag<Object> createEmptyCollection() {
         return HashTreePBag.empty();
     }
+
+    @Override
+    protected MapPBag<Object> _deserializeDelta(JsonParser p, DeserializationContext ctxt,
+            MapPBag<Object> base)
+        throws JacksonException
+    {
+        return _deserializeElementDelta(p, ctxt, base);
+    }
+
+    // Bag deltas remove a single occurrence per removed element
+    @Override
+    protected MapPBag<Object> _applyElementDelta(MapPBag<Object> base, List<Object> added,
+            List<Object> removed)
+    {
+        MapPBag<Object> result = base;
+        for (Object value : removed) {
+            result = result.minus(value);
+        }
+        return result.plusAll(added);
+    }
 }
@@ -1,5 +1,8 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.CollectionType;
@@ -31,4 +34,12 @@ public class HashTreePSetDeserializer extends
     protected MapPSet<Object> createEmptyCollection() {
         return HashTreePSet.empty();
     }
+
+    @Override
+    protected MapPSet<Object> _deserializeDelta(JsonParser p, DeserializationContext ctxt,
+            MapPSet<Object> base)
+        throws JacksonException
+    {
+        return _deserializeElementDelta(p, ctxt, base);
+    }
 }
@@ -0,0 +1,166 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import tools.jackson.core.*;
+
+import tools.jackson.databind.*;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.LogicalType;
+import tools.jackson.databind.type.MapType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+
+import org.pcollections.IntTreePMap;
+
+/**
+ * Deserializer for {@link IntTreePMap}s: keys are parsed directly as
+ * {@code int}s, without going through a {@link KeyDeserializer}.
+ *
+ * @since 3.1
+ */
+public class IntTreePMapDeserializer
+    extends StdDeserializer<IntTreePMap<Object>>
+{
+    protected final MapType _mapType;
+
+    /**
+     * Value deserializer.
+     */
+    protected final ValueDeserializer<?> _valueDeserializer;
+
+    /**
+     * If value instances have polymorphic type information, this
+     * is the type deserializer that can handle it
+     */
+    protected final TypeDeserializer _typeDeserializerForValue;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public IntTreePMapDeserializer(MapType type,
+            TypeDeserializer typeDeser, ValueDeserializer<?> deser)
+    {
+        super(type);
+        _mapType = type;
+        _typeDeserializerForValue = typeDeser;
+        _valueDeserializer = deser;
+    }
+
+    public IntTreePMapDeserializer withResolved(TypeDeserializer typeDeser,
+            ValueDeserializer<?> valueDeser) {
+        return new IntTreePMapDeserializer(_mapType, typeDeser, valueDeser);
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Map;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property)
+    {
+        ValueDeserializer<?> deser = _valueDeserializer;
+        TypeDeserializer typeDeser = _typeDeserializerForValue;
+        if (deser == null) {
+            deser = ctxt.findContextualValueDeserializer(_mapType.getContentType(), property);
+        }
+        if (typeDeser != null) {
+            typeDeser = typeDeser.forProperty(property);
+        }
+        if (deser == _valueDeserializer && typeDeser == _typeDeserializerForValue) {
+            return this;
+        }
+        return withResolved(typeDeser, deser);
+    }
+
+    /*
+    /**********************************************************
+    /* Deserialization interface
+    /**********************************************************
+     */
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer)
+        throws JacksonException
+    {
+        return typeDeserializer.deserializeTypedFromObject(p, ctxt);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IntTreePMap<Object> deserialize(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        if (t != JsonToken.PROPERTY_NAME && t != JsonToken.END_OBJECT) {
+            return (IntTreePMap<Object>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _typeDeserializerForValue;
+
+        IntTreePMap<Object> map = IntTreePMap.empty();
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            final int key = _parseKey(ctxt, p.currentName());
+            Object value;
+            if (p.nextToken() == JsonToken.VALUE_NULL) {
+                map = _handleNull(ctxt, key, valueDes, map);
+                continue;
+            }
+            if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            map = map.plus(key, value);
+        }
+        return map;
+    }
+
+    /**
+     * Overridable helper method called when a JSON null value is encountered.
+     * As with other PCollections Maps, default is to skip such values, unless
+     * value deserializer has an alternative to Java null.
+     *
+     * @see PCollectionsMapDeserializer#_handleNull
+     */
+    protected IntTreePMap<Object> _handleNull(DeserializationContext ctxt, int key,
+            ValueDeserializer<?> valueDeser, IntTreePMap<Object> map)
+        throws JacksonException
+    {
+        Object nvl = valueDeser.getNullValue(ctxt);
+        if (nvl != null) {
+            return map.plus(key, nvl);
+        }
+        return map;
+    }
+
+    protected int _parseKey(DeserializationContext ctxt, String name)
+        throws JacksonException
+    {
+        try {
+            return Integer.parseInt(name);
+        } catch (NumberFormatException e) {
+            // Problem handlers may also return `null` (but not other types)
+            Object key = ctxt.handleWeirdKey(Integer.class, name,
+                    "not a valid `int` value");
+            if (key == null) {
+                return (Integer) ctxt.reportInputMismatch(this,
+                        "Problem deserializing %s: `null` key not allowed (for JSON property \"%s\")",
+                        handledType().getName(), name);
+            }
+            return (Integer) key;
+        }
+    }
+}
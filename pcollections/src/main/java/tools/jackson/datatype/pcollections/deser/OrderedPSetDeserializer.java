@@ -1,5 +1,8 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.CollectionType;
@@ -30,4 +33,12 @@ public class OrderedPSetDeserializer extends
     protected OrderedPSet<Object> createEmptyCollection() {
         return OrderedPSet.empty();
     }
+
+    @Override
+    protected OrderedPSet<Object> _deserializeDelta(JsonParser p, DeserializationContext ctxt,
+            OrderedPSet<Object> base)
+        throws JacksonException
+    {
+        return _deserializeElementDelta(p, ctxt, base);
+    }
 }
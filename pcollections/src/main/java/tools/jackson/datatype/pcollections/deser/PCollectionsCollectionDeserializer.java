@@ -1,5 +1,10 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
@@ -9,6 +14,8 @@ import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.CollectionType;
 import tools.jackson.databind.type.LogicalType;
+import tools.jackson.databind.util.ObjectBuffer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 
 import org.pcollections.PCollection;
 
@@ -120,49 +127,229 @@ public abstract class PCollectionsCollectionDeserializer<T extends PCollection<O
     protected T _deserializeContents(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
-        ValueDeserializer<?> valueDes = _valueDeserializer;
+        if (_usesBulkFactory()) {
+            return createCollection(ctxt, _deserializeValues(p, ctxt));
+        }
         JsonToken t;
-        final TypeDeserializer typeDeser = _typeDeserializerForValue;
         // No way to pass actual type parameter; but does not matter, just
         // compiler-time fluff:
         T collection = createEmptyCollection();
 
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
-            Object value;
-
-            if (t == JsonToken.VALUE_NULL) {
-                value = null;
-            } else if (typeDeser == null) {
-                value = valueDes.deserialize(p, ctxt);
-            } else {
-                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
             }
             // .plus is always overridden to return the correct subclass
             @SuppressWarnings("unchecked")
-            T newCollection = (T) collection.plus(value);
+            T newCollection = (T) collection.plus(_deserializeValue(p, ctxt, t));
             collection = newCollection;
         }
         return collection;
     }
 
+    /**
+     * Method for reading all values of a JSON Array into an array, in order,
+     * to be passed to {@link #createCollection}.
+     *
+     * @since 3.1
+     */
+    protected Object[] _deserializeValues(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        JsonToken t;
+        final ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+        Object[] chunk = buffer.resetAndStart();
+        int ix = 0;
+
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            if (ix >= chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+                ix = 0;
+            }
+            chunk[ix++] = _deserializeValue(p, ctxt, t);
+        }
+        final Object[] values = buffer.completeAndClearBuffer(chunk, ix);
+        ctxt.returnObjectBuffer(buffer);
+        return values;
+    }
+
+    /**
+     * Helper method for reading a single element value, parser pointing
+     * to its first token.
+     *
+     * @since 3.1
+     */
+    protected Object _deserializeValue(JsonParser p, DeserializationContext ctxt, JsonToken t)
+        throws JacksonException
+    {
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (_typeDeserializerForValue == null) {
+            return _valueDeserializer.deserialize(p, ctxt);
+        }
+        return _valueDeserializer.deserializeWithType(p, ctxt, _typeDeserializerForValue);
+    }
+
+    /**
+     * Whether collection type has a factory method that builds the collection
+     * from all of its contents at once (see {@link #createCollection}), instead
+     * of adding values one by one with {@code plus()}. If so, values are first
+     * collected in an array; otherwise they are added as they are read, as
+     * buffering would only increase peak memory usage.
+     *<p>
+     * Default implementation returns {@code false}: in pcollections 4.0,
+     * {@code from()} factories of {@code TreePVector}, {@code HashTreePSet},
+     * {@code HashTreePBag}, {@code OrderedPSet} and {@code ConsPStack} just
+     * call {@code plus()} for each value (as does {@code HashTreePMap.from()}
+     * for maps), and the underlying trees cannot be built directly from outside
+     * the library. {@code ConsPStack} could be built by prepending values in
+     * reverse, but that would change the established element order (each
+     * read value is pushed on top of stack).
+     *
+     * @since 3.1
+     */
+    protected boolean _usesBulkFactory() {
+        return false;
+    }
+
+    /**
+     * Method called to construct collection with given contents (in order
+     * they were read) with a single bulk operation, if
+     * {@link #_usesBulkFactory()} returns {@code true}. Default implementation
+     * calls {@code plusAll()} on {@link #createEmptyCollection()}; sub-classes
+     * that use bulk construction override to call bulk factory method of
+     * collection type.
+     *
+     * @param values Values read, in order; may be modified by implementation
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    protected T createCollection(DeserializationContext ctxt, Object[] values)
+        throws JacksonException
+    {
+        // .plusAll is always overridden to return the correct subclass
+        return (T) createEmptyCollection().plusAll(Arrays.asList(values));
+    }
+
+    @SuppressWarnings("unchecked")
     protected T _deserializeFromSingleValue(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
-        ValueDeserializer<?> valueDes = _valueDeserializer;
-        final TypeDeserializer typeDeser = _typeDeserializerForValue;
+        final Object value = _deserializeValue(p, ctxt, p.currentToken());
+        if (_usesBulkFactory()) {
+            return createCollection(ctxt, new Object[] { value });
+        }
+        return (T) createEmptyCollection().plus(value);
+    }
+
+    /*
+    /**********************************************************
+    /* Delta updates
+    /**********************************************************
+     */
+
+    /**
+     * Method called, if delta updates are enabled (see
+     * {@link tools.jackson.datatype.pcollections.PCollectionsModule#applyDeltasOnUpdate}),
+     * to apply delta (as written using
+     * {@link tools.jackson.datatype.pcollections.PCollectionsDelta}) read from
+     * input onto given base instance, returning the new version. Parser points
+     * to the {@code START_OBJECT} of delta contents (within the wrapper), and
+     * is left at the matching {@code END_OBJECT}.
+     *<p>
+     * Default implementation does not support deltas, and handles update as
+     * a bad merge; sub-classes override as appropriate.
+     *
+     * @since 3.1
+     */
+    protected T _deserializeDelta(JsonParser p, DeserializationContext ctxt, T base)
+        throws JacksonException
+    {
+        ctxt.handleBadMerge(this);
+        return deserialize(p, ctxt);
+    }
+
+    /**
+     * Helper method for reading delta with lists of added ({@code "add"}) and
+     * removed ({@code "remove"}) elements, and applying it with
+     * {@link #_applyElementDelta}.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    protected T _deserializeElementDelta(JsonParser p, DeserializationContext ctxt, T base)
+        throws JacksonException
+    {
         JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        List<Object> added = Collections.emptyList();
+        List<Object> removed = Collections.emptyList();
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            if ("add".equals(name)) {
+                added = _deserializeDeltaElements(p, ctxt, name);
+            } else if ("remove".equals(name)) {
+                removed = _deserializeDeltaElements(p, ctxt, name);
+            } else {
+                ctxt.handleUnknownProperty(p, this, base, name);
+            }
+        }
+        if (t != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        return _applyElementDelta(base, added, removed);
+    }
 
-        Object value;
-        
-        if (t == JsonToken.VALUE_NULL) {
-            value = null;
-        } else if (typeDeser == null) {
-            value = valueDes.deserialize(p, ctxt);
-        } else {
-            value = valueDes.deserializeWithType(p, ctxt, typeDeser);
-        }
-        @SuppressWarnings("unchecked")
-        T result = (T) createEmptyCollection().plus(value);
-        return result;
+    /**
+     * Method called to apply delta read by {@link #_deserializeElementDelta}:
+     * default implementation removes all occurrences of removed elements first,
+     * then adds added elements.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    protected T _applyElementDelta(T base, List<Object> added, List<Object> removed)
+    {
+        return (T) base.minusAll(removed).plusAll(added);
+    }
+
+    /**
+     * Helper method for reading JSON Array of elements contained in a delta
+     * property.
+     *
+     * @since 3.1
+     */
+    protected List<Object> _deserializeDeltaElements(JsonParser p, DeserializationContext ctxt,
+            String propName)
+        throws JacksonException
+    {
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: expected JSON Array for property '%s', got %s",
+                    handledType().getName(), propName, p.currentToken());
+        }
+        final List<Object> values = new ArrayList<>();
+        JsonToken t;
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            values.add(_deserializeValue(p, ctxt, t));
+        }
+        return values;
     }
 }
@@ -1,5 +1,7 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import java.util.*;
+
 import tools.jackson.core.*;
 
 import tools.jackson.databind.*;
@@ -7,6 +9,7 @@ import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.LogicalType;
 import tools.jackson.databind.type.MapType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
 
 import org.pcollections.PMap;
 
@@ -141,7 +144,12 @@ public abstract class PCollectionsMapDeserializer<T extends PMap<Object, Object>
         final TypeDeserializer typeDeser = _typeDeserializerForValue;
 
         T map = createEmptyMap();
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             // Must point to field name now
             String fieldName = p.currentName();
             Object key = (keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt);
@@ -187,4 +195,113 @@ public abstract class PCollectionsMapDeserializer<T extends PMap<Object, Object>
             return map;
         }
     }
+
+    /*
+    /**********************************************************
+    /* Delta updates
+    /**********************************************************
+     */
+
+    /**
+     * Method called, if delta updates are enabled (see
+     * {@link tools.jackson.datatype.pcollections.PCollectionsModule#applyDeltasOnUpdate}),
+     * to apply delta (as written using
+     * {@link tools.jackson.datatype.pcollections.PCollectionsDelta}) read from
+     * input onto given base instance, returning the new version: entries
+     * of {@code "put"} are added (or replace existing ones), and keys listed
+     * in {@code "remove"} removed.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    protected T _deserializeDelta(JsonParser p, DeserializationContext ctxt, T base)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        Map<Object, Object> puts = Collections.emptyMap();
+        List<Object> removed = Collections.emptyList();
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            if ("put".equals(name)) {
+                puts = _deserializeDeltaEntries(p, ctxt);
+            } else if ("remove".equals(name)) {
+                removed = _deserializeDeltaKeys(p, ctxt);
+            } else {
+                ctxt.handleUnknownProperty(p, this, base, name);
+            }
+        }
+        if (t != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        return (T) base.minusAll(removed).plusAll(puts);
+    }
+
+    protected Map<Object, Object> _deserializeDeltaEntries(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!p.hasToken(JsonToken.START_OBJECT)) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: expected JSON Object for property 'put', got %s",
+                    handledType().getName(), p.currentToken());
+        }
+        final KeyDeserializer keyDes = _keyDeserializer;
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _typeDeserializerForValue;
+        final Map<Object, Object> puts = new LinkedHashMap<>();
+        String fieldName;
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        while ((fieldName = p.nextName()) != null) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            Object key = (keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt);
+            JsonToken t = p.nextToken();
+            Object value;
+            if (t == JsonToken.VALUE_NULL) {
+                // as with full contents, handled by overridable handler
+                puts.putAll(_handleNull(ctxt, key, valueDes, createEmptyMap()));
+                continue;
+            } else if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            puts.put(key, value);
+        }
+        return puts;
+    }
+
+    /**
+     * Helper method for reading keys to remove, written as property names
+     * of a JSON Object (values are ignored), so that they are decoded with
+     * the key deserializer, same as keys of entries.
+     */
+    protected List<Object> _deserializeDeltaKeys(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!p.hasToken(JsonToken.START_OBJECT)) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: expected JSON Object for property 'remove', got %s",
+                    handledType().getName(), p.currentToken());
+        }
+        final KeyDeserializer keyDes = _keyDeserializer;
+        final List<Object> keys = new ArrayList<>();
+        String fieldName;
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        while ((fieldName = p.nextName()) != null) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            keys.add((keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt));
+            p.nextToken();
+            p.skipChildren();
+        }
+        return keys;
+    }
 }
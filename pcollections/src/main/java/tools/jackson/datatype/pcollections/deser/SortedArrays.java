@@ -0,0 +1,190 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import java.util.*;
+
+import org.pcollections.TreePMap;
+import org.pcollections.TreePSet;
+
+/**
+ * Helper class for constructing {@link TreePSet}s and {@link TreePMap}s
+ * from contents read: contents are sorted (which is linear for contents
+ * already in order), duplicates removed, and balanced tree built in one
+ * pass using {@code fromSortedSet()} / {@code fromSortedMap()}, instead
+ * of inserting elements one by one.
+ *
+ * @since 3.1
+ */
+final class SortedArrays
+{
+    private final static Comparator<Map.Entry<Object, Object>> KEY_ORDER =
+            new Comparator<Map.Entry<Object, Object>>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        public int compare(Map.Entry<Object, Object> e1, Map.Entry<Object, Object> e2) {
+            return ((Comparable<Object>) e1.getKey()).compareTo(e2.getKey());
+        }
+    };
+
+    private SortedArrays() { }
+
+    /**
+     * Method for constructing set out of given elements, in natural order.
+     * If there are equal elements, first one is retained.
+     *
+     * @throws ClassCastException If elements are not mutually {@link Comparable}
+     */
+    @SuppressWarnings("unchecked")
+    static TreePSet<Object> treePSet(Object[] elements)
+    {
+        Arrays.sort(elements);
+        int count = 0;
+        for (int i = 0; i < elements.length; ++i) {
+            if ((count == 0)
+                    || ((Comparable<Object>) elements[count-1]).compareTo(elements[i]) != 0) {
+                elements[count++] = elements[i];
+            }
+        }
+        return TreePSet.fromSortedSet(new SortedSetView(elements, count));
+    }
+
+    /**
+     * Method for constructing map out of given entries, in natural order
+     * of keys. If there are entries with equal keys, last one is retained.
+     *
+     * @throws ClassCastException If keys are not mutually {@link Comparable}
+     */
+    @SuppressWarnings("unchecked")
+    static TreePMap<Object, Object> treePMap(Map.Entry<Object, Object>[] entries)
+    {
+        // sort is stable, so entries with equal keys remain in input order
+        Arrays.sort(entries, KEY_ORDER);
+        int count = 0;
+        for (int i = 0; i < entries.length; ++i) {
+            if ((count > 0) && (KEY_ORDER.compare(entries[count-1], entries[i]) == 0)) {
+                entries[count-1] = entries[i];
+            } else {
+                entries[count++] = entries[i];
+            }
+        }
+        return TreePMap.fromSortedMap(new SortedMapView(entries, count));
+    }
+
+    /*
+    /**********************************************************************
+    /* Minimal read-only views, only to be passed to fromSortedXxx()
+    /**********************************************************************
+     */
+
+    private final static class SortedSetView
+        extends AbstractSet<Object>
+        implements SortedSet<Object>
+    {
+        private final Object[] _elements;
+        private final int _count;
+
+        SortedSetView(Object[] elements, int count) {
+            _elements = elements;
+            _count = count;
+        }
+
+        @Override
+        public int size() {
+            return _count;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return Arrays.asList(_elements).subList(0, _count).iterator();
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            // natural ordering
+            return null;
+        }
+
+        @Override
+        public Object first() {
+            return _elements[0];
+        }
+
+        @Override
+        public Object last() {
+            return _elements[_count - 1];
+        }
+
+        @Override
+        public SortedSet<Object> subSet(Object fromElement, Object toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Object> headSet(Object toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedSet<Object> tailSet(Object fromElement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final static class SortedMapView
+        extends AbstractMap<Object, Object>
+        implements SortedMap<Object, Object>
+    {
+        private final Map.Entry<Object, Object>[] _entries;
+        private final int _count;
+
+        SortedMapView(Map.Entry<Object, Object>[] entries, int count) {
+            _entries = entries;
+            _count = count;
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<Object, Object>>() {
+                @Override
+                public int size() {
+                    return _count;
+                }
+
+                @Override
+                public Iterator<Map.Entry<Object, Object>> iterator() {
+                    return Arrays.asList(_entries).subList(0, _count).iterator();
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            // natural ordering
+            return null;
+        }
+
+        @Override
+        public Object firstKey() {
+            return _entries[0].getKey();
+        }
+
+        @Override
+        public Object lastKey() {
+            return _entries[_count - 1].getKey();
+        }
+
+        @Override
+        public SortedMap<Object, Object> subMap(Object fromKey, Object toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<Object, Object> headMap(Object toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<Object, Object> tailMap(Object fromKey) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
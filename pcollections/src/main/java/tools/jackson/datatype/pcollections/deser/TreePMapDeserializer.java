@@ -0,0 +1,113 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.MapType;
+import tools.jackson.databind.util.ObjectBuffer;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import org.pcollections.TreePMap;
+
+/**
+ * Deserializer for {@link TreePMap} (and {@link org.pcollections.PSortedMap}),
+ * using natural ordering of keys. Map is built in one go from sorted
+ * entries, instead of inserting entries one by one.
+ *
+ * @since 3.1
+ */
+public class TreePMapDeserializer
+    extends PCollectionsMapDeserializer<TreePMap<Object, Object>>
+{
+    @SuppressWarnings("unchecked")
+    private final static Comparator<Object> NATURAL_ORDER =
+            (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+
+    public TreePMapDeserializer(MapType type, KeyDeserializer keyDeser,
+            TypeDeserializer typeDeser, ValueDeserializer<?> deser)
+    {
+        super(type, keyDeser, typeDeser, deser);
+    }
+
+    @Override
+    public TreePMapDeserializer withResolved(KeyDeserializer keyDeser,
+            TypeDeserializer typeDeser, ValueDeserializer<?> valueDeser) {
+        return new TreePMapDeserializer(_mapType, keyDeser,
+                typeDeser, valueDeser);
+    }
+
+    @Override
+    protected TreePMap<Object, Object> createEmptyMap() {
+        return TreePMap.empty(NATURAL_ORDER);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected TreePMap<Object, Object> _deserializeEntries(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        final KeyDeserializer keyDes = _keyDeserializer;
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _typeDeserializerForValue;
+        final ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+        Object[] chunk = buffer.resetAndStart();
+        int ix = 0;
+
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            String fieldName = p.currentName();
+            Object key = (keyDes == null) ? fieldName : keyDes.deserializeKey(fieldName, ctxt);
+            if (key == null) {
+                return ctxt.reportInputMismatch(this,
+                        "Problem deserializing %s: null keys not allowed",
+                        handledType().getName());
+            }
+            JsonToken t = p.nextToken();
+            if (t == JsonToken.VALUE_NULL) {
+                // as with other PMaps, let overridable handler decide: whatever it
+                // adds (usually nothing) is included
+                for (Map.Entry<Object, Object> entry
+                        : _handleNull(ctxt, key, valueDes, createEmptyMap()).entrySet()) {
+                    if (ix >= chunk.length) {
+                        chunk = buffer.appendCompletedChunk(chunk);
+                        ix = 0;
+                    }
+                    chunk[ix++] = entry;
+                }
+                continue;
+            }
+            Object value;
+            if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            if (ix >= chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+                ix = 0;
+            }
+            chunk[ix++] = new AbstractMap.SimpleImmutableEntry<>(key, value);
+        }
+        final Map.Entry<Object, Object>[] entries = buffer.completeAndClearBuffer(chunk, ix,
+                Map.Entry.class);
+        ctxt.returnObjectBuffer(buffer);
+        try {
+            return SortedArrays.treePMap(entries);
+        } catch (ClassCastException e) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: keys not mutually Comparable (%s)",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package tools.jackson.datatype.pcollections.deser;
+
+import java.util.Comparator;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.CollectionType;
+import org.pcollections.TreePSet;
+
+/**
+ * Deserializer for {@link TreePSet} (and {@link org.pcollections.PSortedSet}),
+ * using natural ordering of elements. Set is built in one go from sorted
+ * contents, instead of inserting elements one by one.
+ *
+ * @since 3.1
+ */
+public class TreePSetDeserializer extends
+        PCollectionsCollectionDeserializer<TreePSet<Object>>
+{
+    @SuppressWarnings("unchecked")
+    private final static Comparator<Object> NATURAL_ORDER =
+            (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+
+    public TreePSetDeserializer(CollectionType type,
+            TypeDeserializer typeDeser, ValueDeserializer<?> deser) {
+        super(type, typeDeser, deser);
+    }
+
+    @Override
+    public TreePSetDeserializer withResolved(TypeDeserializer typeDeser,
+            ValueDeserializer<?> valueDeser) {
+        return new TreePSetDeserializer(_containerType, typeDeser,
+                valueDeser);
+    }
+
+    /*
+    /**********************************************************
+    /* Deserialization
+    /**********************************************************
+     */
+
+    @Override
+    protected TreePSet<Object> createEmptyCollection() {
+        return TreePSet.empty(NATURAL_ORDER);
+    }
+
+    @Override
+    protected boolean _usesBulkFactory() {
+        return true;
+    }
+
+    @Override
+    protected TreePSet<Object> createCollection(DeserializationContext ctxt, Object[] values)
+        throws JacksonException
+    {
+        for (Object value : values) {
+            if (value == null) {
+                return ctxt.reportInputMismatch(this,
+                        "Problem deserializing %s: null elements not allowed",
+                        handledType().getName());
+            }
+        }
+        try {
+            return SortedArrays.treePSet(values);
+        } catch (ClassCastException e) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing %s: elements not mutually Comparable (%s)",
+                    handledType().getName(), e.getMessage());
+        }
+    }
+
+    @Override
+    protected TreePSet<Object> _deserializeDelta(JsonParser p, DeserializationContext ctxt,
+            TreePSet<Object> base)
+        throws JacksonException
+    {
+        return _deserializeElementDelta(p, ctxt, base);
+    }
+}
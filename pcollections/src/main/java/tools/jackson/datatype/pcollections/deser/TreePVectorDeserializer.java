@@ -1,8 +1,19 @@
 package tools.jackson.datatype.pcollections.deser;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.CollectionType;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import org.pcollections.PVector;
 import org.pcollections.TreePVector;
 
 public class TreePVectorDeserializer extends
@@ -30,4 +41,97 @@ public class TreePVectorDeserializer extends
     protected TreePVector<Object> createEmptyCollection() {
         return TreePVector.empty();
     }
+
+    /**
+     * Vector deltas consist of number of leading elements of base vector
+     * to retain ({@code "retain"}), replacements of retained elements by index
+     * ({@code "set"}) and elements to append ({@code "add"}).
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    protected TreePVector<Object> _deserializeDelta(JsonParser p, DeserializationContext ctxt,
+            TreePVector<Object> base)
+        throws JacksonException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        int retain = base.size();
+        Map<Integer, Object> replaced = Collections.emptyMap();
+        List<Object> added = Collections.emptyList();
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            if ("retain".equals(name)) {
+                retain = p.getValueAsInt(-1);
+                if ((retain < 0) || (retain > base.size())) {
+                    return ctxt.reportInputMismatch(this,
+                            "Problem deserializing delta for %s: invalid 'retain' (%s) for base of %d elements",
+                            handledType().getName(), p.getString(), base.size());
+                }
+            } else if ("set".equals(name)) {
+                replaced = _deserializeReplacements(p, ctxt);
+            } else if ("add".equals(name)) {
+                added = _deserializeDeltaElements(p, ctxt, name);
+            } else {
+                ctxt.handleUnknownProperty(p, this, base, name);
+            }
+        }
+        if (t != JsonToken.END_OBJECT) {
+            return (TreePVector<Object>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+        }
+        PVector<Object> result = (retain < base.size()) ? base.subList(0, retain) : base;
+        for (Map.Entry<Integer, Object> entry : replaced.entrySet()) {
+            final int index = entry.getKey();
+            if ((index < 0) || (index >= retain)) {
+                return ctxt.reportInputMismatch(this,
+                        "Problem deserializing delta for %s: 'set' index (%d) not within retained elements (%d)",
+                        handledType().getName(), index, retain);
+            }
+            result = result.with(index, entry.getValue());
+        }
+        // `with()` is declared to return PVector, but TreePVector returns its own type
+        return (TreePVector<Object>) result.plusAll(added);
+    }
+
+    protected Map<Integer, Object> _deserializeReplacements(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        if (!p.hasToken(JsonToken.START_OBJECT)) {
+            return ctxt.reportInputMismatch(this,
+                    "Problem deserializing delta for %s: expected JSON Object for property 'set', got %s",
+                    handledType().getName(), p.currentToken());
+        }
+        final ValueDeserializer<?> valueDes = _valueDeserializer;
+        final TypeDeserializer typeDeser = _typeDeserializerForValue;
+        final Map<Integer, Object> replaced = new LinkedHashMap<>();
+        String name;
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
+        while ((name = p.nextName()) != null) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
+            final int index;
+            try {
+                index = Integer.parseInt(name);
+            } catch (NumberFormatException e) {
+                return ctxt.reportInputMismatch(this,
+                        "Problem deserializing delta for %s: invalid 'set' index '%s'",
+                        handledType().getName(), name);
+            }
+            final JsonToken t = p.nextToken();
+            final Object value;
+            if (t == JsonToken.VALUE_NULL) {
+                value = null;
+            } else if (typeDeser == null) {
+                value = valueDes.deserialize(p, ctxt);
+            } else {
+                value = valueDes.deserializeWithType(p, ctxt, typeDeser);
+            }
+            replaced.put(index, value);
+        }
+        return replaced;
+    }
 }
@@ -0,0 +1,173 @@
+package tools.jackson.datatype.pcollections;
+
+import java.util.Arrays;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.pcollections.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for writing deltas with {@link PCollectionsDelta} and applying them
+ * with {@link PCollectionsModule#applyDeltasOnUpdate}.
+ */
+public class DeltaUpdatesTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new PCollectionsModule().applyDeltasOnUpdate(true))
+            .build();
+
+    @Test
+    public void vectorDelta() throws Exception
+    {
+        TreePVector<Integer> base = TreePVector.empty();
+        for (int i = 0; i < 100; ++i) {
+            base = base.plus(i);
+        }
+        TreePVector<Integer> current = (TreePVector<Integer>) base.with(3, -3).with(50, -50).plus(100);
+        String json = MAPPER.writeValueAsString(PCollectionsDelta.vectorDelta(base, current));
+        assertEquals("{\"$delta\":{\"retain\":100,\"set\":{\"3\":-3,\"50\":-50},\"add\":[100]}}", json);
+        assertEquals(current, _update(base, json, new TypeReference<TreePVector<Integer>>() { }));
+
+        // and truncation
+        TreePVector<Integer> shorter = (TreePVector<Integer>) base.subList(0, 10).with(0, 7);
+        json = MAPPER.writeValueAsString(PCollectionsDelta.vectorDelta(base, shorter));
+        assertEquals("{\"$delta\":{\"retain\":10,\"set\":{\"0\":7}}}", json);
+        assertEquals(shorter, _update(base, json, new TypeReference<TreePVector<Integer>>() { }));
+
+        assertFalse(PCollectionsDelta.vectorDelta(base, shorter).isEmpty());
+        // removal of trailing elements only
+        assertFalse(PCollectionsDelta.vectorDelta(base, base.subList(0, 99)).isEmpty());
+
+        // no changes
+        assertTrue(PCollectionsDelta.vectorDelta(base, base).isEmpty());
+        json = MAPPER.writeValueAsString(PCollectionsDelta.vectorDelta(base, base));
+        assertEquals("{\"$delta\":{\"retain\":100}}", json);
+        assertEquals(base, _update(base, json, new TypeReference<TreePVector<Integer>>() { }));
+    }
+
+    @Test
+    public void setDelta() throws Exception
+    {
+        MapPSet<String> base = HashTreePSet.<String>empty().plus("a").plus("b").plus("c");
+        MapPSet<String> current = base.minus("b").plus("d");
+        String json = MAPPER.writeValueAsString(PCollectionsDelta.setDelta(base, current));
+        assertEquals("{\"$delta\":{\"add\":[\"d\"],\"remove\":[\"b\"]}}", json);
+        assertEquals(current, _update(base, json, new TypeReference<MapPSet<String>>() { }));
+
+        TreePSet<Integer> sorted = TreePSet.from(Arrays.asList(5, 1, 3));
+        TreePSet<Integer> sortedCurrent = sorted.minus(5).plus(2);
+        json = MAPPER.writeValueAsString(PCollectionsDelta.setDelta(sorted, sortedCurrent));
+        assertEquals(sortedCurrent, _update(sorted, json, new TypeReference<TreePSet<Integer>>() { }));
+    }
+
+    @Test
+    public void bagDelta() throws Exception
+    {
+        MapPBag<String> base = HashTreePBag.<String>empty().plus("a").plus("a").plus("a").plus("b");
+        MapPBag<String> current = base.minus("a").plus("b").plus("c");
+        String json = MAPPER.writeValueAsString(PCollectionsDelta.bagDelta(base, current));
+        assertEquals(current, _update(base, json, new TypeReference<MapPBag<String>>() { }));
+    }
+
+    @Test
+    public void mapDelta() throws Exception
+    {
+        HashPMap<String, Integer> base = HashTreePMap.<String, Integer>empty()
+                .plus("a", 1).plus("b", 2).plus("c", 3);
+        HashPMap<String, Integer> current = base.plus("b", 20).minus("c").plus("d", 4);
+        String json = MAPPER.writeValueAsString(PCollectionsDelta.mapDelta(base, current));
+        assertEquals("{\"$delta\":{\"put\":{\"b\":20,\"d\":4},\"remove\":{\"c\":null}}}", json);
+        assertEquals(current, _update(base, json, new TypeReference<HashPMap<String, Integer>>() { }));
+
+        TreePMap<Integer, String> sorted = TreePMap.<Integer, String>empty()
+                .plus(1, "x").plus(2, "y");
+        TreePMap<Integer, String> sortedCurrent = sorted.minus(1).plus(3, "z");
+        json = MAPPER.writeValueAsString(PCollectionsDelta.mapDelta(sorted, sortedCurrent));
+        assertEquals(sortedCurrent,
+                _update(sorted, json, new TypeReference<TreePMap<Integer, String>>() { }));
+    }
+
+    @Test
+    public void arrayReplacesContents() throws Exception
+    {
+        TreePVector<Integer> base = TreePVector.<Integer>empty().plus(1).plus(2);
+        assertEquals(TreePVector.empty().plus(3),
+                _update(base, "[3]", new TypeReference<TreePVector<Integer>>() { }));
+    }
+
+    @Test
+    public void objectWithoutMarkerReplacesContents() throws Exception
+    {
+        // maps are JSON Objects too: only ones wrapped in "$delta" are deltas
+        HashPMap<String, Integer> base = HashTreePMap.<String, Integer>empty().plus("a", 1);
+        assertEquals(HashTreePMap.singleton("put", 3),
+                _update(base, "{\"put\":3}", new TypeReference<HashPMap<String, Integer>>() { }));
+        assertEquals(HashTreePMap.empty(),
+                _update(base, "{}", new TypeReference<HashPMap<String, Integer>>() { }));
+    }
+
+    @Test
+    public void mapDeltaNonStringKeys() throws Exception
+    {
+        HashPMap<Long, String> base = HashTreePMap.<Long, String>empty()
+                .plus(1L, "a").plus(2L, "b");
+        HashPMap<Long, String> current = base.minus(2L).plus(3L, "c");
+        String json = MAPPER.writeValueAsString(PCollectionsDelta.mapDelta(base, current));
+        assertEquals("{\"$delta\":{\"put\":{\"3\":\"c\"},\"remove\":{\"2\":null}}}", json);
+        assertEquals(current, _update(base, json, new TypeReference<HashPMap<Long, String>>() { }));
+    }
+
+    @Test
+    public void invalidDelta() throws Exception
+    {
+        TreePVector<Integer> base = TreePVector.<Integer>empty().plus(1).plus(2);
+        try {
+            _update(base, "{\"$delta\":{\"retain\":5}}", new TypeReference<TreePVector<Integer>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "retain");
+        }
+        try {
+            _update(base, "{\"$delta\":{\"set\":{\"-1\":3}}}", new TypeReference<TreePVector<Integer>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "'set' index (-1)");
+        }
+        try {
+            _update(base, "{\"$delta\":{\"add\":[3]},\"x\":1}",
+                    new TypeReference<TreePVector<Integer>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "unexpected content after");
+        }
+    }
+
+    @Test
+    public void updateWithoutDeltas() throws Exception
+    {
+        // without the option, updating is not supported for immutable types
+        TreePVector<Integer> base = TreePVector.<Integer>empty().plus(1);
+        try {
+            mapperWithModule().readerForUpdating(base)
+                    .forType(new TypeReference<TreePVector<Integer>>() { })
+                    .readValue("{\"$delta\":{\"add\":[2]}}");
+            fail("Should not pass");
+        } catch (DatabindException e) {
+            ; // ok
+        }
+    }
+
+    private <T> T _update(T base, String json, TypeReference<T> type) throws Exception
+    {
+        return MAPPER.readerForUpdating(base).forType(type).readValue(json);
+    }
+}
@@ -0,0 +1,123 @@
+package tools.jackson.datatype.pcollections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import tools.jackson.core.type.TypeReference;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.deser.DeserializationProblemHandler;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+import org.pcollections.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sorted, int-keyed and queue PCollection types.
+ */
+public class SortedPCollectionsTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = mapperWithModule();
+
+    @Test
+    public void treePSet() throws Exception
+    {
+        PSortedSet<Integer> set = MAPPER.readValue("[3,1,2,3]",
+                new TypeReference<PSortedSet<Integer>>() { });
+        assertTrue(set instanceof TreePSet);
+        assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(set.toArray()));
+
+        // already sorted, with enough entries to need multiple buffer chunks
+        TreePSet<Integer> input = TreePSet.empty();
+        for (int i = 0; i < 5000; ++i) {
+            input = input.plus(i * 7);
+        }
+        TreePSet<Integer> result = MAPPER.readValue(MAPPER.writeValueAsString(input),
+                new TypeReference<TreePSet<Integer>>() { });
+        assertEquals(input, result);
+        assertEquals(Integer.valueOf(7 * 4999), result.last());
+
+        assertTrue(MAPPER.readValue("[]", new TypeReference<TreePSet<String>>() { }).isEmpty());
+    }
+
+    @Test
+    public void treePSetWithNull() throws Exception
+    {
+        try {
+            MAPPER.readValue("[1,null]", new TypeReference<TreePSet<Integer>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "null elements not allowed");
+        }
+    }
+
+    @Test
+    public void treePMap() throws Exception
+    {
+        PSortedMap<String, Integer> map = MAPPER.readValue(
+                "{\"b\":2,\"a\":1,\"c\":3,\"b\":4,\"d\":null}",
+                new TypeReference<PSortedMap<String, Integer>>() { });
+        assertTrue(map instanceof TreePMap);
+        assertEquals(3, map.size());
+        Iterator<String> keys = map.keySet().iterator();
+        assertEquals("a", keys.next());
+        assertEquals("b", keys.next());
+        assertEquals("c", keys.next());
+        // last duplicate wins
+        assertEquals(Integer.valueOf(4), map.get("b"));
+
+        TreePMap<Integer, String> numbers = MAPPER.readValue("{\"10\":\"x\",\"9\":\"y\"}",
+                new TypeReference<TreePMap<Integer, String>>() { });
+        assertEquals(Integer.valueOf(9), numbers.firstKey());
+    }
+
+    @Test
+    public void intTreePMap() throws Exception
+    {
+        IntTreePMap<String> map = MAPPER.readValue("{\"5\":\"a\",\"-3\":\"b\",\"5\":\"c\"}",
+                new TypeReference<IntTreePMap<String>>() { });
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(5));
+        assertEquals("b", map.get(-3));
+
+        try {
+            MAPPER.readValue("{\"x\":\"a\"}", new TypeReference<IntTreePMap<String>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "not a valid `int` value");
+        }
+    }
+
+    @Test
+    public void intTreePMapWeirdKeyAsNull() throws Exception
+    {
+        ObjectMapper mapper = MAPPER.rebuild()
+                .addHandler(new DeserializationProblemHandler() {
+                    @Override
+                    public Object handleWeirdKey(DeserializationContext ctxt, Class<?> rawKeyType,
+                            String keyValue, String failureMsg) {
+                        return null;
+                    }
+                })
+                .build();
+        try {
+            mapper.readValue("{\"x\":\"a\"}", new TypeReference<IntTreePMap<String>>() { });
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "`null` key not allowed");
+        }
+    }
+
+    @Test
+    public void amortizedPQueue() throws Exception
+    {
+        PQueue<Integer> queue = MAPPER.readValue("[1,2,3]", new TypeReference<PQueue<Integer>>() { });
+        assertTrue(queue instanceof AmortizedPQueue);
+        assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(queue.toArray()));
+        assertEquals(Integer.valueOf(1), queue.peek());
+    }
+}
@@ -141,6 +141,20 @@ public class TestPCollections extends ModuleTestBase
         assertEquals(Integer.valueOf(3), elements.next());
     }
 
+    @Test
+    public void treePVectorMultipleChunks() throws Exception
+    {
+        // enough entries to need multiple buffer chunks
+        TreePVector<Integer> input = TreePVector.empty();
+        for (int i = 0; i < 5000; ++i) {
+            input = input.plus(i * 3);
+        }
+        TreePVector<Integer> list = MAPPER.readValue(MAPPER.writeValueAsString(input),
+                new TypeReference<TreePVector<Integer>>() { });
+        assertEquals(input, list);
+        assertTrue(MAPPER.readValue("[]", new TypeReference<TreePVector<Integer>>() { }).isEmpty());
+    }
+
     @Test
     public void orderedPSet() throws Exception
     {
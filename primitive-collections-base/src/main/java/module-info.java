@@ -6,8 +6,13 @@ module tools.jackson.datatype.primitive_collections_base
     requires transitive tools.jackson.core;
     requires transitive tools.jackson.databind;
 
+    // for Flight Recorder events, if available (since 3.1)
+    requires static jdk.jfr;
+
+    exports tools.jackson.datatype.primitive_collections_base;
     exports tools.jackson.datatype.primitive_collections_base.deser;
     exports tools.jackson.datatype.primitive_collections_base.deser.map;
     exports tools.jackson.datatype.primitive_collections_base.ser;
     exports tools.jackson.datatype.primitive_collections_base.ser.map;
+    exports tools.jackson.datatype.primitive_collections_base.snapshot;
 }
@@ -0,0 +1,142 @@
+package tools.jackson.datatype.primitive_collections_base;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.TokenStreamLocation;
+
+/**
+ * JDK Flight Recorder event emitted when serializing or deserializing
+ * container values by any of collection datatype modules (Guava, HPPC,
+ * Eclipse Collections, PCollections): single event type is shared, and
+ * events of different modules are told apart by the handled (container)
+ * type. Event is disabled by default; it may be enabled
+ * in a recording configuration (or with {@code jfr configure}) by name,
+ * {@value #NAME}. When not enabled, the only overhead is a single
+ * check of a cached {@link EventType} per value: no event is allocated.
+ *<p>
+ * Event records the direction ({@value #SERIALIZATION} or
+ * {@value #DESERIALIZATION}), handled type, number of elements (or entries),
+ * duration and, for deserialization, the span of input consumed: in bytes for
+ * byte-backed parsers, in characters for character-backed ones; or {@code -1}
+ * if parser does not track input offsets (and always for serialization).
+ *<p>
+ * Module only has a static dependency to {@code jdk.jfr}, so this class
+ * is not to be referenced directly by (de)serializers: {@link CollectionEvents}
+ * is used instead.
+ *
+ * @since 3.1
+ */
+@Name(CollectionEvent.NAME)
+@Label("Collection Container")
+@Category({ "Jackson", "Collections" })
+@Description("Serialization or deserialization of a single collection container value")
+@Enabled(false)
+@StackTrace(false)
+public final class CollectionEvent extends Event
+{
+    public final static String NAME = "tools.jackson.datatype.Container";
+
+    public final static String SERIALIZATION = "serialization";
+    public final static String DESERIALIZATION = "deserialization";
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Handled Type")
+    @Description("Type of container; also identifies the collection library")
+    Class<?> handledType;
+
+    @Label("Element Count")
+    long elementCount;
+
+    @Label("Input Span")
+    @Description("Length of input consumed, in bytes or characters; -1 if not known")
+    long inputSpan;
+
+    // transient: not recorded as part of event
+    private transient long _startOffset;
+
+    private CollectionEvent() { }
+
+    /**
+     * Method to call when parser points to the first token of value to read:
+     * returns started event if event is enabled; {@code null} if not.
+     */
+    static CollectionEvent startDeserialization(JsonParser p)
+    {
+        if (!TypeHolder.TYPE.isEnabled()) {
+            return null;
+        }
+        final CollectionEvent event = new CollectionEvent();
+        event._startOffset = _offset(p.currentTokenLocation());
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Method to call before writing value: returns started event if event
+     * is enabled; {@code null} if not.
+     */
+    static CollectionEvent startSerialization()
+    {
+        if (!TypeHolder.TYPE.isEnabled()) {
+            return null;
+        }
+        final CollectionEvent event = new CollectionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Method to call when parser points to the last token of value read.
+     */
+    void finishDeserialization(JsonParser p, Class<?> type, long count)
+    {
+        end();
+        if (shouldCommit()) {
+            final long endOffset = _offset(p.currentLocation());
+            _commit(DESERIALIZATION, type, count,
+                    ((_startOffset < 0L) || (endOffset < 0L)) ? -1L : (endOffset - _startOffset));
+        }
+    }
+
+    /**
+     * Method to call after value has been written.
+     */
+    void finishSerialization(Class<?> type, long count)
+    {
+        end();
+        if (shouldCommit()) {
+            _commit(SERIALIZATION, type, count, -1L);
+        }
+    }
+
+    private void _commit(String dir, Class<?> type, long count, long span)
+    {
+        direction = dir;
+        handledType = type;
+        elementCount = count;
+        inputSpan = span;
+        commit();
+    }
+
+    private static long _offset(TokenStreamLocation loc)
+    {
+        final long offset = loc.getByteOffset();
+        return (offset < 0L) ? loc.getCharOffset() : offset;
+    }
+
+    // Lazily initialized, to only look up event type once
+    private final static class TypeHolder
+    {
+        final static EventType TYPE = EventType.getEventType(CollectionEvent.class);
+    }
+}
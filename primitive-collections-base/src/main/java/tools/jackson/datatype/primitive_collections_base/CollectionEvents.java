@@ -0,0 +1,74 @@
+package tools.jackson.datatype.primitive_collections_base;
+
+import tools.jackson.core.JsonParser;
+
+/**
+ * Entry point used by (de)serializers of all collection datatype modules
+ * for emitting {@link CollectionEvent}s.
+ * Module only has a static dependency to {@code jdk.jfr}, which may not be
+ * present at runtime (or readable by this module), so none of the signatures
+ * refer to Flight Recorder types: events are passed as opaque {@link Object}s,
+ * and no event classes are loaded unless Flight Recorder is available.
+ *<p>
+ * Usage is:
+ *<pre>
+ *   final Object event = CollectionEvents.startDeserialization(p);
+ *   // ... read value
+ *   if (event != null) {
+ *       CollectionEvents.finishDeserialization(event, p, handledType(), count);
+ *   }
+ *</pre>
+ *
+ * @since 3.1
+ */
+public final class CollectionEvents
+{
+    private final static boolean AVAILABLE = _available();
+
+    private CollectionEvents() { }
+
+    /**
+     * Method to call when parser points to the first token of value to read:
+     * returns started event if Flight Recorder is available and event is enabled;
+     * {@code null} if not.
+     */
+    public static Object startDeserialization(JsonParser p) {
+        return AVAILABLE ? CollectionEvent.startDeserialization(p) : null;
+    }
+
+    /**
+     * Method to call before writing value: returns started event if Flight
+     * Recorder is available and event is enabled; {@code null} if not.
+     */
+    public static Object startSerialization() {
+        return AVAILABLE ? CollectionEvent.startSerialization() : null;
+    }
+
+    /**
+     * Method to call with non-null event returned by {@link #startDeserialization},
+     * when parser points to the last token of value read.
+     */
+    public static void finishDeserialization(Object event, JsonParser p,
+            Class<?> type, long count) {
+        ((CollectionEvent) event).finishDeserialization(p, type, count);
+    }
+
+    /**
+     * Method to call with non-null event returned by {@link #startSerialization},
+     * after value has been written.
+     */
+    public static void finishSerialization(Object event, Class<?> type, long count) {
+        ((CollectionEvent) event).finishSerialization(type, count);
+    }
+
+    private static boolean _available()
+    {
+        try {
+            return ModuleLayer.boot().findModule("jdk.jfr")
+                    .map(CollectionEvents.class.getModule()::canRead)
+                    .orElse(false);
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package tools.jackson.datatype.primitive_collections_base;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Listener for metrics on (de)serialization of container types of a collection
+ * library (Guava, Eclipse Collections, HPPC, pcollections), configured with
+ * {@code metricsListener()} method of the module. Methods are called
+ * synchronously by the thread doing (de)serialization, so implementations
+ * need to be thread-safe and fast: usually they just update counters and
+ * histograms.
+ *<p>
+ * If no listener is configured, (de)serializers are used as-is and there is
+ * no overhead.
+ *
+ * @since 3.1
+ */
+public interface CollectionMetricsListener
+{
+    /**
+     * Method called after a container value has been deserialized.
+     *
+     * @param type Type deserializer was constructed for (declared type, not
+     *    necessarily actual type of value)
+     * @param shape Shape of input value: {@link JsonFormat.Shape#ARRAY},
+     *    {@link JsonFormat.Shape#OBJECT} or {@link JsonFormat.Shape#SCALAR}
+     *    (single value accepted as container, or coerced from String);
+     *    {@link JsonFormat.Shape#ANY} if not known
+     * @param elementCount Number of elements (or entries) in value;
+     *    {@code -1} if not known
+     * @param nanos Time spent deserializing value (including contained
+     *    values), in nanoseconds
+     */
+    void valueDeserialized(Class<?> type, JsonFormat.Shape shape, int elementCount, long nanos);
+
+    /**
+     * Method called after a container value has been serialized.
+     *
+     * @param type Type serializer was constructed for
+     * @param shape Shape requested for value with {@code @JsonFormat} annotation
+     *    (or config override); {@link JsonFormat.Shape#ANY} if none, in which case
+     *    natural shape of the container type is used
+     * @param elementCount Number of elements (or entries) in value;
+     *    {@code -1} if not known
+     * @param nanos Time spent serializing value (including contained
+     *    values), in nanoseconds
+     */
+    void valueSerialized(Class<?> type, JsonFormat.Shape shape, int elementCount, long nanos);
+
+    /**
+     * Method called when a {@code null} element (or entry value) is skipped
+     * during deserialization, due to {@code @JsonSetter(contentNulls = Nulls.SKIP)}
+     * (or matching config override).
+     * Default implementation does nothing.
+     *
+     * @param type Type of container the element was skipped from
+     */
+    default void nullSkipped(Class<?> type) { }
+
+    /**
+     * Method called when serializer of a container has to locate serializer
+     * for a runtime type of contained values not seen before (one not yet
+     * cached in its {@link tools.jackson.databind.ser.impl.PropertySerializerMap}).
+     * Frequent calls suggest polymorphic contents with many different types.
+     * Default implementation does nothing.
+     *
+     * @param type Type of container being serialized
+     * @param valueType Runtime type of contained value serializer was looked up for
+     */
+    default void dynamicSerializerLookup(Class<?> type, Class<?> valueType) { }
+}
@@ -0,0 +1,439 @@
+package tools.jackson.datatype.primitive_collections_base;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import tools.jackson.databind.*;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+import tools.jackson.databind.ser.std.DelegatingSerializer;
+import tools.jackson.databind.type.*;
+
+/**
+ * Base class for reporting metrics on (de)serialization of container types
+ * of a collection library to {@link CollectionMetricsListener}: modules
+ * sub-class it to define which types are containers and how to count their
+ * elements, and register {@link #deserializerModifier()} and
+ * {@link #serializerModifier()} only if a listener is configured.
+ *<p>
+ * Modifiers wrap (de)serializers of container types in delegating
+ * (de)serializers that time each value. While a wrapped (de)serializer is
+ * active, reporting object is also available as a per-call attribute of
+ * the context, so that (de)serializers can report events inside values
+ * (see {@link #reportNullSkipped} and {@link #reportDynamicLookup})
+ * without having to be configured with the listener.
+ *
+ * @since 3.1
+ */
+public abstract class CollectionMetricsReporting
+    implements java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Key of the context attribute for currently active reporting object.
+     */
+    private final static Object ATTRIBUTE_KEY = CollectionMetricsReporting.class;
+
+    /**
+     * Flag set once any reporting object has been created: until then,
+     * reporting methods called by (de)serializers need not look up
+     * context attribute, as no reporting can be active.
+     */
+    private static volatile boolean _enabled;
+
+    protected final CollectionMetricsListener _listener;
+
+    protected CollectionMetricsReporting(CollectionMetricsListener listener) {
+        _listener = listener;
+        _enabled = true;
+    }
+
+    private void readObject(java.io.ObjectInputStream in)
+        throws java.io.IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        _enabled = true;
+    }
+
+    /**
+     * Method called to check whether (de)serializers of given type should be
+     * wrapped for reporting.
+     */
+    protected abstract boolean isContainer(Class<?> raw);
+
+    /**
+     * Method called to find number of elements (or entries) of given value;
+     * should return {@code -1} if not known.
+     */
+    protected abstract int elementCount(Object value);
+
+    public ValueDeserializerModifier deserializerModifier() {
+        return new DeserializerModifier(this);
+    }
+
+    public ValueSerializerModifier serializerModifier() {
+        return new SerializerModifier(this);
+    }
+
+    /*
+    /**********************************************************************
+    /* Reporting from within (de)serializers
+    /**********************************************************************
+     */
+
+    /**
+     * Method (de)serializers call when skipping a {@code null} element;
+     * reported if metrics reporting is active for the value being deserialized.
+     * Attribute lookup is only needed if metrics reporting has been configured
+     * for some module; otherwise the only cost is a check of a static flag.
+     */
+    public static void reportNullSkipped(DeserializationContext ctxt, Class<?> containerType)
+    {
+        if (_enabled) {
+            final Object metrics = ctxt.getAttribute(ATTRIBUTE_KEY);
+            if (metrics != null) {
+                ((CollectionMetricsReporting) metrics)._listener.nullSkipped(containerType);
+            }
+        }
+    }
+
+    /**
+     * Method serializers call when adding a serializer to their
+     * {@link tools.jackson.databind.ser.impl.PropertySerializerMap};
+     * reported if metrics reporting is active for the value being serialized.
+     *<p>
+     * Called by all serializers of collection modules that cache value
+     * serializers dynamically; but not by standard {@code jackson-databind}
+     * serializers (used for example for PCollections containers, which are
+     * serialized as regular {@link java.util.Collection}s and {@link java.util.Map}s,
+     * and for contents of Guava {@code Table}s written as nested Maps),
+     * so lookups by those are not reported.
+     */
+    public static void reportDynamicLookup(SerializationContext ctxt, Class<?> containerType,
+            Class<?> valueType)
+    {
+        if (_enabled) {
+            final Object metrics = ctxt.getAttribute(ATTRIBUTE_KEY);
+            if (metrics != null) {
+                ((CollectionMetricsReporting) metrics)._listener.dynamicSerializerLookup(containerType,
+                        valueType);
+            }
+        }
+    }
+
+    /**
+     * Helper method for determining shape of input value, given the token
+     * parser points to when deserializer is called.
+     */
+    protected static JsonFormat.Shape shapeOf(JsonToken t)
+    {
+        if (t != null) {
+            switch (t) {
+            case START_ARRAY:
+                return JsonFormat.Shape.ARRAY;
+            case START_OBJECT:
+            case PROPERTY_NAME:
+                return JsonFormat.Shape.OBJECT;
+            default:
+                if (t.isScalarValue()) {
+                    return JsonFormat.Shape.SCALAR;
+                }
+            }
+        }
+        return JsonFormat.Shape.ANY;
+    }
+
+    /*
+    /**********************************************************************
+    /* Modifiers
+    /**********************************************************************
+     */
+
+    private static class DeserializerModifier extends ValueDeserializerModifier
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final CollectionMetricsReporting _metrics;
+
+        DeserializerModifier(CollectionMetricsReporting metrics) {
+            _metrics = metrics;
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(beanDescRef.getBeanClass(), deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config,
+                CollectionType type, BeanDescription.Supplier beanDescRef,
+                ValueDeserializer<?> deserializer) {
+            return _wrap(type.getRawClass(), deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config,
+                CollectionLikeType type, BeanDescription.Supplier beanDescRef,
+                ValueDeserializer<?> deserializer) {
+            return _wrap(type.getRawClass(), deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyMapDeserializer(DeserializationConfig config,
+                MapType type, BeanDescription.Supplier beanDescRef,
+                ValueDeserializer<?> deserializer) {
+            return _wrap(type.getRawClass(), deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyMapLikeDeserializer(DeserializationConfig config,
+                MapLikeType type, BeanDescription.Supplier beanDescRef,
+                ValueDeserializer<?> deserializer) {
+            return _wrap(type.getRawClass(), deserializer);
+        }
+
+        private ValueDeserializer<?> _wrap(Class<?> raw, ValueDeserializer<?> deserializer) {
+            return _metrics.isContainer(raw) ? new ReportingDeserializer(deserializer, raw, _metrics)
+                    : deserializer;
+        }
+    }
+
+    private static class SerializerModifier extends ValueSerializerModifier
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final CollectionMetricsReporting _metrics;
+
+        SerializerModifier(CollectionMetricsReporting metrics) {
+            _metrics = metrics;
+        }
+
+        @Override
+        public ValueSerializer<?> modifySerializer(SerializationConfig config,
+                BeanDescription.Supplier beanDescRef, ValueSerializer<?> serializer) {
+            return _wrap(beanDescRef.getBeanClass(), serializer);
+        }
+
+        @Override
+        public ValueSerializer<?> modifyCollectionSerializer(SerializationConfig config,
+                CollectionType type, BeanDescription.Supplier beanDescRef,
+                ValueSerializer<?> serializer) {
+            return _wrap(type.getRawClass(), serializer);
+        }
+
+        @Override
+        public ValueSerializer<?> modifyCollectionLikeSerializer(SerializationConfig config,
+                CollectionLikeType type, BeanDescription.Supplier beanDescRef,
+                ValueSerializer<?> serializer) {
+            return _wrap(type.getRawClass(), serializer);
+        }
+
+        @Override
+        public ValueSerializer<?> modifyMapSerializer(SerializationConfig config,
+                MapType type, BeanDescription.Supplier beanDescRef,
+                ValueSerializer<?> serializer) {
+            return _wrap(type.getRawClass(), serializer);
+        }
+
+        @Override
+        public ValueSerializer<?> modifyMapLikeSerializer(SerializationConfig config,
+                MapLikeType type, BeanDescription.Supplier beanDescRef,
+                ValueSerializer<?> serializer) {
+            return _wrap(type.getRawClass(), serializer);
+        }
+
+        private ValueSerializer<?> _wrap(Class<?> raw, ValueSerializer<?> serializer) {
+            return _metrics.isContainer(raw)
+                    ? new ReportingSerializer(serializer, raw, JsonFormat.Shape.ANY, _metrics)
+                    : serializer;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Wrappers
+    /**********************************************************************
+     */
+
+    private static class ReportingDeserializer extends DelegatingDeserializer
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final Class<?> _type;
+        protected final CollectionMetricsReporting _metrics;
+
+        ReportingDeserializer(ValueDeserializer<?> delegatee, Class<?> type,
+                CollectionMetricsReporting metrics) {
+            super(delegatee);
+            _type = type;
+            _metrics = metrics;
+        }
+
+        @Override
+        protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+            return new ReportingDeserializer(newDelegatee, _type, _metrics);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt)
+            throws JacksonException
+        {
+            final JsonFormat.Shape shape = shapeOf(p.currentToken());
+            final Object prev = _activate(ctxt);
+            final long start = System.nanoTime();
+            final Object value;
+            try {
+                value = _delegatee.deserialize(p, ctxt);
+            } finally {
+                _restore(ctxt, prev);
+            }
+            _report(shape, value, start);
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue)
+            throws JacksonException
+        {
+            final JsonFormat.Shape shape = shapeOf(p.currentToken());
+            final Object prev = _activate(ctxt);
+            final long start = System.nanoTime();
+            final Object value;
+            try {
+                value = ((ValueDeserializer<Object>) _delegatee).deserialize(p, ctxt, intoValue);
+            } finally {
+                _restore(ctxt, prev);
+            }
+            _report(shape, value, start);
+            return value;
+        }
+
+        @Override
+        public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+                TypeDeserializer typeDeserializer)
+            throws JacksonException
+        {
+            final JsonFormat.Shape shape = shapeOf(p.currentToken());
+            final Object prev = _activate(ctxt);
+            final long start = System.nanoTime();
+            final Object value;
+            try {
+                value = _delegatee.deserializeWithType(p, ctxt, typeDeserializer);
+            } finally {
+                _restore(ctxt, prev);
+            }
+            _report(shape, value, start);
+            return value;
+        }
+
+        private Object _activate(DeserializationContext ctxt) {
+            final Object prev = ctxt.getAttribute(ATTRIBUTE_KEY);
+            if (prev != _metrics) {
+                ctxt.setAttribute(ATTRIBUTE_KEY, _metrics);
+            }
+            return prev;
+        }
+
+        private void _restore(DeserializationContext ctxt, Object prev) {
+            if (prev != _metrics) {
+                ctxt.setAttribute(ATTRIBUTE_KEY, prev);
+            }
+        }
+
+        private void _report(JsonFormat.Shape shape, Object value, long start) {
+            _metrics._listener.valueDeserialized(_type, shape, _metrics.elementCount(value),
+                    System.nanoTime() - start);
+        }
+    }
+
+    private static class ReportingSerializer extends DelegatingSerializer
+    {
+        protected final Class<?> _type;
+        protected final JsonFormat.Shape _shape;
+        protected final CollectionMetricsReporting _metrics;
+
+        ReportingSerializer(ValueSerializer<?> delegatee, Class<?> type,
+                JsonFormat.Shape shape, CollectionMetricsReporting metrics) {
+            super(delegatee);
+            _type = type;
+            _shape = shape;
+            _metrics = metrics;
+        }
+
+        @Override
+        protected ValueSerializer<Object> newDelegatingInstance(ValueSerializer<?> newDelegatee) {
+            return new ReportingSerializer(newDelegatee, _type, _shape, _metrics);
+        }
+
+        @Override
+        public ValueSerializer<?> createContextual(SerializationContext ctxt,
+                BeanProperty property)
+        {
+            final ValueSerializer<?> ser = super.createContextual(ctxt, property);
+            final JsonFormat.Shape shape = findFormatOverrides(ctxt, property, _type).getShape();
+            if ((ser instanceof ReportingSerializer) && (((ReportingSerializer) ser)._shape != shape)) {
+                return new ReportingSerializer(((ReportingSerializer) ser)._delegatee,
+                        _type, shape, _metrics);
+            }
+            return ser;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializationContext ctxt)
+            throws JacksonException
+        {
+            final Object prev = _activate(ctxt);
+            final long start = System.nanoTime();
+            try {
+                _delegatee.serialize(value, gen, ctxt);
+            } finally {
+                _restore(ctxt, prev);
+            }
+            _report(value, start);
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializationContext ctxt,
+                TypeSerializer typeSer)
+            throws JacksonException
+        {
+            final Object prev = _activate(ctxt);
+            final long start = System.nanoTime();
+            try {
+                _delegatee.serializeWithType(value, gen, ctxt, typeSer);
+            } finally {
+                _restore(ctxt, prev);
+            }
+            _report(value, start);
+        }
+
+        private Object _activate(SerializationContext ctxt) {
+            final Object prev = ctxt.getAttribute(ATTRIBUTE_KEY);
+            if (prev != _metrics) {
+                ctxt.setAttribute(ATTRIBUTE_KEY, _metrics);
+            }
+            return prev;
+        }
+
+        private void _restore(SerializationContext ctxt, Object prev) {
+            if (prev != _metrics) {
+                ctxt.setAttribute(ATTRIBUTE_KEY, prev);
+            }
+        }
+
+        private void _report(Object value, long start) {
+            _metrics._listener.valueSerialized(_type, _shape, _metrics.elementCount(value),
+                    System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package tools.jackson.datatype.primitive_collections_base;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.DatabindContext;
+
+/**
+ * Helper methods for reading configuration settings of collection datatype
+ * modules from context attributes: values of unexpected types are reported as
+ * {@link tools.jackson.databind.exc.InvalidDefinitionException}s, instead of
+ * failing with a {@link ClassCastException} (or being silently ignored).
+ *
+ * @since 3.1
+ */
+public final class ContextAttributeValues
+{
+    private ContextAttributeValues() { }
+
+    /**
+     * Method for reading a non-negative integral attribute value (of
+     * type {@link Integer}, {@link Long}, {@link Short} or {@link Byte});
+     * values above {@link Integer#MAX_VALUE} are truncated to it.
+     *
+     * @return Value of attribute; {@code defaultValue} if none
+     */
+    public static int nonNegativeInt(DatabindContext ctxt, String name, int defaultValue)
+        throws JacksonException
+    {
+        final Object value = ctxt.getAttribute(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if ((value instanceof Integer) || (value instanceof Long)
+                || (value instanceof Short) || (value instanceof Byte)) {
+            final long l = ((Number) value).longValue();
+            if (l >= 0L) {
+                return (int) Math.min(l, Integer.MAX_VALUE);
+            }
+        }
+        return ctxt.reportBadDefinition(Integer.class, String.format(
+                "Invalid value for attribute `%s`: expected non-negative `Integer`, got `%s` (of type `%s`)",
+                name, value, value.getClass().getName()));
+    }
+
+    /**
+     * Method for reading attribute value of given type.
+     *
+     * @return Value of attribute; {@code defaultValue} if none
+     */
+    public static <T> T valueOfType(DatabindContext ctxt, String name, Class<T> type,
+            T defaultValue)
+        throws JacksonException
+    {
+        final Object value = ctxt.getAttribute(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return ctxt.reportBadDefinition(type, String.format(
+                "Invalid value for attribute `%s`: expected `%s`, got value of type `%s`",
+                name, type.getName(), value.getClass().getName()));
+    }
+}
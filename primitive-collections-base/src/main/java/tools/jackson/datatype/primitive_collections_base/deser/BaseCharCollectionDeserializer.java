@@ -4,6 +4,7 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
 
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
@@ -13,6 +14,14 @@ import tools.jackson.databind.jsontype.TypeDeserializer;
  * instead
  */
 public abstract class BaseCharCollectionDeserializer<T, Intermediate> extends StdDeserializer<T> {
+    /**
+     * Type of values that can be updated in place; see
+     * {@link BaseCollectionDeserializer} for details.
+     *
+     * @since 3.1
+     */
+    private transient Class<?> _updatableType;
+
     protected BaseCharCollectionDeserializer(Class<? super T> cls) {
         super(cls);
     }
@@ -25,6 +34,19 @@ public abstract class BaseCharCollectionDeserializer<T, Intermediate> extends St
 
     protected abstract void addAll(Intermediate intermediate, char[] chars, int off, int len);
 
+    /**
+     * Method for removing all elements of given intermediate container, when
+     * updating it with {@link CollectionUpdates#CLEAR_ON_UPDATE} enabled.
+     * Default implementation uses {@link CollectionUpdates#clear}.
+     *
+     * @return True if container was cleared; false if not supported
+     *
+     * @since 3.1
+     */
+    protected boolean clear(Intermediate intermediate) {
+        return CollectionUpdates.clear(intermediate);
+    }
+
     @Override
     public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
         throws JacksonException
@@ -36,11 +58,64 @@ public abstract class BaseCharCollectionDeserializer<T, Intermediate> extends St
     public T deserialize(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
-        Intermediate intermediate = createIntermediate();
+        return _deserialize(p, ctxt, createIntermediate());
+    }
+
+    /**
+     * Mutable containers (for which intermediate container is the result)
+     * can be updated in place; for others it is not known.
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return (_updatableType() != Void.class) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Method called when updating existing value: if it is a mutable container
+     * of the type this deserializer produces, characters read are appended to
+     * it (after clearing existing contents, if so configured; see
+     * {@link CollectionUpdates}). Otherwise a new value is constructed.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (!_updatableType().isInstance(intoValue)) {
+            return deserialize(p, ctxt);
+        }
+        final Intermediate intermediate = (Intermediate) intoValue;
+        if (CollectionUpdates.clearOnUpdate(ctxt) && !clear(intermediate)) {
+            return deserialize(p, ctxt);
+        }
+        return _deserialize(p, ctxt, intermediate);
+    }
+
+    protected Class<?> _updatableType() {
+        Class<?> type = _updatableType;
+        if (type == null) {
+            final Intermediate probe = createIntermediate();
+            type = (finish(probe) == probe) ? probe.getClass() : Void.class;
+            _updatableType = type;
+        }
+        return type;
+    }
 
+    protected T _deserialize(JsonParser p, DeserializationContext ctxt, Intermediate intermediate)
+        throws JacksonException
+    {
         if (p.isExpectedStartArrayToken()) {
             JsonToken t;
+            final int maxElements = CollectionLimits.maxElements(ctxt, p);
+            int elements = 0;
             while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (++elements > maxElements) {
+                    return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+                }
                 String str;
                 if (t == JsonToken.VALUE_STRING) {
                     str = p.getString();
@@ -4,6 +4,7 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
 
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
@@ -12,6 +13,15 @@ import tools.jackson.databind.jsontype.TypeDeserializer;
 
 public abstract class BaseCollectionDeserializer<T, Intermediate> extends StdDeserializer<T>
 {
+    /**
+     * Type of values that can be updated in place: type of intermediate
+     * container, if it is also used as the result (that is, {@link #finish}
+     * returns it as is); {@code Void.class} if not. Lazily determined.
+     *
+     * @since 3.1
+     */
+    private transient Class<?> _updatableType;
+
     protected BaseCollectionDeserializer(Class<? super T> cls) {
         super(cls);
     }
@@ -31,6 +41,19 @@ public abstract class BaseCollectionDeserializer<T, Intermediate> extends StdDes
 
     protected abstract T finish(Intermediate intermediate);
 
+    /**
+     * Method for removing all elements of given intermediate container, when
+     * updating it with {@link CollectionUpdates#CLEAR_ON_UPDATE} enabled.
+     * Default implementation uses {@link CollectionUpdates#clear}.
+     *
+     * @return True if container was cleared; false if not supported
+     *
+     * @since 3.1
+     */
+    protected boolean clear(Intermediate intermediate) {
+        return CollectionUpdates.clear(intermediate);
+    }
+
     @Override
     public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
         throws JacksonException
@@ -54,12 +77,69 @@ public abstract class BaseCollectionDeserializer<T, Intermediate> extends StdDes
         return (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
     }
 
+    /**
+     * Mutable containers (for which intermediate container is the result)
+     * can be updated in place; for others it is not known.
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return (_updatableType() != Void.class) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Method called when updating existing value: if it is a mutable container
+     * of the type this deserializer produces, elements read are appended to
+     * it (after clearing existing contents, if so configured; see
+     * {@link CollectionUpdates}). Otherwise a new value is constructed.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (!p.isExpectedStartArrayToken() || !_updatableType().isInstance(intoValue)) {
+            return deserialize(p, ctxt);
+        }
+        final Intermediate collection = (Intermediate) intoValue;
+        if (CollectionUpdates.clearOnUpdate(ctxt) && !clear(collection)) {
+            return deserialize(p, ctxt);
+        }
+        return _deserializeContents(p, ctxt, collection);
+    }
+
+    protected Class<?> _updatableType() {
+        Class<?> type = _updatableType;
+        if (type == null) {
+            final Intermediate probe = createIntermediate();
+            type = (finish(probe) == probe) ? probe.getClass() : Void.class;
+            _updatableType = type;
+        }
+        return type;
+    }
+
     protected T _deserializeContents(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
-        Intermediate collection = createIntermediate();
+        return _deserializeContents(p, ctxt, createIntermediate());
+    }
 
+    /**
+     * @since 3.1
+     */
+    protected T _deserializeContents(JsonParser p, DeserializationContext ctxt,
+            Intermediate collection)
+        throws JacksonException
+    {
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int elements = 0;
         while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (++elements > maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             add(collection, p, ctxt);
         }
         return finish(collection);
@@ -42,6 +42,8 @@ public abstract class BaseRefCollectionDeserializer<T, Intermediate extends Coll
         TypeDeserializer typeDeser = _typeDeserializerForValue;
         if (deser == null) {
             deser = ctxt.findContextualValueDeserializer(_elementType, property);
+        } else { // if directly assigned, probably not yet contextual, so:
+            deser = ctxt.handleSecondaryContextualization(deser, property, _elementType);
         }
         if (typeDeser != null) {
             typeDeser = typeDeser.forProperty(property);
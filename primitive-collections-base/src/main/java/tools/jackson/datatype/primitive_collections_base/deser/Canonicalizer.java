@@ -0,0 +1,221 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helper object used for canonicalizing ("interning") deserialized values:
+ * a value equal to one seen earlier is replaced by that earlier instance, as long as
+ * it is still reachable. Used for immutable collections (and optionally their
+ * {@link String} elements), to avoid retaining many copies of identical values.
+ *<p>
+ * Canonical instances are only weakly referenced, so they are retained only
+ * as long as they are referenced from elsewhere; and collections with more than
+ * {@link #maxElements()} elements (as determined by {@link #sizeOf}) are never
+ * canonicalized, as large values are unlikely to repeat and hashing them is not cheap.
+ * Number of canonical instances retained per value class is also bounded
+ * (see {@link #maxEntries()}): once table is full, values not already in it
+ * are returned as-is until some of its entries have been garbage collected.
+ * Separate table is used for each concrete value class so that the canonical
+ * instance is always of exactly the same type as the value it replaces.
+ * Tables are concurrent, so deserializing threads do not block each other.
+ *<p>
+ * Sub-classes may override {@link #sizeOf} and {@link #canReplace} for
+ * container types of specific collection libraries.
+ *
+ * @since 3.1
+ */
+public class Canonicalizer
+    implements java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default maximum size of collections to canonicalize.
+     */
+    public final static int DEFAULT_MAX_ELEMENTS = 64;
+
+    /**
+     * Default maximum number of canonical instances per value class.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final int _maxElements;
+
+    private final int _maxEntries;
+
+    private final boolean _internStrings;
+
+    // Canonical instances are not serialized, just configuration
+    private transient ConcurrentHashMap<Class<?>, WeakInterner> _interners;
+
+    /**
+     * @param maxElements Maximum number of elements for collections to canonicalize
+     * @param internStrings Whether {@link String} elements should also be canonicalized
+     */
+    public Canonicalizer(int maxElements, boolean internStrings) {
+        this(maxElements, internStrings, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxElements Maximum number of elements for collections to canonicalize
+     * @param internStrings Whether {@link String} elements should also be canonicalized
+     * @param maxEntries Maximum number of canonical instances to retain per value class
+     */
+    public Canonicalizer(int maxElements, boolean internStrings, int maxEntries) {
+        _maxElements = maxElements;
+        _internStrings = internStrings;
+        _maxEntries = maxEntries;
+        _interners = new ConcurrentHashMap<>();
+    }
+
+    private void readObject(java.io.ObjectInputStream in)
+        throws java.io.IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        _interners = new ConcurrentHashMap<>();
+    }
+
+    public int maxElements() {
+        return _maxElements;
+    }
+
+    /**
+     * Maximum number of canonical instances retained per value class.
+     */
+    public int maxEntries() {
+        return _maxEntries;
+    }
+
+    /**
+     * Whether {@link String} elements of canonicalized collections should
+     * also be canonicalized.
+     */
+    public boolean internsStrings() {
+        return _internStrings;
+    }
+
+    /**
+     * Method for finding the canonical instance for given value: either earlier
+     * instance equal to value, or value itself (which then becomes canonical
+     * instance, if eligible and there is room for it).
+     */
+    public Object canonicalize(Object value)
+    {
+        if (value == null) {
+            return null;
+        }
+        if (sizeOf(value) > _maxElements) {
+            return value;
+        }
+        WeakInterner interner = _interners.get(value.getClass());
+        if (interner == null) {
+            interner = _interners.computeIfAbsent(value.getClass(), cls -> new WeakInterner());
+        }
+        final Object canonical = interner.intern(value, _maxEntries);
+        if ((canonical != value) && !canReplace(canonical, value)) {
+            return value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Method called to determine number of elements of given value, to compare
+     * against {@link #maxElements()}. Default implementation handles
+     * {@link Collection}s and {@link Map}s, and returns {@code 0} for other values.
+     */
+    protected int sizeOf(Object value) {
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map<?,?>) {
+            return ((Map<?,?>) value).size();
+        }
+        return 0;
+    }
+
+    /**
+     * Method called to check whether given canonical instance, equal to value
+     * (and of same class), may be returned instead of value. Default
+     * implementation returns {@code true}; sub-classes may override to
+     * require additional properties not covered by {@code equals()},
+     * like iteration order.
+     */
+    protected boolean canReplace(Object canonical, Object value) {
+        return true;
+    }
+
+    /**
+     * Concurrent set of weakly referenced canonical instances; entries
+     * are removed once their values have been garbage collected. Size
+     * limit is approximate under concurrent access.
+     */
+    private final static class WeakInterner
+    {
+        private final ConcurrentHashMap<Entry, Entry> _entries = new ConcurrentHashMap<>();
+
+        private final ReferenceQueue<Object> _cleared = new ReferenceQueue<>();
+
+        Object intern(Object value, int maxEntries)
+        {
+            Reference<?> ref;
+            while ((ref = _cleared.poll()) != null) {
+                _entries.remove(ref, ref);
+            }
+            final Entry entry = new Entry(value, _cleared);
+            while (true) {
+                final Entry existing;
+                if (_entries.size() < maxEntries) {
+                    existing = _entries.putIfAbsent(entry, entry);
+                } else {
+                    // full: only look up, do not add
+                    existing = _entries.get(entry);
+                }
+                if (existing == null) {
+                    return value;
+                }
+                final Object canonical = existing.get();
+                if (canonical != null) {
+                    return canonical;
+                }
+                // collected but not yet removed: replace
+                _entries.remove(existing, existing);
+            }
+        }
+    }
+
+    /**
+     * Weak reference to a canonical instance, equal to other entries
+     * with equal (and still reachable) values.
+     */
+    private final static class Entry extends WeakReference<Object>
+    {
+        private final int _hash;
+
+        Entry(Object value, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            _hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return _hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Object value = get();
+            return (value != null) && value.equals(((Entry) o).get());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * Wrapper deserializer that replaces values produced by the delegate with
+ * their canonical instances, as determined by {@link Canonicalizer}.
+ *
+ * @since 3.1
+ */
+public class CanonicalizingDeserializer
+    extends DelegatingDeserializer
+{
+    protected final Canonicalizer _canonicalizer;
+
+    public CanonicalizingDeserializer(ValueDeserializer<?> delegatee,
+            Canonicalizer canonicalizer)
+    {
+        super(delegatee);
+        _canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Factory method for constructing deserializer for canonicalized elements
+     * of given type: actual deserializer to delegate to is located during
+     * contextualization, so that custom deserializers are used as usual.
+     */
+    public static ValueDeserializer<Object> forElements(JavaType elementType,
+            Canonicalizer canonicalizer) {
+        return new Unresolved(elementType, canonicalizer);
+    }
+
+    @Override
+    protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+        return new CanonicalizingDeserializer(newDelegatee, _canonicalizer);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt)
+        throws JacksonException
+    {
+        return _canonicalizer.canonicalize(_delegatee.deserialize(p, ctxt));
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer)
+        throws JacksonException
+    {
+        return _canonicalizer.canonicalize(_delegatee.deserializeWithType(p, ctxt,
+                typeDeserializer));
+    }
+
+    /**
+     * Placeholder used until the deserializer to delegate to is known.
+     */
+    private final static class Unresolved extends StdDeserializer<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Canonicalizer _canonicalizer;
+
+        Unresolved(JavaType valueType, Canonicalizer canonicalizer) {
+            super(valueType);
+            _canonicalizer = canonicalizer;
+        }
+
+        @Override
+        public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+                BeanProperty property)
+        {
+            return new CanonicalizingDeserializer(
+                    ctxt.findContextualValueDeserializer(_valueType, property), _canonicalizer);
+        }
+
+        // Only called if not contextualized (which should not happen)
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt)
+            throws JacksonException
+        {
+            return _canonicalizer.canonicalize(
+                    ctxt.findRootValueDeserializer(_valueType).deserialize(p, ctxt));
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.util.function.Predicate;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.TokenStreamContext;
+
+import tools.jackson.databind.*;
+import tools.jackson.databind.cfg.ContextAttributes;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.type.*;
+import tools.jackson.databind.util.AccessPattern;
+import tools.jackson.datatype.primitive_collections_base.ContextAttributeValues;
+
+/**
+ * Helper class for enforcing limits on sizes of deserialized containers,
+ * to protect against untrusted (or buggy) input with huge arrays or objects.
+ * Limits are configured as {@link DeserializationContext} attributes
+ * (with {@link Integer} values), either for all reads, with
+ * {@code MapperBuilder.defaultAttributes()} (or settings of the module,
+ * like {@code maxCollectionElements()}), or for a single read,
+ * with {@code ObjectReader.withAttribute()}:
+ *<pre>
+ *  ObjectReader r = mapper.readerFor(type)
+ *      .withAttribute(CollectionLimits.MAX_ELEMENTS, 10_000);
+ *</pre>
+ * and may be overridden for values of specific properties with
+ * {@link JsonCollectionLimits} annotation.
+ * Limits are checked before each element is read, so reading fails as soon as
+ * limit is exceeded, before contents are buffered any further.
+ * Attribute names are same for all collection datatype modules, so the same
+ * configuration applies to all of them.
+ *<p>
+ * No limit on number of bytes per document is provided, since input
+ * is not decoded by deserializers: overall length of input documents is limited by
+ * {@link tools.jackson.core.StreamReadConstraints} ("maxDocumentLength").
+ *
+ * @since 3.1
+ */
+public final class CollectionLimits
+{
+    /**
+     * Name of attribute for maximum number of elements (or entries)
+     * per collection (or map).
+     */
+    public final static String MAX_ELEMENTS = "tools.jackson.datatype.maxCollectionElements";
+
+    /**
+     * Name of attribute for maximum number of values per key of a multimap.
+     */
+    public final static String MAX_VALUES_PER_KEY = "tools.jackson.datatype.maxMultimapValuesPerKey";
+
+    // Attribute for limits of container being read, from property annotation
+    private final static Class<?> SCOPE_KEY = Scope.class;
+
+    private CollectionLimits() { }
+
+    /*
+    /**********************************************************************
+    /* Accessors for deserializers
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for the maximum number of elements allowed for container
+     * whose contents given parser is about to read (or is reading);
+     * {@link Integer#MAX_VALUE} if none.
+     */
+    public static int maxElements(DeserializationContext ctxt, JsonParser p)
+        throws JacksonException
+    {
+        final Scope scope = _scope(ctxt, p);
+        if ((scope != null) && (scope._maxElements >= 0)) {
+            return scope._maxElements;
+        }
+        return _limit(ctxt, MAX_ELEMENTS);
+    }
+
+    /**
+     * Accessor for the maximum number of values per key allowed for multimap
+     * whose contents given parser is about to read (or is reading);
+     * {@link Integer#MAX_VALUE} if none.
+     */
+    public static int maxValuesPerKey(DeserializationContext ctxt, JsonParser p)
+        throws JacksonException
+    {
+        final Scope scope = _scope(ctxt, p);
+        if ((scope != null) && (scope._maxValuesPerKey >= 0)) {
+            return scope._maxValuesPerKey;
+        }
+        return _limit(ctxt, MAX_VALUES_PER_KEY);
+    }
+
+    /**
+     * Method for reporting that number of elements read exceeds given limit.
+     */
+    public static <T> T reportTooManyElements(DeserializationContext ctxt,
+            ValueDeserializer<?> deser, int max)
+        throws JacksonException
+    {
+        return ctxt.reportInputMismatch(deser,
+                "Problem deserializing %s: number of elements exceeds maximum allowed (%d; see `%s`)",
+                _typeName(deser), max, MAX_ELEMENTS);
+    }
+
+    /**
+     * Method for reporting that number of values for a multimap key exceeds given limit.
+     */
+    public static <T> T reportTooManyValues(DeserializationContext ctxt,
+            ValueDeserializer<?> deser, Object key, int max)
+        throws JacksonException
+    {
+        return ctxt.reportInputMismatch(deser,
+                "Problem deserializing %s: number of values for key '%s' exceeds maximum allowed (%d; see `%s`)",
+                _typeName(deser), key, max, MAX_VALUES_PER_KEY);
+    }
+
+    /*
+    /**********************************************************************
+    /* Configuration by modules
+    /**********************************************************************
+     */
+
+    /**
+     * Method called by modules during setup to apply limits configured
+     * for the module as default attributes of the mapper being built,
+     * unless already configured with {@code MapperBuilder.defaultAttributes()}
+     * (explicit attributes have precedence over module settings).
+     *
+     * @param maxElements Maximum number of elements per container;
+     *    negative value if not configured
+     * @param maxValuesPerKey Maximum number of values per multimap key;
+     *    negative value if not configured
+     */
+    public static void applyDefaults(JacksonModule.SetupContext context,
+            int maxElements, int maxValuesPerKey)
+    {
+        if ((maxElements < 0) && (maxValuesPerKey < 0)) {
+            return;
+        }
+        if (!(context.getOwner() instanceof MapperBuilder<?,?> builder)) {
+            throw new IllegalStateException("Cannot apply collection limits: module not being registered with a `MapperBuilder` (owner: "
+                    +context.getOwner()+")");
+        }
+        ContextAttributes attrs = builder.defaultAttributes();
+        if ((maxElements >= 0) && (attrs.getAttribute(MAX_ELEMENTS) == null)) {
+            attrs = attrs.withSharedAttribute(MAX_ELEMENTS, maxElements);
+        }
+        if ((maxValuesPerKey >= 0) && (attrs.getAttribute(MAX_VALUES_PER_KEY) == null)) {
+            attrs = attrs.withSharedAttribute(MAX_VALUES_PER_KEY, maxValuesPerKey);
+        }
+        builder.defaultAttributes(attrs);
+    }
+
+    /**
+     * Method for verifying a limit passed to a configuration method of a module.
+     */
+    public static int checkLimit(String name, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid `"+name+"` ("+limit+"): can not be negative");
+        }
+        return limit;
+    }
+
+    /**
+     * Factory method for constructing modifier that makes deserializers of
+     * containers (ones handled by the module, as indicated by given predicate)
+     * honor {@link JsonCollectionLimits} annotations of properties.
+     * Wrappers are removed during contextualization unless the property
+     * is annotated, so there is no overhead for other values.
+     */
+    public static ValueDeserializerModifier deserializerModifier(ContainerTypes containerTypes) {
+        return new LimitsModifier(containerTypes);
+    }
+
+    /**
+     * Predicate for container types of a collection library, used to decide
+     * which deserializers may need to honor {@link JsonCollectionLimits}.
+     */
+    @FunctionalInterface
+    public interface ContainerTypes
+        extends Predicate<Class<?>>, java.io.Serializable
+    { }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    // Map deserializers do not know their handled type
+    private static String _typeName(ValueDeserializer<?> deser) {
+        final Class<?> type = deser.handledType();
+        return (type == null) ? "Map" : type.getName();
+    }
+
+    private static Scope _scope(DeserializationContext ctxt, JsonParser p) {
+        final Object scope = ctxt.getAttribute(SCOPE_KEY);
+        // only applies to the annotated container itself, not to nested ones
+        if ((scope != null) && (((Scope) scope)._context == p.streamReadContext())) {
+            return (Scope) scope;
+        }
+        return null;
+    }
+
+    private static int _limit(DeserializationContext ctxt, String name)
+        throws JacksonException
+    {
+        return ContextAttributeValues.nonNegativeInt(ctxt, name, Integer.MAX_VALUE);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes for per-property limits
+    /**********************************************************************
+     */
+
+    /**
+     * Limits configured for the container read in specific stream context.
+     */
+    private final static class Scope
+    {
+        final TokenStreamContext _context;
+        final int _maxElements, _maxValuesPerKey;
+
+        Scope(TokenStreamContext context, int maxElements, int maxValuesPerKey) {
+            _context = context;
+            _maxElements = maxElements;
+            _maxValuesPerKey = maxValuesPerKey;
+        }
+    }
+
+    private final static class LimitsModifier
+        extends ValueDeserializerModifier
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ContainerTypes _containerTypes;
+
+        LimitsModifier(ContainerTypes containerTypes) {
+            _containerTypes = containerTypes;
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(beanDescRef.getType(), deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config,
+                CollectionType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(type, deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config,
+                CollectionLikeType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(type, deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyMapDeserializer(DeserializationConfig config,
+                MapType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(type, deserializer);
+        }
+
+        @Override
+        public ValueDeserializer<?> modifyMapLikeDeserializer(DeserializationConfig config,
+                MapLikeType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+            return _wrap(type, deserializer);
+        }
+
+        private ValueDeserializer<?> _wrap(JavaType type, ValueDeserializer<?> deserializer) {
+            // may be registered by more than one module
+            if ((deserializer instanceof LimitsDeserializer)
+                    || !_containerTypes.test(type.getRawClass())) {
+                return deserializer;
+            }
+            return new LimitsDeserializer(deserializer, type, -1, -1);
+        }
+    }
+
+    /**
+     * Wrapper deserializer that makes limits of {@link JsonCollectionLimits}
+     * annotation (if any) available to the delegate; replaced by the
+     * delegate itself during contextualization if property has no annotation.
+     * Not a {@link tools.jackson.databind.deser.std.DelegatingDeserializer}
+     * since some delegates (of Map types) have no handled type.
+     */
+    private final static class LimitsDeserializer
+        extends ValueDeserializer<Object>
+    {
+        private final ValueDeserializer<Object> _delegatee;
+        private final JavaType _type;
+        private final int _maxElements, _maxValuesPerKey;
+
+        @SuppressWarnings("unchecked")
+        LimitsDeserializer(ValueDeserializer<?> delegatee, JavaType type,
+                int maxElements, int maxValuesPerKey) {
+            _delegatee = (ValueDeserializer<Object>) delegatee;
+            _type = type;
+            _maxElements = maxElements;
+            _maxValuesPerKey = maxValuesPerKey;
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) {
+            _delegatee.resolve(ctxt);
+        }
+
+        @Override
+        public ValueDeserializer<?> createContextual(DeserializationContext ctxt,
+                BeanProperty property)
+        {
+            final ValueDeserializer<?> deser = ctxt.handleSecondaryContextualization(_delegatee,
+                    property, _type);
+            // Content deserializers are contextualized with the same property,
+            // but annotation only applies to the value of property itself
+            if ((property == null) || !_type.equals(property.getType())) {
+                return deser;
+            }
+            final JsonCollectionLimits ann = property.getAnnotation(JsonCollectionLimits.class);
+            if (ann == null) {
+                return deser;
+            }
+            // Type id handling finds deserializer for the actual subtype, so limits
+            // could not be applied: must not silently ignore annotation
+            final TypeDeserializer typeDeser = (property.getMember() == null)
+                    ? ctxt.findTypeDeserializer(_type)
+                    : ctxt.findPropertyTypeDeserializer(_type, property.getMember());
+            if (typeDeser != null) {
+                return ctxt.reportBadDefinition(_type, String.format(
+"`@JsonCollectionLimits` not supported for property '%s' with polymorphic type handling (type %s)",
+                        property.getName(), _type));
+            }
+            return new LimitsDeserializer(deser, _type, ann.maxElements(), ann.maxValuesPerKey());
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt)
+            throws JacksonException
+        {
+            final Object prev = _enter(p, ctxt);
+            try {
+                return _delegatee.deserialize(p, ctxt);
+            } finally {
+                ctxt.setAttribute(SCOPE_KEY, prev);
+            }
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue)
+            throws JacksonException
+        {
+            final Object prev = _enter(p, ctxt);
+            try {
+                return _delegatee.deserialize(p, ctxt, intoValue);
+            } finally {
+                ctxt.setAttribute(SCOPE_KEY, prev);
+            }
+        }
+
+        @Override
+        public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+                TypeDeserializer typeDeserializer)
+            throws JacksonException
+        {
+            // not used for annotated properties (polymorphic ones rejected
+            // when contextualizing), so no limits to apply
+            return _delegatee.deserializeWithType(p, ctxt, typeDeserializer);
+        }
+
+        private Object _enter(JsonParser p, DeserializationContext ctxt) {
+            final Object prev = ctxt.getAttribute(SCOPE_KEY);
+            ctxt.setAttribute(SCOPE_KEY, new Scope(p.streamReadContext(),
+                    _maxElements, _maxValuesPerKey));
+            return prev;
+        }
+
+        @Override
+        public ValueDeserializer<?> getDelegatee() {
+            return _delegatee;
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return _delegatee.handledType();
+        }
+
+        @Override
+        public LogicalType logicalType() {
+            return _delegatee.logicalType();
+        }
+
+        @Override
+        public boolean isCachable() {
+            return _delegatee.isCachable();
+        }
+
+        @Override
+        public Boolean supportsUpdate(DeserializationConfig config) {
+            return _delegatee.supportsUpdate(config);
+        }
+
+        @Override
+        public AccessPattern getNullAccessPattern() {
+            return _delegatee.getNullAccessPattern();
+        }
+
+        @Override
+        public Object getNullValue(DeserializationContext ctxt) {
+            return _delegatee.getNullValue(ctxt);
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return _delegatee.getAbsentValue(ctxt);
+        }
+
+        @Override
+        public AccessPattern getEmptyAccessPattern() {
+            return _delegatee.getEmptyAccessPattern();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return _delegatee.getEmptyValue(ctxt);
+        }
+    }
+}
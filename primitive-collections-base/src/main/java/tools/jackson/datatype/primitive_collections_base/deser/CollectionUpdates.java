@@ -0,0 +1,93 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Map;
+
+import tools.jackson.databind.DeserializationContext;
+
+/**
+ * Helper class for configuring how existing mutable containers are updated
+ * when reading with {@code ObjectMapper.readerForUpdating()} (or merging
+ * with {@code @JsonMerge}): by default, elements read are appended to
+ * (or, for maps, entries merged into) existing contents; but if
+ * {@link #CLEAR_ON_UPDATE} attribute is set to {@link Boolean#TRUE},
+ * existing contents are cleared first, so that a long-lived container
+ * can be refilled without reallocating its backing storage:
+ *<pre>
+ *  buffer = mapper.readerForUpdating(buffer)
+ *      .withAttribute(CollectionUpdates.CLEAR_ON_UPDATE, Boolean.TRUE)
+ *      .readValue(json);
+ *</pre>
+ * Attribute name is same for all collection datatype modules.
+ * Immutable containers are never updated in place: a new instance is
+ * constructed instead.
+ *
+ * @since 3.1
+ */
+public final class CollectionUpdates
+{
+    /**
+     * Name of attribute that, if set to {@link Boolean#TRUE}, makes updates
+     * replace existing contents instead of appending to them.
+     */
+    public final static String CLEAR_ON_UPDATE = "tools.jackson.datatype.clearCollectionOnUpdate";
+
+    // public no-argument `clear()` method of container types, if any
+    private final static ClassValue<MethodHandle> CLEAR_METHODS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().findVirtual(type, "clear",
+                        MethodType.methodType(void.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    private CollectionUpdates() { }
+
+    /**
+     * Accessor for checking whether existing contents are to be cleared
+     * before updating.
+     */
+    public static boolean clearOnUpdate(DeserializationContext ctxt) {
+        return Boolean.TRUE.equals(ctxt.getAttribute(CLEAR_ON_UPDATE));
+    }
+
+    /**
+     * Method for removing all elements (or entries) of given mutable container.
+     * Handles {@link Collection}s and {@link Map}s, as well as containers of
+     * other types with a public no-argument {@code clear()} method (like
+     * primitive collections of Eclipse Collections and HPPC, which have
+     * no common super type declaring it).
+     *
+     * @return True if container was cleared; false if not supported
+     */
+    public static boolean clear(Object container) {
+        if (container instanceof Collection<?>) {
+            ((Collection<?>) container).clear();
+            return true;
+        }
+        if (container instanceof Map<?,?>) {
+            ((Map<?,?>) container).clear();
+            return true;
+        }
+        final MethodHandle clear = CLEAR_METHODS.get(container.getClass());
+        if (clear == null) {
+            return false;
+        }
+        try {
+            clear.invoke(container);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // `clear()` methods do not declare checked exceptions
+            throw new IllegalStateException(t);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for overriding limits of {@link CollectionLimits} for
+ * the value of annotated property, like:
+ *<pre>
+ *  public class Request {
+ *      &#64;JsonCollectionLimits(maxElements = 100)
+ *      public ImmutableList&lt;String&gt; tags;
+ *  }
+ *</pre>
+ * Limits only apply to the container value of the property itself, not to
+ * containers nested within it (which use limits configured with
+ * attributes), and only for container types of collection datatype modules.
+ * Annotation may not be used for properties with polymorphic type information
+ * (as limits could not be enforced for them): such properties are reported
+ * as invalid definitions.
+ *
+ * @since 3.1
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD,
+    ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonCollectionLimits
+{
+    /**
+     * Maximum number of elements (or entries) of the container;
+     * negative value (default) for limit configured with
+     * {@link CollectionLimits#MAX_ELEMENTS} attribute (if any).
+     */
+    public int maxElements() default -1;
+
+    /**
+     * Maximum number of values per key, if the container is a multimap;
+     * negative value (default) for limit configured with
+     * {@link CollectionLimits#MAX_VALUES_PER_KEY} attribute (if any).
+     */
+    public int maxValuesPerKey() default -1;
+}
@@ -0,0 +1,298 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Helper class for reading very large JSON Arrays of numbers into primitive
+ * collections using multiple threads: input (in memory, or memory-mapped) is split
+ * into chunks at commas between numbers, chunks are read in parallel (on a
+ * {@link ForkJoinPool}) into separate collections, and these are then appended
+ * in order to the collection read from the first chunk:
+ *<pre>
+ *  ParallelArrayReader&lt;MutableDoubleList&gt; r = new ParallelArrayReader&lt;&gt;(
+ *      mapper.readerFor(MutableDoubleList.class),
+ *      (result, chunk) -&gt; result.addAll(chunk));
+ *  MutableDoubleList weights = r.readValue(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+ *</pre>
+ * Each chunk is read using given {@link ObjectReader} (with
+ * {@link DeserializationFeature#FAIL_ON_TRAILING_TOKENS} enabled), so handling of
+ * individual elements is same as when reading the whole input. If reading of any
+ * chunk fails (for example, because a split point was within a String value or
+ * nested Array), whole input is read sequentially instead, so that result (or
+ * exception) is always the same as that of sequential reading.
+ *<p>
+ * Input that is smaller than two chunks, or that does not consist of a single
+ * JSON Array, is always read sequentially; as is all input if
+ * {@link CollectionLimits#MAX_ELEMENTS} is specified (since limit would only
+ * be applied per chunk). Given reader should not be configured for updating
+ * an existing value.
+ *
+ * @param <T> Type of collection to read
+ *
+ * @since 3.1
+ */
+public final class ParallelArrayReader<T>
+{
+    /**
+     * Default number of bytes of input read by a single task.
+     */
+    public final static int DEFAULT_CHUNK_SIZE = 0x100000;
+
+    private final ObjectReader _reader;
+
+    private final BiConsumer<T, T> _appender;
+
+    private final ForkJoinPool _pool;
+
+    private final int _chunkSize;
+
+    /**
+     * @param reader Reader to use for reading contents (and, for chunks, parts of contents)
+     * @param appender Function for appending contents of the second argument
+     *    (collection read from a chunk) to the first argument (result collection)
+     */
+    public ParallelArrayReader(ObjectReader reader, BiConsumer<T, T> appender) {
+        this(reader, appender, null, DEFAULT_CHUNK_SIZE);
+    }
+
+    private ParallelArrayReader(ObjectReader reader, BiConsumer<T, T> appender,
+            ForkJoinPool pool, int chunkSize) {
+        _reader = reader;
+        _appender = appender;
+        _pool = pool;
+        _chunkSize = chunkSize;
+    }
+
+    /**
+     * Fluent factory method for constructing a reader that uses given pool
+     * for reading chunks, instead of {@link ForkJoinPool#commonPool()}.
+     */
+    public ParallelArrayReader<T> withPool(ForkJoinPool pool) {
+        return new ParallelArrayReader<>(_reader, _appender, pool, _chunkSize);
+    }
+
+    /**
+     * Fluent factory method for constructing a reader that splits input
+     * into chunks of (approximately) given number of bytes.
+     */
+    public ParallelArrayReader<T> withChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was "+chunkSize);
+        }
+        return new ParallelArrayReader<>(_reader, _appender, _pool, chunkSize);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public T readValue(byte[] data) throws JacksonException {
+        return readValue(data, 0, data.length);
+    }
+
+    public T readValue(byte[] data, int offset, int len) throws JacksonException {
+        return readValue(ByteBuffer.wrap(data, offset, len));
+    }
+
+    /**
+     * Method for reading contents between position and limit of given buffer
+     * (which may be, for example, a {@link java.nio.MappedByteBuffer});
+     * position of buffer is not changed.
+     */
+    public T readValue(ByteBuffer data) throws JacksonException
+    {
+        final ByteBuffer buf = data.slice();
+        final int len = buf.limit();
+        int start = 0;
+        while ((start < len) && _isWhitespace(buf.get(start))) {
+            ++start;
+        }
+        int end = len - 1;
+        while ((end > start) && _isWhitespace(buf.get(end))) {
+            --end;
+        }
+        if ((len < 2 * _chunkSize) || (end <= start)
+                || (buf.get(start) != '[') || (buf.get(end) != ']')
+                || (_reader.getAttributes().getAttribute(CollectionLimits.MAX_ELEMENTS) != null)) {
+            return _readSequential(buf);
+        }
+        T result = _readParallel(buf, start + 1, end);
+        if (result == null) {
+            result = _readSequential(buf);
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private T _readSequential(ByteBuffer buf) throws JacksonException {
+        if (buf.hasArray()) {
+            return _reader.readValue(buf.array(), buf.arrayOffset(), buf.limit());
+        }
+        return _reader.readValue(new ChunkInputStream(buf, 0, buf.limit(), false));
+    }
+
+    /**
+     * @return Value read, if all chunks could be read; {@code null} if not
+     */
+    private T _readParallel(ByteBuffer buf, int from, int end)
+    {
+        final ForkJoinPool pool = (_pool == null) ? ForkJoinPool.commonPool() : _pool;
+        final ObjectReader chunkReader = _reader.with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        // limit number of chunks in flight, to bound amount of memory used
+        final int maxPending = Math.max(2, 2 * pool.getParallelism());
+        final ArrayDeque<ForkJoinTask<T>> pending = new ArrayDeque<>(maxPending);
+        T result = null;
+
+        try {
+            while (from < end) {
+                final int to = (end - from > _chunkSize)
+                        ? _findSplit(buf, from + _chunkSize, end) : end;
+                final ChunkInputStream in = new ChunkInputStream(buf, from, to, true);
+                if (pending.size() >= maxPending) {
+                    result = _append(result, pending.removeFirst().join());
+                }
+                pending.addLast(pool.submit(() -> chunkReader.<T>readValue(in)));
+                from = to + 1;
+            }
+            while (!pending.isEmpty()) {
+                result = _append(result, pending.removeFirst().join());
+            }
+        } catch (JacksonException e) {
+            for (ForkJoinTask<T> task : pending) {
+                task.cancel(false);
+            }
+            return null;
+        }
+        return result;
+    }
+
+    private T _append(T result, T chunk) {
+        if (result == null) {
+            return chunk;
+        }
+        _appender.accept(result, chunk);
+        return result;
+    }
+
+    /**
+     * Helper method for finding a comma at or after given index (but before end),
+     * preceded by a digit and followed by start of a number (ignoring whitespace).
+     * Such a comma can only be a separator between Array elements, unless it is
+     * within a String value or nested structure, in which case reading of
+     * chunks fails.
+     *
+     * @return Index of comma found, or {@code end} if none
+     */
+    private static int _findSplit(ByteBuffer buf, int ix, int end)
+    {
+        for (; ix < end; ++ix) {
+            if (buf.get(ix) != ',') {
+                continue;
+            }
+            int prev = ix - 1;
+            while (_isWhitespace(buf.get(prev))) {
+                --prev;
+            }
+            int next = ix + 1;
+            while ((next < end) && _isWhitespace(buf.get(next))) {
+                ++next;
+            }
+            if ((next < end) && _isDigit(buf.get(prev))
+                    && (_isDigit(buf.get(next)) || (buf.get(next) == '-'))) {
+                return ix;
+            }
+        }
+        return end;
+    }
+
+    private static boolean _isWhitespace(byte b) {
+        return (b == ' ') || (b == '\n') || (b == '\r') || (b == '\t');
+    }
+
+    private static boolean _isDigit(byte b) {
+        return (b >= '0') && (b <= '9');
+    }
+
+    /**
+     * {@link InputStream} for reading a range of a buffer, optionally
+     * enclosed in JSON Array markers.
+     */
+    private final static class ChunkInputStream extends InputStream
+    {
+        private final ByteBuffer _buffer;
+
+        private final int _end;
+
+        private int _ptr;
+
+        /**
+         * Bytes (Array markers) to return before and after range; {@code 0}
+         * if none (left).
+         */
+        private byte _prefix, _suffix;
+
+        ChunkInputStream(ByteBuffer buf, int from, int to, boolean enclose) {
+            _buffer = buf;
+            _ptr = from;
+            _end = to;
+            if (enclose) {
+                _prefix = '[';
+                _suffix = ']';
+            }
+        }
+
+        @Override
+        public int read() {
+            if (_prefix != 0) {
+                int b = _prefix;
+                _prefix = 0;
+                return b;
+            }
+            if (_ptr < _end) {
+                return _buffer.get(_ptr++) & 0xFF;
+            }
+            if (_suffix != 0) {
+                int b = _suffix;
+                _suffix = 0;
+                return b;
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if ((_prefix != 0) || (_ptr >= _end)) {
+                final int c = read();
+                if (c < 0) {
+                    return -1;
+                }
+                b[off] = (byte) c;
+                return 1;
+            }
+            final int count = Math.min(len, _end - _ptr);
+            _buffer.get(_ptr, b, off, count);
+            _ptr += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.io.NumberInput;
+import tools.jackson.core.json.JsonParserBase;
+
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.datatype.primitive_collections_base.ContextAttributeValues;
+
+/**
+ * Helper class used by deserializers of primitive collections for reading
+ * very large JSON Arrays of floating-point numbers using multiple threads:
+ * tokens are read by the calling thread as usual, but texts of numbers are
+ * buffered in chunks that are decoded (which is the most expensive part of
+ * reading floating-point numbers) in parallel, on a {@link ForkJoinPool};
+ * values are then added to the collection in order. Results are identical
+ * to those of sequential reading.
+ *<p>
+ * Parallel decoding is disabled by default; it is enabled by specifying
+ * minimum number of elements for Arrays to decode in parallel, as
+ * {@link DeserializationContext} attribute {@link #THRESHOLD}:
+ *<pre>
+ *  MutableDoubleList weights = mapper.readerFor(MutableDoubleList.class)
+ *      .withAttribute(ParallelNumberDecoding.THRESHOLD, 100_000)
+ *      .readValue(file);
+ *</pre>
+ * Pool to use may be specified with attribute {@link #POOL};
+ * if not, {@link ForkJoinPool#commonPool()} is used.
+ * Since length of an Array is not known before it has been read, up to
+ * {@code THRESHOLD} elements are buffered before decoding starts. Elements
+ * other than numbers (like {@code null}s, or Strings to coerce) are
+ * handled as usual, after preceding numbers have been added.
+ *<p>
+ * Parallel decoding is only used with textual JSON parsers: other backends
+ * (like binary formats, or buffered tokens) may have numbers that are not
+ * decoded from text at all, or whose textual representation does not
+ * result in the same value (for example, 32-bit floats read as {@code double}s).
+ *<p>
+ * For input that is available in memory as a whole, {@link ParallelArrayReader}
+ * may be used instead, to also read tokens in parallel.
+ *
+ * @since 3.1
+ */
+public final class ParallelNumberDecoding
+{
+    /**
+     * Name of attribute for minimum number of elements ({@link Integer})
+     * for Arrays to decode in parallel.
+     */
+    public final static String THRESHOLD = "tools.jackson.datatype.parallelDecodeThreshold";
+
+    /**
+     * Name of attribute for {@link ForkJoinPool} to use for parallel decoding.
+     */
+    public final static String POOL = "tools.jackson.datatype.parallelDecodePool";
+
+    /**
+     * Number of elements decoded by a single task.
+     */
+    public final static int CHUNK_SIZE = 0x4000;
+
+    private ParallelNumberDecoding() { }
+
+    /**
+     * Callback for reading an Array element that is not a number, using
+     * sequential handling of the deserializer.
+     */
+    @FunctionalInterface
+    public interface ElementReader
+    {
+        void readElement(JsonParser p, DeserializationContext ctxt) throws JacksonException;
+    }
+
+    /**
+     * Consumer of {@code float} values.
+     */
+    @FunctionalInterface
+    public interface FloatConsumer
+    {
+        void accept(float value);
+    }
+
+    /**
+     * Accessor for minimum number of elements of Arrays to decode in parallel
+     * when reading from given parser; {@code -1} if parallel decoding is not
+     * enabled, or parser is not a textual JSON parser.
+     */
+    public static int threshold(DeserializationContext ctxt, JsonParser p)
+        throws JacksonException
+    {
+        final int threshold = ContextAttributeValues.nonNegativeInt(ctxt, THRESHOLD, -1);
+        return _isTextual(p) ? threshold : -1;
+    }
+
+    /**
+     * Method for reading elements of the JSON Array parser points to (parser
+     * must point to {@link JsonToken#START_ARRAY}) as {@code double}s. Limits
+     * of {@link CollectionLimits} are enforced as usual.
+     *
+     * @param deser Deserializer for the collection (used for error reporting)
+     * @param threshold Minimum number of elements for Arrays to decode in parallel
+     * @param target Consumer to add values to
+     * @param reader Callback for reading elements other than numbers
+     */
+    public static void readDoubles(JsonParser p, DeserializationContext ctxt,
+            ValueDeserializer<?> deser, int threshold,
+            DoubleConsumer target, ElementReader reader)
+        throws JacksonException
+    {
+        final boolean fast = p.isEnabled(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
+        _read(p, ctxt, deser, threshold, () -> new DoubleChunk(fast), target, reader);
+    }
+
+    /**
+     * Method for reading elements of the JSON Array parser points to (parser
+     * must point to {@link JsonToken#START_ARRAY}) as {@code float}s. Limits
+     * of {@link CollectionLimits} are enforced as usual.
+     *
+     * @param deser Deserializer for the collection (used for error reporting)
+     * @param threshold Minimum number of elements for Arrays to decode in parallel
+     * @param target Consumer to add values to
+     * @param reader Callback for reading elements other than numbers
+     */
+    public static void readFloats(JsonParser p, DeserializationContext ctxt,
+            ValueDeserializer<?> deser, int threshold,
+            FloatConsumer target, ElementReader reader)
+        throws JacksonException
+    {
+        final boolean fast = p.isEnabled(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
+        _read(p, ctxt, deser, threshold, () -> new FloatChunk(fast), target, reader);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static <C> void _read(JsonParser p, DeserializationContext ctxt,
+            ValueDeserializer<?> deser, int threshold, Supplier<Chunk<C>> chunks,
+            C target, ElementReader reader)
+        throws JacksonException
+    {
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        // values of other parsers are used as-is, by calling thread
+        final boolean textual = _isTextual(p);
+        final ArrayDeque<ForkJoinTask<Chunk<C>>> pending = new ArrayDeque<>();
+        ForkJoinPool pool = null;
+        int maxPending = 0;
+        Chunk<C> chunk = chunks.get();
+        int elements = 0;
+        JsonToken t;
+
+        try {
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (++elements > maxElements) {
+                    CollectionLimits.reportTooManyElements(ctxt, deser, maxElements);
+                    return; // never gets here
+                }
+                if ((t != JsonToken.VALUE_NUMBER_FLOAT) && (t != JsonToken.VALUE_NUMBER_INT)) {
+                    // preceding numbers must be added first
+                    _flush(pending, chunk, target);
+                    reader.readElement(p, ctxt);
+                    continue;
+                }
+                chunk.add(p, textual);
+                if (textual && (chunk.size() >= CHUNK_SIZE) && (elements >= threshold)) {
+                    if (pool == null) {
+                        pool = ContextAttributeValues.valueOfType(ctxt, POOL,
+                                ForkJoinPool.class, ForkJoinPool.commonPool());
+                        // limit number of chunks in flight, to bound amount of buffered text
+                        maxPending = Math.max(2, 2 * pool.getParallelism());
+                    }
+                    if (pending.size() >= maxPending) {
+                        pending.removeFirst().join().drainTo(target);
+                    }
+                    pending.addLast(pool.submit(chunk::decode));
+                    chunk = chunks.get();
+                }
+            }
+            _flush(pending, chunk, target);
+        } catch (RuntimeException | Error e) {
+            // no point in decoding chunks that will not be added
+            for (ForkJoinTask<Chunk<C>> task : pending) {
+                task.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean _isTextual(JsonParser p) {
+        return p instanceof JsonParserBase;
+    }
+
+    private static <C> void _flush(ArrayDeque<ForkJoinTask<Chunk<C>>> pending,
+            Chunk<C> chunk, C target)
+    {
+        while (!pending.isEmpty()) {
+            pending.removeFirst().join().drainTo(target);
+        }
+        // remaining numbers are decoded by the calling thread
+        chunk.decode().drainTo(target);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Buffered texts of numbers (or, for special values like {@code NaN},
+     * values), decoded into values by a single task.
+     */
+    private abstract static class Chunk<C>
+    {
+        private final static byte KIND_FLOAT = 0;
+        private final static byte KIND_INT = 1;
+        // values decoded by parser ("not-a-numbers", or not from text)
+        private final static byte KIND_VALUE = 2;
+
+        protected final boolean _fastParser;
+
+        private char[] _text = new char[CHUNK_SIZE * 8];
+        private int _textLength;
+        // end offsets of number texts
+        private int[] _ends = new int[CHUNK_SIZE];
+        private byte[] _kinds = new byte[CHUNK_SIZE];
+        protected int _count;
+
+        protected Chunk(boolean fastParser) {
+            _fastParser = fastParser;
+        }
+
+        final int size() {
+            return _count;
+        }
+
+        /**
+         * @param textual Whether number text may be decoded instead of
+         *    parser (only for textual JSON parsers)
+         */
+        final void add(JsonParser p, boolean textual) throws JacksonException
+        {
+            if (_count == _ends.length) {
+                _ends = Arrays.copyOf(_ends, _count * 2);
+                _kinds = Arrays.copyOf(_kinds, _count * 2);
+                _grow(_count * 2);
+            }
+            if (!textual || p.isNaN()) {
+                _kinds[_count] = KIND_VALUE;
+                _setValue(_count, p);
+            } else {
+                final int len = p.getStringLength();
+                if (_textLength + len > _text.length) {
+                    _text = Arrays.copyOf(_text, Math.max(_text.length * 2, _textLength + len));
+                }
+                System.arraycopy(p.getStringCharacters(), p.getStringOffset(), _text, _textLength, len);
+                _textLength += len;
+                _kinds[_count] = (p.currentToken() == JsonToken.VALUE_NUMBER_INT)
+                        ? KIND_INT : KIND_FLOAT;
+            }
+            _ends[_count++] = _textLength;
+        }
+
+        final Chunk<C> decode()
+        {
+            int start = 0;
+            for (int i = 0; i < _count; ++i) {
+                final int end = _ends[i];
+                if (_kinds[i] != KIND_VALUE) {
+                    _decode(i, _text, start, end - start, _kinds[i] == KIND_INT);
+                }
+                start = end;
+            }
+            return this;
+        }
+
+        final void drainTo(C target)
+        {
+            _drainTo(target);
+            _count = 0;
+            _textLength = 0;
+        }
+
+        protected abstract void _grow(int capacity);
+
+        protected abstract void _setValue(int index, JsonParser p) throws JacksonException;
+
+        /**
+         * @param isInt Whether text is that of an integral number; if so, value
+         *    must be same as when converting integral value (so {@code -0}
+         *    is {@code 0.0}, not {@code -0.0})
+         */
+        protected abstract void _decode(int index, char[] text, int offset, int len,
+                boolean isInt);
+
+        protected abstract void _drainTo(C target);
+    }
+
+    private final static class DoubleChunk extends Chunk<DoubleConsumer>
+    {
+        private double[] _values = new double[CHUNK_SIZE];
+
+        DoubleChunk(boolean fastParser) {
+            super(fastParser);
+        }
+
+        @Override
+        protected void _grow(int capacity) {
+            _values = Arrays.copyOf(_values, capacity);
+        }
+
+        @Override
+        protected void _setValue(int index, JsonParser p) throws JacksonException {
+            _values[index] = p.getDoubleValue();
+        }
+
+        @Override
+        protected void _decode(int index, char[] text, int offset, int len, boolean isInt) {
+            final double value = NumberInput.parseDouble(text, offset, len, _fastParser);
+            _values[index] = (isInt && (value == 0.0)) ? 0.0 : value;
+        }
+
+        @Override
+        protected void _drainTo(DoubleConsumer target) {
+            for (int i = 0; i < _count; ++i) {
+                target.accept(_values[i]);
+            }
+        }
+    }
+
+    private final static class FloatChunk extends Chunk<FloatConsumer>
+    {
+        private float[] _values = new float[CHUNK_SIZE];
+
+        FloatChunk(boolean fastParser) {
+            super(fastParser);
+        }
+
+        @Override
+        protected void _grow(int capacity) {
+            _values = Arrays.copyOf(_values, capacity);
+        }
+
+        @Override
+        protected void _setValue(int index, JsonParser p) throws JacksonException {
+            _values[index] = p.getFloatValue();
+        }
+
+        @Override
+        protected void _decode(int index, char[] text, int offset, int len, boolean isInt) {
+            final float value = NumberInput.parseFloat(text, offset, len, _fastParser);
+            _values[index] = (isInt && (value == 0.0f)) ? 0.0f : value;
+        }
+
+        @Override
+        protected void _drainTo(FloatConsumer target) {
+            for (int i = 0; i < _count; ++i) {
+                target.accept(_values[i]);
+            }
+        }
+    }
+}
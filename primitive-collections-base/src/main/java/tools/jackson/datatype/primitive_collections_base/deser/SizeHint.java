@@ -0,0 +1,37 @@
+package tools.jackson.datatype.primitive_collections_base.deser;
+
+/**
+ * Helper class for maintaining a cheap running estimate of container sizes
+ * a deserializer produces, used to pre-size builders and containers
+ * (like Guava immutable builders, via {@code builderWithExpectedSize()}).
+ *<p>
+ * Estimate grows immediately to the largest size seen, but only decays
+ * half-way towards smaller sizes; so stable sizes are matched exactly while
+ * a single outlier does not keep over-allocating for long.
+ * Estimates are kept in plain (non-volatile) fields of deserializer instances:
+ * races between threads only affect accuracy of the hint, not correctness.
+ *
+ * @since 3.1
+ */
+public final class SizeHint
+{
+    /**
+     * Upper bound for the hint, to avoid huge up-front allocations due to
+     * an occasional very large (or malicious) input.
+     */
+    public final static int MAX_HINT = 0x10000;
+
+    private SizeHint() { }
+
+    /**
+     * Method for calculating the next estimate, given the current one and
+     * the size of the container just produced.
+     */
+    public static int next(int hint, int size)
+    {
+        if (size >= hint) {
+            return Math.min(size, MAX_HINT);
+        }
+        return hint - ((hint - size) >> 1);
+    }
+}
@@ -8,6 +8,10 @@ import tools.jackson.core.JsonToken;
 
 import tools.jackson.databind.*;
 import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionLimits;
+import tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates;
+import tools.jackson.datatype.primitive_collections_base.deser.SizeHint;
 
 /**
  * @author yawkat
@@ -28,6 +32,10 @@ public class MapDeserializer<T, I, K extends KeyHandler<K>, V extends ValueHandl
     private final TypeHandlerPair<I, K, V> typeHandlerPair;
     // null if this is the identity function
     private final Function<I, T> finish;
+    // type of maps that can be updated in place; lazily determined
+    private transient Class<?> updatableType;
+    // running estimate of sizes of maps produced, for pre-sizing; see `SizeHint`
+    private transient int sizeHint;
 
     public MapDeserializer(K keyHandler, V valueHandler,
             TypeHandlerPair<I, K, V> typeHandlerPair, Function<I, T> finish) {
@@ -45,6 +53,13 @@ public class MapDeserializer<T, I, K extends KeyHandler<K>, V extends ValueHandl
         return typeHandlerPair.createEmpty();
     }
 
+    /**
+     * @since 3.1
+     */
+    protected I createIntermediate(int expectedSize) {
+        return typeHandlerPair.createEmpty(expectedSize);
+    }
+
     private void deserializeEntry(
             I target,
             DeserializationContext ctx,
@@ -84,11 +99,57 @@ public class MapDeserializer<T, I, K extends KeyHandler<K>, V extends ValueHandl
         return typeDeserializer.deserializeTypedFromObject(p, ctxt);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctxt)
         throws JacksonException
     {
+        return deserialize(p, ctxt, createIntermediate(sizeHint), false);
+    }
+
+    /**
+     * Mutable maps (for which intermediate map is the result) can be
+     * updated in place; for others it is not known.
+     *
+     * @since 3.1
+     */
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return (finish == null) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Method called when updating existing value: if it is a mutable map
+     * of the type this deserializer produces, entries read are put in it
+     * (after clearing existing contents, if so configured; see
+     * {@link CollectionUpdates}). Otherwise a new value is constructed.
+     *
+     * @since 3.1
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue)
+        throws JacksonException
+    {
+        if (!updatableType().isInstance(intoValue)) {
+            return deserialize(p, ctxt);
+        }
+        return deserialize(p, ctxt, (I) intoValue, CollectionUpdates.clearOnUpdate(ctxt));
+    }
+
+    private Class<?> updatableType() {
+        Class<?> type = updatableType;
+        if (type == null) {
+            type = (finish == null) ? createIntermediate().getClass() : Void.class;
+            updatableType = type;
+        }
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T deserialize(JsonParser p, DeserializationContext ctxt, I map, boolean clear)
+        throws JacksonException
+    {
+        final Object event = CollectionEvents.startDeserialization(p);
         // Ok: must point to START_OBJECT or PROPERTY_NAME
         JsonToken t = p.currentToken();
         if (t == JsonToken.START_OBJECT) { // If START_OBJECT, move to next; may also be END_OBJECT
@@ -100,14 +161,28 @@ public class MapDeserializer<T, I, K extends KeyHandler<K>, V extends ValueHandl
             return (T) ctxt.handleUnexpectedToken(ctxt.constructType(handledType()), p);
         }
 
-        I map = createIntermediate();
+        if (clear && !typeHandlerPair.clear(map)) {
+            map = createIntermediate(sizeHint);
+        }
+        final int maxElements = CollectionLimits.maxElements(ctxt, p);
+        int count = 0;
         for (; p.currentToken() == JsonToken.PROPERTY_NAME; p.nextToken()) {
+            if (count >= maxElements) {
+                return CollectionLimits.reportTooManyElements(ctxt, this, maxElements);
+            }
             // Must point to field name now
             String fieldName = p.currentName();
             p.nextToken();
             deserializeEntry(map, ctxt, fieldName, p);
+            ++count;
+        }
+        sizeHint = SizeHint.next(sizeHint, count);
+        final T result = finish(map);
+        if (event != null) {
+            // no `handledType()` for this deserializer, so use actual type
+            CollectionEvents.finishDeserialization(event, p, result.getClass(), count);
         }
-        return finish(map);
+        return result;
     }
 }
 
@@ -14,6 +14,33 @@ public interface TypeHandlerPair<M, K extends KeyHandler<K>, V extends ValueHand
 
     M createEmpty();
 
+    /**
+     * Method for creating an empty map expected to get (about) given number
+     * of entries; default implementation simply calls {@link #createEmpty()}.
+     *
+     * @param expectedSize Estimated number of entries, based on earlier maps
+     *    deserialized; may be {@code 0} if not known
+     *
+     * @since 3.1
+     */
+    default M createEmpty(int expectedSize) {
+        return createEmpty();
+    }
+
     void add(M target, K kh, V vh, DeserializationContext ctx, String k, JsonParser v)
         throws JacksonException;
+
+    /**
+     * Method for removing all entries of given map, when updating it
+     * with {@link tools.jackson.datatype.primitive_collections_base.deser.CollectionUpdates#CLEAR_ON_UPDATE}
+     * enabled; default implementation returns {@code false} to indicate that
+     * this is not supported.
+     *
+     * @return True if map was cleared; false if not supported
+     *
+     * @since 3.1
+     */
+    default boolean clear(M target) {
+        return false;
+    }
 }
@@ -0,0 +1,146 @@
+package tools.jackson.datatype.primitive_collections_base.ser;
+
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.json.JsonGeneratorBase;
+
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.datatype.primitive_collections_base.ContextAttributeValues;
+
+/**
+ * Helper class for writing contents of very large primitive collections
+ * using multiple threads: contents are split into chunks, each of which is
+ * formatted into JSON text separately (on a {@link ForkJoinPool}), and
+ * resulting texts are then written in order as raw values. Output is
+ * identical to that of sequential writing.
+ *<p>
+ * Parallel writing is disabled by default; it is enabled by specifying
+ * minimum number of elements for collections to write in parallel, as
+ * {@link SerializationContext} attribute {@link #THRESHOLD}:
+ *<pre>
+ *  String json = mapper.writer()
+ *      .withAttribute(ParallelWriting.THRESHOLD, 1_000_000)
+ *      .writeValueAsString(value);
+ *</pre>
+ * Pool to use may be specified with attribute {@link #POOL};
+ * if not, {@link ForkJoinPool#commonPool()} is used.
+ *<p>
+ * Parallel writing is only used for JSON output without pretty-printing,
+ * written directly by a JSON generator (not for {@code valueToTree()} or
+ * {@code convertValue()}, for example), and for collections that support
+ * access by index.
+ *
+ * @since 3.1
+ */
+public final class ParallelWriting
+{
+    /**
+     * Name of attribute for minimum number of elements ({@link Integer})
+     * for collections to write in parallel.
+     */
+    public final static String THRESHOLD = "tools.jackson.datatype.parallelWriteThreshold";
+
+    /**
+     * Name of attribute for {@link ForkJoinPool} to use for parallel writing.
+     */
+    public final static String POOL = "tools.jackson.datatype.parallelWritePool";
+
+    /**
+     * Number of elements formatted by a single task.
+     */
+    public final static int CHUNK_SIZE = 0x10000;
+
+    private ParallelWriting() { }
+
+    /**
+     * Callback for writing a range of elements of a collection, as
+     * JSON Array elements.
+     */
+    @FunctionalInterface
+    public interface RangeWriter
+    {
+        void writeRange(JsonGenerator gen, int from, int to) throws JacksonException;
+    }
+
+    /**
+     * Method for checking whether collection with given number of elements should
+     * be written in parallel, using given generator.
+     * Only done when writing JSON directly (and not, for example, when buffering
+     * into a {@code TokenBuffer} or through a delegating generator), since chunks
+     * are passed to generator as raw values.
+     */
+    public static boolean shouldWrite(SerializationContext ctxt, JsonGenerator gen, int size)
+        throws JacksonException
+    {
+        final int threshold = ContextAttributeValues.nonNegativeInt(ctxt, THRESHOLD, -1);
+        if ((threshold < 0) || (size < threshold)
+                || !(gen instanceof JsonGeneratorBase)
+                || (gen.getPrettyPrinter() != null)) {
+            return false;
+        }
+        final ObjectWriteContext writeCtxt = gen.objectWriteContext();
+        // need to be able to create similarly configured JSON generators for chunks
+        return (writeCtxt != null) && !writeCtxt.hasPrettyPrinter()
+                && (writeCtxt.tokenStreamFactory() instanceof JsonFactory);
+    }
+
+    /**
+     * Method for writing elements of a collection with given number of elements,
+     * as contents of a JSON Array (start and end markers must be written by caller).
+     * If writing of any chunk fails, tasks for chunks not yet written are cancelled.
+     */
+    public static void write(SerializationContext ctxt, JsonGenerator gen, int size,
+            RangeWriter writer)
+        throws JacksonException
+    {
+        final ForkJoinPool pool = ContextAttributeValues.valueOfType(ctxt, POOL,
+                ForkJoinPool.class, ForkJoinPool.commonPool());
+        // limit number of chunks in flight, to bound amount of buffered text
+        final int maxPending = Math.max(2, 2 * pool.getParallelism());
+        final ObjectWriteContext writeCtxt = gen.objectWriteContext();
+        final ArrayDeque<ForkJoinTask<String>> pending = new ArrayDeque<>(maxPending);
+
+        try {
+            for (int from = 0; from < size; from += CHUNK_SIZE) {
+                if (pending.size() >= maxPending) {
+                    gen.writeRawValue(pending.removeFirst().join());
+                }
+                final int start = from;
+                final int end = Math.min(size, from + CHUNK_SIZE);
+                // generators constructed by caller, used by a single task
+                final StringWriter w = new StringWriter();
+                final JsonGenerator chunkGen = writeCtxt.createGenerator(w);
+                pending.addLast(pool.submit(() -> _format(chunkGen, w, writer, start, end)));
+            }
+            while (!pending.isEmpty()) {
+                gen.writeRawValue(pending.removeFirst().join());
+            }
+        } catch (RuntimeException | Error e) {
+            // no point in formatting chunks that will not be written
+            for (ForkJoinTask<String> task : pending) {
+                task.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    private static String _format(JsonGenerator gen, StringWriter w, RangeWriter writer,
+            int from, int to)
+        throws JacksonException
+    {
+        // write as a complete JSON Array, to get separators right; then strip markers
+        gen.writeStartArray();
+        writer.writeRange(gen, from, to);
+        gen.writeEndArray();
+        gen.close();
+        final StringBuffer sb = w.getBuffer();
+        return sb.substring(1, sb.length() - 1);
+    }
+}
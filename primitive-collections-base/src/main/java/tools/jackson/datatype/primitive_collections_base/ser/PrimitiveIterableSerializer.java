@@ -9,12 +9,21 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionEvents;
+
 public abstract class PrimitiveIterableSerializer<C> extends StdContainerSerializer<C>
 {
     protected final JavaType _elementType;
     protected final BeanProperty _property;
     protected final Boolean _unwrapSingle;
 
+    /**
+     * This serializer as {@link Indexed}, if it implements it; {@code null} if not.
+     *
+     * @since 3.1
+     */
+    protected final Indexed<C> _indexed;
+
     protected PrimitiveIterableSerializer(
             Class<C> type, JavaType elementType,
             BeanProperty property, Boolean unwrapSingle
@@ -23,6 +32,12 @@ public abstract class PrimitiveIterableSerializer<C> extends StdContainerSeriali
         _elementType = elementType;
         _property = property;
         _unwrapSingle = unwrapSingle;
+        _indexed = _asIndexed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Indexed<C> _asIndexed() {
+        return (this instanceof Indexed<?>) ? (Indexed<C>) this : null;
     }
 
     @Override
@@ -45,17 +60,26 @@ public abstract class PrimitiveIterableSerializer<C> extends StdContainerSeriali
     public final void serialize(C value, JsonGenerator gen, SerializationContext ctxt)
         throws JacksonException
     {
-        if (((_unwrapSingle == null) &&
+        final Object event = CollectionEvents.startSerialization();
+        if ((((_unwrapSingle == null) &&
                 ctxt.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED))
-                || (Boolean.TRUE.equals(_unwrapSingle))) {
-            if (hasSingleElement(value)) {
+                || (Boolean.TRUE.equals(_unwrapSingle)))
+                && hasSingleElement(value)) {
+            serializeContents(value, gen);
+        } else {
+            gen.writeStartArray();
+            final int size = (_indexed == null) ? -1 : _indexed.indexedSize(value);
+            if ((size >= 0) && ParallelWriting.shouldWrite(ctxt, gen, size)) {
+                ParallelWriting.write(ctxt, gen, size,
+                        (g, from, to) -> _indexed.serializeRange(value, g, from, to));
+            } else {
                 serializeContents(value, gen);
-                return;
             }
+            gen.writeEndArray();
+        }
+        if (event != null) {
+            CollectionEvents.finishSerialization(event, handledType(), elementCount(value));
         }
-        gen.writeStartArray();
-        serializeContents(value, gen);
-        gen.writeEndArray();
     }
 
     @Override
@@ -70,5 +94,39 @@ public abstract class PrimitiveIterableSerializer<C> extends StdContainerSeriali
 
     protected abstract void serializeContents(C value, JsonGenerator gen)
         throws JacksonException;
-}
 
+    /**
+     * Method for finding number of elements in given value, for diagnostic
+     * purposes (see {@link PrimitiveCollectionEvents}); default
+     * implementation returns {@code -1} to indicate "not known".
+     *
+     * @since 3.1
+     */
+    protected long elementCount(C value) {
+        return -1L;
+    }
+
+    /**
+     * Interface implemented by serializers of collections whose elements can
+     * be accessed by index, to allow writing contents of large collections
+     * in parallel (see {@link ParallelWriting}).
+     *
+     * @since 3.1
+     */
+    public interface Indexed<C>
+    {
+        /**
+         * Method for finding number of elements in given value, if its elements
+         * can be accessed by index (and written with {@link #serializeRange});
+         * {@code -1} if not (for values of types that do not support it).
+         */
+        int indexedSize(C value);
+
+        /**
+         * Method for writing elements of given value within given index range;
+         * only called if {@link #indexedSize} returns non-negative value.
+         */
+        void serializeRange(C value, JsonGenerator gen, int from, int to)
+            throws JacksonException;
+    }
+}
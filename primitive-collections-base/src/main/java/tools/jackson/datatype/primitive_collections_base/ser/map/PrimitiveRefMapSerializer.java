@@ -7,6 +7,8 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.impl.PropertySerializerMap;
 
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
+
 /**
  * @author yawkat
  */
@@ -76,6 +78,7 @@ public abstract class PrimitiveRefMapSerializer<T, V>
     {
         PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(
                 type, ctxt, _property);
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type.getRawClass());
         if (map != result.map) {
             _dynamicValueSerializers = result.map;
         }
@@ -16,6 +16,7 @@ import tools.jackson.databind.introspect.AnnotatedMember;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.std.StdContainerSerializer;
 import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.datatype.primitive_collections_base.CollectionMetricsReporting;
 
 /**
  * @author yawkat
@@ -227,6 +228,22 @@ public abstract class RefRefMapSerializer<T> extends StdContainerSerializer<T>
         });
     }
 
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            Class<?> type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type);
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
+    @Override
+    protected ValueSerializer<Object> _findAndAddDynamic(SerializationContext ctxt,
+            JavaType type)
+    {
+        CollectionMetricsReporting.reportDynamicLookup(ctxt, handledType(), type.getRawClass());
+        return super._findAndAddDynamic(ctxt, type);
+    }
+
     private ValueSerializer<Object> _findSerializer(SerializationContext ctxt,
         Object value)
     {
@@ -0,0 +1,379 @@
+package tools.jackson.datatype.primitive_collections_base.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reader for binary snapshots of primitive collections, written by
+ * {@link PrimitiveSnapshotWriter}, as an alternative to (re-)parsing
+ * JSON for very large collections. Snapshot files are accessed using
+ * memory-mapping ({@link FileChannel#map}): contents of columns may be either
+ * bulk-copied into arrays (used for filling presized collections), or
+ * accessed directly as read-only buffer views of the file.
+ *<p>
+ * Snapshot format (all numbers in little-endian byte order; all sections
+ * aligned at 8 bytes):
+ *<ul>
+ * <li>Header: magic number ({@code "JPCS"}), format version, number of columns
+ *   (all as 32-bit ints), followed by 4 bytes of padding
+ *  </li>
+ * <li>For each column: type code and number of elements (32-bit ints), followed by
+ *   elements (for {@link ColumnType#REF} columns, preceded by length and entry count
+ *   of dictionary of distinct values, and dictionary itself as a JSON Array)
+ *  </li>
+ *</ul>
+ *
+ * @since 3.1
+ */
+public final class PrimitiveSnapshot implements Closeable
+{
+    /**
+     * Types of snapshot columns.
+     */
+    public enum ColumnType {
+        INT(1, Integer.BYTES),
+        LONG(2, Long.BYTES),
+        DOUBLE(3, Double.BYTES),
+        /**
+         * Column of reference values: values are dictionary-encoded, so that
+         * each distinct value is serialized (as JSON) just once, and elements
+         * are stored as {@code int} indexes to dictionary ({@code -1} for
+         * {@code null}s).
+         */
+        REF(4, Integer.BYTES);
+
+        final int _code;
+
+        final int _width;
+
+        ColumnType(int code, int width) {
+            _code = code;
+            _width = width;
+        }
+
+        static ColumnType forCode(int code) {
+            for (ColumnType type : values()) {
+                if (type._code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    final static int MAGIC = 0x5343504A; // "JPCS" in little-endian
+
+    final static int VERSION = 1;
+
+    final static int HEADER_LENGTH = 16;
+
+    final static int COLUMN_HEADER_LENGTH = 8;
+
+    final static int DICTIONARY_HEADER_LENGTH = 8;
+
+    private final FileChannel _channel;
+
+    private final ColumnType[] _types;
+
+    private final int[] _sizes;
+
+    /**
+     * Offsets of elements of columns within file
+     */
+    private final long[] _offsets;
+
+    /**
+     * Offsets of dictionaries of {@link ColumnType#REF} columns within file
+     * (and for others, {@code -1})
+     */
+    private final long[] _dictOffsets;
+
+    private PrimitiveSnapshot(FileChannel channel, ColumnType[] types, int[] sizes,
+            long[] offsets, long[] dictOffsets) {
+        _channel = channel;
+        _types = types;
+        _sizes = sizes;
+        _offsets = offsets;
+        _dictOffsets = dictOffsets;
+    }
+
+    /**
+     * Factory method for opening a snapshot file for reading.
+     */
+    public static PrimitiveSnapshot open(Path path) throws IOException
+    {
+        final FileChannel ch = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (ch.size() < HEADER_LENGTH) {
+                throw new IOException("Not a primitive collection snapshot file: "+path);
+            }
+            final ByteBuffer header = _read(ch, 0L, HEADER_LENGTH);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a primitive collection snapshot file: "+path);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported snapshot format version ("+header.getInt(4)+") in: "+path);
+            }
+            final int count = header.getInt(8);
+            final ColumnType[] types = new ColumnType[count];
+            final int[] sizes = new int[count];
+            final long[] offsets = new long[count];
+            final long[] dictOffsets = new long[count];
+            long offset = HEADER_LENGTH;
+            for (int i = 0; i < count; ++i) {
+                final ByteBuffer colHeader = _read(ch, offset, COLUMN_HEADER_LENGTH);
+                types[i] = ColumnType.forCode(colHeader.getInt(0));
+                if (types[i] == null) {
+                    throw new IOException("Unrecognized type code ("+colHeader.getInt(0)
+                            +") for column #"+i+" in: "+path);
+                }
+                sizes[i] = colHeader.getInt(4);
+                offset += COLUMN_HEADER_LENGTH;
+                dictOffsets[i] = -1L;
+                if (types[i] == ColumnType.REF) {
+                    dictOffsets[i] = offset;
+                    final int dictLength = _read(ch, offset, DICTIONARY_HEADER_LENGTH).getInt(0);
+                    offset += _padded(DICTIONARY_HEADER_LENGTH + (long) dictLength);
+                }
+                offsets[i] = offset;
+                offset += _padded((long) sizes[i] * types[i]._width);
+            }
+            if (offset > ch.size()) {
+                throw new IOException("Truncated snapshot file (length "+ch.size()+", expected "
+                        +offset+"): "+path);
+            }
+            return new PrimitiveSnapshot(ch, types, sizes, offsets, dictOffsets);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // note: buffers mapped earlier remain valid
+        _channel.close();
+    }
+
+    /*
+    /**********************************************************************
+    /* Metadata access
+    /**********************************************************************
+     */
+
+    public int columnCount() {
+        return _types.length;
+    }
+
+    public ColumnType columnType(int column) {
+        return _types[column];
+    }
+
+    public int columnSize(int column) {
+        return _sizes[column];
+    }
+
+    /*
+    /**********************************************************************
+    /* Bulk copying
+    /**********************************************************************
+     */
+
+    public int[] readInts(int column) throws IOException {
+        _verifyType(column, ColumnType.INT);
+        final int[] result = new int[_sizes[column]];
+        int ix = 0;
+        for (IntBuffer buf : mapInts(column, _MAX_MAP_BYTES / Integer.BYTES)) {
+            final int count = buf.remaining();
+            buf.get(result, ix, count);
+            ix += count;
+        }
+        return result;
+    }
+
+    public long[] readLongs(int column) throws IOException {
+        _verifyType(column, ColumnType.LONG);
+        final long[] result = new long[_sizes[column]];
+        int ix = 0;
+        for (LongBuffer buf : mapLongs(column, _MAX_MAP_BYTES / Long.BYTES)) {
+            final int count = buf.remaining();
+            buf.get(result, ix, count);
+            ix += count;
+        }
+        return result;
+    }
+
+    public double[] readDoubles(int column) throws IOException {
+        _verifyType(column, ColumnType.DOUBLE);
+        final double[] result = new double[_sizes[column]];
+        int ix = 0;
+        for (DoubleBuffer buf : mapDoubles(column, _MAX_MAP_BYTES / Double.BYTES)) {
+            final int count = buf.remaining();
+            buf.get(result, ix, count);
+            ix += count;
+        }
+        return result;
+    }
+
+    /**
+     * Method for reading values of a {@link ColumnType#REF} column: dictionary of
+     * distinct values is deserialized using given reader (as an array of given
+     * value type), and equal values share the same instance.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] readRefs(int column, ObjectReader reader, Class<T> valueType)
+        throws IOException, JacksonException
+    {
+        _verifyType(column, ColumnType.REF);
+        final ByteBuffer dictHeader = _read(_channel, _dictOffsets[column], DICTIONARY_HEADER_LENGTH);
+        final ByteBuffer json = _read(_channel, _dictOffsets[column] + DICTIONARY_HEADER_LENGTH,
+                dictHeader.getInt(0));
+        final Object[] dict = (Object[]) reader.forType(reader.typeFactory().constructArrayType(valueType))
+                .readValue(json.array(), json.arrayOffset(), json.limit());
+        if (dict.length != dictHeader.getInt(4)) {
+            throw new IOException("Invalid dictionary for column #"+column+": expected "
+                    +dictHeader.getInt(4)+" entries, got "+dict.length);
+        }
+        final int[] indexes = new int[_sizes[column]];
+        int ix = 0;
+        for (IntBuffer buf : _mapSegments(column, _MAX_MAP_BYTES / Integer.BYTES)) {
+            final int count = buf.remaining();
+            buf.get(indexes, ix, count);
+            ix += count;
+        }
+        final T[] result = (T[]) Array.newInstance(valueType, indexes.length);
+        for (int i = 0; i < indexes.length; ++i) {
+            final int index = indexes[i];
+            if (index >= 0) {
+                if (index >= dict.length) {
+                    throw new IOException("Invalid dictionary index ("+index+") for element #"+i
+                            +" of column #"+column+": dictionary has "+dict.length+" entries");
+                }
+                result[i] = (T) dict[index];
+            } else if (index != -1) {
+                throw new IOException("Invalid dictionary index ("+index+") for element #"+i
+                        +" of column #"+column);
+            }
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************************
+    /* Read-only views
+    /**********************************************************************
+     */
+
+    /**
+     * Method for accessing contents of an {@link ColumnType#INT} column directly
+     * (without copying), as read-only buffers of given number of elements
+     * (except for the last one, which may be shorter).
+     */
+    public IntBuffer[] mapInts(int column, int segmentSize) throws IOException {
+        _verifyType(column, ColumnType.INT);
+        return _mapSegments(column, segmentSize);
+    }
+
+    /**
+     * Method for accessing contents of a {@link ColumnType#LONG} column directly
+     * (without copying), as read-only buffers of given number of elements
+     * (except for the last one, which may be shorter).
+     */
+    public LongBuffer[] mapLongs(int column, int segmentSize) throws IOException {
+        _verifyType(column, ColumnType.LONG);
+        final ByteBuffer[] bytes = _mapBytes(column, segmentSize);
+        final LongBuffer[] result = new LongBuffer[bytes.length];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[i] = bytes[i].asLongBuffer();
+        }
+        return result;
+    }
+
+    /**
+     * Method for accessing contents of a {@link ColumnType#DOUBLE} column directly
+     * (without copying), as read-only buffers of given number of elements
+     * (except for the last one, which may be shorter).
+     */
+    public DoubleBuffer[] mapDoubles(int column, int segmentSize) throws IOException {
+        _verifyType(column, ColumnType.DOUBLE);
+        final ByteBuffer[] bytes = _mapBytes(column, segmentSize);
+        final DoubleBuffer[] result = new DoubleBuffer[bytes.length];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[i] = bytes[i].asDoubleBuffer();
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    // Maximum length of a single mapping for bulk copies (1 GB)
+    private final static int _MAX_MAP_BYTES = 1 << 30;
+
+    private IntBuffer[] _mapSegments(int column, int segmentSize) throws IOException {
+        final ByteBuffer[] bytes = _mapBytes(column, segmentSize);
+        final IntBuffer[] result = new IntBuffer[bytes.length];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[i] = bytes[i].asIntBuffer();
+        }
+        return result;
+    }
+
+    private ByteBuffer[] _mapBytes(int column, int segmentSize) throws IOException
+    {
+        final int width = _types[column]._width;
+        if ((segmentSize < 1) || ((long) segmentSize * width > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Invalid segment size: "+segmentSize);
+        }
+        final int size = _sizes[column];
+        final ByteBuffer[] result = new ByteBuffer[(int) (((long) size + segmentSize - 1) / segmentSize)];
+        for (int i = 0; i < result.length; ++i) {
+            final long start = (long) i * segmentSize;
+            final long count = Math.min(segmentSize, size - start);
+            result[i] = _channel.map(FileChannel.MapMode.READ_ONLY,
+                    _offsets[column] + start * width, count * width)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return result;
+    }
+
+    private void _verifyType(int column, ColumnType expected) throws IOException {
+        if (_types[column] != expected) {
+            throw new IOException("Column #"+column+" is of type "+_types[column]
+                    +", not "+expected);
+        }
+    }
+
+    private static ByteBuffer _read(FileChannel ch, long offset, int length) throws IOException
+    {
+        final ByteBuffer buf = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf, offset + buf.position()) < 0) {
+                throw new IOException("Truncated snapshot file (length "+ch.size()+")");
+            }
+        }
+        return buf.flip();
+    }
+
+    static long _padded(long length) {
+        return (length + 7L) & ~7L;
+    }
+
+    @Override
+    public String toString() {
+        return "[PrimitiveSnapshot: columns "+Arrays.toString(_types)+", sizes "+Arrays.toString(_sizes)+"]";
+    }
+}
@@ -0,0 +1,196 @@
+package tools.jackson.datatype.primitive_collections_base.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.datatype.primitive_collections_base.snapshot.PrimitiveSnapshot.ColumnType;
+
+/**
+ * Writer for binary snapshots of primitive collections (see {@link PrimitiveSnapshot}
+ * for details of format): contents of collections are added as columns of
+ * primitive values (for example, keys and values of a map as two columns of
+ * same length) or of reference values, and then written into a file:
+ *<pre>
+ *  int[] keys = ...; // keys of a map
+ *  Object[] values = ...; // and matching values
+ *  new PrimitiveSnapshotWriter(mapper.writer())
+ *      .addInts(keys)
+ *      .addRefs(values)
+ *      .write(path);
+ *</pre>
+ * Reference values are dictionary-encoded: each distinct value (as per
+ * {@link Object#equals}) is serialized just once, using regular Jackson
+ * serializers, as an element of a JSON Array.
+ *<p>
+ * Note that arrays are not copied when added, so they must not be modified
+ * before snapshot has been written.
+ *
+ * @since 3.1
+ */
+public final class PrimitiveSnapshotWriter
+{
+    /**
+     * Size of buffers used for writing primitive values.
+     */
+    private final static int BUFFER_SIZE = 0x10000;
+
+    private final ObjectWriter _refWriter;
+
+    private final List<Object> _columns = new ArrayList<>();
+
+    /**
+     * @param refWriter Writer to use for serializing dictionaries of reference
+     *    values; may be {@code null} if snapshot has no reference columns
+     */
+    public PrimitiveSnapshotWriter(ObjectWriter refWriter) {
+        _refWriter = refWriter;
+    }
+
+    public PrimitiveSnapshotWriter addInts(int[] values) {
+        _columns.add(values);
+        return this;
+    }
+
+    public PrimitiveSnapshotWriter addLongs(long[] values) {
+        _columns.add(values);
+        return this;
+    }
+
+    public PrimitiveSnapshotWriter addDoubles(double[] values) {
+        _columns.add(values);
+        return this;
+    }
+
+    public PrimitiveSnapshotWriter addRefs(Object[] values) {
+        if (_refWriter == null) {
+            throw new IllegalStateException("No `ObjectWriter` specified for reference values");
+        }
+        _columns.add(values);
+        return this;
+    }
+
+    /**
+     * Method for writing snapshot into given file; existing file is overwritten.
+     */
+    public void write(Path path) throws IOException, JacksonException
+    {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(PrimitiveSnapshot.MAGIC)
+                .putInt(PrimitiveSnapshot.VERSION)
+                .putInt(_columns.size())
+                .putInt(0);
+            for (Object column : _columns) {
+                if (column instanceof int[]) {
+                    final int[] values = (int[]) column;
+                    _columnHeader(ch, buf, ColumnType.INT, values.length);
+                    _writeInts(ch, buf, values);
+                } else if (column instanceof long[]) {
+                    final long[] values = (long[]) column;
+                    _columnHeader(ch, buf, ColumnType.LONG, values.length);
+                    for (int i = 0; i < values.length; ++i) {
+                        if (buf.remaining() < Long.BYTES) {
+                            _flush(ch, buf);
+                        }
+                        buf.putLong(values[i]);
+                    }
+                } else if (column instanceof double[]) {
+                    final double[] values = (double[]) column;
+                    _columnHeader(ch, buf, ColumnType.DOUBLE, values.length);
+                    for (int i = 0; i < values.length; ++i) {
+                        if (buf.remaining() < Double.BYTES) {
+                            _flush(ch, buf);
+                        }
+                        buf.putDouble(values[i]);
+                    }
+                } else {
+                    _writeRefs(ch, buf, (Object[]) column);
+                }
+                _pad(buf);
+            }
+            _flush(ch, buf);
+        }
+    }
+
+    private void _writeRefs(FileChannel ch, ByteBuffer buf, Object[] values) throws IOException
+    {
+        final Map<Object, Integer> indexes = new HashMap<>();
+        final List<Object> dict = new ArrayList<>();
+        final int[] encoded = new int[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            final Object value = values[i];
+            if (value == null) {
+                encoded[i] = -1;
+            } else {
+                Integer index = indexes.get(value);
+                if (index == null) {
+                    index = dict.size();
+                    indexes.put(value, index);
+                    dict.add(value);
+                }
+                encoded[i] = index;
+            }
+        }
+        final byte[] json = _refWriter.writeValueAsBytes(dict);
+        _columnHeader(ch, buf, ColumnType.REF, values.length);
+        buf.putInt(json.length).putInt(dict.size());
+        for (int offset = 0; offset < json.length; ) {
+            if (!buf.hasRemaining()) {
+                _flush(ch, buf);
+            }
+            final int count = Math.min(buf.remaining(), json.length - offset);
+            buf.put(json, offset, count);
+            offset += count;
+        }
+        _pad(buf);
+        _writeInts(ch, buf, encoded);
+    }
+
+    private static void _columnHeader(FileChannel ch, ByteBuffer buf, ColumnType type, int size)
+        throws IOException
+    {
+        // column headers (and dictionary headers) are kept in a single buffer
+        if (buf.remaining() < PrimitiveSnapshot.COLUMN_HEADER_LENGTH + PrimitiveSnapshot.DICTIONARY_HEADER_LENGTH) {
+            _flush(ch, buf);
+        }
+        buf.putInt(type._code).putInt(size);
+    }
+
+    private static void _writeInts(FileChannel ch, ByteBuffer buf, int[] values) throws IOException
+    {
+        for (int i = 0; i < values.length; ++i) {
+            if (buf.remaining() < Integer.BYTES) {
+                _flush(ch, buf);
+            }
+            buf.putInt(values[i]);
+        }
+    }
+
+    private static void _pad(ByteBuffer buf) {
+        // buffer is only flushed when full, or at aligned positions, so alignment depends on position only
+        while ((buf.position() & 7) != 0) {
+            buf.put((byte) 0);
+        }
+    }
+
+    private static void _flush(FileChannel ch, ByteBuffer buf) throws IOException
+    {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            ch.write(buf);
+        }
+        buf.clear();
+    }
+}